@@ -0,0 +1,39 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.api.incubator.metrics;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.context.Context;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A {@link ExtendedDoubleHistogram} bound to a fixed set of {@link Attributes}.
+ *
+ * @see ExtendedDoubleHistogram#bind(Attributes)
+ */
+@ThreadSafe
+public interface BoundDoubleHistogram {
+
+  /**
+   * Records a value with the bound attributes.
+   *
+   * <p>Note: This may use {@code Context.current()} to pull the context associated with this
+   * measurement.
+   *
+   * @param value The amount of the measurement. MUST be non-negative.
+   */
+  default void record(double value) {
+    record(value, Context.current());
+  }
+
+  /**
+   * Records a value with the bound attributes.
+   *
+   * @param value The amount of the measurement. MUST be non-negative.
+   * @param context The explicit context to associate with this measurement.
+   */
+  void record(double value, Context context);
+}
@@ -23,4 +23,19 @@ public interface ExtendedDoubleHistogram extends DoubleHistogram {
   default boolean isEnabled() {
     return true;
   }
+
+  /**
+   * Returns a {@link BoundDoubleHistogram} which records values with the given {@code attributes}.
+   *
+   * <p>Implementations may resolve the state associated with {@code attributes} once when binding,
+   * making recordings through the returned instance cheaper than repeated calls to {@link
+   * #record(double, Attributes)} with the same attributes. Callers should hold on to the returned
+   * instance rather than binding before each recording.
+   *
+   * @param attributes the attributes to associate with all measurements recorded through the
+   *     returned instance.
+   */
+  default BoundDoubleHistogram bind(Attributes attributes) {
+    return (value, context) -> record(value, attributes, context);
+  }
 }
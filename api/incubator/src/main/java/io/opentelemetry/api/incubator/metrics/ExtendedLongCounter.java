@@ -24,4 +24,19 @@ public interface ExtendedLongCounter extends LongCounter {
   default boolean isEnabled() {
     return true;
   }
+
+  /**
+   * Returns a {@link BoundLongCounter} which records increments with the given {@code attributes}.
+   *
+   * <p>Implementations may resolve the state associated with {@code attributes} once when binding,
+   * making recordings through the returned instance cheaper than repeated calls to {@link
+   * #add(long, Attributes)} with the same attributes. Callers should hold on to the returned
+   * instance rather than binding before each recording.
+   *
+   * @param attributes the attributes to associate with all measurements recorded through the
+   *     returned instance.
+   */
+  default BoundLongCounter bind(Attributes attributes) {
+    return (value, context) -> add(value, attributes, context);
+  }
 }
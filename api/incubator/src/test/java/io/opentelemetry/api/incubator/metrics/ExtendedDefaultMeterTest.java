@@ -6,11 +6,14 @@
 package io.opentelemetry.api.incubator.metrics;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
 
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.api.testing.internal.AbstractDefaultMeterTest;
+import io.opentelemetry.context.Context;
 import org.junit.jupiter.api.Test;
 
 class ExtendedDefaultMeterTest extends AbstractDefaultMeterTest {
@@ -75,4 +78,20 @@ class ExtendedDefaultMeterTest extends AbstractDefaultMeterTest {
             ExtendedDoubleUpDownCounter.class,
             instrument -> assertThat(instrument.isEnabled()).isFalse());
   }
+
+  @Test
+  void bindNoop() {
+    Meter meter = MeterProvider.noop().get("test");
+    Attributes attributes = Attributes.builder().put("key", "value").build();
+
+    BoundLongCounter counter =
+        ((ExtendedLongCounter) meter.counterBuilder("test").build()).bind(attributes);
+    assertThatCode(() -> counter.add(1)).doesNotThrowAnyException();
+    assertThatCode(() -> counter.add(1, Context.root())).doesNotThrowAnyException();
+
+    BoundDoubleHistogram histogram =
+        ((ExtendedDoubleHistogram) meter.histogramBuilder("test").build()).bind(attributes);
+    assertThatCode(() -> histogram.record(1.0)).doesNotThrowAnyException();
+    assertThatCode(() -> histogram.record(1.0, Context.root())).doesNotThrowAnyException();
+  }
 }
@@ -95,6 +95,8 @@ val DEPENDENCIES = listOf(
   "org.mock-server:mockserver-netty:5.15.0:shaded",
   "org.skyscreamer:jsonassert:1.5.3",
   "com.android.tools:desugar_jdk_libs:2.1.5",
+  "com.github.luben:zstd-jni:1.5.7-4",
+  "at.yawk.lz4:lz4-java:1.8.1",
 )
 
 javaPlatform {
@@ -12,10 +12,13 @@ import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.exporter.internal.FailedExportException;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.metrics.ExporterInstrumentation;
+import io.opentelemetry.exporter.internal.spool.SpooledRequestException;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.common.InternalTelemetryVersion;
 import io.opentelemetry.sdk.internal.StandardComponentId;
 import io.opentelemetry.sdk.internal.ThrottlingLogger;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import java.util.logging.Level;
@@ -41,6 +44,10 @@ public final class GrpcExporter<T extends Marshaler> {
   private final String type;
   private final GrpcSender<T> grpcSender;
   private final ExporterInstrumentation exporterMetrics;
+  private final int maxConcurrentExports;
+  // Held by in-flight exports. Exports beyond the limit are still sent without a permit, callers
+  // observe the limit through awaitExportCapacity.
+  private final Semaphore exportPermits;
 
   public GrpcExporter(
       GrpcSender<T> grpcSender,
@@ -48,11 +55,23 @@ public final class GrpcExporter<T extends Marshaler> {
       StandardComponentId componentId,
       Supplier<MeterProvider> meterProviderSupplier,
       String endpoint) {
+    this(grpcSender, internalTelemetryVersion, componentId, meterProviderSupplier, endpoint, 1);
+  }
+
+  public GrpcExporter(
+      GrpcSender<T> grpcSender,
+      InternalTelemetryVersion internalTelemetryVersion,
+      StandardComponentId componentId,
+      Supplier<MeterProvider> meterProviderSupplier,
+      String endpoint,
+      int maxConcurrentExports) {
     this.type = componentId.getStandardType().signal().logFriendlyName();
     this.grpcSender = grpcSender;
     this.exporterMetrics =
         new ExporterInstrumentation(
             internalTelemetryVersion, meterProviderSupplier, componentId, endpoint);
+    this.maxConcurrentExports = maxConcurrentExports;
+    this.exportPermits = new Semaphore(maxConcurrentExports);
   }
 
   public CompletableResultCode export(T exportRequest, int numItems) {
@@ -64,6 +83,9 @@ public final class GrpcExporter<T extends Marshaler> {
         exporterMetrics.startRecordingExport(numItems);
 
     CompletableResultCode result = new CompletableResultCode();
+    if (exportPermits.tryAcquire()) {
+      result.whenComplete(exportPermits::release);
+    }
 
     grpcSender.send(
         exportRequest,
@@ -123,6 +145,13 @@ public final class GrpcExporter<T extends Marshaler> {
       CompletableResultCode result,
       ExporterInstrumentation.Recording metricRecording,
       Throwable e) {
+    if (e instanceof SpooledRequestException) {
+      // Not delivered yet, and not lost either, so only recorded apart from other failures.
+      metricRecording.finishFailed(SpooledRequestException.ERROR_TYPE);
+      logger.log(Level.FINE, "Spooled " + type + "s for later delivery: " + e.getMessage());
+      result.failExceptionally(FailedExportException.grpcFailedExceptionally(e));
+      return;
+    }
     metricRecording.finishFailed(e);
     logger.log(
         Level.SEVERE,
@@ -137,6 +166,22 @@ public final class GrpcExporter<T extends Marshaler> {
     result.failExceptionally(FailedExportException.grpcFailedExceptionally(e));
   }
 
+  public int getMaxConcurrentExports() {
+    return maxConcurrentExports;
+  }
+
+  /**
+   * Waits up to {@code timeout} for fewer than {@link #getMaxConcurrentExports()} exports to be in
+   * flight, returning whether they are.
+   */
+  public boolean awaitExportCapacity(long timeout, TimeUnit unit) throws InterruptedException {
+    if (!exportPermits.tryAcquire(timeout, unit)) {
+      return false;
+    }
+    exportPermits.release();
+    return true;
+  }
+
   public CompletableResultCode shutdown() {
     if (!isShutdown.compareAndSet(false, true)) {
       logger.log(Level.INFO, "Calling shutdown() multiple times.");
@@ -5,6 +5,8 @@
 
 package io.opentelemetry.exporter.internal.grpc;
 
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+
 import io.grpc.Channel;
 import io.grpc.ManagedChannel;
 import io.opentelemetry.api.GlobalOpenTelemetry;
@@ -17,10 +19,15 @@ import io.opentelemetry.exporter.internal.compression.Compressor;
 import io.opentelemetry.exporter.internal.compression.CompressorProvider;
 import io.opentelemetry.exporter.internal.compression.CompressorUtil;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.spool.DiskSpool;
+import io.opentelemetry.exporter.internal.spool.SpooledRequestException;
+import io.opentelemetry.exporter.internal.spool.SpoolingGrpcSender;
 import io.opentelemetry.sdk.common.InternalTelemetryVersion;
 import io.opentelemetry.sdk.common.export.RetryPolicy;
 import io.opentelemetry.sdk.internal.ComponentId;
 import io.opentelemetry.sdk.internal.StandardComponentId;
+import java.io.File;
+import java.io.IOException;
 import java.net.URI;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -72,6 +79,10 @@ public class GrpcExporterBuilder<T extends Marshaler> {
   private ComponentLoader componentLoader =
       ComponentLoader.forClassLoader(GrpcExporterBuilder.class.getClassLoader());
   @Nullable private ExecutorService executorService;
+  private int maxConcurrentExports = 1;
+  @Nullable private File spoolDirectory;
+  private long spoolMaxSizeBytes;
+  private long spoolMaxAgeMillis;
 
   // Use Object type since gRPC may not be on the classpath.
   @Nullable private Object grpcChannel;
@@ -182,6 +193,35 @@ public class GrpcExporterBuilder<T extends Marshaler> {
     return this;
   }
 
+  /**
+   * Sets the number of exports which can be in flight at once. Callers observe the limit with
+   * {@link GrpcExporter#awaitExportCapacity(long, TimeUnit)}.
+   */
+  public GrpcExporterBuilder<T> setMaxConcurrentExports(int maxConcurrentExports) {
+    checkArgument(maxConcurrentExports > 0, "maxConcurrentExports must be positive");
+    this.maxConcurrentExports = maxConcurrentExports;
+    return this;
+  }
+
+  /**
+   * Spools requests which could not be delivered, after retries, to memory-mapped files and replays
+   * them once the endpoint recovers. Requests are spooled to a subdirectory of {@code directory}
+   * named after the exporter's signal, e.g. {@code span}, so exporters of different signals can
+   * share {@code directory}. Only one exporter at a time, in any process, can spool to a signal's
+   * subdirectory, further exporters don't spool. The spool is bounded by {@code maxSizeBytes} on
+   * disk, evicting the oldest requests first, and requests older than {@code maxAge} are dropped.
+   * Requests left in the spool when the exporter shuts down are replayed by the next exporter of
+   * the same signal using the same directory. An export whose request is spooled fails with a
+   * {@link SpooledRequestException} as its cause, since it isn't delivered yet.
+   */
+  public GrpcExporterBuilder<T> setDiskSpool(
+      File directory, long maxSizeBytes, long maxAge, TimeUnit unit) {
+    this.spoolDirectory = directory;
+    this.spoolMaxSizeBytes = maxSizeBytes;
+    this.spoolMaxAgeMillis = unit.toMillis(maxAge);
+    return this;
+  }
+
   @SuppressWarnings("BuilderReturnThis")
   public GrpcExporterBuilder<T> copy() {
     GrpcExporterBuilder<T> copy =
@@ -206,6 +246,10 @@ public class GrpcExporterBuilder<T extends Marshaler> {
     copy.internalTelemetryVersion = internalTelemetryVersion;
     copy.grpcChannel = grpcChannel;
     copy.componentLoader = componentLoader;
+    copy.maxConcurrentExports = maxConcurrentExports;
+    copy.spoolDirectory = spoolDirectory;
+    copy.spoolMaxSizeBytes = spoolMaxSizeBytes;
+    copy.spoolMaxAgeMillis = spoolMaxAgeMillis;
     return copy;
   }
 
@@ -249,13 +293,31 @@ public class GrpcExporterBuilder<T extends Marshaler> {
                 isPlainHttp ? null : tlsConfigHelper.getTrustManager(),
                 executorService));
     LOGGER.log(Level.FINE, "Using GrpcSender: " + grpcSender.getClass().getName());
+    if (spoolDirectory != null) {
+      grpcSender = spooling(grpcSender, spoolDirectory);
+    }
 
     return new GrpcExporter<>(
         grpcSender,
         internalTelemetryVersion,
         ComponentId.generateLazy(exporterType),
         meterProviderSupplier,
-        endpoint.toString());
+        endpoint.toString(),
+        maxConcurrentExports);
+  }
+
+  private GrpcSender<T> spooling(GrpcSender<T> grpcSender, File spoolDirectory) {
+    try {
+      return new SpoolingGrpcSender<>(
+          grpcSender,
+          DiskSpool.open(
+              new File(spoolDirectory, exporterType.signal().logFriendlyName()),
+              spoolMaxSizeBytes,
+              spoolMaxAgeMillis));
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Unable to open spool, requests will not be spooled.", e);
+      return grpcSender;
+    }
   }
 
   public String toString(boolean includePrefixAndSuffix) {
@@ -287,6 +349,14 @@ public class GrpcExporterBuilder<T extends Marshaler> {
     if (executorService != null) {
       joiner.add("executorService=" + executorService);
     }
+    if (maxConcurrentExports != 1) {
+      joiner.add("maxConcurrentExports=" + maxConcurrentExports);
+    }
+    if (spoolDirectory != null) {
+      joiner.add("spoolDirectory=" + spoolDirectory);
+      joiner.add("spoolMaxSizeBytes=" + spoolMaxSizeBytes);
+      joiner.add("spoolMaxAgeMillis=" + spoolMaxAgeMillis);
+    }
     joiner.add("exporterType=" + exporterType.toString());
     joiner.add("internalTelemetrySchemaVersion=" + internalTelemetryVersion);
     // Note: omit tlsConfigHelper because we can't log the configuration in any readable way
@@ -10,11 +10,14 @@ import io.opentelemetry.exporter.internal.FailedExportException;
 import io.opentelemetry.exporter.internal.grpc.GrpcExporterUtil;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.metrics.ExporterInstrumentation;
+import io.opentelemetry.exporter.internal.spool.SpooledRequestException;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.common.InternalTelemetryVersion;
 import io.opentelemetry.sdk.internal.StandardComponentId;
 import io.opentelemetry.sdk.internal.ThrottlingLogger;
 import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import java.util.logging.Level;
@@ -38,6 +41,10 @@ public final class HttpExporter<T extends Marshaler> {
   private final String type;
   private final HttpSender httpSender;
   private final ExporterInstrumentation exporterMetrics;
+  private final int maxConcurrentExports;
+  // Held by in-flight exports. Exports beyond the limit are still sent without a permit, callers
+  // observe the limit through awaitExportCapacity.
+  private final Semaphore exportPermits;
 
   public HttpExporter(
       StandardComponentId componentId,
@@ -45,11 +52,23 @@ public final class HttpExporter<T extends Marshaler> {
       Supplier<MeterProvider> meterProviderSupplier,
       InternalTelemetryVersion internalTelemetryVersion,
       String endpoint) {
+    this(componentId, httpSender, meterProviderSupplier, internalTelemetryVersion, endpoint, 1);
+  }
+
+  public HttpExporter(
+      StandardComponentId componentId,
+      HttpSender httpSender,
+      Supplier<MeterProvider> meterProviderSupplier,
+      InternalTelemetryVersion internalTelemetryVersion,
+      String endpoint,
+      int maxConcurrentExports) {
     this.type = componentId.getStandardType().signal().logFriendlyName();
     this.httpSender = httpSender;
     this.exporterMetrics =
         new ExporterInstrumentation(
             internalTelemetryVersion, meterProviderSupplier, componentId, endpoint);
+    this.maxConcurrentExports = maxConcurrentExports;
+    this.exportPermits = new Semaphore(maxConcurrentExports);
   }
 
   public CompletableResultCode export(T exportRequest, int numItems) {
@@ -61,6 +80,9 @@ public final class HttpExporter<T extends Marshaler> {
         exporterMetrics.startRecordingExport(numItems);
 
     CompletableResultCode result = new CompletableResultCode();
+    if (exportPermits.tryAcquire()) {
+      result.whenComplete(exportPermits::release);
+    }
 
     httpSender.send(
         exportRequest,
@@ -112,6 +134,13 @@ public final class HttpExporter<T extends Marshaler> {
       CompletableResultCode result,
       ExporterInstrumentation.Recording metricRecording,
       Throwable e) {
+    if (e instanceof SpooledRequestException) {
+      // Not delivered yet, and not lost either, so only recorded apart from other failures.
+      metricRecording.finishFailed(SpooledRequestException.ERROR_TYPE);
+      logger.log(Level.FINE, "Spooled " + type + "s for later delivery: " + e.getMessage());
+      result.failExceptionally(FailedExportException.httpFailedExceptionally(e));
+      return;
+    }
     metricRecording.finishFailed(e);
     logger.log(
         Level.SEVERE,
@@ -123,6 +152,22 @@ public final class HttpExporter<T extends Marshaler> {
     result.failExceptionally(FailedExportException.httpFailedExceptionally(e));
   }
 
+  public int getMaxConcurrentExports() {
+    return maxConcurrentExports;
+  }
+
+  /**
+   * Waits up to {@code timeout} for fewer than {@link #getMaxConcurrentExports()} exports to be in
+   * flight, returning whether they are.
+   */
+  public boolean awaitExportCapacity(long timeout, TimeUnit unit) throws InterruptedException {
+    if (!exportPermits.tryAcquire(timeout, unit)) {
+      return false;
+    }
+    exportPermits.release();
+    return true;
+  }
+
   public CompletableResultCode shutdown() {
     if (!isShutdown.compareAndSet(false, true)) {
       logger.log(Level.INFO, "Calling shutdown() multiple times.");
@@ -5,6 +5,8 @@
 
 package io.opentelemetry.exporter.internal.http;
 
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.api.internal.ConfigUtil;
 import io.opentelemetry.api.metrics.MeterProvider;
@@ -15,11 +17,16 @@ import io.opentelemetry.exporter.internal.compression.Compressor;
 import io.opentelemetry.exporter.internal.compression.CompressorProvider;
 import io.opentelemetry.exporter.internal.compression.CompressorUtil;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.spool.DiskSpool;
+import io.opentelemetry.exporter.internal.spool.SpooledRequestException;
+import io.opentelemetry.exporter.internal.spool.SpoolingHttpSender;
 import io.opentelemetry.sdk.common.InternalTelemetryVersion;
 import io.opentelemetry.sdk.common.export.ProxyOptions;
 import io.opentelemetry.sdk.common.export.RetryPolicy;
 import io.opentelemetry.sdk.internal.ComponentId;
 import io.opentelemetry.sdk.internal.StandardComponentId;
+import java.io.File;
+import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -69,6 +76,10 @@ public final class HttpExporterBuilder<T extends Marshaler> {
   private ComponentLoader componentLoader =
       ComponentLoader.forClassLoader(HttpExporterBuilder.class.getClassLoader());
   @Nullable private ExecutorService executorService;
+  private int maxConcurrentExports = 1;
+  @Nullable private File spoolDirectory;
+  private long spoolMaxSizeBytes;
+  private long spoolMaxAgeMillis;
 
   public HttpExporterBuilder(
       StandardComponentId.ExporterType exporterType, String defaultEndpoint) {
@@ -187,6 +198,36 @@ public final class HttpExporterBuilder<T extends Marshaler> {
     }
   }
 
+  /**
+   * Sets the number of exports which can be in flight at once. Callers observe the limit with
+   * {@link HttpExporter#awaitExportCapacity(long, TimeUnit)}.
+   */
+  public HttpExporterBuilder<T> setMaxConcurrentExports(int maxConcurrentExports) {
+    checkArgument(maxConcurrentExports > 0, "maxConcurrentExports must be positive");
+    this.maxConcurrentExports = maxConcurrentExports;
+    return this;
+  }
+
+  /**
+   * Spools requests which could not be delivered, after retries, to memory-mapped files and replays
+   * them once the endpoint recovers. Requests are spooled to a subdirectory of {@code directory}
+   * named after the exporter's signal, e.g. {@code span}, so exporters of different signals can
+   * share {@code directory}. Only one exporter at a time, in any process, can spool to a signal's
+   * subdirectory, further exporters don't spool. The spool is bounded by {@code maxSizeBytes} on
+   * disk, evicting the oldest requests first, and requests older than {@code maxAge} are dropped.
+   * Requests left in the spool when the exporter shuts down are replayed by the next exporter of
+   * the same signal using the same directory. An export whose request is spooled fails with a
+   * {@link SpooledRequestException} as its cause, since it isn't delivered yet. Spooling is only
+   * supported for proto binary requests, it is ignored when exporting JSON.
+   */
+  public HttpExporterBuilder<T> setDiskSpool(
+      File directory, long maxSizeBytes, long maxAge, TimeUnit unit) {
+    this.spoolDirectory = directory;
+    this.spoolMaxSizeBytes = maxSizeBytes;
+    this.spoolMaxAgeMillis = unit.toMillis(maxAge);
+    return this;
+  }
+
   @SuppressWarnings("BuilderReturnThis")
   public HttpExporterBuilder<T> copy() {
     HttpExporterBuilder<T> copy = new HttpExporterBuilder<>(exporterType, endpoint);
@@ -205,6 +246,10 @@ public final class HttpExporterBuilder<T extends Marshaler> {
     copy.internalTelemetryVersion = internalTelemetryVersion;
     copy.proxyOptions = proxyOptions;
     copy.componentLoader = componentLoader;
+    copy.maxConcurrentExports = maxConcurrentExports;
+    copy.spoolDirectory = spoolDirectory;
+    copy.spoolMaxSizeBytes = spoolMaxSizeBytes;
+    copy.spoolMaxAgeMillis = spoolMaxAgeMillis;
     return copy;
   }
 
@@ -248,13 +293,35 @@ public final class HttpExporterBuilder<T extends Marshaler> {
                 isPlainHttp ? null : tlsConfigHelper.getTrustManager(),
                 executorService));
     LOGGER.log(Level.FINE, "Using HttpSender: " + httpSender.getClass().getName());
+    if (spoolDirectory != null) {
+      if (exportAsJson) {
+        LOGGER.log(Level.WARNING, "Spooling is not supported when exporting JSON, ignoring it.");
+      } else {
+        httpSender = spooling(httpSender, spoolDirectory);
+      }
+    }
 
     return new HttpExporter<>(
         ComponentId.generateLazy(exporterType),
         httpSender,
         meterProviderSupplier,
         internalTelemetryVersion,
-        endpoint);
+        endpoint,
+        maxConcurrentExports);
+  }
+
+  private HttpSender spooling(HttpSender httpSender, File spoolDirectory) {
+    try {
+      return new SpoolingHttpSender(
+          httpSender,
+          DiskSpool.open(
+              new File(spoolDirectory, exporterType.signal().logFriendlyName()),
+              spoolMaxSizeBytes,
+              spoolMaxAgeMillis));
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Unable to open spool, requests will not be spooled.", e);
+      return httpSender;
+    }
   }
 
   public String toString(boolean includePrefixAndSuffix) {
@@ -284,6 +351,14 @@ public final class HttpExporterBuilder<T extends Marshaler> {
     if (executorService != null) {
       joiner.add("executorService=" + executorService);
     }
+    if (maxConcurrentExports != 1) {
+      joiner.add("maxConcurrentExports=" + maxConcurrentExports);
+    }
+    if (spoolDirectory != null) {
+      joiner.add("spoolDirectory=" + spoolDirectory);
+      joiner.add("spoolMaxSizeBytes=" + spoolMaxSizeBytes);
+      joiner.add("spoolMaxAgeMillis=" + spoolMaxAgeMillis);
+    }
     joiner.add("exporterType=" + exporterType);
     joiner.add("internalTelemetrySchemaVersion=" + internalTelemetryVersion);
     // Note: omit tlsConfigHelper because we can't log the configuration in any readable way
@@ -0,0 +1,104 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An {@link OutputStream} writing into direct {@link ByteBuffer} segments of a {@link
+ * DirectBufferPool}. Once written, the content is read with {@link #toByteBuffers()}, and the
+ * segments must be returned to the pool with {@link #release()} when they are no longer read.
+ *
+ * <p>{@link #close()} does not release the segments, so the stream can be wrapped by streams which
+ * close their delegate, such as compressing streams.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class DirectBufferOutputStream extends OutputStream {
+
+  private final DirectBufferPool pool;
+  private final int segmentSize;
+  private final List<ByteBuffer> segments;
+
+  // Index of the segment being written to, segments after it are acquired but still empty.
+  private int current = -1;
+  private int size;
+
+  DirectBufferOutputStream(DirectBufferPool pool, int sizeHint) {
+    this.pool = pool;
+    this.segmentSize = pool.getSegmentSize();
+    int segmentCount = sizeHint <= 0 ? 1 : (sizeHint + segmentSize - 1) / segmentSize;
+    this.segments = new ArrayList<>(segmentCount);
+    for (int i = 0; i < segmentCount; i++) {
+      segments.add(pool.acquire());
+    }
+  }
+
+  @Override
+  public void write(int b) {
+    segmentWithSpace().put((byte) b);
+    size++;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) {
+    while (len > 0) {
+      ByteBuffer segment = segmentWithSpace();
+      int toWrite = Math.min(segment.remaining(), len);
+      segment.put(b, off, toWrite);
+      off += toWrite;
+      len -= toWrite;
+      size += toWrite;
+    }
+  }
+
+  /** Returns the number of bytes written. */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the written content as buffers positioned at their start. The buffers share the pooled
+   * segments, so must not be read after {@link #release()}.
+   */
+  public List<ByteBuffer> toByteBuffers() {
+    List<ByteBuffer> buffers = new ArrayList<>(current + 1);
+    for (int i = 0; i <= current; i++) {
+      ByteBuffer buffer = segments.get(i).duplicate();
+      buffer.flip();
+      buffers.add(buffer);
+    }
+    return buffers;
+  }
+
+  /** Returns the segments to the pool. The stream must not be used afterwards. */
+  public void release() {
+    for (ByteBuffer segment : segments) {
+      pool.release(segment);
+    }
+    segments.clear();
+    current = -1;
+    size = 0;
+  }
+
+  private ByteBuffer segmentWithSpace() {
+    if (current >= 0) {
+      ByteBuffer segment = segments.get(current);
+      if (segment.hasRemaining()) {
+        return segment;
+      }
+    }
+    current++;
+    if (current == segments.size()) {
+      segments.add(pool.acquire());
+    }
+    return segments.get(current);
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool of fixed-size direct {@link ByteBuffer} segments that serialized requests are written
+ * into with a {@link DirectBufferOutputStream}. Senders can hand the segments to the network
+ * directly, without copying the request through heap arrays first.
+ *
+ * <p>At most {@code maxPooledSegments} released segments are retained, others are left to the
+ * garbage collector, which bounds the direct memory held by an idle pool.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class DirectBufferPool {
+
+  private static final int DEFAULT_SEGMENT_SIZE = 64 * 1024;
+  private static final int DEFAULT_MAX_POOLED_SEGMENTS = 64;
+
+  private final int segmentSize;
+  private final int maxPooledSegments;
+  private final Queue<ByteBuffer> pool = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pooledSegments = new AtomicInteger();
+
+  /** Returns a new {@link DirectBufferPool} retaining up to 4 MiB in 64 KiB segments. */
+  public static DirectBufferPool create() {
+    return create(DEFAULT_SEGMENT_SIZE, DEFAULT_MAX_POOLED_SEGMENTS);
+  }
+
+  /** Returns a new {@link DirectBufferPool} with the given segment size and retention. */
+  public static DirectBufferPool create(int segmentSize, int maxPooledSegments) {
+    if (segmentSize <= 0) {
+      throw new IllegalArgumentException("segmentSize must be positive");
+    }
+    if (maxPooledSegments < 0) {
+      throw new IllegalArgumentException("maxPooledSegments must be non-negative");
+    }
+    return new DirectBufferPool(segmentSize, maxPooledSegments);
+  }
+
+  private DirectBufferPool(int segmentSize, int maxPooledSegments) {
+    this.segmentSize = segmentSize;
+    this.maxPooledSegments = maxPooledSegments;
+  }
+
+  /**
+   * Returns a new {@link DirectBufferOutputStream} backed by this pool. {@code sizeHint}, usually
+   * {@link Marshaler#getBinarySerializedSize()}, is used to acquire all the segments up front when
+   * the serialized size is known, and may be {@code 0} when it isn't.
+   */
+  public DirectBufferOutputStream newOutputStream(int sizeHint) {
+    return new DirectBufferOutputStream(this, sizeHint);
+  }
+
+  int getSegmentSize() {
+    return segmentSize;
+  }
+
+  // Visible for testing
+  int getPooledSegments() {
+    return pooledSegments.get();
+  }
+
+  ByteBuffer acquire() {
+    ByteBuffer segment = pool.poll();
+    if (segment == null) {
+      return ByteBuffer.allocateDirect(segmentSize);
+    }
+    pooledSegments.decrementAndGet();
+    segment.clear();
+    return segment;
+  }
+
+  void release(ByteBuffer segment) {
+    if (pooledSegments.incrementAndGet() > maxPooledSegments) {
+      pooledSegments.decrementAndGet();
+      return;
+    }
+    pool.offer(segment);
+  }
+}
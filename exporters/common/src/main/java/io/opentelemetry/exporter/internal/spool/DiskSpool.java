@@ -0,0 +1,587 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.spool;
+
+import io.opentelemetry.api.internal.GuardedBy;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * A write-ahead spool of serialized export requests, stored in memory-mapped segment files in a
+ * directory.
+ *
+ * <p>Requests are appended to the newest segment and read back oldest first. Each record is a
+ * length, a timestamp and the payload. Once a record has been read back and removed, its length is
+ * negated, so removed records are skipped when the spool is reopened, e.g. after a restart, and a
+ * segment file is deleted once all of its records are removed. When appending would exceed the
+ * size limit the oldest segment is evicted, and records older than the age limit are dropped
+ * instead of being read back.
+ *
+ * <p>Records are written to the mapped files without forcing them to the storage device, so they
+ * survive the process exiting but not necessarily the host crashing.
+ *
+ * <p>The spool holds an exclusive lock on a lock file in its directory while it is open, so a
+ * directory is only ever used by one spool at a time, across processes too.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class DiskSpool implements Closeable {
+
+  private static final Logger logger = Logger.getLogger(DiskSpool.class.getName());
+
+  private static final String SEGMENT_PREFIX = "segment-";
+  private static final String SEGMENT_SUFFIX = ".otlp";
+  // Record header: int length, long timestamp in epoch millis.
+  private static final int HEADER_SIZE = 12;
+  static final int DEFAULT_SEGMENT_SIZE = 4 * 1024 * 1024;
+  static final String LOCK_FILE_NAME = "spool.lock";
+
+  private final File directory;
+  private final FileChannel lockChannel;
+  private final long maxSizeBytes;
+  private final long maxAgeMillis;
+  private final int segmentSize;
+  private final LongSupplier clockMillis;
+
+  @GuardedBy("this")
+  private final Deque<Segment> segments = new ArrayDeque<>();
+
+  // Segments without pending records whose files couldn't be deleted yet, which still count
+  // towards the size limit.
+  @GuardedBy("this")
+  private final List<Segment> undeletedSegments = new ArrayList<>();
+
+  @GuardedBy("this")
+  private long sizeBytes;
+
+  @GuardedBy("this")
+  private long nextSequence;
+
+  @GuardedBy("this")
+  private long droppedRecords;
+
+  /**
+   * Opens the spool in {@code directory}, creating it if needed and recovering any records left by
+   * a previous spool.
+   *
+   * @throws IOException if the directory can't be used, including when another spool, possibly in
+   *     another process, has it open.
+   */
+  public static DiskSpool open(File directory, long maxSizeBytes, long maxAgeMillis)
+      throws IOException {
+    return open(
+        directory, maxSizeBytes, maxAgeMillis, DEFAULT_SEGMENT_SIZE, System::currentTimeMillis);
+  }
+
+  // Visible for testing
+  static DiskSpool open(
+      File directory,
+      long maxSizeBytes,
+      long maxAgeMillis,
+      int segmentSize,
+      LongSupplier clockMillis)
+      throws IOException {
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("Unable to create spool directory " + directory);
+    }
+    FileChannel lockChannel = lock(directory);
+    DiskSpool spool =
+        new DiskSpool(directory, lockChannel, maxSizeBytes, maxAgeMillis, segmentSize, clockMillis);
+    try {
+      spool.recover();
+    } catch (IOException | RuntimeException e) {
+      spool.close();
+      throw e;
+    }
+    return spool;
+  }
+
+  // Returns the channel holding the lock on the directory, which is released once it is closed.
+  private static FileChannel lock(File directory) throws IOException {
+    FileChannel channel =
+        FileChannel.open(
+            new File(directory, LOCK_FILE_NAME).toPath(),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE);
+    FileLock lock;
+    try {
+      lock = channel.tryLock();
+    } catch (OverlappingFileLockException e) {
+      // Held by another spool in this process
+      lock = null;
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+    if (lock == null) {
+      channel.close();
+      throw new IOException("Spool directory " + directory + " is in use by another spool");
+    }
+    return channel;
+  }
+
+  private DiskSpool(
+      File directory,
+      FileChannel lockChannel,
+      long maxSizeBytes,
+      long maxAgeMillis,
+      int segmentSize,
+      LongSupplier clockMillis) {
+    this.directory = directory;
+    this.lockChannel = lockChannel;
+    this.maxSizeBytes = maxSizeBytes;
+    this.maxAgeMillis = maxAgeMillis;
+    this.segmentSize = segmentSize;
+    this.clockMillis = clockMillis;
+  }
+
+  /**
+   * Appends {@code payload} to the spool, evicting the oldest segments if needed to stay within the
+   * size limit. Returns {@code false} if the payload could not be spooled.
+   */
+  public synchronized boolean append(byte[] payload) {
+    // A zero length marks the end of a segment's records, and there is nothing to export anyway.
+    if (payload.length == 0) {
+      return true;
+    }
+    int recordSize = HEADER_SIZE + payload.length;
+    Segment segment = segments.peekLast();
+    if (segment == null || !segment.hasRoom(recordSize)) {
+      int newSegmentSize = Math.max(segmentSize, recordSize);
+      if (newSegmentSize > maxSizeBytes) {
+        droppedRecords++;
+        return false;
+      }
+      retryDeletes();
+      while (!segments.isEmpty() && sizeBytes + newSegmentSize > maxSizeBytes) {
+        evict(segments.removeFirst());
+      }
+      // Files which couldn't be deleted may still take up the room.
+      if (sizeBytes + newSegmentSize > maxSizeBytes) {
+        droppedRecords++;
+        return false;
+      }
+      try {
+        segment = Segment.create(segmentFile(nextSequence++), newSegmentSize);
+      } catch (IOException e) {
+        logger.log(Level.WARNING, "Unable to create spool segment in " + directory, e);
+        droppedRecords++;
+        return false;
+      }
+      segments.addLast(segment);
+      sizeBytes += segment.capacity();
+    }
+    segment.append(payload, clockMillis.getAsLong());
+    return true;
+  }
+
+  /**
+   * Returns the oldest record which is still pending and within the age limit, or {@code null} if
+   * there is none. The record stays in the spool until {@link #remove(Record)} is called.
+   */
+  @Nullable
+  public synchronized Record peek() {
+    long minTimestamp = clockMillis.getAsLong() - maxAgeMillis;
+    Segment segment;
+    while ((segment = segments.peekFirst()) != null) {
+      Record record = segment.nextPending();
+      while (record != null && record.timestampMillis < minTimestamp) {
+        segment.remove(record);
+        droppedRecords++;
+        record = segment.nextPending();
+      }
+      if (record != null) {
+        return record;
+      }
+      // The newest segment is kept for appending.
+      if (segments.size() == 1) {
+        return null;
+      }
+      segments.removeFirst();
+      discard(segment);
+    }
+    return null;
+  }
+
+  /** Removes {@code record}, after it has been exported. */
+  public synchronized void remove(Record record) {
+    // The record's segment may have been evicted in the meantime.
+    if (segments.contains(record.segment)) {
+      record.segment.remove(record);
+    }
+  }
+
+  /** Returns whether the spool has no pending records. */
+  public synchronized boolean isEmpty() {
+    for (Segment segment : segments) {
+      if (segment.hasPending()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Returns the number of records dropped due to the size or age limits. */
+  public synchronized long getDroppedRecords() {
+    return droppedRecords;
+  }
+
+  /**
+   * Releases the segments and the directory, leaving pending records on disk for the next spool to
+   * recover.
+   */
+  @Override
+  public synchronized void close() {
+    for (Segment segment : segments) {
+      segment.close();
+    }
+    for (Segment segment : undeletedSegments) {
+      segment.close();
+    }
+    segments.clear();
+    undeletedSegments.clear();
+    sizeBytes = 0;
+    try {
+      lockChannel.close();
+    } catch (IOException e) {
+      logger.log(Level.FINE, "Unable to release spool directory " + directory, e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "DiskSpool{"
+        + "directory="
+        + directory
+        + ", maxSizeBytes="
+        + maxSizeBytes
+        + ", maxAgeMillis="
+        + maxAgeMillis
+        + "}";
+  }
+
+  private synchronized void recover() throws IOException {
+    File[] files =
+        directory.listFiles(
+            (dir, name) -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX));
+    if (files == null) {
+      throw new IOException("Unable to list spool directory " + directory);
+    }
+    List<File> sorted = new ArrayList<>(Arrays.asList(files));
+    sorted.sort((a, b) -> Long.compare(sequence(a), sequence(b)));
+    for (File file : sorted) {
+      Segment segment = Segment.open(file);
+      segments.addLast(segment);
+      sizeBytes += segment.capacity();
+      nextSequence = Math.max(nextSequence, sequence(file) + 1);
+    }
+  }
+
+  private void evict(Segment segment) {
+    Record record;
+    while ((record = segment.nextPending()) != null) {
+      segment.remove(record);
+      droppedRecords++;
+    }
+    discard(segment);
+  }
+
+  // Deletes a segment which has no pending records left. If its file can't be deleted, e.g. on
+  // Windows while it is still mapped, deleting is retried before the next segment is created, and
+  // meanwhile it keeps counting towards the size limit.
+  private void discard(Segment segment) {
+    if (segment.delete()) {
+      sizeBytes -= segment.capacity();
+    } else {
+      logger.log(Level.WARNING, "Unable to delete spool segment " + segment.file + ", will retry");
+      undeletedSegments.add(segment);
+    }
+  }
+
+  private void retryDeletes() {
+    Iterator<Segment> iterator = undeletedSegments.iterator();
+    while (iterator.hasNext()) {
+      Segment segment = iterator.next();
+      if (segment.delete()) {
+        sizeBytes -= segment.capacity();
+        iterator.remove();
+      }
+    }
+  }
+
+  private File segmentFile(long sequence) {
+    String name =
+        String.format(Locale.ROOT, "%s%020d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX);
+    return new File(directory, name);
+  }
+
+  private static long sequence(File file) {
+    String name = file.getName();
+    try {
+      return Long.parseLong(
+          name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  /**
+   * A spooled request.
+   *
+   * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+   * at any time.
+   */
+  public static final class Record {
+    private final Segment segment;
+    private final int offset;
+    private final long timestampMillis;
+    private final byte[] payload;
+
+    private Record(Segment segment, int offset, long timestampMillis, byte[] payload) {
+      this.segment = segment;
+      this.offset = offset;
+      this.timestampMillis = timestampMillis;
+      this.payload = payload;
+    }
+
+    /** Returns the serialized request. */
+    public byte[] getPayload() {
+      return payload;
+    }
+  }
+
+  private static final class Segment {
+    private final File file;
+    private final RandomAccessFile randomAccessFile;
+    private final MappedByteBuffer buffer;
+    private int readPosition;
+    private int writePosition;
+    private boolean closed;
+
+    private Segment(
+        File file,
+        RandomAccessFile randomAccessFile,
+        MappedByteBuffer buffer,
+        int readPosition,
+        int writePosition) {
+      this.file = file;
+      this.randomAccessFile = randomAccessFile;
+      this.buffer = buffer;
+      this.readPosition = readPosition;
+      this.writePosition = writePosition;
+    }
+
+    static Segment create(File file, int size) throws IOException {
+      RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+      return new Segment(file, randomAccessFile, map(randomAccessFile, size), 0, 0);
+    }
+
+    // Scans the records of an existing segment, the first zero length, or a length exceeding the
+    // segment as left by a torn write, marks the end of the written records.
+    static Segment open(File file) throws IOException {
+      RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+      MappedByteBuffer buffer = map(randomAccessFile, (int) file.length());
+      int position = 0;
+      int readPosition = -1;
+      while (position + HEADER_SIZE <= buffer.capacity()) {
+        int length = buffer.getInt(position);
+        int recordLength = Math.abs(length);
+        if (length == 0 || position + HEADER_SIZE + recordLength > buffer.capacity()) {
+          break;
+        }
+        if (length > 0 && readPosition < 0) {
+          readPosition = position;
+        }
+        position += HEADER_SIZE + recordLength;
+      }
+      return new Segment(
+          file, randomAccessFile, buffer, readPosition < 0 ? position : readPosition, position);
+    }
+
+    private static MappedByteBuffer map(RandomAccessFile randomAccessFile, int size)
+        throws IOException {
+      try {
+        return randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+      } catch (IOException | RuntimeException e) {
+        randomAccessFile.close();
+        throw e;
+      }
+    }
+
+    int capacity() {
+      return buffer.capacity();
+    }
+
+    boolean hasRoom(int recordSize) {
+      return writePosition + recordSize <= buffer.capacity();
+    }
+
+    void append(byte[] payload, long timestampMillis) {
+      buffer.putLong(writePosition + 4, timestampMillis);
+      ByteBuffer target = buffer.duplicate();
+      target.position(writePosition + HEADER_SIZE);
+      target.put(payload);
+      // Write the length last, so a torn record is not read back.
+      buffer.putInt(writePosition, payload.length);
+      writePosition += HEADER_SIZE + payload.length;
+    }
+
+    boolean hasPending() {
+      skipRemoved();
+      return readPosition < writePosition;
+    }
+
+    @Nullable
+    Record nextPending() {
+      if (!hasPending()) {
+        return null;
+      }
+      int length = buffer.getInt(readPosition);
+      long timestampMillis = buffer.getLong(readPosition + 4);
+      byte[] payload = new byte[length];
+      ByteBuffer source = buffer.duplicate();
+      source.position(readPosition + HEADER_SIZE);
+      source.get(payload);
+      return new Record(this, readPosition, timestampMillis, payload);
+    }
+
+    private void skipRemoved() {
+      int length;
+      while (readPosition < writePosition && (length = buffer.getInt(readPosition)) < 0) {
+        readPosition += HEADER_SIZE - length;
+      }
+    }
+
+    void remove(Record record) {
+      int length = buffer.getInt(record.offset);
+      if (length > 0) {
+        buffer.putInt(record.offset, -length);
+      }
+    }
+
+    // Marks every record as removed, so none is read back, even by a spool recovering the file.
+    void removeAll() {
+      int position = 0;
+      while (position < writePosition) {
+        int length = buffer.getInt(position);
+        if (length > 0) {
+          buffer.putInt(position, -length);
+        }
+        position += HEADER_SIZE + Math.abs(length);
+      }
+      readPosition = writePosition;
+    }
+
+    // Releases the segment and deletes its file, returning whether it was deleted. Some platforms,
+    // e.g. Windows, don't delete a file while it is mapped, and the mapping is only released
+    // before it is garbage collected where the JDK allows it, so all records are first marked as
+    // removed in case the file is left behind.
+    boolean delete() {
+      if (!closed) {
+        removeAll();
+        close();
+      }
+      return file.delete();
+    }
+
+    // Closes the file and releases the mapping. The segment must not be used afterwards, as
+    // accessing a released mapping crashes the JVM.
+    void close() {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      try {
+        randomAccessFile.close();
+      } catch (IOException e) {
+        logger.log(Level.FINE, "Unable to close spool segment " + file, e);
+      }
+      Unmapper.unmap(buffer);
+    }
+  }
+
+  /**
+   * Releases mappings without waiting for their buffers to be garbage collected, through {@code
+   * sun.misc.Unsafe#invokeCleaner} on Java 9+ and the buffer's cleaner on Java 8. Where neither is
+   * accessible, mappings are released once garbage collected.
+   */
+  private static final class Unmapper {
+    @Nullable private static final Object UNSAFE;
+    @Nullable private static final Method INVOKE_CLEANER;
+    @Nullable private static final Method CLEANER;
+    @Nullable private static final Method CLEAN;
+
+    static {
+      Object unsafe = null;
+      Method invokeCleaner = null;
+      Method cleaner = null;
+      Method clean = null;
+      try {
+        Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+        invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        Field field = unsafeClass.getDeclaredField("theUnsafe");
+        field.setAccessible(true);
+        unsafe = field.get(null);
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        invokeCleaner = null;
+        try {
+          cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+          clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+        } catch (ReflectiveOperationException | RuntimeException e2) {
+          cleaner = null;
+          clean = null;
+        }
+      }
+      UNSAFE = unsafe;
+      INVOKE_CLEANER = invokeCleaner;
+      CLEANER = cleaner;
+      CLEAN = clean;
+    }
+
+    static void unmap(MappedByteBuffer buffer) {
+      Object unsafe = UNSAFE;
+      Method invokeCleaner = INVOKE_CLEANER;
+      Method cleaner = CLEANER;
+      Method clean = CLEAN;
+      try {
+        if (unsafe != null && invokeCleaner != null) {
+          invokeCleaner.invoke(unsafe, buffer);
+        } else if (cleaner != null && clean != null) {
+          Object bufferCleaner = cleaner.invoke(buffer);
+          if (bufferCleaner != null) {
+            clean.invoke(bufferCleaner);
+          }
+        }
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        logger.log(Level.FINE, "Unable to release spool segment mapping", e);
+      }
+    }
+
+    private Unmapper() {}
+  }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.spool;
+
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import java.io.IOException;
+
+/** A {@link Marshaler} of a request which was already serialized in proto binary format. */
+final class SpooledMarshaler extends Marshaler {
+
+  private final byte[] payload;
+
+  SpooledMarshaler(byte[] payload) {
+    this.payload = payload;
+  }
+
+  @Override
+  public int getBinarySerializedSize() {
+    return payload.length;
+  }
+
+  @Override
+  protected void writeTo(Serializer output) throws IOException {
+    // Spooling is only supported for proto binary exports, so there is no JSON form.
+    output.writeSerializedMessage(payload, "");
+  }
+}
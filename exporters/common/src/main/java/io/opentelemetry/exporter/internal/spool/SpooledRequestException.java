@@ -0,0 +1,29 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.spool;
+
+import java.io.IOException;
+import javax.annotation.Nullable;
+
+/**
+ * Signals that a request was not delivered but spooled to disk, to be replayed once the endpoint
+ * recovers. The spooled request may still be evicted or expire before it is replayed, so an export
+ * whose request was spooled fails rather than succeeds.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class SpooledRequestException extends IOException {
+
+  private static final long serialVersionUID = 3570264117629383529L;
+
+  /** The error type recorded in exporter metrics for spooled requests. */
+  public static final String ERROR_TYPE = "spooled";
+
+  SpooledRequestException(String message, @Nullable Throwable cause) {
+    super(message, cause);
+  }
+}
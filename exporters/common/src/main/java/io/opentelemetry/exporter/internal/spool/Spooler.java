@@ -0,0 +1,128 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.spool;
+
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import io.opentelemetry.sdk.internal.ThrottlingLogger;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Spools requests to a {@link DiskSpool} and periodically replays them, oldest first, until they
+ * are exported.
+ */
+final class Spooler {
+
+  private static final Logger internalLogger = Logger.getLogger(Spooler.class.getName());
+
+  static final long DEFAULT_REPLAY_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+  /** The outcome of sending a spooled request. */
+  enum Outcome {
+    EXPORTED,
+    /** The request may succeed later, so replaying stops until the next interval. */
+    RETRYABLE_FAILURE,
+    /** The request will never succeed, so it is dropped. */
+    REJECTED
+  }
+
+  /** Sends a spooled request, calling back with its {@link Outcome}. */
+  interface ReplaySender {
+    void send(Marshaler request, Consumer<Outcome> onOutcome);
+  }
+
+  private final ThrottlingLogger logger = new ThrottlingLogger(internalLogger);
+  private final AtomicBoolean replaying = new AtomicBoolean();
+
+  private final DiskSpool spool;
+  private final ReplaySender replaySender;
+  private final ScheduledExecutorService executor;
+
+  Spooler(DiskSpool spool, long replayIntervalNanos, ReplaySender replaySender) {
+    this.spool = spool;
+    this.replaySender = replaySender;
+    this.executor =
+        Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("otlp-spool-replay"));
+    executor.scheduleWithFixedDelay(
+        this::replay, replayIntervalNanos, replayIntervalNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Returns whether requests are waiting to be replayed, in which case new requests must be
+   * spooled behind them to keep them in order.
+   */
+  boolean hasPending() {
+    return !spool.isEmpty();
+  }
+
+  /** Serializes and spools {@code request}, returning whether it was spooled. */
+  boolean spool(Marshaler request) {
+    ByteArrayOutputStream payload = new ByteArrayOutputStream(request.getBinarySerializedSize());
+    try {
+      request.writeBinaryTo(payload);
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "Unable to serialize request for spooling", e);
+      return false;
+    }
+    if (!spool.append(payload.toByteArray())) {
+      logger.log(Level.WARNING, "Unable to spool request, it exceeds the spool size limit");
+      return false;
+    }
+    return true;
+  }
+
+  // Visible for testing
+  void replay() {
+    if (replaying.compareAndSet(false, true)) {
+      replayNext();
+    }
+  }
+
+  private void replayNext() {
+    DiskSpool.Record record = spool.peek();
+    if (record == null) {
+      replaying.set(false);
+      return;
+    }
+    replaySender.send(
+        new SpooledMarshaler(record.getPayload()),
+        outcome -> {
+          switch (outcome) {
+            case EXPORTED:
+              spool.remove(record);
+              break;
+            case REJECTED:
+              logger.log(Level.WARNING, "Dropping spooled request rejected by the server");
+              spool.remove(record);
+              break;
+            case RETRYABLE_FAILURE:
+              replaying.set(false);
+              return;
+          }
+          // Continue on the replay thread rather than the sender's callback thread.
+          try {
+            executor.execute(this::replayNext);
+          } catch (RejectedExecutionException e) {
+            replaying.set(false);
+          }
+        });
+  }
+
+  /** Stops replaying, leaving pending requests on disk for the next spool to recover. */
+  void shutdown() {
+    executor.shutdownNow();
+    spool.close();
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.spool;
+
+import io.opentelemetry.exporter.internal.RetryUtil;
+import io.opentelemetry.exporter.internal.grpc.GrpcResponse;
+import io.opentelemetry.exporter.internal.grpc.GrpcSender;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import java.util.function.Consumer;
+
+/**
+ * {@link GrpcSender} which spools requests to disk when they can't be delivered, after the
+ * delegate's own retries, and replays them once the endpoint recovers. While requests are spooled,
+ * new requests are spooled behind them to keep them in order. A spooled request is reported as an
+ * error, a {@link SpooledRequestException}, since it isn't delivered yet and may still be dropped.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class SpoolingGrpcSender<T extends Marshaler> implements GrpcSender<T> {
+
+  private static final String SPOOLED_BEHIND_PENDING =
+      "Request spooled behind requests waiting to be replayed";
+  private static final String SPOOLED_AFTER_ERROR =
+      "Request spooled after it could not be executed";
+
+  private final GrpcSender<T> delegate;
+  private final Spooler spooler;
+
+  public SpoolingGrpcSender(GrpcSender<T> delegate, DiskSpool spool) {
+    this(delegate, spool, Spooler.DEFAULT_REPLAY_INTERVAL_NANOS);
+  }
+
+  // Visible for testing
+  SpoolingGrpcSender(GrpcSender<T> delegate, DiskSpool spool, long replayIntervalNanos) {
+    this.delegate = delegate;
+    this.spooler = new Spooler(spool, replayIntervalNanos, this::replay);
+  }
+
+  @Override
+  public void send(T request, Consumer<GrpcResponse> onResponse, Consumer<Throwable> onError) {
+    if (spooler.hasPending() && spooler.spool(request)) {
+      onError.accept(new SpooledRequestException(SPOOLED_BEHIND_PENDING, null));
+      return;
+    }
+    delegate.send(
+        request,
+        response -> {
+          if (isRetryable(response.grpcStatusValue()) && spooler.spool(request)) {
+            onError.accept(
+                new SpooledRequestException(
+                    "Request spooled after gRPC status code " + response.grpcStatusValue(),
+                    null));
+          } else {
+            onResponse.accept(response);
+          }
+        },
+        throwable -> {
+          if (spooler.spool(request)) {
+            onError.accept(new SpooledRequestException(SPOOLED_AFTER_ERROR, throwable));
+          } else {
+            onError.accept(throwable);
+          }
+        });
+  }
+
+  // The senders only rely on the request being a Marshaler, which the OTLP exporters' request type
+  // is anyway.
+  @SuppressWarnings("unchecked")
+  private void replay(Marshaler request, Consumer<Spooler.Outcome> onOutcome) {
+    delegate.send(
+        (T) request,
+        response -> {
+          int statusCode = response.grpcStatusValue();
+          if (statusCode == 0) {
+            onOutcome.accept(Spooler.Outcome.EXPORTED);
+          } else if (isRetryable(statusCode)) {
+            onOutcome.accept(Spooler.Outcome.RETRYABLE_FAILURE);
+          } else {
+            onOutcome.accept(Spooler.Outcome.REJECTED);
+          }
+        },
+        throwable -> onOutcome.accept(Spooler.Outcome.RETRYABLE_FAILURE));
+  }
+
+  private static boolean isRetryable(int grpcStatusValue) {
+    return RetryUtil.retryableGrpcStatusCodes().contains(String.valueOf(grpcStatusValue));
+  }
+
+  @Override
+  public CompletableResultCode shutdown() {
+    spooler.shutdown();
+    return delegate.shutdown();
+  }
+}
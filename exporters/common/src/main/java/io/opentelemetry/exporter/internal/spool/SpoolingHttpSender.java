@@ -0,0 +1,100 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.spool;
+
+import io.opentelemetry.exporter.internal.RetryUtil;
+import io.opentelemetry.exporter.internal.http.HttpSender;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import java.util.function.Consumer;
+
+/**
+ * {@link HttpSender} which spools requests to disk when they can't be delivered, after the
+ * delegate's own retries, and replays them once the endpoint recovers. While requests are spooled,
+ * new requests are spooled behind them to keep them in order. A spooled request is reported as an
+ * error, a {@link SpooledRequestException}, since it isn't delivered yet and may still be dropped.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class SpoolingHttpSender implements HttpSender {
+
+  private static final String SPOOLED_BEHIND_PENDING =
+      "Request spooled behind requests waiting to be replayed";
+  private static final String SPOOLED_AFTER_ERROR =
+      "Request spooled after it could not be executed";
+
+  private final HttpSender delegate;
+  private final Spooler spooler;
+
+  public SpoolingHttpSender(HttpSender delegate, DiskSpool spool) {
+    this(delegate, spool, Spooler.DEFAULT_REPLAY_INTERVAL_NANOS);
+  }
+
+  // Visible for testing
+  SpoolingHttpSender(HttpSender delegate, DiskSpool spool, long replayIntervalNanos) {
+    this.delegate = delegate;
+    this.spooler = new Spooler(spool, replayIntervalNanos, this::replay);
+  }
+
+  @Override
+  public void send(
+      Marshaler marshaler,
+      int contentLength,
+      Consumer<Response> onResponse,
+      Consumer<Throwable> onError) {
+    if (spooler.hasPending() && spooler.spool(marshaler)) {
+      onError.accept(new SpooledRequestException(SPOOLED_BEHIND_PENDING, null));
+      return;
+    }
+    delegate.send(
+        marshaler,
+        contentLength,
+        response -> {
+          if (isRetryable(response.statusCode()) && spooler.spool(marshaler)) {
+            onError.accept(
+                new SpooledRequestException(
+                    "Request spooled after HTTP status code " + response.statusCode(), null));
+          } else {
+            onResponse.accept(response);
+          }
+        },
+        throwable -> {
+          if (spooler.spool(marshaler)) {
+            onError.accept(new SpooledRequestException(SPOOLED_AFTER_ERROR, throwable));
+          } else {
+            onError.accept(throwable);
+          }
+        });
+  }
+
+  private void replay(Marshaler request, Consumer<Spooler.Outcome> onOutcome) {
+    delegate.send(
+        request,
+        request.getBinarySerializedSize(),
+        response -> {
+          int statusCode = response.statusCode();
+          if (statusCode >= 200 && statusCode < 300) {
+            onOutcome.accept(Spooler.Outcome.EXPORTED);
+          } else if (isRetryable(statusCode)) {
+            onOutcome.accept(Spooler.Outcome.RETRYABLE_FAILURE);
+          } else {
+            onOutcome.accept(Spooler.Outcome.REJECTED);
+          }
+        },
+        throwable -> onOutcome.accept(Spooler.Outcome.RETRYABLE_FAILURE));
+  }
+
+  private static boolean isRetryable(int statusCode) {
+    return RetryUtil.retryableHttpResponseCodes().contains(statusCode);
+  }
+
+  @Override
+  public CompletableResultCode shutdown() {
+    spooler.shutdown();
+    return delegate.shutdown();
+  }
+}
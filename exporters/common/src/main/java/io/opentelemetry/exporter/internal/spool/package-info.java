@@ -0,0 +1,10 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/** Disk spooling of export requests which could not be delivered. */
+@ParametersAreNonnullByDefault
+package io.opentelemetry.exporter.internal.spool;
+
+import javax.annotation.ParametersAreNonnullByDefault;
@@ -10,8 +10,11 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
 import io.opentelemetry.sdk.common.InternalTelemetryVersion;
@@ -21,6 +24,9 @@ import io.opentelemetry.sdk.internal.StandardComponentId;
 import io.opentelemetry.sdk.metrics.SdkMeterProvider;
 import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -210,6 +216,41 @@ class HttpExporterTest {
     }
   }
 
+  @Test
+  void awaitExportCapacity() throws InterruptedException {
+    HttpSender mockSender = Mockito.mock(HttpSender.class);
+    List<Consumer<HttpSender.Response>> pending = new CopyOnWriteArrayList<>();
+    doAnswer(
+            invoc -> {
+              pending.add(invoc.getArgument(2));
+              return null;
+            })
+        .when(mockSender)
+        .send(any(), anyInt(), any(), any());
+    HttpExporter<Marshaler> exporter =
+        new HttpExporter<>(
+            ComponentId.generateLazy(StandardComponentId.ExporterType.OTLP_HTTP_SPAN_EXPORTER),
+            mockSender,
+            MeterProvider::noop,
+            InternalTelemetryVersion.LATEST,
+            "http://testing:1234",
+            2);
+    Marshaler mockMarshaller = Mockito.mock(Marshaler.class);
+
+    assertThat(exporter.getMaxConcurrentExports()).isEqualTo(2);
+    exporter.export(mockMarshaller, 1);
+    assertThat(exporter.awaitExportCapacity(0, TimeUnit.MILLISECONDS)).isTrue();
+    exporter.export(mockMarshaller, 1);
+    assertThat(exporter.awaitExportCapacity(0, TimeUnit.MILLISECONDS)).isFalse();
+
+    // The limit is only a signal, exports beyond it are still sent.
+    exporter.export(mockMarshaller, 1);
+    verify(mockSender, times(3)).send(any(), anyInt(), any(), any());
+
+    pending.get(0).accept(new FakeHttpResponse(200, "Ok"));
+    assertThat(exporter.awaitExportCapacity(0, TimeUnit.MILLISECONDS)).isTrue();
+  }
+
   private static class FakeHttpResponse implements HttpSender.Response {
 
     final int statusCode;
@@ -0,0 +1,88 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class DirectBufferOutputStreamTest {
+
+  @Test
+  void writesAcrossSegments() {
+    DirectBufferPool pool = DirectBufferPool.create(4, 8);
+    DirectBufferOutputStream os = pool.newOutputStream(0);
+
+    os.write(0);
+    os.write(new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9}, 0, 9);
+    os.write(10);
+
+    assertThat(os.size()).isEqualTo(11);
+    List<ByteBuffer> buffers = os.toByteBuffers();
+    assertThat(buffers).hasSize(3).allSatisfy(buffer -> assertThat(buffer.isDirect()).isTrue());
+    assertThat(toArray(buffers)).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    // Buffers are independent views, so they can be read more than once.
+    assertThat(toArray(os.toByteBuffers())).hasSize(11);
+  }
+
+  @Test
+  void sizeHint_acquiresSegmentsUpFront() {
+    DirectBufferPool pool = DirectBufferPool.create(4, 8);
+    DirectBufferOutputStream os = pool.newOutputStream(10);
+    os.write(new byte[] {1, 2, 3, 4, 5}, 0, 5);
+
+    assertThat(os.toByteBuffers()).hasSize(2);
+    os.release();
+    assertThat(pool.getPooledSegments()).isEqualTo(3);
+  }
+
+  @Test
+  void release_reusesSegments() {
+    DirectBufferPool pool = DirectBufferPool.create(4, 1);
+    DirectBufferOutputStream os = pool.newOutputStream(8);
+    os.write(new byte[] {1, 2, 3, 4, 5, 6, 7, 8}, 0, 8);
+    os.release();
+    // Only maxPooledSegments are retained.
+    assertThat(pool.getPooledSegments()).isEqualTo(1);
+
+    DirectBufferOutputStream reused = pool.newOutputStream(0);
+    reused.write(9);
+    assertThat(pool.getPooledSegments()).isEqualTo(0);
+    assertThat(toArray(reused.toByteBuffers())).containsExactly(9);
+  }
+
+  @Test
+  void empty() {
+    DirectBufferOutputStream os = DirectBufferPool.create().newOutputStream(0);
+    assertThat(os.size()).isZero();
+    assertThat(os.toByteBuffers()).isEmpty();
+  }
+
+  @Test
+  void invalidConfig() {
+    assertThatThrownBy(() -> DirectBufferPool.create(0, 1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("segmentSize must be positive");
+    assertThatThrownBy(() -> DirectBufferPool.create(1, -1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxPooledSegments must be non-negative");
+  }
+
+  private static byte[] toArray(List<ByteBuffer> buffers) {
+    int size = buffers.stream().mapToInt(ByteBuffer::remaining).sum();
+    byte[] bytes = new byte[size];
+    int offset = 0;
+    for (ByteBuffer buffer : buffers) {
+      int remaining = buffer.remaining();
+      buffer.get(bytes, offset, remaining);
+      offset += remaining;
+    }
+    return bytes;
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.spool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DiskSpoolTest {
+
+  // Room for two 4 byte records per segment.
+  private static final int SEGMENT_SIZE = 32;
+
+  @TempDir File directory;
+
+  private final AtomicLong clock = new AtomicLong(1000);
+
+  @Test
+  void appendPeekRemove() throws IOException {
+    DiskSpool spool = open(1024, 1000);
+    assertThat(spool.isEmpty()).isTrue();
+    assertThat(spool.peek()).isNull();
+
+    assertThat(spool.append(new byte[] {1, 2, 3, 4})).isTrue();
+    assertThat(spool.append(new byte[] {5, 6, 7, 8})).isTrue();
+    assertThat(spool.append(new byte[] {9})).isTrue();
+    assertThat(spool.isEmpty()).isFalse();
+
+    assertThat(removeNext(spool)).containsExactly(1, 2, 3, 4);
+    assertThat(removeNext(spool)).containsExactly(5, 6, 7, 8);
+    assertThat(removeNext(spool)).containsExactly(9);
+    assertThat(spool.peek()).isNull();
+    assertThat(spool.isEmpty()).isTrue();
+    // Fully consumed segments are deleted, the newest is kept for appending.
+    assertThat(segmentFiles()).hasSize(1);
+  }
+
+  @Test
+  void peek_returnsSameRecordUntilRemoved() throws IOException {
+    DiskSpool spool = open(1024, 1000);
+    spool.append(new byte[] {1});
+
+    DiskSpool.Record record = spool.peek();
+    assertThat(record).isNotNull();
+    DiskSpool.Record again = spool.peek();
+    assertThat(again).isNotNull();
+    assertThat(again.getPayload()).containsExactly(1);
+    spool.remove(record);
+    assertThat(spool.peek()).isNull();
+  }
+
+  @Test
+  void sizeLimit_evictsOldestSegment() throws IOException {
+    DiskSpool spool = open(2 * SEGMENT_SIZE, 1000);
+    for (byte i = 0; i < 6; i++) {
+      assertThat(spool.append(new byte[] {i, i, i, i})).isTrue();
+    }
+
+    assertThat(spool.getDroppedRecords()).isEqualTo(2);
+    assertThat(removeNext(spool)).containsExactly(2, 2, 2, 2);
+    assertThat(segmentFiles()).hasSize(2);
+  }
+
+  @Test
+  void sizeLimit_rejectsOversizedPayload() throws IOException {
+    DiskSpool spool = open(SEGMENT_SIZE, 1000);
+
+    assertThat(spool.append(new byte[SEGMENT_SIZE])).isFalse();
+    assertThat(spool.getDroppedRecords()).isEqualTo(1);
+    assertThat(spool.isEmpty()).isTrue();
+  }
+
+  @Test
+  void ageLimit_dropsExpiredRecords() throws IOException {
+    DiskSpool spool = open(1024, 1000);
+    spool.append(new byte[] {1});
+    clock.addAndGet(600);
+    spool.append(new byte[] {2});
+    clock.addAndGet(600);
+
+    assertThat(removeNext(spool)).containsExactly(2);
+    assertThat(spool.getDroppedRecords()).isEqualTo(1);
+  }
+
+  @Test
+  void recoversPendingRecords() throws IOException {
+    DiskSpool spool = open(1024, 1000);
+    for (byte i = 0; i < 5; i++) {
+      spool.append(new byte[] {i});
+    }
+    removeNext(spool);
+    spool.close();
+
+    DiskSpool recovered = open(1024, 1000);
+    for (byte i = 1; i < 5; i++) {
+      assertThat(removeNext(recovered)).containsExactly(i);
+    }
+    assertThat(recovered.isEmpty()).isTrue();
+
+    // New records go to a new segment after the recovered ones.
+    recovered.append(new byte[] {5});
+    assertThat(removeNext(recovered)).containsExactly(5);
+  }
+
+  @Test
+  void sizeLimit_evictedRecordsNotRecovered() throws IOException {
+    DiskSpool spool = open(2 * SEGMENT_SIZE, 1000);
+    for (byte i = 0; i < 6; i++) {
+      spool.append(new byte[] {i, i, i, i});
+    }
+    spool.close();
+
+    DiskSpool recovered = open(2 * SEGMENT_SIZE, 1000);
+    for (byte i = 2; i < 6; i++) {
+      assertThat(removeNext(recovered)).containsExactly(i, i, i, i);
+    }
+    assertThat(recovered.isEmpty()).isTrue();
+  }
+
+  @Test
+  void open_failsWhileDirectoryInUse() throws IOException {
+    DiskSpool spool = open(1024, 1000);
+    spool.append(new byte[] {1});
+
+    assertThatThrownBy(() -> open(1024, 1000))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("in use");
+
+    // The directory is released once the spool is closed.
+    spool.close();
+    DiskSpool reopened = open(1024, 1000);
+    assertThat(removeNext(reopened)).containsExactly(1);
+  }
+
+  private DiskSpool open(long maxSizeBytes, long maxAgeMillis) throws IOException {
+    return DiskSpool.open(directory, maxSizeBytes, maxAgeMillis, SEGMENT_SIZE, clock::get);
+  }
+
+  private File[] segmentFiles() {
+    return directory.listFiles((dir, name) -> !name.equals(DiskSpool.LOCK_FILE_NAME));
+  }
+
+  private static byte[] removeNext(DiskSpool spool) {
+    DiskSpool.Record record = spool.peek();
+    assertThat(record).isNotNull();
+    spool.remove(record);
+    return record.getPayload();
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.spool;
+
+import static io.opentelemetry.exporter.internal.grpc.GrpcExporterUtil.GRPC_STATUS_UNAVAILABLE;
+import static io.opentelemetry.exporter.internal.grpc.GrpcExporterUtil.GRPC_STATUS_UNIMPLEMENTED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.opentelemetry.exporter.internal.grpc.GrpcResponse;
+import io.opentelemetry.exporter.internal.grpc.GrpcSender;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SpoolingGrpcSenderTest {
+
+  private static final int GRPC_STATUS_OK = 0;
+  // Returned by send() when the request is spooled.
+  private static final int SPOOLED = -2;
+
+  @TempDir File directory;
+
+  private final FakeGrpcSender delegate = new FakeGrpcSender();
+  private DiskSpool spool;
+  private SpoolingGrpcSender<Marshaler> sender;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    spool = DiskSpool.open(directory, 1024 * 1024, TimeUnit.MINUTES.toMillis(1));
+    sender = new SpoolingGrpcSender<>(delegate, spool, TimeUnit.MILLISECONDS.toNanos(10));
+  }
+
+  @AfterEach
+  void tearDown() {
+    sender.shutdown();
+  }
+
+  @Test
+  void success_notSpooled() {
+    delegate.statusCode.set(GRPC_STATUS_OK);
+
+    assertThat(send(new byte[] {1})).isEqualTo(GRPC_STATUS_OK);
+    assertThat(delegate.received).hasSize(1);
+    assertThat(segmentFiles()).isEmpty();
+  }
+
+  @Test
+  void nonRetryableFailure_notSpooled() {
+    delegate.statusCode.set(GRPC_STATUS_UNIMPLEMENTED);
+
+    assertThat(send(new byte[] {1})).isEqualTo(GRPC_STATUS_UNIMPLEMENTED);
+    assertThat(segmentFiles()).isEmpty();
+  }
+
+  @Test
+  void retryableFailure_spooledAndReplayedInOrder() {
+    delegate.statusCode.set(GRPC_STATUS_UNAVAILABLE);
+    assertThat(send(new byte[] {1})).isEqualTo(SPOOLED);
+    // Spooled behind the first request without being sent.
+    assertThat(send(new byte[] {2})).isEqualTo(SPOOLED);
+    assertThat(delegate.received).hasSize(1);
+    await().untilAsserted(() -> assertThat(delegate.received.size()).isGreaterThan(1));
+
+    delegate.statusCode.set(GRPC_STATUS_OK);
+    await().untilAsserted(() -> assertThat(spool.isEmpty()).isTrue());
+    List<byte[]> received = delegate.received;
+    assertThat(received.subList(received.size() - 2, received.size()))
+        .containsExactly(new byte[] {1}, new byte[] {2});
+  }
+
+  @Test
+  void error_spooledAndReplayed() {
+    delegate.error.set(new ConnectException("refused"));
+    assertThat(send(new byte[] {1})).isEqualTo(SPOOLED);
+    assertThat(spool.isEmpty()).isFalse();
+
+    delegate.error.set(null);
+    await().untilAsserted(() -> assertThat(spool.isEmpty()).isTrue());
+    assertThat(delegate.received.get(delegate.received.size() - 1)).containsExactly(1);
+  }
+
+  @Test
+  void rejectedOnReplay_dropped() {
+    delegate.statusCode.set(GRPC_STATUS_UNAVAILABLE);
+    assertThat(send(new byte[] {1})).isEqualTo(SPOOLED);
+
+    delegate.statusCode.set(GRPC_STATUS_UNIMPLEMENTED);
+    await().untilAsserted(() -> assertThat(spool.isEmpty()).isTrue());
+
+    // Nothing is pending anymore, so new requests are sent directly.
+    delegate.statusCode.set(GRPC_STATUS_OK);
+    assertThat(send(new byte[] {2})).isEqualTo(GRPC_STATUS_OK);
+  }
+
+  private int send(byte[] payload) {
+    AtomicInteger statusCode = new AtomicInteger();
+    sender.send(
+        new SpooledMarshaler(payload),
+        response -> statusCode.set(response.grpcStatusValue()),
+        throwable -> statusCode.set(throwable instanceof SpooledRequestException ? SPOOLED : -1));
+    return statusCode.get();
+  }
+
+  private File[] segmentFiles() {
+    return directory.listFiles((dir, name) -> !name.equals(DiskSpool.LOCK_FILE_NAME));
+  }
+
+  private static final class FakeGrpcSender implements GrpcSender<Marshaler> {
+    private final AtomicInteger statusCode = new AtomicInteger(GRPC_STATUS_OK);
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+    private final List<byte[]> received = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void send(
+        Marshaler request, Consumer<GrpcResponse> onResponse, Consumer<Throwable> onError) {
+      ByteArrayOutputStream body = new ByteArrayOutputStream();
+      try {
+        request.writeBinaryTo(body);
+      } catch (IOException e) {
+        onError.accept(e);
+        return;
+      }
+      received.add(body.toByteArray());
+      Throwable throwable = error.get();
+      if (throwable != null) {
+        onError.accept(throwable);
+        return;
+      }
+      onResponse.accept(GrpcResponse.create(statusCode.get(), null));
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      return CompletableResultCode.ofSuccess();
+    }
+  }
+}
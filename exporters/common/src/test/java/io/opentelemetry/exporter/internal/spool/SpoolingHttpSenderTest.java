@@ -0,0 +1,171 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.spool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.opentelemetry.exporter.internal.http.HttpSender;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SpoolingHttpSenderTest {
+
+  // Returned by send() when the request is spooled.
+  private static final int SPOOLED = -2;
+
+  @TempDir File directory;
+
+  private final FakeHttpSender delegate = new FakeHttpSender();
+  private DiskSpool spool;
+  private SpoolingHttpSender sender;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    spool = DiskSpool.open(directory, 1024 * 1024, TimeUnit.MINUTES.toMillis(1));
+    sender = new SpoolingHttpSender(delegate, spool, TimeUnit.MILLISECONDS.toNanos(10));
+  }
+
+  @AfterEach
+  void tearDown() {
+    sender.shutdown();
+  }
+
+  @Test
+  void success_notSpooled() {
+    delegate.statusCode.set(200);
+
+    assertThat(send(new byte[] {1})).isEqualTo(200);
+    assertThat(delegate.received).hasSize(1);
+    assertThat(segmentFiles()).isEmpty();
+  }
+
+  @Test
+  void nonRetryableFailure_notSpooled() {
+    delegate.statusCode.set(400);
+
+    assertThat(send(new byte[] {1})).isEqualTo(400);
+    assertThat(segmentFiles()).isEmpty();
+  }
+
+  @Test
+  void retryableFailure_spooledAndReplayedInOrder() {
+    delegate.statusCode.set(503);
+    assertThat(send(new byte[] {1})).isEqualTo(SPOOLED);
+    // Spooled behind the first request without being sent.
+    assertThat(send(new byte[] {2})).isEqualTo(SPOOLED);
+    assertThat(delegate.received).hasSize(1);
+    await().untilAsserted(() -> assertThat(delegate.received.size()).isGreaterThan(1));
+
+    delegate.statusCode.set(200);
+    await().untilAsserted(() -> assertThat(spool.isEmpty()).isTrue());
+    List<byte[]> received = delegate.received;
+    assertThat(received.subList(received.size() - 2, received.size()))
+        .containsExactly(new byte[] {1}, new byte[] {2});
+  }
+
+  @Test
+  void error_spooledAndReplayed() {
+    delegate.error.set(new ConnectException("refused"));
+    assertThat(send(new byte[] {1})).isEqualTo(SPOOLED);
+    assertThat(spool.isEmpty()).isFalse();
+
+    delegate.error.set(null);
+    await().untilAsserted(() -> assertThat(spool.isEmpty()).isTrue());
+    assertThat(delegate.received.get(delegate.received.size() - 1)).containsExactly(1);
+  }
+
+  @Test
+  void rejectedOnReplay_dropped() {
+    delegate.statusCode.set(503);
+    assertThat(send(new byte[] {1})).isEqualTo(SPOOLED);
+
+    delegate.statusCode.set(400);
+    await().untilAsserted(() -> assertThat(spool.isEmpty()).isTrue());
+
+    // Nothing is pending anymore, so new requests are sent directly.
+    delegate.statusCode.set(200);
+    assertThat(send(new byte[] {2})).isEqualTo(200);
+  }
+
+  private int send(byte[] payload) {
+    AtomicInteger statusCode = new AtomicInteger();
+    sender.send(
+        new SpooledMarshaler(payload),
+        payload.length,
+        response -> statusCode.set(response.statusCode()),
+        throwable -> statusCode.set(throwable instanceof SpooledRequestException ? SPOOLED : -1));
+    return statusCode.get();
+  }
+
+  private File[] segmentFiles() {
+    return directory.listFiles((dir, name) -> !name.equals(DiskSpool.LOCK_FILE_NAME));
+  }
+
+  private static final class FakeHttpSender implements HttpSender {
+    private final AtomicInteger statusCode = new AtomicInteger(200);
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+    private final List<byte[]> received = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void send(
+        Marshaler marshaler,
+        int contentLength,
+        Consumer<Response> onResponse,
+        Consumer<Throwable> onError) {
+      ByteArrayOutputStream body = new ByteArrayOutputStream();
+      try {
+        marshaler.writeBinaryTo(body);
+      } catch (IOException e) {
+        onError.accept(e);
+        return;
+      }
+      received.add(body.toByteArray());
+      Throwable throwable = error.get();
+      if (throwable != null) {
+        onError.accept(throwable);
+        return;
+      }
+      int code = statusCode.get();
+      onResponse.accept(
+          new Response() {
+            @Override
+            public int statusCode() {
+              return code;
+            }
+
+            @Override
+            public String statusMessage() {
+              return "";
+            }
+
+            @Override
+            public byte[] responseBody() {
+              return new byte[0];
+            }
+          });
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      return CompletableResultCode.ofSuccess();
+    }
+  }
+}
@@ -0,0 +1,13 @@
+plugins {
+  id("otel.java-conventions")
+  id("otel.publish-conventions")
+}
+
+description = "OpenTelemetry Exporter LZ4 Compressor"
+otelJava.moduleName.set("io.opentelemetry.exporter.compressor.lz4.internal")
+
+dependencies {
+  implementation(project(":exporters:common"))
+
+  implementation("at.yawk.lz4:lz4-java")
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.compressor.lz4.internal;
+
+import io.opentelemetry.exporter.internal.compression.Compressor;
+import java.io.IOException;
+import java.io.OutputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+
+/**
+ * {@link Compressor} which uses the LZ4 frame format. It compresses less than gzip or zstd, for a
+ * fraction of their CPU cost.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class Lz4Compressor implements Compressor {
+
+  private static final Lz4Compressor INSTANCE = new Lz4Compressor();
+
+  private Lz4Compressor() {}
+
+  public static Lz4Compressor getInstance() {
+    return INSTANCE;
+  }
+
+  @Override
+  public String getEncoding() {
+    return "lz4";
+  }
+
+  @Override
+  public OutputStream compress(OutputStream outputStream) throws IOException {
+    // The default 4 MiB blocks would allocate a buffer far larger than most requests.
+    return new LZ4FrameOutputStream(outputStream, LZ4FrameOutputStream.BLOCKSIZE.SIZE_64KB);
+  }
+}
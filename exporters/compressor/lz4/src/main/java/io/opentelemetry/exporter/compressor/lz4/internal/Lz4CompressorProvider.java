@@ -0,0 +1,23 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.compressor.lz4.internal;
+
+import io.opentelemetry.exporter.internal.compression.Compressor;
+import io.opentelemetry.exporter.internal.compression.CompressorProvider;
+
+/**
+ * {@link CompressorProvider} SPI implementation for {@link Lz4Compressor}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class Lz4CompressorProvider implements CompressorProvider {
+
+  @Override
+  public Compressor getInstance() {
+    return Lz4Compressor.getInstance();
+  }
+}
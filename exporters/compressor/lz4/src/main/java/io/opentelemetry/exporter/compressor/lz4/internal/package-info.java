@@ -0,0 +1,9 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+@ParametersAreNonnullByDefault
+package io.opentelemetry.exporter.compressor.lz4.internal;
+
+import javax.annotation.ParametersAreNonnullByDefault;
@@ -0,0 +1,53 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.compressor.lz4.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.exporter.internal.compression.CompressorUtil;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import org.junit.jupiter.api.Test;
+
+class Lz4CompressorTest {
+
+  private static final byte[] CONTENT =
+      "The quick brown fox jumps over the lazy dog. The quick brown fox jumps over the lazy dog."
+          .getBytes(UTF_8);
+
+  @Test
+  void registeredByProvider() {
+    assertThat(CompressorUtil.validateAndResolveCompressor("lz4"))
+        .isSameAs(Lz4Compressor.getInstance());
+  }
+
+  @Test
+  void roundTrip() throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (OutputStream os = Lz4Compressor.getInstance().compress(baos)) {
+      os.write(CONTENT);
+    }
+
+    try (InputStream is = new LZ4FrameInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+      assertThat(readAll(is)).isEqualTo(CONTENT);
+    }
+  }
+
+  private static byte[] readAll(InputStream is) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    byte[] buffer = new byte[1024];
+    int read;
+    while ((read = is.read(buffer)) != -1) {
+      baos.write(buffer, 0, read);
+    }
+    return baos.toByteArray();
+  }
+}
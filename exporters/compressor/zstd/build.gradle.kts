@@ -0,0 +1,13 @@
+plugins {
+  id("otel.java-conventions")
+  id("otel.publish-conventions")
+}
+
+description = "OpenTelemetry Exporter zstd Compressor"
+otelJava.moduleName.set("io.opentelemetry.exporter.compressor.zstd.internal")
+
+dependencies {
+  implementation(project(":exporters:common"))
+
+  implementation("com.github.luben:zstd-jni")
+}
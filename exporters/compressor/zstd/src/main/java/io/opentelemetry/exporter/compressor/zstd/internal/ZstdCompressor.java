@@ -0,0 +1,72 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.compressor.zstd.internal;
+
+import com.github.luben.zstd.RecyclingBufferPool;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdOutputStream;
+import io.opentelemetry.exporter.internal.compression.Compressor;
+import java.io.IOException;
+import java.io.OutputStream;
+import javax.annotation.Nullable;
+
+/**
+ * {@link Compressor} which uses zstd.
+ *
+ * <p>A dictionary, e.g. trained with {@code zstd --train} on representative export requests,
+ * improves the compression ratio of small requests. It is digested once and reused by all requests,
+ * but the receiver must be configured with the same dictionary to decompress them.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class ZstdCompressor implements Compressor {
+
+  private static final int DEFAULT_LEVEL = 3;
+
+  private static final ZstdCompressor INSTANCE = new ZstdCompressor(DEFAULT_LEVEL, null);
+
+  private final int level;
+  @Nullable private final ZstdDictCompress dictionary;
+
+  private ZstdCompressor(int level, @Nullable ZstdDictCompress dictionary) {
+    this.level = level;
+    this.dictionary = dictionary;
+  }
+
+  /** Returns the {@link ZstdCompressor} with the default compression level and no dictionary. */
+  public static ZstdCompressor getInstance() {
+    return INSTANCE;
+  }
+
+  /** Returns a new {@link ZstdCompressor} with the given compression level and no dictionary. */
+  public static ZstdCompressor create(int level) {
+    return new ZstdCompressor(level, null);
+  }
+
+  /** Returns a new {@link ZstdCompressor} with the given compression level and dictionary. */
+  public static ZstdCompressor create(int level, byte[] dictionary) {
+    return new ZstdCompressor(level, new ZstdDictCompress(dictionary, level));
+  }
+
+  @Override
+  public String getEncoding() {
+    return "zstd";
+  }
+
+  @Override
+  public OutputStream compress(OutputStream outputStream) throws IOException {
+    // Recycle the native stream's buffers rather than allocating them for every request.
+    ZstdOutputStream zstdOutputStream =
+        new ZstdOutputStream(outputStream, RecyclingBufferPool.INSTANCE);
+    zstdOutputStream.setLevel(level);
+    ZstdDictCompress dictionary = this.dictionary;
+    if (dictionary != null) {
+      zstdOutputStream.setDict(dictionary);
+    }
+    return zstdOutputStream;
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.compressor.zstd.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.luben.zstd.ZstdInputStream;
+import io.opentelemetry.exporter.internal.compression.CompressorUtil;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.junit.jupiter.api.Test;
+
+class ZstdCompressorTest {
+
+  private static final byte[] CONTENT =
+      "The quick brown fox jumps over the lazy dog. The quick brown fox jumps over the lazy dog."
+          .getBytes(UTF_8);
+
+  @Test
+  void registeredByProvider() {
+    assertThat(CompressorUtil.validateAndResolveCompressor("zstd"))
+        .isSameAs(ZstdCompressor.getInstance());
+  }
+
+  @Test
+  void roundTrip() throws IOException {
+    byte[] compressed = compress(ZstdCompressor.getInstance());
+    assertThat(compressed.length).isLessThan(CONTENT.length);
+    try (InputStream is = new ZstdInputStream(new ByteArrayInputStream(compressed))) {
+      assertThat(readAll(is)).isEqualTo(CONTENT);
+    }
+  }
+
+  @Test
+  void roundTrip_dictionary() throws IOException {
+    byte[] dictionary = "The quick brown fox jumps over the lazy dog.".getBytes(UTF_8);
+    byte[] compressed = compress(ZstdCompressor.create(3, dictionary));
+    try (ZstdInputStream is = new ZstdInputStream(new ByteArrayInputStream(compressed))) {
+      is.setDict(dictionary);
+      assertThat(readAll(is)).isEqualTo(CONTENT);
+    }
+  }
+
+  private static byte[] compress(ZstdCompressor compressor) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (OutputStream os = compressor.compress(baos)) {
+      os.write(CONTENT);
+    }
+    return baos.toByteArray();
+  }
+
+  private static byte[] readAll(InputStream is) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    byte[] buffer = new byte[1024];
+    int read;
+    while ((read = is.read(buffer)) != -1) {
+      baos.write(buffer, 0, read);
+    }
+    return baos.toByteArray();
+  }
+}
@@ -11,10 +11,12 @@ import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.otlp.logs.LogReusableDataMarshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.internal.ConcurrentExporter;
 import io.opentelemetry.sdk.logs.data.LogRecordData;
-import io.opentelemetry.sdk.logs.export.LogRecordExporter;
+import io.opentelemetry.sdk.logs.internal.ExtendedLogRecordExporter;
 import java.util.Collection;
 import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -23,7 +25,8 @@ import javax.annotation.concurrent.ThreadSafe;
  * @since 1.27.0
  */
 @ThreadSafe
-public final class OtlpHttpLogRecordExporter implements LogRecordExporter {
+public final class OtlpHttpLogRecordExporter
+    implements ExtendedLogRecordExporter, ConcurrentExporter {
 
   private final HttpExporterBuilder<Marshaler> builder;
   private final HttpExporter<Marshaler> delegate;
@@ -32,10 +35,11 @@ public final class OtlpHttpLogRecordExporter implements LogRecordExporter {
   OtlpHttpLogRecordExporter(
       HttpExporterBuilder<Marshaler> builder,
       HttpExporter<Marshaler> delegate,
-      MemoryMode memoryMode) {
+      MemoryMode memoryMode,
+      int maxRequestSize) {
     this.builder = builder;
     this.delegate = delegate;
-    this.marshaler = new LogReusableDataMarshaler(memoryMode, delegate::export);
+    this.marshaler = new LogReusableDataMarshaler(memoryMode, maxRequestSize, delegate::export);
   }
 
   /**
@@ -67,7 +71,8 @@ public final class OtlpHttpLogRecordExporter implements LogRecordExporter {
    * @since 1.29.0
    */
   public OtlpHttpLogRecordExporterBuilder toBuilder() {
-    return new OtlpHttpLogRecordExporterBuilder(builder.copy(), marshaler.getMemoryMode());
+    return new OtlpHttpLogRecordExporterBuilder(
+        builder.copy(), marshaler.getMemoryMode(), marshaler.getMaxRequestSize());
   }
 
   /**
@@ -81,6 +86,22 @@ public final class OtlpHttpLogRecordExporter implements LogRecordExporter {
     return marshaler.export(logs);
   }
 
+  /** Logs are only read while being serialized, so pooled log records can be exported in place. */
+  @Override
+  public boolean acceptsRecycledLogRecords() {
+    return true;
+  }
+
+  @Override
+  public int getMaxConcurrentExports() {
+    return delegate.getMaxConcurrentExports();
+  }
+
+  @Override
+  public boolean awaitExportCapacity(long timeout, TimeUnit unit) throws InterruptedException {
+    return delegate.awaitExportCapacity(timeout, unit);
+  }
+
   @Override
   public CompletableResultCode flush() {
     return CompletableResultCode.ofSuccess();
@@ -97,6 +118,9 @@ public final class OtlpHttpLogRecordExporter implements LogRecordExporter {
     StringJoiner joiner = new StringJoiner(", ", "OtlpHttpLogRecordExporter{", "}");
     joiner.add(builder.toString(false));
     joiner.add("memoryMode=" + marshaler.getMemoryMode());
+    if (marshaler.getMaxRequestSize() != Integer.MAX_VALUE) {
+      joiner.add("maxRequestSize=" + marshaler.getMaxRequestSize());
+    }
     return joiner.toString();
   }
 }
@@ -11,10 +11,12 @@ import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.otlp.traces.SpanReusableDataMarshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.internal.ConcurrentExporter;
 import io.opentelemetry.sdk.trace.data.SpanData;
-import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.internal.ExtendedSpanExporter;
 import java.util.Collection;
 import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -23,7 +25,7 @@ import javax.annotation.concurrent.ThreadSafe;
  * @since 1.5.0
  */
 @ThreadSafe
-public final class OtlpHttpSpanExporter implements SpanExporter {
+public final class OtlpHttpSpanExporter implements ExtendedSpanExporter, ConcurrentExporter {
 
   private final HttpExporterBuilder<Marshaler> builder;
   private final HttpExporter<Marshaler> delegate;
@@ -32,10 +34,11 @@ public final class OtlpHttpSpanExporter implements SpanExporter {
   OtlpHttpSpanExporter(
       HttpExporterBuilder<Marshaler> builder,
       HttpExporter<Marshaler> delegate,
-      MemoryMode memoryMode) {
+      MemoryMode memoryMode,
+      int maxRequestSize) {
     this.builder = builder;
     this.delegate = delegate;
-    this.marshaler = new SpanReusableDataMarshaler(memoryMode, delegate::export);
+    this.marshaler = new SpanReusableDataMarshaler(memoryMode, maxRequestSize, delegate::export);
   }
 
   /**
@@ -67,7 +70,8 @@ public final class OtlpHttpSpanExporter implements SpanExporter {
    * @since 1.29.0
    */
   public OtlpHttpSpanExporterBuilder toBuilder() {
-    return new OtlpHttpSpanExporterBuilder(builder.copy(), marshaler.getMemoryMode());
+    return new OtlpHttpSpanExporterBuilder(
+        builder.copy(), marshaler.getMemoryMode(), marshaler.getMaxRequestSize());
   }
 
   /**
@@ -81,6 +85,22 @@ public final class OtlpHttpSpanExporter implements SpanExporter {
     return marshaler.export(spans);
   }
 
+  /** Spans are only read while being serialized, so ended spans can be exported in place. */
+  @Override
+  public boolean acceptsEndedSpans() {
+    return true;
+  }
+
+  @Override
+  public int getMaxConcurrentExports() {
+    return delegate.getMaxConcurrentExports();
+  }
+
+  @Override
+  public boolean awaitExportCapacity(long timeout, TimeUnit unit) throws InterruptedException {
+    return delegate.awaitExportCapacity(timeout, unit);
+  }
+
   /**
    * The OTLP exporter does not batch spans, so this method will immediately return with success.
    *
@@ -102,6 +122,9 @@ public final class OtlpHttpSpanExporter implements SpanExporter {
     StringJoiner joiner = new StringJoiner(", ", "OtlpHttpSpanExporter{", "}");
     joiner.add(builder.toString(false));
     joiner.add("memoryMode=" + marshaler.getMemoryMode());
+    if (marshaler.getMaxRequestSize() != Integer.MAX_VALUE) {
+      joiner.add("maxRequestSize=" + marshaler.getMaxRequestSize());
+    }
     return joiner.toString();
   }
 }
@@ -38,13 +38,17 @@ public final class OtlpHttpSpanExporterBuilder {
 
   private static final String DEFAULT_ENDPOINT = "http://localhost:4318/v1/traces";
   private static final MemoryMode DEFAULT_MEMORY_MODE = MemoryMode.REUSABLE_DATA;
+  private static final int DEFAULT_MAX_REQUEST_SIZE = Integer.MAX_VALUE;
 
   private final HttpExporterBuilder<Marshaler> delegate;
   private MemoryMode memoryMode;
+  private int maxRequestSize;
 
-  OtlpHttpSpanExporterBuilder(HttpExporterBuilder<Marshaler> delegate, MemoryMode memoryMode) {
+  OtlpHttpSpanExporterBuilder(
+      HttpExporterBuilder<Marshaler> delegate, MemoryMode memoryMode, int maxRequestSize) {
     this.delegate = delegate;
     this.memoryMode = memoryMode;
+    this.maxRequestSize = maxRequestSize;
     OtlpUserAgent.addUserAgentHeader(delegate::addConstantHeaders);
   }
 
@@ -52,7 +56,8 @@ public final class OtlpHttpSpanExporterBuilder {
     this(
         new HttpExporterBuilder<>(
             StandardComponentId.ExporterType.OTLP_HTTP_SPAN_EXPORTER, DEFAULT_ENDPOINT),
-        DEFAULT_MEMORY_MODE);
+        DEFAULT_MEMORY_MODE,
+        DEFAULT_MAX_REQUEST_SIZE);
   }
 
   /**
@@ -261,6 +266,37 @@ public final class OtlpHttpSpanExporterBuilder {
     return this;
   }
 
+  /**
+   * Sets the maximum number of exports which can be in flight at once. If unset, defaults to 1.
+   *
+   * <p>The batch processors observe this limit: with a limit above 1 they start exporting the next
+   * batch of spans without waiting for the previous export to complete, waiting only while this many
+   * exports are in flight. Other callers can exceed the limit, exports are never rejected by it.
+   *
+   * @since 1.56.0
+   */
+  public OtlpHttpSpanExporterBuilder setMaxConcurrentExports(int maxConcurrentExports) {
+    checkArgument(maxConcurrentExports > 0, "maxConcurrentExports must be positive");
+    delegate.setMaxConcurrentExports(maxConcurrentExports);
+    return this;
+  }
+
+  /**
+   * Sets the maximum size in bytes of the protobuf body of an export request, before any
+   * compression. An export of spans which would exceed it is split into several requests, each
+   * exporting a share of the spans, so that a collector or proxy limiting the size of the request
+   * bodies it accepts doesn't reject the whole export with {@code 413 Payload Too Large}. A single
+   * span exceeding the maximum is still exported, in a request of its own. If unset, requests are
+   * not limited in size.
+   *
+   * @since 1.56.0
+   */
+  public OtlpHttpSpanExporterBuilder setMaxRequestSize(int maxRequestSize) {
+    checkArgument(maxRequestSize > 0, "maxRequestSize must be positive");
+    this.maxRequestSize = maxRequestSize;
+    return this;
+  }
+
   /**
    * Set the {@link ExecutorService} used to execute requests.
    *
@@ -282,6 +318,6 @@ public final class OtlpHttpSpanExporterBuilder {
    * @return a new exporter's instance
    */
   public OtlpHttpSpanExporter build() {
-    return new OtlpHttpSpanExporter(delegate, delegate.build(), memoryMode);
+    return new OtlpHttpSpanExporter(delegate, delegate.build(), memoryMode, maxRequestSize);
   }
 }
@@ -46,14 +46,18 @@ public final class OtlpGrpcLogRecordExporterBuilder {
   private static final URI DEFAULT_ENDPOINT = URI.create(DEFAULT_ENDPOINT_URL);
   private static final long DEFAULT_TIMEOUT_SECS = 10;
   private static final MemoryMode DEFAULT_MEMORY_MODE = MemoryMode.REUSABLE_DATA;
+  private static final int DEFAULT_MAX_REQUEST_SIZE = Integer.MAX_VALUE;
 
   // Visible for testing
   final GrpcExporterBuilder<Marshaler> delegate;
   private MemoryMode memoryMode;
+  private int maxRequestSize;
 
-  OtlpGrpcLogRecordExporterBuilder(GrpcExporterBuilder<Marshaler> delegate, MemoryMode memoryMode) {
+  OtlpGrpcLogRecordExporterBuilder(
+      GrpcExporterBuilder<Marshaler> delegate, MemoryMode memoryMode, int maxRequestSize) {
     this.delegate = delegate;
     this.memoryMode = memoryMode;
+    this.maxRequestSize = maxRequestSize;
     OtlpUserAgent.addUserAgentHeader(delegate::addConstantHeader);
   }
 
@@ -65,7 +69,8 @@ public final class OtlpGrpcLogRecordExporterBuilder {
             DEFAULT_ENDPOINT,
             () -> MarshalerLogsServiceGrpc::newFutureStub,
             GRPC_ENDPOINT_PATH),
-        DEFAULT_MEMORY_MODE);
+        DEFAULT_MEMORY_MODE,
+        DEFAULT_MAX_REQUEST_SIZE);
   }
 
   /**
@@ -289,6 +294,36 @@ public final class OtlpGrpcLogRecordExporterBuilder {
     return this;
   }
 
+  /**
+   * Sets the maximum number of exports which can be in flight at once. If unset, defaults to 1.
+   *
+   * <p>The batch processors observe this limit: with a limit above 1 they start exporting the next
+   * batch of logs without waiting for the previous export to complete, waiting only while this many
+   * exports are in flight. Other callers can exceed the limit, exports are never rejected by it.
+   *
+   * @since 1.56.0
+   */
+  public OtlpGrpcLogRecordExporterBuilder setMaxConcurrentExports(int maxConcurrentExports) {
+    checkArgument(maxConcurrentExports > 0, "maxConcurrentExports must be positive");
+    delegate.setMaxConcurrentExports(maxConcurrentExports);
+    return this;
+  }
+
+  /**
+   * Sets the maximum size in bytes of a serialized export request. An export of logs which would
+   * exceed it is split into several requests, each exporting a share of the logs, so that a
+   * collector limiting the size of requests it accepts, 4 MiB by default for gRPC, doesn't reject
+   * the whole export. A single log exceeding the maximum is still exported, in a request of its
+   * own. If unset, requests are not limited in size.
+   *
+   * @since 1.56.0
+   */
+  public OtlpGrpcLogRecordExporterBuilder setMaxRequestSize(int maxRequestSize) {
+    checkArgument(maxRequestSize > 0, "maxRequestSize must be positive");
+    this.maxRequestSize = maxRequestSize;
+    return this;
+  }
+
   /**
    * Set the {@link ExecutorService} used to execute requests.
    *
@@ -310,6 +345,6 @@ public final class OtlpGrpcLogRecordExporterBuilder {
    * @return a new exporter's instance
    */
   public OtlpGrpcLogRecordExporter build() {
-    return new OtlpGrpcLogRecordExporter(delegate, delegate.build(), memoryMode);
+    return new OtlpGrpcLogRecordExporter(delegate, delegate.build(), memoryMode, maxRequestSize);
   }
 }
@@ -11,15 +11,17 @@ import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.otlp.traces.SpanReusableDataMarshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.internal.ConcurrentExporter;
 import io.opentelemetry.sdk.trace.data.SpanData;
-import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.internal.ExtendedSpanExporter;
 import java.util.Collection;
 import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.concurrent.ThreadSafe;
 
 /** Exports spans using OTLP via gRPC, using OpenTelemetry's protobuf model. */
 @ThreadSafe
-public final class OtlpGrpcSpanExporter implements SpanExporter {
+public final class OtlpGrpcSpanExporter implements ExtendedSpanExporter, ConcurrentExporter {
 
   private final GrpcExporterBuilder<Marshaler> builder;
   private final GrpcExporter<Marshaler> delegate;
@@ -49,10 +51,11 @@ public final class OtlpGrpcSpanExporter implements SpanExporter {
   OtlpGrpcSpanExporter(
       GrpcExporterBuilder<Marshaler> builder,
       GrpcExporter<Marshaler> delegate,
-      MemoryMode memoryMode) {
+      MemoryMode memoryMode,
+      int maxRequestSize) {
     this.builder = builder;
     this.delegate = delegate;
-    this.marshaler = new SpanReusableDataMarshaler(memoryMode, delegate::export);
+    this.marshaler = new SpanReusableDataMarshaler(memoryMode, maxRequestSize, delegate::export);
   }
 
   /**
@@ -63,7 +66,8 @@ public final class OtlpGrpcSpanExporter implements SpanExporter {
    * @since 1.29.0
    */
   public OtlpGrpcSpanExporterBuilder toBuilder() {
-    return new OtlpGrpcSpanExporterBuilder(builder.copy(), marshaler.getMemoryMode());
+    return new OtlpGrpcSpanExporterBuilder(
+        builder.copy(), marshaler.getMemoryMode(), marshaler.getMaxRequestSize());
   }
 
   /**
@@ -77,6 +81,22 @@ public final class OtlpGrpcSpanExporter implements SpanExporter {
     return marshaler.export(spans);
   }
 
+  /** Spans are only read while being serialized, so ended spans can be exported in place. */
+  @Override
+  public boolean acceptsEndedSpans() {
+    return true;
+  }
+
+  @Override
+  public int getMaxConcurrentExports() {
+    return delegate.getMaxConcurrentExports();
+  }
+
+  @Override
+  public boolean awaitExportCapacity(long timeout, TimeUnit unit) throws InterruptedException {
+    return delegate.awaitExportCapacity(timeout, unit);
+  }
+
   /**
    * The OTLP exporter does not batch spans, so this method will immediately return with success.
    *
@@ -101,6 +121,9 @@ public final class OtlpGrpcSpanExporter implements SpanExporter {
     StringJoiner joiner = new StringJoiner(", ", "OtlpGrpcSpanExporter{", "}");
     joiner.add(builder.toString(false));
     joiner.add("memoryMode=" + marshaler.getMemoryMode());
+    if (marshaler.getMaxRequestSize() != Integer.MAX_VALUE) {
+      joiner.add("maxRequestSize=" + marshaler.getMaxRequestSize());
+    }
     return joiner.toString();
   }
 }
@@ -39,6 +39,8 @@ dependencies {
   jmhImplementation("com.fasterxml.jackson.core:jackson-core")
   jmhImplementation("io.opentelemetry.proto:opentelemetry-proto")
   jmhImplementation("io.grpc:grpc-netty")
+  jmhRuntimeOnly(project(":exporters:compressor:lz4"))
+  jmhRuntimeOnly(project(":exporters:compressor:zstd"))
 }
 
 testing {
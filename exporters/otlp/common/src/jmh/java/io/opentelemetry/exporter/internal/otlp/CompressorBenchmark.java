@@ -0,0 +1,93 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp;
+
+import io.opentelemetry.exporter.internal.compression.Compressor;
+import io.opentelemetry.exporter.internal.compression.CompressorUtil;
+import io.opentelemetry.exporter.internal.otlp.traces.LowAllocationTraceRequestMarshaler;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the registered compressors by serializing a batch of spans into them, as the senders do.
+ * The {@code none} case is the serialization cost alone, so subtracting it and dividing by {@code
+ * uncompressedBytes} gives the CPU cost per byte, and {@code compressedBytes / uncompressedBytes}
+ * is the compression ratio.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CompressorBenchmark {
+
+  private static final LowAllocationTraceRequestMarshaler MARSHALER =
+      new LowAllocationTraceRequestMarshaler();
+
+  @Param({"none", "gzip", "zstd", "lz4"})
+  String compression;
+
+  @Nullable private Compressor compressor;
+  private final TestOutputStream output = new TestOutputStream();
+
+  @Setup
+  public void setup() {
+    compressor = CompressorUtil.validateAndResolveCompressor(compression);
+  }
+
+  /** Bytes written by each benchmark iteration, reported alongside the timing results. */
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class ByteCounters {
+    public long uncompressedBytes;
+    public long compressedBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      uncompressedBytes = 0;
+      compressedBytes = 0;
+    }
+  }
+
+  @Benchmark
+  public int marshalAndCompress(RequestMarshalState state, ByteCounters counters)
+      throws IOException {
+    LowAllocationTraceRequestMarshaler requestMarshaler = MARSHALER;
+    requestMarshaler.initialize(state.spanDataList);
+    try {
+      output.reset();
+      Compressor compressor = this.compressor;
+      if (compressor == null) {
+        requestMarshaler.writeBinaryTo(output);
+      } else {
+        try (OutputStream compressed = compressor.compress(output)) {
+          requestMarshaler.writeBinaryTo(compressed);
+        }
+      }
+      counters.uncompressedBytes += requestMarshaler.getBinarySerializedSize();
+      counters.compressedBytes += output.getCount();
+      return output.getCount();
+    } finally {
+      requestMarshaler.reset();
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp;
+
+import io.opentelemetry.exporter.internal.marshal.DirectBufferOutputStream;
+import io.opentelemetry.exporter.internal.marshal.DirectBufferPool;
+import io.opentelemetry.exporter.internal.otlp.traces.LowAllocationTraceRequestMarshaler;
+import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serializes a batch of spans into buffers ready to be handed to an HTTP client. Run with the gc
+ * profiler (enabled by default in this build), {@code gc.alloc.rate.norm} is the number of bytes
+ * allocated per exported batch.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class RequestBufferAllocationBenchmarks {
+
+  private static final LowAllocationTraceRequestMarshaler MARSHALER =
+      new LowAllocationTraceRequestMarshaler();
+  private static final DirectBufferPool POOL = DirectBufferPool.create();
+
+  /** A new heap array per batch, as when serializing with {@code ByteArrayOutputStream}. */
+  @Benchmark
+  @Threads(1)
+  public int statefulHeapArray(RequestMarshalState state) throws IOException {
+    TraceRequestMarshaler requestMarshaler = TraceRequestMarshaler.create(state.spanDataList);
+    ByteArrayOutputStream os =
+        new ByteArrayOutputStream(requestMarshaler.getBinarySerializedSize());
+    requestMarshaler.writeBinaryTo(os);
+    return os.toByteArray().length;
+  }
+
+  /** Low allocation marshaling into a new heap array per batch. */
+  @Benchmark
+  @Threads(1)
+  public int statelessHeapArray(RequestMarshalState state) throws IOException {
+    LowAllocationTraceRequestMarshaler requestMarshaler = MARSHALER;
+    requestMarshaler.initialize(state.spanDataList);
+    try {
+      ByteArrayOutputStream os =
+          new ByteArrayOutputStream(requestMarshaler.getBinarySerializedSize());
+      requestMarshaler.writeBinaryTo(os);
+      return os.toByteArray().length;
+    } finally {
+      requestMarshaler.reset();
+    }
+  }
+
+  /** Low allocation marshaling into pooled direct buffers, as done by the JDK HTTP sender. */
+  @Benchmark
+  @Threads(1)
+  public int statelessPooledDirectBuffers(RequestMarshalState state) throws IOException {
+    LowAllocationTraceRequestMarshaler requestMarshaler = MARSHALER;
+    requestMarshaler.initialize(state.spanDataList);
+    DirectBufferOutputStream os = POOL.newOutputStream(requestMarshaler.getBinarySerializedSize());
+    try {
+      requestMarshaler.writeBinaryTo(os);
+      List<ByteBuffer> buffers = os.toByteBuffers();
+      return buffers.size();
+    } finally {
+      os.release();
+      requestMarshaler.reset();
+    }
+  }
+}
@@ -9,8 +9,10 @@ import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.logs.data.LogRecordData;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
+import java.util.List;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.function.BiFunction;
 
@@ -24,11 +26,24 @@ public class LogReusableDataMarshaler {
       new ConcurrentLinkedDeque<>();
 
   private final MemoryMode memoryMode;
+  private final int maxRequestSize;
   private final BiFunction<Marshaler, Integer, CompletableResultCode> doExport;
 
   public LogReusableDataMarshaler(
       MemoryMode memoryMode, BiFunction<Marshaler, Integer, CompletableResultCode> doExport) {
+    this(memoryMode, Integer.MAX_VALUE, doExport);
+  }
+
+  /**
+   * Returns a marshaler which splits {@link #export(Collection)} into several requests when the
+   * serialized request would exceed {@code maxRequestSize} bytes.
+   */
+  public LogReusableDataMarshaler(
+      MemoryMode memoryMode,
+      int maxRequestSize,
+      BiFunction<Marshaler, Integer, CompletableResultCode> doExport) {
     this.memoryMode = memoryMode;
+    this.maxRequestSize = maxRequestSize;
     this.doExport = doExport;
   }
 
@@ -36,6 +51,10 @@ public class LogReusableDataMarshaler {
     return memoryMode;
   }
 
+  public int getMaxRequestSize() {
+    return maxRequestSize;
+  }
+
   public CompletableResultCode export(Collection<LogRecordData> logs) {
     if (memoryMode == MemoryMode.REUSABLE_DATA) {
       LowAllocationLogsRequestMarshaler marshaler = marshalerPool.poll();
@@ -44,6 +63,12 @@ public class LogReusableDataMarshaler {
       }
       LowAllocationLogsRequestMarshaler exportMarshaler = marshaler;
       exportMarshaler.initialize(logs);
+      int size = exportMarshaler.getBinarySerializedSize();
+      if (logs.size() > 1 && size > maxRequestSize) {
+        exportMarshaler.reset();
+        marshalerPool.add(exportMarshaler);
+        return exportSplit(logs, size);
+      }
       return doExport
           .apply(exportMarshaler, logs.size())
           .whenComplete(
@@ -54,6 +79,26 @@ public class LogReusableDataMarshaler {
     }
     // MemoryMode == MemoryMode.IMMUTABLE_DATA
     LogsRequestMarshaler request = LogsRequestMarshaler.create(logs);
+    int size = request.getBinarySerializedSize();
+    if (logs.size() > 1 && size > maxRequestSize) {
+      return exportSplit(logs, size);
+    }
     return doExport.apply(request, logs.size());
   }
+
+  // Exports the logs in as many requests as it takes for each to fit within the maximum size,
+  // assuming similarly sized logs. Requests still too large are split again, and a single log
+  // exceeding the maximum is exported on its own.
+  private CompletableResultCode exportSplit(Collection<LogRecordData> logs, int size) {
+    List<LogRecordData> list =
+        logs instanceof List ? (List<LogRecordData>) logs : new ArrayList<>(logs);
+    int parts = (int) Math.min(list.size(), ((long) size + maxRequestSize - 1) / maxRequestSize);
+    List<CompletableResultCode> results = new ArrayList<>(parts);
+    for (int i = 0; i < parts; i++) {
+      int from = (int) ((long) list.size() * i / parts);
+      int to = (int) ((long) list.size() * (i + 1) / parts);
+      results.add(export(list.subList(from, to)));
+    }
+    return CompletableResultCode.ofAll(results);
+  }
 }
@@ -9,8 +9,10 @@ import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.trace.data.SpanData;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
+import java.util.List;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.function.BiFunction;
 
@@ -24,11 +26,24 @@ public class SpanReusableDataMarshaler {
       new ConcurrentLinkedDeque<>();
 
   private final MemoryMode memoryMode;
+  private final int maxRequestSize;
   private final BiFunction<Marshaler, Integer, CompletableResultCode> doExport;
 
   public SpanReusableDataMarshaler(
       MemoryMode memoryMode, BiFunction<Marshaler, Integer, CompletableResultCode> doExport) {
+    this(memoryMode, Integer.MAX_VALUE, doExport);
+  }
+
+  /**
+   * Returns a marshaler which splits {@link #export(Collection)} into several requests when the
+   * serialized request would exceed {@code maxRequestSize} bytes.
+   */
+  public SpanReusableDataMarshaler(
+      MemoryMode memoryMode,
+      int maxRequestSize,
+      BiFunction<Marshaler, Integer, CompletableResultCode> doExport) {
     this.memoryMode = memoryMode;
+    this.maxRequestSize = maxRequestSize;
     this.doExport = doExport;
   }
 
@@ -36,6 +51,10 @@ public class SpanReusableDataMarshaler {
     return memoryMode;
   }
 
+  public int getMaxRequestSize() {
+    return maxRequestSize;
+  }
+
   public CompletableResultCode export(Collection<SpanData> spans) {
     if (memoryMode == MemoryMode.REUSABLE_DATA) {
       LowAllocationTraceRequestMarshaler marshaler = marshalerPool.poll();
@@ -44,6 +63,12 @@ public class SpanReusableDataMarshaler {
       }
       LowAllocationTraceRequestMarshaler exportMarshaler = marshaler;
       exportMarshaler.initialize(spans);
+      int size = exportMarshaler.getBinarySerializedSize();
+      if (spans.size() > 1 && size > maxRequestSize) {
+        exportMarshaler.reset();
+        marshalerPool.add(exportMarshaler);
+        return exportSplit(spans, size);
+      }
       return doExport
           .apply(exportMarshaler, spans.size())
           .whenComplete(
@@ -54,6 +79,25 @@ public class SpanReusableDataMarshaler {
     }
     // MemoryMode == MemoryMode.IMMUTABLE_DATA
     TraceRequestMarshaler request = TraceRequestMarshaler.create(spans);
+    int size = request.getBinarySerializedSize();
+    if (spans.size() > 1 && size > maxRequestSize) {
+      return exportSplit(spans, size);
+    }
     return doExport.apply(request, spans.size());
   }
+
+  // Exports the spans in as many requests as it takes for each to fit within the maximum size,
+  // assuming similarly sized spans. Requests still too large are split again, and a single span
+  // exceeding the maximum is exported on its own.
+  private CompletableResultCode exportSplit(Collection<SpanData> spans, int size) {
+    List<SpanData> list = spans instanceof List ? (List<SpanData>) spans : new ArrayList<>(spans);
+    int parts = (int) Math.min(list.size(), ((long) size + maxRequestSize - 1) / maxRequestSize);
+    List<CompletableResultCode> results = new ArrayList<>(parts);
+    for (int i = 0; i < parts; i++) {
+      int from = (int) ((long) list.size() * i / parts);
+      int to = (int) ((long) list.size() * (i + 1) / parts);
+      results.add(export(list.subList(from, to)));
+    }
+    return CompletableResultCode.ofAll(results);
+  }
 }
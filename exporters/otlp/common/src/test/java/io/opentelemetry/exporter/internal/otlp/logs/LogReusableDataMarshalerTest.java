@@ -0,0 +1,129 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp.logs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.testing.logs.TestLogRecordData;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class LogReusableDataMarshalerTest {
+
+  private final List<Integer> requestSizes = new ArrayList<>();
+  private final List<Integer> requestCounts = new ArrayList<>();
+
+  private CompletableResultCode doExport(Marshaler marshaler, int count) {
+    requestSizes.add(marshaler.getBinarySerializedSize());
+    requestCounts.add(count);
+    return CompletableResultCode.ofSuccess();
+  }
+
+  private static List<LogRecordData> logs(int count) {
+    List<LogRecordData> logs = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      logs.add(
+          TestLogRecordData.builder()
+              .setBody("log" + i)
+              .setSeverity(Severity.INFO)
+              .setTimestamp(1, TimeUnit.NANOSECONDS)
+              .build());
+    }
+    return logs;
+  }
+
+  private static int requestSize(List<LogRecordData> logs) {
+    return LogsRequestMarshaler.create(logs).getBinarySerializedSize();
+  }
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void unlimited(MemoryMode memoryMode) {
+    LogReusableDataMarshaler marshaler = new LogReusableDataMarshaler(memoryMode, this::doExport);
+
+    assertThat(marshaler.export(logs(100)).isSuccess()).isTrue();
+
+    assertThat(requestCounts).containsExactly(100);
+    assertThat(marshaler.getMaxRequestSize()).isEqualTo(Integer.MAX_VALUE);
+  }
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void splitsOversizedRequests(MemoryMode memoryMode) {
+    List<LogRecordData> logs = logs(100);
+    int maxRequestSize = requestSize(logs.subList(0, 30));
+    LogReusableDataMarshaler marshaler =
+        new LogReusableDataMarshaler(memoryMode, maxRequestSize, this::doExport);
+
+    assertThat(marshaler.export(logs).isSuccess()).isTrue();
+
+    assertThat(requestCounts.size()).isGreaterThan(1);
+    assertThat(requestCounts.stream().mapToInt(Integer::intValue).sum()).isEqualTo(100);
+    assertThat(requestSizes)
+        .allSatisfy(size -> assertThat(size).isLessThanOrEqualTo(maxRequestSize));
+
+    // Requests within the maximum are exported whole
+    requestCounts.clear();
+    assertThat(marshaler.export(logs.subList(0, 30)).isSuccess()).isTrue();
+    assertThat(requestCounts).containsExactly(30);
+  }
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void exportsOversizedLogAlone(MemoryMode memoryMode) {
+    List<LogRecordData> logs = logs(3);
+    int maxRequestSize = requestSize(Collections.singletonList(logs.get(0))) - 1;
+    LogReusableDataMarshaler marshaler =
+        new LogReusableDataMarshaler(memoryMode, maxRequestSize, this::doExport);
+
+    assertThat(marshaler.export(logs).isSuccess()).isTrue();
+
+    assertThat(requestCounts).containsExactly(1, 1, 1);
+  }
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void exportsSingleOversizedLog(MemoryMode memoryMode) {
+    List<LogRecordData> logs = logs(1);
+    int size = requestSize(logs);
+    LogReusableDataMarshaler marshaler =
+        new LogReusableDataMarshaler(memoryMode, size - 1, this::doExport);
+
+    assertThat(marshaler.export(logs).isSuccess()).isTrue();
+
+    assertThat(requestCounts).containsExactly(1);
+    assertThat(requestSizes).containsExactly(size);
+  }
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void failsIfAnyRequestFails(MemoryMode memoryMode) {
+    List<LogRecordData> logs = logs(10);
+    LogReusableDataMarshaler marshaler =
+        new LogReusableDataMarshaler(
+            memoryMode,
+            requestSize(logs.subList(0, 5)),
+            (request, count) -> {
+              doExport(request, count);
+              return requestCounts.size() == 1
+                  ? CompletableResultCode.ofFailure()
+                  : CompletableResultCode.ofSuccess();
+            });
+
+    assertThat(marshaler.export(logs).isSuccess()).isFalse();
+
+    assertThat(requestCounts).containsExactly(5, 5);
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp.traces;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.testing.trace.TestSpanData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class SpanReusableDataMarshalerTest {
+
+  private final List<Integer> requestSizes = new ArrayList<>();
+  private final List<Integer> requestCounts = new ArrayList<>();
+
+  private CompletableResultCode doExport(Marshaler marshaler, int count) {
+    requestSizes.add(marshaler.getBinarySerializedSize());
+    requestCounts.add(count);
+    return CompletableResultCode.ofSuccess();
+  }
+
+  private static List<SpanData> spans(int count) {
+    List<SpanData> spans = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      spans.add(
+          TestSpanData.builder()
+              .setHasEnded(true)
+              .setName("span" + i)
+              .setKind(SpanKind.INTERNAL)
+              .setStartEpochNanos(0)
+              .setEndEpochNanos(1)
+              .setStatus(StatusData.unset())
+              .build());
+    }
+    return spans;
+  }
+
+  private static int requestSize(List<SpanData> spans) {
+    return TraceRequestMarshaler.create(spans).getBinarySerializedSize();
+  }
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void unlimited(MemoryMode memoryMode) {
+    SpanReusableDataMarshaler marshaler = new SpanReusableDataMarshaler(memoryMode, this::doExport);
+
+    assertThat(marshaler.export(spans(100)).isSuccess()).isTrue();
+
+    assertThat(requestCounts).containsExactly(100);
+    assertThat(marshaler.getMaxRequestSize()).isEqualTo(Integer.MAX_VALUE);
+  }
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void splitsOversizedRequests(MemoryMode memoryMode) {
+    List<SpanData> spans = spans(100);
+    int maxRequestSize = requestSize(spans.subList(0, 30));
+    SpanReusableDataMarshaler marshaler =
+        new SpanReusableDataMarshaler(memoryMode, maxRequestSize, this::doExport);
+
+    assertThat(marshaler.export(spans).isSuccess()).isTrue();
+
+    assertThat(requestCounts.size()).isGreaterThan(1);
+    assertThat(requestCounts.stream().mapToInt(Integer::intValue).sum()).isEqualTo(100);
+    assertThat(requestSizes)
+        .allSatisfy(size -> assertThat(size).isLessThanOrEqualTo(maxRequestSize));
+
+    // Requests within the maximum are exported whole
+    requestCounts.clear();
+    assertThat(marshaler.export(spans.subList(0, 30)).isSuccess()).isTrue();
+    assertThat(requestCounts).containsExactly(30);
+  }
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void exportsOversizedSpanAlone(MemoryMode memoryMode) {
+    List<SpanData> spans = spans(3);
+    int maxRequestSize = requestSize(Collections.singletonList(spans.get(0))) - 1;
+    SpanReusableDataMarshaler marshaler =
+        new SpanReusableDataMarshaler(memoryMode, maxRequestSize, this::doExport);
+
+    assertThat(marshaler.export(spans).isSuccess()).isTrue();
+
+    assertThat(requestCounts).containsExactly(1, 1, 1);
+  }
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void failsIfAnyRequestFails(MemoryMode memoryMode) {
+    List<SpanData> spans = spans(10);
+    SpanReusableDataMarshaler marshaler =
+        new SpanReusableDataMarshaler(
+            memoryMode,
+            requestSize(spans.subList(0, 5)),
+            (request, count) -> {
+              doExport(request, count);
+              return requestCounts.size() == 1
+                  ? CompletableResultCode.ofFailure()
+                  : CompletableResultCode.ofSuccess();
+            });
+
+    assertThat(marshaler.export(spans).isSuccess()).isFalse();
+
+    assertThat(requestCounts).containsExactly(5, 5);
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.prometheus;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableLongPointData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableMetricData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableSumData;
+import io.opentelemetry.sdk.resources.Resource;
+import io.prometheus.metrics.expositionformats.ExpositionFormats;
+import io.prometheus.metrics.expositionformats.PrometheusTextFormatWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares writing a scrape in the Prometheus text format by converting to snapshots first, as
+ * the Prometheus HTTP server does, with streaming the points directly, as done when streaming is
+ * enabled. Run with the gc profiler (enabled by default in this build), {@code gc.alloc.rate.norm}
+ * is the number of bytes allocated per scrape. The collected metrics are prepared up front, so
+ * only the exporter's allocation is measured.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScrapeBenchmark {
+
+  private static final int SERIES_PER_METRIC = 1000;
+  private static final AttributeKey<String> METHOD = AttributeKey.stringKey("http.method");
+  private static final AttributeKey<String> ROUTE = AttributeKey.stringKey("http.route");
+  private static final AttributeKey<Long> STATUS = AttributeKey.longKey("http.status_code");
+
+  @Param({"10000", "100000", "300000"})
+  int series;
+
+  private List<MetricData> metrics = new ArrayList<>();
+  private final Otel2PrometheusConverter converter = new Otel2PrometheusConverter(null);
+  private final PrometheusTextFormatWriter snapshotWriter =
+      ExpositionFormats.init().getPrometheusTextFormatWriter();
+  private final Otel2PrometheusTextWriter streamingWriter = new Otel2PrometheusTextWriter(null);
+  private final OutputStream out = new DiscardingOutputStream();
+
+  @Setup
+  public void setup() {
+    Resource resource = Resource.getDefault();
+    InstrumentationScopeInfo scope = InstrumentationScopeInfo.create("benchmark");
+    metrics = new ArrayList<>();
+    for (int metric = 0; metric * SERIES_PER_METRIC < series; metric++) {
+      List<LongPointData> points = new ArrayList<>(SERIES_PER_METRIC);
+      for (int i = 0; i < SERIES_PER_METRIC; i++) {
+        Attributes attributes =
+            Attributes.of(
+                METHOD, i % 2 == 0 ? "GET" : "POST", ROUTE, "/api/v1/items/" + i, STATUS, 200L);
+        points.add(ImmutableLongPointData.create(0, 1, attributes, i));
+      }
+      metrics.add(
+          ImmutableMetricData.createLongSum(
+              resource,
+              scope,
+              "http.server.requests." + metric,
+              "Number of requests",
+              "1",
+              ImmutableSumData.create(true, AggregationTemporality.CUMULATIVE, points)));
+    }
+  }
+
+  @Benchmark
+  public void snapshot() throws IOException {
+    snapshotWriter.write(out, converter.convert(metrics));
+  }
+
+  @Benchmark
+  public void streaming() throws IOException {
+    streamingWriter.write(metrics, out);
+  }
+
+  private static final class DiscardingOutputStream extends OutputStream {
+    @Override
+    public void write(int b) {}
+
+    @Override
+    public void write(byte[] b, int off, int len) {}
+  }
+}
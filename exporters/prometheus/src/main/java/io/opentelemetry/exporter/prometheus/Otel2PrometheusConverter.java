@@ -498,7 +498,7 @@ final class Otel2PrometheusConverter {
     return Labels.of(names, values);
   }
 
-  private List<AttributeKey<?>> filterAllowedResourceAttributeKeys(@Nullable Resource resource) {
+  List<AttributeKey<?>> filterAllowedResourceAttributeKeys(@Nullable Resource resource) {
     requireNonNull(
         allowedResourceAttributesFilter,
         "This method should only be called when allowedResourceAttributesFilter is not null.");
@@ -520,7 +520,7 @@ final class Otel2PrometheusConverter {
     return allowedAttributeKeys;
   }
 
-  private static MetricMetadata convertMetadata(MetricData metricData) {
+  static MetricMetadata convertMetadata(MetricData metricData) {
     String name = sanitizeMetricName(metricData.getName());
     String help = metricData.getDescription();
     Unit unit = PrometheusUnitsHelper.convertUnit(metricData.getUnit());
@@ -631,7 +631,7 @@ final class Otel2PrometheusConverter {
     return snapshot.getClass().getSimpleName().replace("Snapshot", "").toLowerCase(Locale.ENGLISH);
   }
 
-  private static String toLabelValue(AttributeType type, Object attributeValue) {
+  static String toLabelValue(AttributeType type, Object attributeValue) {
     switch (type) {
       case STRING:
       case BOOLEAN:
@@ -0,0 +1,659 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.prometheus;
+
+import static io.prometheus.metrics.model.snapshots.PrometheusNaming.sanitizeLabelName;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.internal.ThrottlingLogger;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.DoublePointData;
+import io.opentelemetry.sdk.metrics.data.ExponentialHistogramPointData;
+import io.opentelemetry.sdk.metrics.data.HistogramPointData;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.data.PointData;
+import io.opentelemetry.sdk.metrics.data.SumData;
+import io.opentelemetry.sdk.metrics.data.SummaryPointData;
+import io.opentelemetry.sdk.metrics.data.ValueAtQuantile;
+import io.opentelemetry.sdk.resources.Resource;
+import io.prometheus.metrics.model.snapshots.MetricMetadata;
+import io.prometheus.metrics.model.snapshots.Unit;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * Writes OpenTelemetry {@link MetricData} in the Prometheus text format, version 0.0.4, without
+ * converting it to Prometheus {@link io.prometheus.metrics.model.snapshots.MetricSnapshots} first.
+ *
+ * <p>The output is the same as converting with {@link Otel2PrometheusConverter} and writing the
+ * snapshots with the Prometheus text format writer, but points are written as they are read, so a
+ * scrape allocates per metric rather than per series. The output buffer and label scratch space are
+ * retained, so an instance can be reused across scrapes, but must not be used concurrently.
+ */
+final class Otel2PrometheusTextWriter {
+
+  private static final Logger LOGGER = Logger.getLogger(Otel2PrometheusTextWriter.class.getName());
+  private static final ThrottlingLogger THROTTLING_LOGGER = new ThrottlingLogger(LOGGER);
+  private static final String OTEL_SCOPE_NAME = "otel_scope_name";
+  private static final String OTEL_SCOPE_VERSION = "otel_scope_version";
+  private static final String OTEL_SCOPE_SCHEMA_URL = "otel_scope_schema_url";
+  private static final String OTEL_SCOPE_ATTRIBUTE_PREFIX = "otel_scope_";
+  private static final int BUFFER_SIZE = 8192;
+  private static final int MAX_LABEL_NAME_CACHE_SIZE = 1024;
+  // Double.toString switches to scientific notation from 10^7.
+  private static final double MAX_PLAIN_INTEGRAL_DOUBLE = 1e7;
+  private static final long NEGATIVE_ZERO_BITS = Double.doubleToRawLongBits(-0.0);
+
+  @Nullable private final Predicate<String> allowedResourceAttributesFilter;
+  private final Otel2PrometheusConverter converter;
+
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+  private final byte[] digits = new byte[20];
+  private int position;
+  @Nullable private OutputStream out;
+
+  private final Map<String, Family> families = new TreeMap<>();
+  private final Map<String, String> sanitizedLabelNames = new HashMap<>();
+
+  private String[] labelNames = new String[16];
+  private String[] labelValues = new String[16];
+  private int labelCount;
+
+  @Nullable private List<Double> leBoundaries;
+  private String[] leValues = new String[0];
+
+  Otel2PrometheusTextWriter(@Nullable Predicate<String> allowedResourceAttributesFilter) {
+    this.allowedResourceAttributesFilter = allowedResourceAttributesFilter;
+    this.converter = new Otel2PrometheusConverter(allowedResourceAttributesFilter);
+  }
+
+  /** Writes {@code metrics} to {@code out}, without closing it. */
+  void write(@Nullable Collection<MetricData> metrics, OutputStream out) throws IOException {
+    if (metrics == null || metrics.isEmpty()) {
+      return;
+    }
+    this.out = out;
+    try {
+      Resource resource = groupFamilies(metrics);
+      for (Family family : families.values()) {
+        writeFamily(family, resource);
+      }
+      flushBuffer();
+    } finally {
+      this.out = null;
+      position = 0;
+      families.clear();
+    }
+  }
+
+  /**
+   * Groups metrics by their Prometheus name, following the merge rules of {@link
+   * Otel2PrometheusConverter}, and returns the resource of the first written metric.
+   */
+  @Nullable
+  private Resource groupFamilies(Collection<MetricData> metrics) {
+    Resource resource = null;
+    for (MetricData metricData : metrics) {
+      Type type = typeOf(metricData);
+      if (type == null) {
+        continue;
+      }
+      MetricMetadata metadata = Otel2PrometheusConverter.convertMetadata(metricData);
+      add(metadata.getPrometheusName(), type, metadata.getHelp(), metadata.getUnit(), metricData);
+      if (resource == null) {
+        resource = metricData.getResource();
+      }
+    }
+    if (resource != null) {
+      add("target", Type.INFO, null, null, null);
+    }
+    return resource;
+  }
+
+  private void add(
+      String name,
+      Type type,
+      @Nullable String help,
+      @Nullable Unit unit,
+      @Nullable MetricData metricData) {
+    Family family = families.get(name);
+    if (family == null) {
+      families.put(name, new Family(name, type, help, unit, metricData));
+      return;
+    }
+    if (family.unit != null && !family.unit.equals(unit)) {
+      THROTTLING_LOGGER.log(
+          Level.WARNING,
+          "Conflicting metrics: Multiple metrics with name "
+              + name
+              + " but different units found. Dropping the one with unit "
+              + unit
+              + ".");
+      return;
+    }
+    if (family.type != type) {
+      THROTTLING_LOGGER.log(
+          Level.WARNING,
+          "Conflicting metric name "
+              + name
+              + ": Found one metric with type "
+              + family.type.logName
+              + " and one of type "
+              + type.logName
+              + ". Dropping the one with type "
+              + type.logName
+              + ".");
+      return;
+    }
+    if (family.help != null && !family.help.equals(help)) {
+      family.help = null;
+    }
+    if (metricData != null) {
+      family.metrics.add(metricData);
+    }
+  }
+
+  @Nullable
+  private static Type typeOf(MetricData metricData) {
+    // Note that AggregationTemporality.DELTA should never happen
+    // because PrometheusMetricReader#getAggregationTemporality returns CUMULATIVE.
+    switch (metricData.getType()) {
+      case LONG_GAUGE:
+      case DOUBLE_GAUGE:
+        return Type.GAUGE;
+      case LONG_SUM:
+        return sumType(metricData.getLongSumData());
+      case DOUBLE_SUM:
+        return sumType(metricData.getDoubleSumData());
+      case HISTOGRAM:
+        return metricData.getHistogramData().getAggregationTemporality()
+                == AggregationTemporality.DELTA
+            ? null
+            : Type.HISTOGRAM;
+      case EXPONENTIAL_HISTOGRAM:
+        if (metricData.getExponentialHistogramData().getAggregationTemporality()
+            == AggregationTemporality.DELTA) {
+          return null;
+        }
+        for (ExponentialHistogramPointData point :
+            metricData.getExponentialHistogramData().getPoints()) {
+          if (point.getScale() < -4) {
+            THROTTLING_LOGGER.log(
+                Level.WARNING,
+                "Dropping histogram "
+                    + Otel2PrometheusConverter.convertMetadata(metricData).getName()
+                    + " with attributes "
+                    + point.getAttributes()
+                    + " because it has scale < -4 which is unsupported in Prometheus");
+            return null;
+          }
+        }
+        return Type.HISTOGRAM;
+      case SUMMARY:
+        return Type.SUMMARY;
+    }
+    return null;
+  }
+
+  @Nullable
+  private static Type sumType(SumData<?> sumData) {
+    if (sumData.getAggregationTemporality() == AggregationTemporality.DELTA) {
+      return null;
+    }
+    return sumData.isMonotonic() ? Type.COUNTER : Type.GAUGE;
+  }
+
+  private void writeFamily(Family family, @Nullable Resource resource) throws IOException {
+    if (family.type == Type.INFO) {
+      if (resource != null) {
+        writeMetadata(family.name + "_info", family);
+        // Resource attributes become the labels of target_info, without scope or resource labels.
+        startLabels(resource.getAttributes(), null);
+        writeSample(family.name, "_info", null, null);
+        writeAscii("1\n");
+      }
+      return;
+    }
+    boolean hasPoints = false;
+    for (MetricData metricData : family.metrics) {
+      if (!metricData.getData().getPoints().isEmpty()) {
+        hasPoints = true;
+        break;
+      }
+    }
+    if (!hasPoints) {
+      return;
+    }
+    writeMetadata(family.type == Type.COUNTER ? family.name + "_total" : family.name, family);
+    for (MetricData metricData : family.metrics) {
+      writeMetric(family, metricData);
+    }
+  }
+
+  private void writeMetadata(String name, Family family) throws IOException {
+    String help = family.help;
+    if (help != null && !help.isEmpty()) {
+      writeAscii("# HELP ");
+      writeUtf8(name);
+      writeByte(' ');
+      writeEscaped(help, false);
+      writeByte('\n');
+    }
+    writeAscii("# TYPE ");
+    writeUtf8(name);
+    writeByte(' ');
+    writeAscii(family.type.typeName);
+    writeByte('\n');
+  }
+
+  private void writeMetric(Family family, MetricData metricData) throws IOException {
+    String name = family.name;
+    List<AttributeKey<?>> resourceKeys =
+        allowedResourceAttributesFilter != null
+            ? converter.filterAllowedResourceAttributeKeys(metricData.getResource())
+            : Collections.emptyList();
+    for (PointData point : metricData.getData().getPoints()) {
+      startLabels(point.getAttributes(), metricData.getInstrumentationScopeInfo());
+      addResourceLabels(metricData.getResource(), resourceKeys);
+      switch (family.type) {
+        case GAUGE:
+        case COUNTER:
+          writeSample(name, family.type == Type.COUNTER ? "_total" : "", null, null);
+          if (point instanceof LongPointData) {
+            writeLongAsDouble(((LongPointData) point).getValue());
+          } else {
+            writeDouble(((DoublePointData) point).getValue());
+          }
+          writeByte('\n');
+          break;
+        case HISTOGRAM:
+          if (point instanceof HistogramPointData) {
+            writeHistogram(name, (HistogramPointData) point);
+          } else {
+            ExponentialHistogramPointData exponential = (ExponentialHistogramPointData) point;
+            // Native histograms are written as a single +Inf bucket in the text format.
+            writeSample(name, "_bucket", "le", "+Inf");
+            writeLong(exponential.getCount());
+            writeByte('\n');
+            writeCountAndSum(name, exponential.getCount(), exponential.getSum());
+          }
+          break;
+        case SUMMARY:
+          writeSummary(name, (SummaryPointData) point);
+          break;
+        case INFO:
+          break;
+      }
+    }
+  }
+
+  private void writeHistogram(String name, HistogramPointData point) throws IOException {
+    String[] le = leValues(point.getBoundaries());
+    List<Long> counts = point.getCounts();
+    long cumulativeCount = 0;
+    for (int i = 0; i < counts.size(); i++) {
+      cumulativeCount += counts.get(i);
+      writeSample(name, "_bucket", "le", le[i]);
+      writeLong(cumulativeCount);
+      writeByte('\n');
+    }
+    writeCountAndSum(name, cumulativeCount, point.getSum());
+  }
+
+  private void writeSummary(String name, SummaryPointData point) throws IOException {
+    for (ValueAtQuantile quantile : point.getValues()) {
+      writeSample(name, "", "quantile", Double.toString(quantile.getQuantile()));
+      writeDouble(quantile.getValue());
+      writeByte('\n');
+    }
+    writeCountAndSum(name, point.getCount(), point.getSum());
+  }
+
+  private void writeCountAndSum(String name, long count, double sum) throws IOException {
+    writeSample(name, "_count", null, null);
+    writeLong(count);
+    writeByte('\n');
+    if (!Double.isNaN(sum)) {
+      writeSample(name, "_sum", null, null);
+      writeDouble(sum);
+      writeByte('\n');
+    }
+  }
+
+  /** Returns the {@code le} label values for the boundaries, reusing them across points. */
+  private String[] leValues(List<Double> boundaries) {
+    // Points of the same histogram share their boundaries list.
+    if (boundaries != leBoundaries) {
+      String[] values = new String[boundaries.size() + 1];
+      for (int i = 0; i < boundaries.size(); i++) {
+        values[i] = formatDouble(boundaries.get(i));
+      }
+      values[boundaries.size()] = "+Inf";
+      leBoundaries = boundaries;
+      leValues = values;
+    }
+    return leValues;
+  }
+
+  // Labels
+
+  /**
+   * Resets the label scratch space to the point's attributes, followed by the {@code otel_scope_*}
+   * labels, following {@link Otel2PrometheusConverter}.
+   */
+  private void startLabels(Attributes attributes, @Nullable InstrumentationScopeInfo scope) {
+    labelCount = 0;
+    attributes.forEach(
+        (key, value) ->
+            putLabel(sanitizedLabelName(key.getKey()), toLabelValue(key, value), true));
+    if (scope != null) {
+      putLabel(OTEL_SCOPE_NAME, scope.getName(), false);
+      String version = scope.getVersion();
+      if (version != null) {
+        putLabel(OTEL_SCOPE_VERSION, version, false);
+      }
+      String schemaUrl = scope.getSchemaUrl();
+      if (schemaUrl != null) {
+        putLabel(OTEL_SCOPE_SCHEMA_URL, schemaUrl, false);
+      }
+      scope
+          .getAttributes()
+          .forEach(
+              (key, value) ->
+                  putLabel(OTEL_SCOPE_ATTRIBUTE_PREFIX + key.getKey(), value.toString(), false));
+    }
+  }
+
+  private void addResourceLabels(Resource resource, List<AttributeKey<?>> resourceKeys) {
+    if (resourceKeys.isEmpty()) {
+      return;
+    }
+    Attributes resourceAttributes = resource.getAttributes();
+    for (AttributeKey<?> key : resourceKeys) {
+      Object value = resourceAttributes.get(key);
+      if (value != null) {
+        putLabel(sanitizedLabelName(key.getKey()), value.toString(), false);
+      }
+    }
+  }
+
+  private static String toLabelValue(AttributeKey<?> key, Object value) {
+    if (value instanceof String) {
+      return (String) value;
+    }
+    return Otel2PrometheusConverter.toLabelValue(key.getType(), value);
+  }
+
+  private String sanitizedLabelName(String key) {
+    String name = sanitizedLabelNames.get(key);
+    if (name == null) {
+      if (sanitizedLabelNames.size() >= MAX_LABEL_NAME_CACHE_SIZE) {
+        sanitizedLabelNames.clear();
+      }
+      name = sanitizeLabelName(key);
+      sanitizedLabelNames.put(key, name);
+    }
+    return name;
+  }
+
+  private void putLabel(String name, String value, boolean replace) {
+    for (int i = 0; i < labelCount; i++) {
+      if (labelNames[i].equals(name)) {
+        if (replace) {
+          labelValues[i] = value;
+        }
+        return;
+      }
+    }
+    if (labelCount == labelNames.length) {
+      String[] names = new String[labelCount * 2];
+      String[] values = new String[labelCount * 2];
+      System.arraycopy(labelNames, 0, names, 0, labelCount);
+      System.arraycopy(labelValues, 0, values, 0, labelCount);
+      labelNames = names;
+      labelValues = values;
+    }
+    // Insert in sorted position, as Prometheus labels are sorted by name.
+    int index = labelCount;
+    while (index > 0 && labelNames[index - 1].compareTo(name) > 0) {
+      labelNames[index] = labelNames[index - 1];
+      labelValues[index] = labelValues[index - 1];
+      index--;
+    }
+    labelNames[index] = name;
+    labelValues[index] = value;
+    labelCount++;
+  }
+
+  /**
+   * Writes the sample name and the current labels followed by an optional extra label, and the
+   * separator before the value.
+   */
+  private void writeSample(
+      String name, String suffix, @Nullable String extraLabelName, @Nullable String extraLabelValue)
+      throws IOException {
+    writeUtf8(name);
+    writeAscii(suffix);
+    if (labelCount > 0 || extraLabelName != null) {
+      writeByte('{');
+      for (int i = 0; i < labelCount; i++) {
+        if (i > 0) {
+          writeByte(',');
+        }
+        writeLabel(labelNames[i], labelValues[i]);
+      }
+      if (extraLabelName != null && extraLabelValue != null) {
+        if (labelCount > 0) {
+          writeByte(',');
+        }
+        writeLabel(extraLabelName, extraLabelValue);
+      }
+      writeByte('}');
+    }
+    writeByte(' ');
+  }
+
+  private void writeLabel(String name, String value) throws IOException {
+    writeUtf8(name);
+    writeAscii("=\"");
+    writeEscaped(value, true);
+    writeByte('"');
+  }
+
+  // Values
+
+  private void writeLongAsDouble(long value) throws IOException {
+    // Matches Double.toString((double) value) without allocating in the common case.
+    if (value > -MAX_PLAIN_INTEGRAL_DOUBLE && value < MAX_PLAIN_INTEGRAL_DOUBLE) {
+      writeLong(value);
+      writeAscii(".0");
+    } else {
+      writeAscii(Double.toString((double) value));
+    }
+  }
+
+  private void writeDouble(double value) throws IOException {
+    if (value == (long) value
+        && Math.abs(value) < MAX_PLAIN_INTEGRAL_DOUBLE
+        && Double.doubleToRawLongBits(value) != NEGATIVE_ZERO_BITS) {
+      writeLong((long) value);
+      writeAscii(".0");
+    } else {
+      writeAscii(formatDouble(value));
+    }
+  }
+
+  private static String formatDouble(double value) {
+    if (value == Double.POSITIVE_INFINITY) {
+      return "+Inf";
+    }
+    if (value == Double.NEGATIVE_INFINITY) {
+      return "-Inf";
+    }
+    return Double.toString(value);
+  }
+
+  private void writeLong(long value) throws IOException {
+    if (value == Long.MIN_VALUE) {
+      writeAscii(Long.toString(value));
+      return;
+    }
+    if (value < 0) {
+      writeByte('-');
+      value = -value;
+    }
+    int start = digits.length;
+    do {
+      digits[--start] = (byte) ('0' + (value % 10));
+      value /= 10;
+    } while (value != 0);
+    ensureCapacity(digits.length - start);
+    System.arraycopy(digits, start, buffer, position, digits.length - start);
+    position += digits.length - start;
+  }
+
+  // Encoding
+
+  /** Writes {@code value} escaping backslashes and new lines, and quotes if {@code quoted}. */
+  private void writeEscaped(String value, boolean quoted) throws IOException {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '\\') {
+        writeAscii("\\\\");
+      } else if (c == '\n') {
+        writeAscii("\\n");
+      } else if (c == '"' && quoted) {
+        writeAscii("\\\"");
+      } else {
+        i = writeChar(value, i, c);
+      }
+    }
+  }
+
+  private void writeUtf8(String value) throws IOException {
+    for (int i = 0; i < value.length(); i++) {
+      i = writeChar(value, i, value.charAt(i));
+    }
+  }
+
+  /** Writes the UTF-8 encoding of the character at {@code i}, returning the last index read. */
+  private int writeChar(String value, int i, char c) throws IOException {
+    if (c < 0x80) {
+      writeByte(c);
+      return i;
+    }
+    ensureCapacity(4);
+    if (c < 0x800) {
+      buffer[position++] = (byte) (0xc0 | (c >> 6));
+      buffer[position++] = (byte) (0x80 | (c & 0x3f));
+    } else if (Character.isHighSurrogate(c)
+        && i + 1 < value.length()
+        && Character.isLowSurrogate(value.charAt(i + 1))) {
+      int codePoint = Character.toCodePoint(c, value.charAt(++i));
+      buffer[position++] = (byte) (0xf0 | (codePoint >> 18));
+      buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+      buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+      buffer[position++] = (byte) (0x80 | (codePoint & 0x3f));
+    } else if (Character.isSurrogate(c)) {
+      // Unpaired surrogates are replaced, as String.getBytes does.
+      buffer[position++] = '?';
+    } else {
+      buffer[position++] = (byte) (0xe0 | (c >> 12));
+      buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+      buffer[position++] = (byte) (0x80 | (c & 0x3f));
+    }
+    return i;
+  }
+
+  private void writeAscii(String value) throws IOException {
+    int length = value.length();
+    int offset = 0;
+    while (offset < length) {
+      if (position == buffer.length) {
+        flushBuffer();
+      }
+      int count = Math.min(length - offset, buffer.length - position);
+      for (int i = 0; i < count; i++) {
+        buffer[position++] = (byte) value.charAt(offset + i);
+      }
+      offset += count;
+    }
+  }
+
+  private void writeByte(int b) throws IOException {
+    if (position == buffer.length) {
+      flushBuffer();
+    }
+    buffer[position++] = (byte) b;
+  }
+
+  private void ensureCapacity(int length) throws IOException {
+    if (buffer.length - position < length) {
+      flushBuffer();
+    }
+  }
+
+  private void flushBuffer() throws IOException {
+    OutputStream out = this.out;
+    if (out != null && position > 0) {
+      out.write(buffer, 0, position);
+    }
+    position = 0;
+  }
+
+  private enum Type {
+    GAUGE("gauge", "gauge"),
+    COUNTER("counter", "counter"),
+    HISTOGRAM("histogram", "histogram"),
+    SUMMARY("summary", "summary"),
+    INFO("gauge", "info");
+
+    private final String typeName;
+    private final String logName;
+
+    Type(String typeName, String logName) {
+      this.typeName = typeName;
+      this.logName = logName;
+    }
+  }
+
+  private static final class Family {
+    private final String name;
+    private final Type type;
+    @Nullable private String help;
+    @Nullable private final Unit unit;
+    private final List<MetricData> metrics = new ArrayList<>(1);
+
+    private Family(
+        String name,
+        Type type,
+        @Nullable String help,
+        @Nullable Unit unit,
+        @Nullable MetricData metricData) {
+      this.name = name;
+      this.type = type;
+      this.help = help;
+      this.unit = unit;
+      if (metricData != null) {
+        metrics.add(metricData);
+      }
+    }
+  }
+}
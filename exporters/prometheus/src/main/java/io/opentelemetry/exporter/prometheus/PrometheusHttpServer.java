@@ -26,6 +26,7 @@ import io.prometheus.metrics.model.registry.PrometheusRegistry;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.net.InetSocketAddress;
+import java.util.Objects;
 import java.util.StringJoiner;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -47,7 +48,8 @@ public final class PrometheusHttpServer implements MetricReader {
   private final DefaultAggregationSelector defaultAggregationSelector;
 
   private final PrometheusHttpServerBuilder builder;
-  private final HTTPServer httpServer;
+  @Nullable private final HTTPServer httpServer;
+  @Nullable private final StreamingHttpServer streamingHttpServer;
   private final PrometheusMetricReader prometheusMetricReader;
   private final PrometheusRegistry prometheusRegistry;
 
@@ -75,7 +77,8 @@ public final class PrometheusHttpServer implements MetricReader {
       MemoryMode memoryMode,
       @Nullable HttpHandler defaultHandler,
       DefaultAggregationSelector defaultAggregationSelector,
-      @Nullable Authenticator authenticator) {
+      @Nullable Authenticator authenticator,
+      boolean streamingEnabled) {
     this.host = host;
     this.port = port;
     this.allowedResourceAttributesFilter = allowedResourceAttributesFilter;
@@ -84,7 +87,11 @@ public final class PrometheusHttpServer implements MetricReader {
     this.builder = builder;
     this.prometheusMetricReader = new PrometheusMetricReader(allowedResourceAttributesFilter);
     this.prometheusRegistry = prometheusRegistry;
-    prometheusRegistry.register(prometheusMetricReader);
+    // When streaming, the reader's metrics are written directly rather than scraped from the
+    // registry.
+    if (!streamingEnabled) {
+      prometheusRegistry.register(prometheusMetricReader);
+    }
     // When memory mode is REUSABLE_DATA, concurrent reads lead to data corruption. To prevent this,
     // we configure prometheus with a single thread executor such that requests are handled
     // sequentially.
@@ -99,15 +106,31 @@ public final class PrometheusHttpServer implements MetricReader {
               new DaemonThreadFactory("prometheus-http-server"));
     }
     try {
-      this.httpServer =
-          HTTPServer.builder()
-              .hostname(host)
-              .port(port)
-              .executorService(executor)
-              .registry(prometheusRegistry)
-              .defaultHandler(defaultHandler)
-              .authenticator(authenticator)
-              .buildAndStart();
+      if (streamingEnabled) {
+        this.httpServer = null;
+        this.streamingHttpServer =
+            new StreamingHttpServer(
+                host,
+                port,
+                executor,
+                prometheusMetricReader,
+                prometheusRegistry,
+                allowedResourceAttributesFilter,
+                memoryMode,
+                defaultHandler,
+                authenticator);
+      } else {
+        this.streamingHttpServer = null;
+        this.httpServer =
+            HTTPServer.builder()
+                .hostname(host)
+                .port(port)
+                .executorService(executor)
+                .registry(prometheusRegistry)
+                .defaultHandler(defaultHandler)
+                .authenticator(authenticator)
+                .buildAndStart();
+      }
     } catch (IOException e) {
       throw new UncheckedIOException("Could not create Prometheus HTTP server", e);
     }
@@ -144,8 +167,13 @@ public final class PrometheusHttpServer implements MetricReader {
     Runnable shutdownFunction =
         () -> {
           try {
-            prometheusRegistry.unregister(prometheusMetricReader);
-            httpServer.stop();
+            if (httpServer != null) {
+              prometheusRegistry.unregister(prometheusMetricReader);
+              httpServer.stop();
+            }
+            if (streamingHttpServer != null) {
+              streamingHttpServer.stop();
+            }
             prometheusMetricReader.shutdown().whenComplete(result::succeed);
           } catch (Throwable t) {
             result.fail();
@@ -169,6 +197,9 @@ public final class PrometheusHttpServer implements MetricReader {
     joiner.add("port=" + port);
     joiner.add("allowedResourceAttributesFilter=" + allowedResourceAttributesFilter);
     joiner.add("memoryMode=" + memoryMode);
+    if (streamingHttpServer != null) {
+      joiner.add("streamingEnabled=true");
+    }
     joiner.add(
         "defaultAggregationSelector="
             + DefaultAggregationSelector.asString(defaultAggregationSelector));
@@ -184,6 +215,10 @@ public final class PrometheusHttpServer implements MetricReader {
 
   // Visible for testing.
   InetSocketAddress getAddress() {
-    return new InetSocketAddress(host, httpServer.getPort());
+    int boundPort =
+        streamingHttpServer != null
+            ? streamingHttpServer.getPort()
+            : Objects.requireNonNull(httpServer).getPort();
+    return new InetSocketAddress(host, boundPort);
   }
 }
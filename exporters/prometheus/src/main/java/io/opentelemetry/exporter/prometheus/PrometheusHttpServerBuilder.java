@@ -37,6 +37,7 @@ public final class PrometheusHttpServerBuilder {
   private DefaultAggregationSelector defaultAggregationSelector =
       DefaultAggregationSelector.getDefault();
   @Nullable private Authenticator authenticator;
+  private boolean streamingEnabled;
 
   PrometheusHttpServerBuilder() {}
 
@@ -49,6 +50,7 @@ public final class PrometheusHttpServerBuilder {
     this.memoryMode = builder.memoryMode;
     this.defaultAggregationSelector = builder.defaultAggregationSelector;
     this.authenticator = builder.authenticator;
+    this.streamingEnabled = builder.streamingEnabled;
   }
 
   /** Sets the host to bind to. If unset, defaults to {@value #DEFAULT_HOST}. */
@@ -162,6 +164,21 @@ public final class PrometheusHttpServerBuilder {
     return this;
   }
 
+  /**
+   * Set whether scrapes are streamed. Default is {@code false}.
+   *
+   * <p>If enabled, metrics are written in the Prometheus text format directly from the collected
+   * points into the response, without first converting them to Prometheus metric snapshots, which
+   * reduces allocation per scrape for a large number of series. With {@link
+   * MemoryMode#REUSABLE_DATA}, the buffers used for writing are also reused across scrapes. The
+   * text format is always used, regardless of the request's {@code Accept} header, and the {@code
+   * name[]} query parameter is not supported.
+   */
+  public PrometheusHttpServerBuilder setStreamingEnabled(boolean streamingEnabled) {
+    this.streamingEnabled = streamingEnabled;
+    return this;
+  }
+
   /**
    * Returns a new {@link PrometheusHttpServer} with the configuration of this builder which can be
    * registered with a {@link io.opentelemetry.sdk.metrics.SdkMeterProvider}.
@@ -182,6 +199,7 @@ public final class PrometheusHttpServerBuilder {
         memoryMode,
         defaultHandler,
         defaultAggregationSelector,
-        authenticator);
+        authenticator,
+        streamingEnabled);
   }
 }
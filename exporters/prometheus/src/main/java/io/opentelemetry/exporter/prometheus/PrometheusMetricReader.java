@@ -8,10 +8,12 @@ package io.opentelemetry.exporter.prometheus;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.metrics.InstrumentType;
 import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.MetricData;
 import io.opentelemetry.sdk.metrics.export.CollectionRegistration;
 import io.opentelemetry.sdk.metrics.export.MetricReader;
 import io.prometheus.metrics.model.registry.MultiCollector;
 import io.prometheus.metrics.model.snapshots.MetricSnapshots;
+import java.util.Collection;
 import java.util.function.Predicate;
 import javax.annotation.Nullable;
 
@@ -67,6 +69,10 @@ public class PrometheusMetricReader implements MetricReader, MultiCollector {
 
   @Override
   public MetricSnapshots collect() {
-    return converter.convert(collectionRegistration.collectAllMetrics());
+    return converter.convert(collectAllMetrics());
+  }
+
+  Collection<MetricData> collectAllMetrics() {
+    return collectionRegistration.collectAllMetrics();
   }
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.prometheus;
+
+import com.sun.net.httpserver.Authenticator;
+import com.sun.net.httpserver.HttpContext;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import io.prometheus.metrics.expositionformats.ExpositionFormats;
+import io.prometheus.metrics.expositionformats.PrometheusTextFormatWriter;
+import io.prometheus.metrics.model.registry.PrometheusRegistry;
+import io.prometheus.metrics.model.snapshots.MetricSnapshots;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import java.util.zip.GZIPOutputStream;
+import javax.annotation.Nullable;
+
+/**
+ * The HTTP server used by {@link PrometheusHttpServer} when streaming is enabled. Scrapes are
+ * written with {@link Otel2PrometheusTextWriter} straight into the chunked response, instead of
+ * being converted to snapshots by the Prometheus {@code HTTPServer}.
+ *
+ * <p>Only the Prometheus text format is served. Collectors registered with the {@link
+ * PrometheusRegistry} besides the OpenTelemetry metrics are appended to each scrape.
+ */
+final class StreamingHttpServer {
+
+  private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+  private static final byte[] HEALTHY_RESPONSE =
+      "Exporter is healthy.\n".getBytes(StandardCharsets.UTF_8);
+  private static final int DEFAULT_THREADS = 5;
+
+  private final PrometheusMetricReader reader;
+  private final PrometheusRegistry registry;
+  @Nullable private final Predicate<String> allowedResourceAttributesFilter;
+  // Requests are served sequentially with REUSABLE_DATA, so the writer and its buffers are reused.
+  @Nullable private final Otel2PrometheusTextWriter reusableWriter;
+  private final PrometheusTextFormatWriter registryWriter =
+      ExpositionFormats.init().getPrometheusTextFormatWriter();
+  private final ExecutorService executor;
+  private final HttpServer server;
+
+  StreamingHttpServer(
+      String host,
+      int port,
+      @Nullable ExecutorService executor,
+      PrometheusMetricReader reader,
+      PrometheusRegistry registry,
+      @Nullable Predicate<String> allowedResourceAttributesFilter,
+      MemoryMode memoryMode,
+      @Nullable HttpHandler defaultHandler,
+      @Nullable Authenticator authenticator)
+      throws IOException {
+    this.reader = reader;
+    this.registry = registry;
+    this.allowedResourceAttributesFilter = allowedResourceAttributesFilter;
+    this.reusableWriter =
+        memoryMode == MemoryMode.REUSABLE_DATA
+            ? new Otel2PrometheusTextWriter(allowedResourceAttributesFilter)
+            : null;
+    this.executor =
+        executor != null
+            ? executor
+            : Executors.newFixedThreadPool(
+                DEFAULT_THREADS, new DaemonThreadFactory("prometheus-http-server"));
+    this.server = HttpServer.create(new InetSocketAddress(host, port), 3);
+    HttpHandler metricsHandler = this::handleMetrics;
+    List<HttpContext> contexts =
+        Arrays.asList(
+            server.createContext("/", defaultHandler != null ? defaultHandler : metricsHandler),
+            server.createContext("/metrics", metricsHandler),
+            server.createContext("/-/healthy", StreamingHttpServer::handleHealthy));
+    if (authenticator != null) {
+      for (HttpContext context : contexts) {
+        context.setAuthenticator(authenticator);
+      }
+    }
+    server.setExecutor(this.executor);
+    server.start();
+  }
+
+  int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  void stop() {
+    server.stop(0);
+    executor.shutdown();
+  }
+
+  private void handleMetrics(HttpExchange exchange) throws IOException {
+    try {
+      exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+      if ("HEAD".equals(exchange.getRequestMethod())) {
+        exchange.sendResponseHeaders(200, -1);
+        return;
+      }
+      boolean gzip = acceptsGzip(exchange);
+      if (gzip) {
+        exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+      }
+      // A zero length makes the response chunked, so nothing is buffered besides the writer's
+      // buffer.
+      exchange.sendResponseHeaders(200, 0);
+      OutputStream body = exchange.getResponseBody();
+      try (OutputStream out = gzip ? new GZIPOutputStream(body) : body) {
+        Otel2PrometheusTextWriter writer =
+            reusableWriter != null
+                ? reusableWriter
+                : new Otel2PrometheusTextWriter(allowedResourceAttributesFilter);
+        writer.write(reader.collectAllMetrics(), out);
+        MetricSnapshots registrySnapshots = registry.scrape();
+        if (registrySnapshots.size() > 0) {
+          registryWriter.write(out, registrySnapshots);
+        }
+      }
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private static void handleHealthy(HttpExchange exchange) throws IOException {
+    try {
+      exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+      exchange.sendResponseHeaders(200, HEALTHY_RESPONSE.length);
+      exchange.getResponseBody().write(HEALTHY_RESPONSE);
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private static boolean acceptsGzip(HttpExchange exchange) {
+    List<String> values = exchange.getRequestHeaders().get("Accept-Encoding");
+    if (values == null) {
+      return false;
+    }
+    for (String value : values) {
+      if (value.contains("gzip")) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.prometheus;
+
+import static io.opentelemetry.api.common.AttributeKey.longArrayKey;
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static io.opentelemetry.exporter.prometheus.Otel2PrometheusConverterTest.createSampleMetricData;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.data.MetricDataType;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableDoublePointData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableExponentialHistogramBuckets;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableExponentialHistogramData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableExponentialHistogramPointData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableGaugeData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableLongPointData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableMetricData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableSumData;
+import io.opentelemetry.sdk.resources.Resource;
+import io.prometheus.metrics.expositionformats.ExpositionFormats;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class Otel2PrometheusTextWriterTest {
+
+  private static final Resource RESOURCE =
+      Resource.create(Attributes.of(stringKey("service.name"), "svc", stringKey("kr"), "vr"));
+
+  @ParameterizedTest
+  @EnumSource(MetricDataType.class)
+  void matchesConverter(MetricDataType type) throws IOException {
+    List<MetricData> metrics =
+        Collections.singletonList(
+            createSampleMetricData(
+                "my.metric", "ms", type, Attributes.of(stringKey("kp"), "vp"), RESOURCE));
+
+    assertThat(write(metrics, null)).isNotEmpty().isEqualTo(convertAndWrite(metrics, null));
+  }
+
+  @Test
+  @SuppressLogger(Otel2PrometheusConverter.class)
+  @SuppressLogger(Otel2PrometheusTextWriter.class)
+  void matchesConverter_mergedAndConflictingMetrics() throws IOException {
+    List<MetricData> metrics =
+        Arrays.asList(
+            longSum("requests", "first help", "scope1", true, 1),
+            longSum("requests", "second help", "scope2", true, 2),
+            // Conflicting type, dropped.
+            longSum("requests", "help", "scope3", false, 3),
+            doubleGauge("temperature", "scope1", 21.5),
+            doubleGauge("temperature", "scope2", Double.NaN),
+            doubleGauge("large", "scope1", 1.5e12),
+            doubleGauge("negative_zero", "scope1", -0.0),
+            longSum("large_count", "help", "scope1", true, Long.MAX_VALUE),
+            // Scale < -4 is unsupported, dropped.
+            exponentialHistogram("latency", -5),
+            exponentialHistogram("size", 3));
+
+    assertThat(write(metrics, null)).isEqualTo(convertAndWrite(metrics, null));
+  }
+
+  @Test
+  void matchesConverter_labels() throws IOException {
+    Attributes attributes =
+        Attributes.builder()
+            .put("http.method", "GET")
+            .put("http_method", "POST")
+            .put("quoted", "a \"b\" \\c\nd")
+            .put("unicode", "caf\u00e9 \uD83D\uDE00")
+            .put(longArrayKey("array"), Arrays.asList(1L, 2L))
+            .put("otel_scope_name", "attribute wins")
+            .build();
+    List<MetricData> metrics =
+        Collections.singletonList(
+            createSampleMetricData("labels", "", MetricDataType.LONG_GAUGE, attributes, RESOURCE));
+    Predicate<String> filter = key -> key.equals("service.name");
+
+    assertThat(write(metrics, filter)).isEqualTo(convertAndWrite(metrics, filter));
+  }
+
+  @Test
+  void reusedAcrossWrites() throws IOException {
+    Otel2PrometheusTextWriter writer = new Otel2PrometheusTextWriter(null);
+    List<MetricData> metrics =
+        Arrays.asList(
+            createSampleMetricData("a", "", MetricDataType.HISTOGRAM, null, RESOURCE),
+            createSampleMetricData("b", "", MetricDataType.SUMMARY, null, RESOURCE));
+    String expected = convertAndWrite(metrics, null);
+
+    for (int i = 0; i < 3; i++) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      writer.write(metrics, out);
+      assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void empty() throws IOException {
+    assertThat(write(Collections.emptyList(), null)).isEmpty();
+    assertThat(write(null, null)).isEmpty();
+  }
+
+  private static String write(
+      @Nullable Collection<MetricData> metrics, @Nullable Predicate<String> filter)
+      throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new Otel2PrometheusTextWriter(filter).write(metrics, out);
+    return new String(out.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  private static String convertAndWrite(
+      Collection<MetricData> metrics, @Nullable Predicate<String> filter) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ExpositionFormats.init()
+        .getPrometheusTextFormatWriter()
+        .write(out, new Otel2PrometheusConverter(filter).convert(metrics));
+    return new String(out.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  private static MetricData longSum(
+      String name, String help, String scope, boolean monotonic, long value) {
+    return ImmutableMetricData.createLongSum(
+        RESOURCE,
+        InstrumentationScopeInfo.create(scope),
+        name,
+        help,
+        "",
+        ImmutableSumData.create(
+            monotonic,
+            AggregationTemporality.CUMULATIVE,
+            Collections.singletonList(
+                ImmutableLongPointData.create(0, 1, Attributes.of(stringKey("kp"), "vp"), value))));
+  }
+
+  private static MetricData doubleGauge(String name, String scope, double value) {
+    return ImmutableMetricData.createDoubleGauge(
+        RESOURCE,
+        InstrumentationScopeInfo.create(scope),
+        name,
+        "",
+        "",
+        ImmutableGaugeData.create(
+            Collections.singletonList(
+                ImmutableDoublePointData.create(0, 1, Attributes.empty(), value))));
+  }
+
+  private static MetricData exponentialHistogram(String name, int scale) {
+    return ImmutableMetricData.createExponentialHistogram(
+        RESOURCE,
+        InstrumentationScopeInfo.create("scope"),
+        name,
+        "description",
+        "",
+        ImmutableExponentialHistogramData.create(
+            AggregationTemporality.CUMULATIVE,
+            Collections.singletonList(
+                ImmutableExponentialHistogramPointData.create(
+                    scale,
+                    10.5,
+                    1,
+                    false,
+                    0,
+                    false,
+                    0,
+                    ImmutableExponentialHistogramBuckets.create(scale, 2, Arrays.asList(1L, 2L)),
+                    ImmutableExponentialHistogramBuckets.create(
+                        scale, 0, Collections.emptyList()),
+                    0,
+                    1,
+                    Attributes.empty(),
+                    Collections.emptyList()))));
+  }
+}
@@ -365,6 +365,65 @@ class PrometheusHttpServerTest {
     assertThat(response.contentUtf8()).isEqualTo("Exporter is healthy.\n");
   }
 
+  @SuppressWarnings("resource")
+  @Test
+  void fetch_Streaming() throws IOException {
+    try (PrometheusHttpServer prometheusServer =
+        PrometheusHttpServer.builder()
+            .setHost("localhost")
+            .setPort(0)
+            .setStreamingEnabled(true)
+            .build()) {
+      prometheusServer.register(
+          new CollectionRegistration() {
+            @Override
+            public Collection<MetricData> collectAllMetrics() {
+              return metricData.get();
+            }
+          });
+      WebClient client =
+          WebClient.builder("http://localhost:" + prometheusServer.getAddress().getPort())
+              .decorator(RetryingClient.newDecorator(RetryRule.failsafe()))
+              .build();
+      String expected =
+          "# HELP grpc_name_unit_total long_description\n"
+              + "# TYPE grpc_name_unit_total counter\n"
+              + "grpc_name_unit_total{kp=\"vp\",otel_scope_name=\"grpc\",otel_scope_version=\"version\"} 5.0\n"
+              + "# HELP http_name_unit_total double_description\n"
+              + "# TYPE http_name_unit_total counter\n"
+              + "http_name_unit_total{kp=\"vp\",otel_scope_name=\"http\",otel_scope_version=\"version\"} 3.5\n"
+              + "# TYPE target_info gauge\n"
+              + "target_info{kr=\"vr\"} 1\n";
+
+      // Scrape twice, as the writer is reused across scrapes.
+      for (int i = 0; i < 2; i++) {
+        AggregatedHttpResponse response = client.get("/metrics").aggregate().join();
+        assertThat(response.status()).isEqualTo(HttpStatus.OK);
+        assertThat(response.headers().get(HttpHeaderNames.CONTENT_TYPE))
+            .isEqualTo("text/plain; version=0.0.4; charset=utf-8");
+        assertThat(response.contentUtf8()).isEqualTo(expected);
+      }
+
+      AggregatedHttpResponse compressed =
+          client
+              .execute(
+                  RequestHeaders.builder(HttpMethod.GET, "/")
+                      .add(HttpHeaderNames.ACCEPT_ENCODING, "gzip")
+                      .build())
+              .aggregate()
+              .join();
+      assertThat(compressed.headers().get(HttpHeaderNames.CONTENT_ENCODING)).isEqualTo("gzip");
+      GZIPInputStream gis =
+          new GZIPInputStream(new ByteArrayInputStream(compressed.content().array()));
+      assertThat(new String(ByteStreams.toByteArray(gis), StandardCharsets.UTF_8))
+          .isEqualTo(expected);
+
+      assertThat(client.head("/metrics").aggregate().join().content().isEmpty()).isTrue();
+      assertThat(client.get("/-/healthy").aggregate().join().contentUtf8())
+          .isEqualTo("Exporter is healthy.\n");
+    }
+  }
+
   @Test
   @SuppressLogger(PrometheusHttpServer.class)
   @SuppressLogger(Otel2PrometheusConverter.class)
@@ -10,38 +10,38 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Flow;
-import java.util.function.Supplier;
+import java.util.concurrent.atomic.AtomicInteger;
 
 final class BodyPublisher implements HttpRequest.BodyPublisher {
 
+  private final List<ByteBuffer> content;
   private final int length;
-  private final byte[] content;
-  private final Supplier<ByteBuffer> bufSupplier;
+  private final AtomicInteger openSubscriptions = new AtomicInteger();
+  private volatile boolean abandoned;
 
-  BodyPublisher(byte[] content, int length, Supplier<ByteBuffer> bufSupplier) {
+  BodyPublisher(List<ByteBuffer> content, int length) {
     this.content = content;
     this.length = length;
-    this.bufSupplier = bufSupplier;
   }
 
-  private List<ByteBuffer> copyToBuffers() {
-    int offset = 0;
-    int length = this.length;
-
-    List<ByteBuffer> buffers = new ArrayList<>();
-    while (length > 0) {
-      ByteBuffer b = bufSupplier.get();
-      b.clear();
-      int lengthToCopy = Math.min(b.capacity(), length);
-      b.put(content, offset, lengthToCopy);
-      offset += lengthToCopy;
-      length -= lengthToCopy;
-      b.flip();
-      buffers.add(b);
+  // Each subscription, e.g. a retry, reads the content from its start without copying it.
+  private List<ByteBuffer> duplicateBuffers() {
+    List<ByteBuffer> buffers = new ArrayList<>(content.size());
+    for (ByteBuffer buffer : content) {
+      buffers.add(buffer.duplicate());
     }
     return buffers;
   }
 
+  /**
+   * Returns whether every subscription so far has been given the whole content, so the client no
+   * longer reads it unless it subscribes again. Subscriptions cancelled or failed part way, e.g. by
+   * a timed out or interrupted send, may still have buffers being written.
+   */
+  boolean isFullyPublished() {
+    return !abandoned && openSubscriptions.get() == 0;
+  }
+
   @Override
   public long contentLength() {
     return length;
@@ -49,11 +49,12 @@ final class BodyPublisher implements HttpRequest.BodyPublisher {
 
   @Override
   public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
-    Subscription subscription = new Subscription(copyToBuffers(), subscriber);
+    openSubscriptions.incrementAndGet();
+    Subscription subscription = new Subscription(duplicateBuffers(), subscriber);
     subscriber.onSubscribe(subscription);
   }
 
-  private static class Subscription implements Flow.Subscription {
+  private class Subscription implements Flow.Subscription {
 
     private volatile boolean isCompleted;
     private final List<ByteBuffer> buffers;
@@ -72,6 +73,7 @@ final class BodyPublisher implements HttpRequest.BodyPublisher {
         return;
       }
       if (n <= 0) {
+        abandoned = true;
         subscriber.onError(new IllegalArgumentException("Subscription request must be >= 0"));
         isCompleted = true;
       } else {
@@ -81,6 +83,9 @@ final class BodyPublisher implements HttpRequest.BodyPublisher {
 
     @Override
     public void cancel() {
+      if (!isCompleted) {
+        abandoned = true;
+      }
       isCompleted = true;
     }
 
@@ -102,6 +107,7 @@ final class BodyPublisher implements HttpRequest.BodyPublisher {
       }
       if (offset >= buffers.size()) {
         isCompleted = true;
+        openSubscriptions.decrementAndGet();
         subscriber.onComplete();
       }
     }
@@ -9,12 +9,13 @@ import static java.util.stream.Collectors.joining;
 
 import io.opentelemetry.exporter.internal.compression.Compressor;
 import io.opentelemetry.exporter.internal.http.HttpSender;
+import io.opentelemetry.exporter.internal.marshal.DirectBufferOutputStream;
+import io.opentelemetry.exporter.internal.marshal.DirectBufferPool;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.common.export.ProxyOptions;
 import io.opentelemetry.sdk.common.export.RetryPolicy;
 import io.opentelemetry.sdk.internal.DaemonThreadFactory;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
@@ -23,7 +24,6 @@ import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
@@ -31,7 +31,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadLocalRandom;
@@ -56,11 +55,6 @@ public final class JdkHttpSender implements HttpSender {
 
   private static final Set<Integer> retryableStatusCodes = Set.of(429, 502, 503, 504);
 
-  private static final ThreadLocal<NoCopyByteArrayOutputStream> threadLocalBaos =
-      ThreadLocal.withInitial(NoCopyByteArrayOutputStream::new);
-  private static final ThreadLocal<ByteBufferPool> threadLocalByteBufPool =
-      ThreadLocal.withInitial(ByteBufferPool::new);
-
   private static final Logger logger = Logger.getLogger(JdkHttpSender.class.getName());
 
   private final boolean managedExecutor;
@@ -74,6 +68,7 @@ public final class JdkHttpSender implements HttpSender {
   private final Supplier<Map<String, List<String>>> headerSupplier;
   @Nullable private final RetryPolicy retryPolicy;
   private final Predicate<IOException> retryExceptionPredicate;
+  private final DirectBufferPool bufferPool = DirectBufferPool.create();
 
   // Visible for testing
   JdkHttpSender(
@@ -197,25 +192,44 @@ public final class JdkHttpSender implements HttpSender {
     }
     requestBuilder.header("Content-Type", contentType);
 
-    NoCopyByteArrayOutputStream os = threadLocalBaos.get();
-    os.reset();
-    if (compressor != null) {
-      requestBuilder.header("Content-Encoding", compressor.getEncoding());
-      try (OutputStream compressed = compressor.compress(os)) {
-        write(marshaler, compressed);
-      } catch (IOException e) {
-        throw new IllegalStateException(e);
+    // The request is serialized straight into pooled direct buffers, which the client writes to the
+    // socket as is. Only the uncompressed protobuf size is known up front.
+    DirectBufferOutputStream os =
+        bufferPool.newOutputStream(
+            compressor == null && !exportAsJson ? marshaler.getBinarySerializedSize() : 0);
+    BodyPublisher body = null;
+    boolean responded = false;
+    try {
+      if (compressor != null) {
+        requestBuilder.header("Content-Encoding", compressor.getEncoding());
+        try (OutputStream compressed = compressor.compress(os)) {
+          write(marshaler, compressed);
+        } catch (IOException e) {
+          throw new IllegalStateException(e);
+        }
+      } else {
+        write(marshaler, os);
       }
-    } else {
-      write(marshaler, os);
-    }
 
-    ByteBufferPool byteBufferPool = threadLocalByteBufPool.get();
-    requestBuilder.POST(new BodyPublisher(os.buf(), os.size(), byteBufferPool::getBuffer));
+      body = new BodyPublisher(os.toByteBuffers(), os.size());
+      requestBuilder.POST(body);
+      HttpResponse<byte[]> response = sendWithRetries(requestBuilder, startTimeNanos);
+      responded = true;
+      return response;
+    } finally {
+      // After a failed, timed out or interrupted send, the client may still be writing the
+      // segments, so they are left to the garbage collector instead of being reused.
+      if (body == null || (responded && body.isFullyPublished())) {
+        os.release();
+      }
+    }
+  }
 
+  private HttpResponse<byte[]> sendWithRetries(
+      HttpRequest.Builder requestBuilder, long startTimeNanos) throws IOException {
     // If no retry policy, short circuit
     if (retryPolicy == null) {
-      return sendRequest(requestBuilder, byteBufferPool);
+      return sendRequest(requestBuilder);
     }
 
     long attempt = 0;
@@ -246,7 +260,7 @@ public final class JdkHttpSender implements HttpSender {
       exception = null;
       requestBuilder.timeout(Duration.ofNanos(timeoutNanos - (System.nanoTime() - startTimeNanos)));
       try {
-        httpResponse = sendRequest(requestBuilder, byteBufferPool);
+        httpResponse = sendRequest(requestBuilder);
         boolean retryable = retryableStatusCodes.contains(httpResponse.statusCode());
         if (logger.isLoggable(Level.FINER)) {
           logger.log(
@@ -305,15 +319,13 @@ public final class JdkHttpSender implements HttpSender {
     }
   }
 
-  private HttpResponse<byte[]> sendRequest(
-      HttpRequest.Builder requestBuilder, ByteBufferPool byteBufferPool) throws IOException {
+  private HttpResponse<byte[]> sendRequest(HttpRequest.Builder requestBuilder)
+      throws IOException {
     try {
       return client.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
       throw new IllegalStateException(e);
-    } finally {
-      byteBufferPool.resetPool();
     }
   }
 
@@ -330,16 +342,6 @@ public final class JdkHttpSender implements HttpSender {
     return !(throwable instanceof SSLException);
   }
 
-  private static class NoCopyByteArrayOutputStream extends ByteArrayOutputStream {
-    NoCopyByteArrayOutputStream() {
-      super(retryableStatusCodes.size());
-    }
-
-    private byte[] buf() {
-      return buf;
-    }
-  }
-
   private static Response toHttpResponse(HttpResponse<byte[]> response) {
     return new Response() {
       @Override
@@ -359,32 +361,6 @@ public final class JdkHttpSender implements HttpSender {
     };
   }
 
-  private static class ByteBufferPool {
-
-    // TODO: make configurable?
-    private static final int BUF_SIZE = 16 * 1024;
-
-    private final ConcurrentLinkedQueue<ByteBuffer> pool = new ConcurrentLinkedQueue<>();
-    private final ConcurrentLinkedQueue<ByteBuffer> out = new ConcurrentLinkedQueue<>();
-
-    private ByteBuffer getBuffer() {
-      ByteBuffer buffer = pool.poll();
-      if (buffer == null) {
-        buffer = ByteBuffer.allocate(BUF_SIZE);
-      }
-      out.offer(buffer);
-      return buffer;
-    }
-
-    private void resetPool() {
-      ByteBuffer buf = out.poll();
-      while (buf != null) {
-        pool.offer(buf);
-        buf = out.poll();
-      }
-    }
-  }
-
   @Override
   public CompletableResultCode shutdown() {
     if (managedExecutor) {
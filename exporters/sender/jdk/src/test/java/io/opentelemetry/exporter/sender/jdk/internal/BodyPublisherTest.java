@@ -0,0 +1,82 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.sender.jdk.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Flow;
+import org.junit.jupiter.api.Test;
+
+class BodyPublisherTest {
+
+  private final BodyPublisher publisher =
+      new BodyPublisher(Arrays.asList(ByteBuffer.allocate(1), ByteBuffer.allocate(1)), 2);
+
+  @Test
+  void fullyPublished() {
+    assertThat(publisher.isFullyPublished()).isTrue();
+
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+    publisher.subscribe(subscriber);
+    assertThat(publisher.isFullyPublished()).isFalse();
+
+    subscriber.subscription.request(1);
+    assertThat(publisher.isFullyPublished()).isFalse();
+    subscriber.subscription.request(1);
+    assertThat(subscriber.received).hasSize(2);
+    assertThat(subscriber.completed).isTrue();
+    assertThat(publisher.isFullyPublished()).isTrue();
+
+    // Cancelling once completed, as the client may, doesn't abandon the content.
+    subscriber.subscription.cancel();
+    assertThat(publisher.isFullyPublished()).isTrue();
+  }
+
+  @Test
+  void cancelledPartWay() {
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+    publisher.subscribe(subscriber);
+    subscriber.subscription.request(1);
+    subscriber.subscription.cancel();
+    assertThat(publisher.isFullyPublished()).isFalse();
+
+    // A retry reading the whole content doesn't make the abandoned subscription safe to reuse.
+    RecordingSubscriber retry = new RecordingSubscriber();
+    publisher.subscribe(retry);
+    retry.subscription.request(Long.MAX_VALUE);
+    assertThat(retry.completed).isTrue();
+    assertThat(publisher.isFullyPublished()).isFalse();
+  }
+
+  private static class RecordingSubscriber implements Flow.Subscriber<ByteBuffer> {
+
+    private final List<ByteBuffer> received = new ArrayList<>();
+    private Flow.Subscription subscription;
+    private boolean completed;
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(ByteBuffer item) {
+      received.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {}
+
+    @Override
+    public void onComplete() {
+      completed = true;
+    }
+  }
+}
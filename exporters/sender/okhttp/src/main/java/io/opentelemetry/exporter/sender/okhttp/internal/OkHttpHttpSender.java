@@ -14,6 +14,7 @@ import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.common.export.ProxyOptions;
 import io.opentelemetry.sdk.common.export.RetryPolicy;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
@@ -35,7 +36,6 @@ import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.ResponseBody;
 import okio.BufferedSink;
-import okio.Okio;
 
 /**
  * {@link HttpSender} which is backed by OkHttp.
@@ -124,7 +124,7 @@ public final class OkHttpHttpSender implements HttpSender {
       headers.forEach(
           (key, values) -> values.forEach(value -> requestBuilder.addHeader(key, value)));
     }
-    RequestBody body = new RawRequestBody(marshaler, exportAsJson, contentLength, mediaType);
+    RawRequestBody body = new RawRequestBody(marshaler, exportAsJson, contentLength, mediaType);
     if (compressor != null) {
       requestBuilder.addHeader("Content-Encoding", compressor.getEncoding());
       requestBuilder.post(new CompressedRequestBody(compressor, body));
@@ -214,19 +214,23 @@ public final class OkHttpHttpSender implements HttpSender {
 
     @Override
     public void writeTo(BufferedSink bufferedSink) throws IOException {
+      writeTo(bufferedSink.outputStream());
+    }
+
+    private void writeTo(OutputStream outputStream) throws IOException {
       if (exportAsJson) {
-        marshaler.writeJsonTo(bufferedSink.outputStream());
+        marshaler.writeJsonTo(outputStream);
       } else {
-        marshaler.writeBinaryTo(bufferedSink.outputStream());
+        marshaler.writeBinaryTo(outputStream);
       }
     }
   }
 
   private static class CompressedRequestBody extends RequestBody {
     private final Compressor compressor;
-    private final RequestBody requestBody;
+    private final RawRequestBody requestBody;
 
-    private CompressedRequestBody(Compressor compressor, RequestBody requestBody) {
+    private CompressedRequestBody(Compressor compressor, RawRequestBody requestBody) {
       this.compressor = compressor;
       this.requestBody = requestBody;
     }
@@ -243,10 +247,10 @@ public final class OkHttpHttpSender implements HttpSender {
 
     @Override
     public void writeTo(BufferedSink bufferedSink) throws IOException {
-      BufferedSink compressedSink =
-          Okio.buffer(Okio.sink(compressor.compress(bufferedSink.outputStream())));
-      requestBody.writeTo(compressedSink);
-      compressedSink.close();
+      // Serialize straight into the compressing stream, without buffering in an intermediate sink.
+      OutputStream compressed = compressor.compress(bufferedSink.outputStream());
+      requestBody.writeTo(compressed);
+      compressed.close();
     }
   }
 }
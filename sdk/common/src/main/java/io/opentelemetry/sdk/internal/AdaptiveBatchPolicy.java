@@ -0,0 +1,158 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.internal;
+
+import io.opentelemetry.api.internal.GuardedBy;
+
+/**
+ * Adapts the size of a batch processor's batches and the delay between its exports to the rate at
+ * which items are queued and to the exporter's latency, aiming for items to be exported within a
+ * target latency of being queued.
+ *
+ * <p>The delay is what remains of the target latency after the exporter's average latency, so at
+ * low rates items wait as long as the target allows and are exported in fewer requests. The batch
+ * size is the number of items expected to be queued within that delay, so at high rates a batch is
+ * exported as soon as it fills rather than lagging behind. When a full batch is already queued
+ * once a batch is taken, the exporter isn't keeping up, and the batch size is doubled so each
+ * request exports more items. Both are kept within their bounds.
+ *
+ * <p>A processor's worker calls {@link #onBatch(int, int, long)} before exporting each scheduled
+ * batch, and {@link #onExportComplete(long)} when an export completes, which may be on another
+ * thread.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class AdaptiveBatchPolicy {
+
+  // Weight of the latest observation in the moving averages
+  private static final double SMOOTHING = 0.25;
+
+  private final int minBatchSize;
+  private final int maxBatchSize;
+  private final long minScheduleDelayNanos;
+  private final long maxScheduleDelayNanos;
+  private final long targetLatencyNanos;
+  private final Object lock = new Object();
+
+  @GuardedBy("lock")
+  private long lastBatchNanos;
+
+  @GuardedBy("lock")
+  private boolean hasBatched;
+
+  // Negative until observed
+  @GuardedBy("lock")
+  private double itemsPerNanoAverage = -1;
+
+  @GuardedBy("lock")
+  private double exportLatencyNanosAverage = -1;
+
+  private volatile int batchSize;
+  private volatile long scheduleDelayNanos;
+
+  /**
+   * Returns a new policy which starts with the maximum batch size, and the delay closest to the
+   * target latency.
+   *
+   * @throws IllegalArgumentException if a minimum exceeds its maximum, or a bound is not positive.
+   */
+  public AdaptiveBatchPolicy(
+      int minBatchSize,
+      int maxBatchSize,
+      long minScheduleDelayNanos,
+      long maxScheduleDelayNanos,
+      long targetLatencyNanos) {
+    if (minBatchSize <= 0 || minBatchSize > maxBatchSize) {
+      throw new IllegalArgumentException("minBatchSize must be positive and at most maxBatchSize");
+    }
+    if (minScheduleDelayNanos < 0 || minScheduleDelayNanos > maxScheduleDelayNanos) {
+      throw new IllegalArgumentException(
+          "minScheduleDelayNanos must be non-negative and at most maxScheduleDelayNanos");
+    }
+    if (targetLatencyNanos <= 0) {
+      throw new IllegalArgumentException("targetLatencyNanos must be positive");
+    }
+    this.minBatchSize = minBatchSize;
+    this.maxBatchSize = maxBatchSize;
+    this.minScheduleDelayNanos = minScheduleDelayNanos;
+    this.maxScheduleDelayNanos = maxScheduleDelayNanos;
+    this.targetLatencyNanos = targetLatencyNanos;
+    this.batchSize = maxBatchSize;
+    this.scheduleDelayNanos =
+        clamp(targetLatencyNanos, minScheduleDelayNanos, maxScheduleDelayNanos);
+  }
+
+  /** Returns the number of items to export once queued. */
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  /** Returns the delay after an export before exporting the items queued so far. */
+  public long getScheduleDelayNanos() {
+    return scheduleDelayNanos;
+  }
+
+  /**
+   * Records a batch of {@code items}, queued since the previous batch, being exported at {@code
+   * nowNanos} while {@code queued} more items remain queued, and adapts the batch size and delay.
+   */
+  public void onBatch(int items, int queued, long nowNanos) {
+    synchronized (lock) {
+      if (hasBatched) {
+        double itemsPerNano = (double) items / Math.max(1, nowNanos - lastBatchNanos);
+        itemsPerNanoAverage = average(itemsPerNanoAverage, itemsPerNano);
+      }
+      hasBatched = true;
+      lastBatchNanos = nowNanos;
+
+      long exportLatencyNanos =
+          exportLatencyNanosAverage < 0 ? 0 : (long) exportLatencyNanosAverage;
+      long delay =
+          clamp(
+              targetLatencyNanos - exportLatencyNanos,
+              minScheduleDelayNanos,
+              maxScheduleDelayNanos);
+      long size = itemsPerNanoAverage < 0 ? batchSize : Math.round(itemsPerNanoAverage * delay);
+      if (queued >= batchSize) {
+        size = Math.max(size, 2L * batchSize);
+      }
+      scheduleDelayNanos = delay;
+      batchSize = (int) clamp(size, minBatchSize, maxBatchSize);
+    }
+  }
+
+  /** Records an export having completed after {@code latencyNanos}. */
+  public void onExportComplete(long latencyNanos) {
+    synchronized (lock) {
+      exportLatencyNanosAverage = average(exportLatencyNanosAverage, latencyNanos);
+    }
+  }
+
+  private static double average(double average, double observation) {
+    return average < 0 ? observation : average + SMOOTHING * (observation - average);
+  }
+
+  private static long clamp(long value, long min, long max) {
+    return Math.max(min, Math.min(max, value));
+  }
+
+  @Override
+  public String toString() {
+    return "AdaptiveBatchPolicy{"
+        + "minBatchSize="
+        + minBatchSize
+        + ", maxBatchSize="
+        + maxBatchSize
+        + ", minScheduleDelayNanos="
+        + minScheduleDelayNanos
+        + ", maxScheduleDelayNanos="
+        + maxScheduleDelayNanos
+        + ", targetLatencyNanos="
+        + targetLatencyNanos
+        + '}';
+  }
+}
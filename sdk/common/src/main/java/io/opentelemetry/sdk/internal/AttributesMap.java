@@ -74,6 +74,13 @@ public final class AttributesMap extends HashMap<AttributeKey<?>, Object> implem
     put(key, value);
   }
 
+  /** Remove all attributes, and reset the total number of attributes added. */
+  @Override
+  public void clear() {
+    super.clear();
+    totalAddedValues = 0;
+  }
+
   /** Get the total number of attributes added, including those dropped for capacity limits. */
   public int getTotalAddedValues() {
     return totalAddedValues;
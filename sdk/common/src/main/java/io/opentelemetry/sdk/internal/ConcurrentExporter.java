@@ -0,0 +1,29 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.internal;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An exporter which can have several exports in flight at once. Callers such as the batch
+ * processors can start the next export without waiting for the previous one to complete, waiting
+ * instead for the exporter to signal it has capacity for another export.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface ConcurrentExporter {
+
+  /** Returns the number of exports the exporter can have in flight at once. */
+  int getMaxConcurrentExports();
+
+  /**
+   * Waits up to {@code timeout} for the exporter to have capacity for another export, returning
+   * whether it does. Exports started without capacity are still sent, so callers bounding the
+   * exports in flight must not start one when this returns {@code false}.
+   */
+  boolean awaitExportCapacity(long timeout, TimeUnit unit) throws InterruptedException;
+}
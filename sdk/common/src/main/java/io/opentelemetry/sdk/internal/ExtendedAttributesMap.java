@@ -68,6 +68,13 @@ public final class ExtendedAttributesMap extends HashMap<ExtendedAttributeKey<?>
     put(key, value);
   }
 
+  /** Remove all extended attributes, and reset the total number of attributes added. */
+  @Override
+  public void clear() {
+    super.clear();
+    totalAddedValues = 0;
+  }
+
   /**
    * Get the total number of extended attributes added, including those dropped for capacity limits.
    */
@@ -0,0 +1,270 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.internal;
+
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+
+/**
+ * A bounded queue for multiple producers and a single consumer, backed by a preallocated ring
+ * buffer.
+ *
+ * <p>A producer claims a slot with a single compare-and-set of the producer sequence and publishes
+ * its element by writing it to the slot. The consumer {@linkplain #drain(Consumer, int) drains}
+ * contiguous ranges of published slots, advancing the consumer sequence once per range. The number
+ * of queued elements is the difference of the two sequences, so no separate counter is maintained.
+ *
+ * <p>The consumer {@linkplain #await(int, long) waits} for elements with a {@link WaitStrategy}.
+ * Only with {@link WaitStrategy#PARK} do producers signal the consumer, and only while it is
+ * parked.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class RingBufferQueue<T> extends AbstractQueue<T> {
+
+  /** How the consumer waits for elements to be queued. */
+  public enum WaitStrategy {
+    /** Spin until elements are queued, for the lowest latency at the cost of a busy core. */
+    BUSY_SPIN,
+    /** Yield the core to other threads between checks for queued elements. */
+    YIELD,
+    /** Park until enough elements are queued, signalled by the producer queuing the last one. */
+    PARK
+  }
+
+  // Indexes in sequences, 64 bytes apart, so that the producer and consumer sequences live on their
+  // own cache lines and neither contends with other fields.
+  private static final int PRODUCER = 8;
+  private static final int CONSUMER = 16;
+
+  private final AtomicReferenceArray<T> buffer;
+  private final int mask;
+  private final int capacity;
+  private final WaitStrategy waitStrategy;
+  private final AtomicLongArray sequences = new AtomicLongArray(CONSUMER + 8);
+
+  // A possibly stale consumer sequence, so producers only read the consumer's cache line when the
+  // queue appears full. Staleness only makes the queue appear fuller than it is. Volatile, as any
+  // producer may update it, but only written when the queue appears full.
+  private volatile long consumerSequenceCache;
+
+  // When parked, the consumer sets this to the number of elements it waits for, and the producer
+  // reaching it unparks the consumer. Integer.MAX_VALUE means the consumer isn't parked.
+  private final AtomicInteger elementsNeeded = new AtomicInteger(Integer.MAX_VALUE);
+  @Nullable private volatile Thread consumerThread;
+  private volatile boolean wakeUpRequested;
+
+  /** Returns a new queue holding up to {@code capacity} elements. */
+  public RingBufferQueue(int capacity, WaitStrategy waitStrategy) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be positive");
+    }
+    this.buffer = new AtomicReferenceArray<>(Integer.highestOneBit(capacity * 2 - 1));
+    this.mask = buffer.length() - 1;
+    this.capacity = capacity;
+    this.waitStrategy = Objects.requireNonNull(waitStrategy, "waitStrategy");
+  }
+
+  /** Returns the {@link WaitStrategy} of the consumer. */
+  public WaitStrategy getWaitStrategy() {
+    return waitStrategy;
+  }
+
+  @Override
+  public boolean offer(T element) {
+    Objects.requireNonNull(element, "element");
+    long sequence;
+    do {
+      sequence = sequences.get(PRODUCER);
+      if (sequence - consumerSequenceCache >= capacity) {
+        long consumerSequence = sequences.get(CONSUMER);
+        consumerSequenceCache = consumerSequence;
+        if (sequence - consumerSequence >= capacity) {
+          return false;
+        }
+      }
+    } while (!sequences.compareAndSet(PRODUCER, sequence, sequence + 1));
+    buffer.lazySet((int) sequence & mask, element);
+
+    int needed = elementsNeeded.get();
+    if (needed != Integer.MAX_VALUE
+        && sequence + 1 - sequences.get(CONSUMER) >= needed
+        && elementsNeeded.compareAndSet(needed, Integer.MAX_VALUE)) {
+      unparkConsumer();
+    }
+    return true;
+  }
+
+  /** Must only be called by the consumer. */
+  @Override
+  @Nullable
+  public T poll() {
+    long sequence = sequences.get(CONSUMER);
+    int index = (int) sequence & mask;
+    T element = buffer.get(index);
+    if (element == null) {
+      // Empty, or the slot was claimed but isn't published yet
+      return null;
+    }
+    buffer.lazySet(index, null);
+    sequences.lazySet(CONSUMER, sequence + 1);
+    return element;
+  }
+
+  /** Must only be called by the consumer. */
+  @Override
+  @Nullable
+  public T peek() {
+    return buffer.get((int) sequences.get(CONSUMER) & mask);
+  }
+
+  /**
+   * Removes up to {@code limit} elements, in the order they were queued, and hands them to {@code
+   * consumer}, stopping early at a slot which was claimed but isn't published yet. Must only be
+   * called by the consumer.
+   *
+   * @return the number of elements removed.
+   */
+  public int drain(Consumer<? super T> consumer, int limit) {
+    long sequence = sequences.get(CONSUMER);
+    long available = Math.min(limit, sequences.get(PRODUCER) - sequence);
+    int drained = 0;
+    while (drained < available) {
+      int index = (int) (sequence + drained) & mask;
+      T element = buffer.get(index);
+      if (element == null) {
+        break;
+      }
+      buffer.lazySet(index, null);
+      consumer.accept(element);
+      drained++;
+    }
+    if (drained > 0) {
+      sequences.lazySet(CONSUMER, sequence + drained);
+    }
+    return drained;
+  }
+
+  /**
+   * Waits until at least {@code count} elements are queued, {@link System#nanoTime()} reaches
+   * {@code deadlineNanos}, or {@link #wakeUp()} is called. Must only be called by the consumer.
+   *
+   * @throws InterruptedException if the consumer is interrupted while waiting.
+   */
+  public void await(int count, long deadlineNanos) throws InterruptedException {
+    while (!wakeUpRequested && size() < count) {
+      if (Thread.interrupted()) {
+        throw new InterruptedException();
+      }
+      long remainingNanos = deadlineNanos - System.nanoTime();
+      if (remainingNanos <= 0) {
+        break;
+      }
+      switch (waitStrategy) {
+        case BUSY_SPIN:
+          break;
+        case YIELD:
+          Thread.yield();
+          break;
+        case PARK:
+          park(count, remainingNanos);
+          break;
+      }
+    }
+    wakeUpRequested = false;
+  }
+
+  private void park(int count, long remainingNanos) {
+    if (consumerThread == null) {
+      consumerThread = Thread.currentThread();
+    }
+    elementsNeeded.set(count);
+    // Check again, as a producer may have queued the last element needed before seeing the count
+    if (size() < count && !wakeUpRequested) {
+      LockSupport.parkNanos(this, remainingNanos);
+    }
+    elementsNeeded.set(Integer.MAX_VALUE);
+  }
+
+  /** Makes a consumer waiting in {@link #await(int, long)} return, or the next call return. */
+  public void wakeUp() {
+    wakeUpRequested = true;
+    unparkConsumer();
+  }
+
+  private void unparkConsumer() {
+    Thread thread = consumerThread;
+    if (thread != null) {
+      LockSupport.unpark(thread);
+    }
+  }
+
+  @Override
+  public int size() {
+    // Read the consumer sequence first, so the difference can't be negative
+    long consumer = sequences.get(CONSUMER);
+    long producer = sequences.get(PRODUCER);
+    return (int) Math.min(producer - consumer, capacity);
+  }
+
+  /**
+   * Returns a weakly consistent iterator over the elements queued when it is created, which may
+   * skip elements removed since and never returns elements queued since. It may be used by any
+   * thread, but doesn't support {@link Iterator#remove()}, so neither does {@link #remove(Object)}.
+   */
+  @Override
+  public Iterator<T> iterator() {
+    return new SnapshotIterator();
+  }
+
+  private final class SnapshotIterator implements Iterator<T> {
+    private long sequence = sequences.get(CONSUMER);
+    private final long end = sequences.get(PRODUCER);
+    @Nullable private T next = advance();
+
+    @Nullable
+    private T advance() {
+      while (sequence < end) {
+        long current = sequence++;
+        T element = buffer.get((int) current & mask);
+        // Once the consumer is past a slot, it may hold a later element queued after wrapping
+        long consumer = sequences.get(CONSUMER);
+        if (current < consumer) {
+          sequence = consumer;
+          continue;
+        }
+        if (element != null) {
+          return element;
+        }
+      }
+      return null;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next != null;
+    }
+
+    @Override
+    public T next() {
+      T element = next;
+      if (element == null) {
+        throw new NoSuchElementException();
+      }
+      next = advance();
+      return element;
+    }
+  }
+}
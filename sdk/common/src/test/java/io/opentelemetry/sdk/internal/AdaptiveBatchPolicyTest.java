@@ -0,0 +1,115 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveBatchPolicyTest {
+
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+  private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+  @Test
+  void invalidBounds() {
+    assertThatThrownBy(() -> new AdaptiveBatchPolicy(0, 512, 0, SECOND, SECOND))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new AdaptiveBatchPolicy(513, 512, 0, SECOND, SECOND))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new AdaptiveBatchPolicy(1, 512, -1, SECOND, SECOND))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new AdaptiveBatchPolicy(1, 512, 2 * SECOND, SECOND, SECOND))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new AdaptiveBatchPolicy(1, 512, 0, SECOND, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void initialValues() {
+    AdaptiveBatchPolicy policy = new AdaptiveBatchPolicy(1, 512, 0, 5 * SECOND, SECOND);
+
+    assertThat(policy.getBatchSize()).isEqualTo(512);
+    assertThat(policy.getScheduleDelayNanos()).isEqualTo(SECOND);
+
+    // The delay doesn't exceed its maximum for a longer target
+    policy = new AdaptiveBatchPolicy(1, 512, 0, SECOND, 5 * SECOND);
+    assertThat(policy.getScheduleDelayNanos()).isEqualTo(SECOND);
+  }
+
+  @Test
+  void batchSizeFollowsRate() {
+    AdaptiveBatchPolicy policy = new AdaptiveBatchPolicy(1, 512, 0, 5 * SECOND, SECOND);
+
+    // The first batch has no previous batch to measure the rate from
+    policy.onBatch(512, 0, 0);
+    assertThat(policy.getBatchSize()).isEqualTo(512);
+
+    // 20 items per second are queued within the one second delay
+    policy.onBatch(20, 0, SECOND);
+    assertThat(policy.getBatchSize()).isEqualTo(20);
+    assertThat(policy.getScheduleDelayNanos()).isEqualTo(SECOND);
+
+    // Nothing queued moves the average rate towards zero
+    policy.onBatch(0, 0, 2 * SECOND);
+    assertThat(policy.getBatchSize()).isEqualTo(15);
+    for (int i = 3; i < 50; i++) {
+      policy.onBatch(0, 0, i * SECOND);
+    }
+    assertThat(policy.getBatchSize()).isEqualTo(1);
+
+    // A rate beyond the maximum batch size per delay
+    long now = 49 * SECOND;
+    for (int i = 0; i < 50; i++) {
+      now += SECOND / 2;
+      policy.onBatch(512, 0, now);
+    }
+    assertThat(policy.getBatchSize()).isEqualTo(512);
+  }
+
+  @Test
+  void exportLatencyShortensDelay() {
+    AdaptiveBatchPolicy policy =
+        new AdaptiveBatchPolicy(1, 512, 100 * MILLISECOND, 5 * SECOND, SECOND);
+
+    policy.onExportComplete(300 * MILLISECOND);
+    policy.onBatch(10, 0, 0);
+    assertThat(policy.getScheduleDelayNanos()).isEqualTo(700 * MILLISECOND);
+
+    // Exports slower than the target latency leave the minimum delay
+    for (int i = 0; i < 20; i++) {
+      policy.onExportComplete(2 * SECOND);
+    }
+    policy.onBatch(10, 0, SECOND);
+    assertThat(policy.getScheduleDelayNanos()).isEqualTo(100 * MILLISECOND);
+  }
+
+  @Test
+  void backlogDoublesBatchSize() {
+    AdaptiveBatchPolicy policy = new AdaptiveBatchPolicy(1, 512, 0, 5 * SECOND, SECOND);
+    policy.onBatch(20, 0, 0);
+    policy.onBatch(20, 0, SECOND);
+    assertThat(policy.getBatchSize()).isEqualTo(20);
+
+    // A full batch is still queued at the same rate, so the exporter is falling behind
+    policy.onBatch(20, 20, 2 * SECOND);
+    assertThat(policy.getBatchSize()).isEqualTo(40);
+    policy.onBatch(20, 40, 3 * SECOND);
+    assertThat(policy.getBatchSize()).isEqualTo(80);
+
+    // Up to the maximum batch size
+    for (int i = 4; i < 10; i++) {
+      policy.onBatch(20, 512, i * SECOND);
+    }
+    assertThat(policy.getBatchSize()).isEqualTo(512);
+
+    // Once caught up, the batch size follows the rate again
+    policy.onBatch(20, 0, 10 * SECOND);
+    assertThat(policy.getBatchSize()).isEqualTo(20);
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class RingBufferQueueTest {
+
+  @Test
+  void invalidArguments() {
+    assertThatThrownBy(() -> new RingBufferQueue<>(0, RingBufferQueue.WaitStrategy.PARK))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new RingBufferQueue<>(1, null))
+        .isInstanceOf(NullPointerException.class);
+    RingBufferQueue<Integer> queue = new RingBufferQueue<>(1, RingBufferQueue.WaitStrategy.PARK);
+    assertThatThrownBy(() -> queue.offer(null)).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void offerUpToCapacity() {
+    // Not a power of two, so the ring buffer has more slots than the queue may hold
+    RingBufferQueue<Integer> queue = new RingBufferQueue<>(3, RingBufferQueue.WaitStrategy.PARK);
+
+    assertThat(queue.offer(1)).isTrue();
+    assertThat(queue.offer(2)).isTrue();
+    assertThat(queue.offer(3)).isTrue();
+    assertThat(queue.offer(4)).isFalse();
+    assertThat(queue.size()).isEqualTo(3);
+
+    assertThat(queue.peek()).isEqualTo(1);
+    assertThat(queue.poll()).isEqualTo(1);
+    assertThat(queue.offer(4)).isTrue();
+    assertThat(queue.poll()).isEqualTo(2);
+    assertThat(queue.poll()).isEqualTo(3);
+    assertThat(queue.poll()).isEqualTo(4);
+    assertThat(queue.poll()).isNull();
+    assertThat(queue.size()).isZero();
+  }
+
+  @Test
+  void drainInOrder() {
+    RingBufferQueue<Integer> queue = new RingBufferQueue<>(4, RingBufferQueue.WaitStrategy.PARK);
+    List<Integer> drained = new ArrayList<>();
+
+    // Wrap around the ring buffer several times
+    for (int i = 0; i < 10; i++) {
+      queue.offer(i * 3);
+      queue.offer(i * 3 + 1);
+      queue.offer(i * 3 + 2);
+      assertThat(queue.drain(drained::add, 2)).isEqualTo(2);
+      assertThat(queue.drain(drained::add, 2)).isEqualTo(1);
+      assertThat(queue.drain(drained::add, 2)).isZero();
+    }
+
+    assertThat(drained).hasSize(30);
+    for (int i = 0; i < 30; i++) {
+      assertThat(drained.get(i)).isEqualTo(i);
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(RingBufferQueue.WaitStrategy.class)
+  @Timeout(10)
+  void awaitUntilCountQueued(RingBufferQueue.WaitStrategy waitStrategy) throws Exception {
+    RingBufferQueue<Integer> queue = new RingBufferQueue<>(16, waitStrategy);
+    Thread producer =
+        new Thread(
+            () -> {
+              for (int i = 0; i < 8; i++) {
+                queue.offer(i);
+              }
+            });
+    producer.start();
+
+    queue.await(8, System.nanoTime() + TimeUnit.SECONDS.toNanos(30));
+
+    assertThat(queue.size()).isEqualTo(8);
+    producer.join();
+  }
+
+  @ParameterizedTest
+  @EnumSource(RingBufferQueue.WaitStrategy.class)
+  @Timeout(10)
+  void awaitUntilDeadline(RingBufferQueue.WaitStrategy waitStrategy) throws Exception {
+    RingBufferQueue<Integer> queue = new RingBufferQueue<>(16, waitStrategy);
+    queue.offer(1);
+
+    long start = System.nanoTime();
+    queue.await(2, start + TimeUnit.MILLISECONDS.toNanos(50));
+
+    assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+    assertThat(queue.size()).isEqualTo(1);
+  }
+
+  @ParameterizedTest
+  @EnumSource(RingBufferQueue.WaitStrategy.class)
+  @Timeout(10)
+  void wakeUp(RingBufferQueue.WaitStrategy waitStrategy) throws Exception {
+    RingBufferQueue<Integer> queue = new RingBufferQueue<>(16, waitStrategy);
+    Thread waker =
+        new Thread(
+            () -> {
+              try {
+                Thread.sleep(50);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              queue.wakeUp();
+            });
+    waker.start();
+
+    queue.await(1, System.nanoTime() + TimeUnit.SECONDS.toNanos(30));
+
+    assertThat(queue.size()).isZero();
+    waker.join();
+  }
+
+  @Test
+  @Timeout(30)
+  void concurrentProducers() throws Exception {
+    int producerCount = 4;
+    int elementsPerProducer = 100_000;
+    RingBufferQueue<Integer> queue = new RingBufferQueue<>(64, RingBufferQueue.WaitStrategy.PARK);
+    List<Thread> producers = new ArrayList<>();
+    for (int p = 0; p < producerCount; p++) {
+      int producerIndex = p;
+      Thread producer =
+          new Thread(
+              () -> {
+                for (int i = 0; i < elementsPerProducer; i++) {
+                  while (!queue.offer(producerIndex)) {
+                    Thread.yield();
+                  }
+                }
+              });
+      producers.add(producer);
+      producer.start();
+    }
+
+    int[] counts = new int[producerCount];
+    int total = 0;
+    while (total < producerCount * elementsPerProducer) {
+      queue.await(1, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(10));
+      total += queue.drain(producerIndex -> counts[producerIndex]++, 16);
+    }
+
+    for (Thread producer : producers) {
+      producer.join();
+    }
+    assertThat(counts).containsOnly(elementsPerProducer);
+    assertThat(queue.size()).isZero();
+  }
+
+  @Test
+  void iterator() {
+    RingBufferQueue<Integer> queue = new RingBufferQueue<>(4, RingBufferQueue.WaitStrategy.PARK);
+    assertThat(queue.iterator()).isExhausted();
+    assertThat(queue).hasToString("[]");
+
+    // Wrap around the ring buffer
+    for (int i = 0; i < 4; i++) {
+      queue.offer(i);
+    }
+    queue.drain(unused -> {}, 2);
+    queue.offer(4);
+    queue.offer(5);
+
+    assertThat(queue).containsExactly(2, 3, 4, 5);
+    assertThat(queue.contains(4)).isTrue();
+    assertThat(queue.contains(1)).isFalse();
+    assertThat(queue).hasToString("[2, 3, 4, 5]");
+
+    // The iterator looks up its first element when created. It then skips elements removed since,
+    // even where their slots hold elements queued since.
+    Iterator<Integer> iterator = queue.iterator();
+    assertThat(queue.poll()).isEqualTo(2);
+    assertThat(queue.poll()).isEqualTo(3);
+    queue.offer(6);
+    queue.offer(7);
+    assertThat(iterator).toIterable().containsExactly(2, 4, 5);
+    assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+    assertThatThrownBy(() -> queue.remove(4)).isInstanceOf(UnsupportedOperationException.class);
+
+    queue.clear();
+    assertThat(queue).isEmpty();
+  }
+}
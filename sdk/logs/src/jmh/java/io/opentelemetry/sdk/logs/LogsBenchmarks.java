@@ -7,21 +7,32 @@ package io.opentelemetry.sdk.logs;
 
 import static java.util.stream.Collectors.joining;
 
+import io.opentelemetry.api.logs.Logger;
 import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.export.BatchLogRecordProcessor;
+import io.opentelemetry.sdk.logs.export.LogRecordExporter;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.AuxCounters;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 
@@ -33,6 +44,7 @@ import org.openjdk.jmh.annotations.Warmup;
 public class LogsBenchmarks {
 
   private static final Random RANDOM = new Random();
+  private static final int BATCH_THREADS = 8;
 
   @State(Scope.Benchmark)
   public static class BenchmarkState {
@@ -78,4 +90,93 @@ public class LogsBenchmarks {
         .setSeverity(Severity.DEBUG)
         .emit();
   }
+
+  @State(Scope.Benchmark)
+  public static class BatchBenchmarkState {
+
+    @Param({"1", "2", "4", "8"})
+    private int shardCount;
+
+    private final LongAdder emittedLogs = new LongAdder();
+    private CountingLogRecordExporter exporter;
+    private BatchLogRecordProcessor processor;
+    private Logger logger;
+    private long exportedLogs;
+    private long droppedLogs;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+      exporter = new CountingLogRecordExporter();
+      processor = BatchLogRecordProcessor.builder(exporter).setShardCount(shardCount).build();
+      logger = SdkLoggerProvider.builder().addLogRecordProcessor(processor).build().get("logger");
+    }
+
+    @TearDown(Level.Iteration)
+    public void recordCounts() {
+      processor.shutdown().join(10, TimeUnit.SECONDS);
+      exportedLogs = exporter.exportedLogs.sum();
+      droppedLogs = emittedLogs.sumThenReset() - exportedLogs;
+    }
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class BatchThreadState {
+    BatchBenchmarkState benchmarkState;
+
+    @TearDown(Level.Iteration)
+    public void recordCounts(BatchBenchmarkState benchmarkState) {
+      this.benchmarkState = benchmarkState;
+    }
+
+    // Each thread reports its share, as counters are summed across threads.
+    public long exportedLogs() {
+      return benchmarkState.exportedLogs / BATCH_THREADS;
+    }
+
+    public long droppedLogs() {
+      return benchmarkState.droppedLogs / BATCH_THREADS;
+    }
+  }
+
+  /**
+   * Measures the sustained rate of logs emitted through a {@link BatchLogRecordProcessor} by
+   * several threads, and the rates at which they're exported and dropped, by shard count.
+   */
+  @Benchmark
+  @Threads(BATCH_THREADS)
+  @Measurement(iterations = 5, time = 5)
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public void emitBatchedLog(
+      BatchBenchmarkState benchmarkState,
+      @SuppressWarnings("unused") BatchThreadState threadState) {
+    benchmarkState
+        .logger
+        .logRecordBuilder()
+        .setBody("log message body")
+        .setSeverity(Severity.DEBUG)
+        .emit();
+    benchmarkState.emittedLogs.increment();
+  }
+
+  private static class CountingLogRecordExporter implements LogRecordExporter {
+    private final LongAdder exportedLogs = new LongAdder();
+
+    @Override
+    public CompletableResultCode export(Collection<LogRecordData> logs) {
+      exportedLogs.add(logs.size());
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      return CompletableResultCode.ofSuccess();
+    }
+  }
 }
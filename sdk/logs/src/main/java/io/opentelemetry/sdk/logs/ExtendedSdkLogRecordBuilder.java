@@ -14,6 +14,7 @@ import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.internal.ExtendedAttributesMap;
+import io.opentelemetry.sdk.logs.internal.ExtendedReadWriteLogRecord;
 import java.time.Instant;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
@@ -110,6 +111,11 @@ final class ExtendedSdkLogRecordBuilder extends SdkLogRecordBuilder
     if (key == null || key.getKey().isEmpty() || value == null) {
       return this;
     }
+    LogRecordPool logRecordPool = loggerSharedState.getLogRecordPool();
+    if (logRecordPool != null) {
+      ((ExtendedReadWriteLogRecord) pooledLogRecord(logRecordPool)).setAttribute(key, value);
+      return this;
+    }
     if (this.extendedAttributes == null) {
       this.extendedAttributes =
           ExtendedAttributesMap.create(
@@ -137,6 +143,11 @@ final class ExtendedSdkLogRecordBuilder extends SdkLogRecordBuilder
         this.observedTimestampEpochNanos == 0
             ? this.loggerSharedState.getClock().now()
             : this.observedTimestampEpochNanos;
+    LogRecordPool logRecordPool = loggerSharedState.getLogRecordPool();
+    if (logRecordPool != null) {
+      emitPooled(logRecordPool, context, observedTimestampEpochNanos);
+      return;
+    }
     loggerSharedState
         .getLogRecordProcessor()
         .onEmit(
@@ -28,4 +28,8 @@ final class IncubatingUtil {
       LoggerSharedState loggerSharedState, InstrumentationScopeInfo instrumentationScopeInfo) {
     return new ExtendedSdkLogRecordBuilder(loggerSharedState, instrumentationScopeInfo);
   }
+
+  static RecyclableSdkLogRecord createRecyclableLogRecord(LogRecordPool pool, int stripe) {
+    return new RecyclableExtendedSdkLogRecord(pool, stripe);
+  }
 }
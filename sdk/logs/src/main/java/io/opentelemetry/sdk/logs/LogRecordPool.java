@@ -0,0 +1,110 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs;
+
+import io.opentelemetry.api.internal.GuardedBy;
+import javax.annotation.Nullable;
+
+/**
+ * A bounded pool of {@link RecyclableSdkLogRecord}s.
+ *
+ * <p>The pool is divided into stripes, each a small stack guarded by its own lock. A thread
+ * acquires log records from the stripe its thread ID hashes to, and each log record is recycled to
+ * the stripe it was first acquired from, so a stripe is usually only contended by the threads
+ * emitting to it and the thread releasing their log records, such as a batch processor's worker.
+ * When its stripe is empty, a new log record is allocated, and a log record recycled to a full
+ * stripe is left to the garbage collector, which bounds the memory retained by the pool.
+ *
+ * <p>When the incubator API is available, loggers fill {@link RecyclableExtendedSdkLogRecord}s,
+ * which support extended attributes.
+ */
+final class LogRecordPool {
+
+  private final Stripe[] stripes;
+  private final int mask;
+  private final boolean extended;
+
+  LogRecordPool(int size) {
+    this(size, /* extended= */ false);
+  }
+
+  LogRecordPool(int size, boolean extended) {
+    this.extended = extended;
+    int stripeCount =
+        Math.min(
+            Integer.highestOneBit(size),
+            Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1));
+    int stripeSize = size / stripeCount;
+    this.stripes = new Stripe[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = new Stripe(stripeSize);
+    }
+    this.mask = stripeCount - 1;
+  }
+
+  /** Returns a log record holding a single reference, to be filled for a new log. */
+  RecyclableSdkLogRecord acquire(LogLimits logLimits) {
+    int stripe = stripeForCurrentThread();
+    RecyclableSdkLogRecord logRecord = stripes[stripe].poll();
+    if (logRecord == null) {
+      logRecord =
+          extended
+              ? IncubatingUtil.createRecyclableLogRecord(this, stripe)
+              : new RecyclableSdkLogRecord(this, stripe);
+    }
+    logRecord.reuse(logLimits);
+    return logRecord;
+  }
+
+  /** Returns a released log record to the pool, unless its stripe is full. */
+  void recycle(RecyclableSdkLogRecord logRecord) {
+    stripes[logRecord.getStripe()].offer(logRecord);
+  }
+
+  private int stripeForCurrentThread() {
+    if (mask == 0) {
+      return 0;
+    }
+    long threadId = Thread.currentThread().getId();
+    // Spread sequential thread IDs over the stripes
+    int hash = (int) (threadId ^ (threadId >>> 32)) * 0x9E3779B9;
+    return (hash ^ (hash >>> 16)) & mask;
+  }
+
+  private static final class Stripe {
+    private final Object lock = new Object();
+
+    @GuardedBy("lock")
+    private final RecyclableSdkLogRecord[] logRecords;
+
+    @GuardedBy("lock")
+    private int size;
+
+    private Stripe(int capacity) {
+      this.logRecords = new RecyclableSdkLogRecord[capacity];
+    }
+
+    @Nullable
+    private RecyclableSdkLogRecord poll() {
+      synchronized (lock) {
+        if (size == 0) {
+          return null;
+        }
+        RecyclableSdkLogRecord logRecord = logRecords[--size];
+        logRecords[size] = null;
+        return logRecord;
+      }
+    }
+
+    private void offer(RecyclableSdkLogRecord logRecord) {
+      synchronized (lock) {
+        if (size < logRecords.length) {
+          logRecords[size++] = logRecord;
+        }
+      }
+    }
+  }
+}
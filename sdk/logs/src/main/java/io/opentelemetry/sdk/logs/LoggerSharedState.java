@@ -23,6 +23,7 @@ final class LoggerSharedState {
   private final LogRecordProcessor logRecordProcessor;
   private final Clock clock;
   private final ExceptionAttributeResolver exceptionAttributeResolver;
+  @Nullable private final LogRecordPool logRecordPool;
   @Nullable private volatile CompletableResultCode shutdownResult = null;
 
   LoggerSharedState(
@@ -30,12 +31,14 @@ final class LoggerSharedState {
       Supplier<LogLimits> logLimitsSupplier,
       LogRecordProcessor logRecordProcessor,
       Clock clock,
-      ExceptionAttributeResolver exceptionAttributeResolver) {
+      ExceptionAttributeResolver exceptionAttributeResolver,
+      @Nullable LogRecordPool logRecordPool) {
     this.resource = resource;
     this.logLimitsSupplier = logLimitsSupplier;
     this.logRecordProcessor = logRecordProcessor;
     this.clock = clock;
     this.exceptionAttributeResolver = exceptionAttributeResolver;
+    this.logRecordPool = logRecordPool;
   }
 
   Resource getResource() {
@@ -58,6 +61,12 @@ final class LoggerSharedState {
     return exceptionAttributeResolver;
   }
 
+  /** Returns the pool emitted log records are drawn from, or {@code null} if they aren't pooled. */
+  @Nullable
+  LogRecordPool getLogRecordPool() {
+    return logRecordPool;
+  }
+
   boolean hasBeenShutdown() {
     return shutdownResult != null;
   }
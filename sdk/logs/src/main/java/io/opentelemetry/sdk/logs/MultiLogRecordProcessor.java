@@ -7,6 +7,7 @@ package io.opentelemetry.sdk.logs;
 
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.logs.internal.ExtendedLogRecordProcessor;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -16,7 +17,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * Implementation of {@link LogRecordProcessor} that forwards all logs to a list of {@link
  * LogRecordProcessor}s.
  */
-final class MultiLogRecordProcessor implements LogRecordProcessor {
+final class MultiLogRecordProcessor implements ExtendedLogRecordProcessor {
 
   private final List<LogRecordProcessor> logRecordProcessors;
   private final AtomicBoolean isShutdown = new AtomicBoolean(false);
@@ -40,6 +41,17 @@ final class MultiLogRecordProcessor implements LogRecordProcessor {
     }
   }
 
+  @Override
+  public boolean acceptsRecycledLogRecords() {
+    for (LogRecordProcessor logRecordProcessor : logRecordProcessors) {
+      if (!(logRecordProcessor instanceof ExtendedLogRecordProcessor)
+          || !((ExtendedLogRecordProcessor) logRecordProcessor).acceptsRecycledLogRecords()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   @Override
   public CompletableResultCode shutdown() {
     if (isShutdown.getAndSet(true)) {
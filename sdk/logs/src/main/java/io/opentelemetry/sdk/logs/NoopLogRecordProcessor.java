@@ -6,8 +6,9 @@
 package io.opentelemetry.sdk.logs;
 
 import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.logs.internal.ExtendedLogRecordProcessor;
 
-final class NoopLogRecordProcessor implements LogRecordProcessor {
+final class NoopLogRecordProcessor implements ExtendedLogRecordProcessor {
   private static final NoopLogRecordProcessor INSTANCE = new NoopLogRecordProcessor();
 
   static LogRecordProcessor getInstance() {
@@ -19,6 +20,11 @@ final class NoopLogRecordProcessor implements LogRecordProcessor {
   @Override
   public void onEmit(Context context, ReadWriteLogRecord logRecord) {}
 
+  @Override
+  public boolean acceptsRecycledLogRecords() {
+    return true;
+  }
+
   @Override
   public String toString() {
     return "NoopLogRecordProcessor";
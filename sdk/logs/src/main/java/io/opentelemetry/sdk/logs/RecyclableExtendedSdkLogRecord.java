@@ -0,0 +1,159 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.incubator.common.ExtendedAttributeKey;
+import io.opentelemetry.api.incubator.common.ExtendedAttributes;
+import io.opentelemetry.api.internal.GuardedBy;
+import io.opentelemetry.sdk.internal.ExtendedAttributesMap;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.data.internal.ExtendedLogRecordData;
+import io.opentelemetry.sdk.logs.internal.ExtendedReadWriteLogRecord;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A {@link RecyclableSdkLogRecord} filled by {@link ExtendedSdkLogRecordBuilder}, which keeps its
+ * attributes in a reused {@link ExtendedAttributesMap}.
+ */
+@ThreadSafe
+final class RecyclableExtendedSdkLogRecord extends RecyclableSdkLogRecord
+    implements ExtendedReadWriteLogRecord {
+
+  private final LogRecordData data = new ExtendedDataView();
+
+  @GuardedBy("lock")
+  @Nullable
+  private ExtendedAttributesMap extendedAttributes;
+
+  RecyclableExtendedSdkLogRecord(LogRecordPool pool, int stripe) {
+    super(pool, stripe);
+  }
+
+  @Override
+  @GuardedBy("lock")
+  void discardAttributes() {
+    extendedAttributes = null;
+  }
+
+  @Override
+  @GuardedBy("lock")
+  void clearAttributes() {
+    if (extendedAttributes != null) {
+      extendedAttributes.clear();
+    }
+  }
+
+  @Override
+  public LogRecordData asLogRecordData() {
+    return data;
+  }
+
+  @Override
+  public <T> RecyclableExtendedSdkLogRecord setAttribute(AttributeKey<T> key, T value) {
+    if (key == null || key.getKey().isEmpty() || value == null) {
+      return this;
+    }
+    return setAttribute(ExtendedAttributeKey.fromAttributeKey(key), value);
+  }
+
+  @Override
+  public <T> RecyclableExtendedSdkLogRecord setAttribute(ExtendedAttributeKey<T> key, T value) {
+    if (key == null || key.getKey().isEmpty() || value == null) {
+      return this;
+    }
+    synchronized (lock) {
+      if (extendedAttributes == null) {
+        extendedAttributes =
+            ExtendedAttributesMap.create(
+                logLimits.getMaxNumberOfAttributes(), logLimits.getMaxAttributeValueLength());
+      }
+      extendedAttributes.put(key, value);
+    }
+    return this;
+  }
+
+  @Override
+  public ExtendedLogRecordData toLogRecordData() {
+    synchronized (lock) {
+      return ExtendedSdkLogRecordData.create(
+          resource,
+          instrumentationScopeInfo,
+          eventName,
+          timestampEpochNanos,
+          observedTimestampEpochNanos,
+          spanContext,
+          severity,
+          severityText,
+          body,
+          getExtendedAttributes(),
+          totalAttributeCount());
+    }
+  }
+
+  @Override
+  int totalAttributeCount() {
+    synchronized (lock) {
+      return extendedAttributes == null ? 0 : extendedAttributes.getTotalAddedValues();
+    }
+  }
+
+  @Override
+  Attributes viewAttributes() {
+    return viewExtendedAttributes().asAttributes();
+  }
+
+  private ExtendedAttributes viewExtendedAttributes() {
+    synchronized (lock) {
+      return extendedAttributes == null || extendedAttributes.isEmpty()
+          ? ExtendedAttributes.empty()
+          : extendedAttributes;
+    }
+  }
+
+  @Override
+  public Attributes getAttributes() {
+    return getExtendedAttributes().asAttributes();
+  }
+
+  @Nullable
+  @Override
+  public <T> T getAttribute(AttributeKey<T> key) {
+    return getAttribute(ExtendedAttributeKey.fromAttributeKey(key));
+  }
+
+  @Nullable
+  @Override
+  public <T> T getAttribute(ExtendedAttributeKey<T> key) {
+    synchronized (lock) {
+      if (extendedAttributes == null || extendedAttributes.isEmpty()) {
+        return null;
+      }
+      return extendedAttributes.get(key);
+    }
+  }
+
+  @Override
+  public ExtendedAttributes getExtendedAttributes() {
+    synchronized (lock) {
+      if (extendedAttributes == null || extendedAttributes.isEmpty()) {
+        return ExtendedAttributes.empty();
+      }
+      return extendedAttributes.immutableCopy();
+    }
+  }
+
+  /** Reads the log record in place, including its extended attributes. */
+  private final class ExtendedDataView extends DataView implements ExtendedLogRecordData {
+
+    @Override
+    public ExtendedAttributes getExtendedAttributes() {
+      return viewExtendedAttributes();
+    }
+  }
+}
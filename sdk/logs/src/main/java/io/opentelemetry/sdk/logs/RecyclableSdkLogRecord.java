@@ -0,0 +1,366 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.Value;
+import io.opentelemetry.api.internal.GuardedBy;
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.internal.AttributesMap;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.internal.RecyclableLogRecord;
+import io.opentelemetry.sdk.resources.Resource;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A {@link RecyclableLogRecord} of a {@link LogRecordPool}, which {@link SdkLogRecordBuilder}
+ * fills in place rather than allocating a {@link SdkReadWriteLogRecord}. Its attributes map and
+ * {@link LogRecordData} view are allocated once and reused by every log record it holds.
+ */
+@ThreadSafe
+class RecyclableSdkLogRecord implements RecyclableLogRecord {
+
+  private static final AtomicIntegerFieldUpdater<RecyclableSdkLogRecord> REF_COUNT =
+      AtomicIntegerFieldUpdater.newUpdater(RecyclableSdkLogRecord.class, "refCount");
+
+  private final LogRecordPool pool;
+  private final int stripe;
+  private final LogRecordData data = new DataView();
+  protected final Object lock = new Object();
+
+  private volatile int refCount;
+
+  // Written by the emitting thread before the log record is passed to the processors, and cleared
+  // once it is released.
+  protected Resource resource = Resource.empty();
+  protected InstrumentationScopeInfo instrumentationScopeInfo = InstrumentationScopeInfo.empty();
+  protected long timestampEpochNanos;
+  protected long observedTimestampEpochNanos;
+  protected SpanContext spanContext = SpanContext.getInvalid();
+  protected Severity severity = Severity.UNDEFINED_SEVERITY_NUMBER;
+  @Nullable protected String severityText;
+  @Nullable protected Value<?> body;
+  @Nullable protected String eventName;
+
+  @GuardedBy("lock")
+  protected LogLimits logLimits = LogLimits.getDefault();
+
+  @GuardedBy("lock")
+  @Nullable
+  private AttributesMap attributes;
+
+  RecyclableSdkLogRecord(LogRecordPool pool, int stripe) {
+    this.pool = pool;
+    this.stripe = stripe;
+  }
+
+  /** Returns the stripe of the {@link LogRecordPool} this log record is recycled to. */
+  int getStripe() {
+    return stripe;
+  }
+
+  /**
+   * Prepares the log record to be filled for a new log, holding a single reference. Its attributes
+   * are written directly by the {@link SdkLogRecordBuilder} it is acquired for.
+   */
+  void reuse(LogLimits logLimits) {
+    synchronized (lock) {
+      // The attributes map enforces the limits it was created with
+      if (this.logLimits.getMaxNumberOfAttributes() != logLimits.getMaxNumberOfAttributes()
+          || this.logLimits.getMaxAttributeValueLength()
+              != logLimits.getMaxAttributeValueLength()) {
+        discardAttributes();
+      }
+      this.logLimits = logLimits;
+    }
+    refCount = 1;
+  }
+
+  /** Drops the attributes map, so it is created again with the current limits. */
+  @GuardedBy("lock")
+  void discardAttributes() {
+    attributes = null;
+  }
+
+  /** Removes the attributes of a released log record, keeping the map for the next log. */
+  @GuardedBy("lock")
+  void clearAttributes() {
+    if (attributes != null) {
+      attributes.clear();
+    }
+  }
+
+  /** Sets the fields of the log record, other than its attributes. */
+  void initialize(
+      Resource resource,
+      InstrumentationScopeInfo instrumentationScopeInfo,
+      long timestampEpochNanos,
+      long observedTimestampEpochNanos,
+      SpanContext spanContext,
+      Severity severity,
+      @Nullable String severityText,
+      @Nullable Value<?> body,
+      @Nullable String eventName) {
+    this.resource = resource;
+    this.instrumentationScopeInfo = instrumentationScopeInfo;
+    this.timestampEpochNanos = timestampEpochNanos;
+    this.observedTimestampEpochNanos = observedTimestampEpochNanos;
+    this.spanContext = spanContext;
+    this.severity = severity;
+    this.severityText = severityText;
+    this.body = body;
+    this.eventName = eventName;
+  }
+
+  @Override
+  public void retain() {
+    REF_COUNT.incrementAndGet(this);
+  }
+
+  @Override
+  public void release() {
+    int remaining = REF_COUNT.decrementAndGet(this);
+    if (remaining > 0) {
+      return;
+    }
+    if (remaining < 0) {
+      throw new IllegalStateException("Log record released more often than retained");
+    }
+    // Drop references to the log's values so they can be collected while the record is pooled
+    severityText = null;
+    body = null;
+    eventName = null;
+    synchronized (lock) {
+      clearAttributes();
+    }
+    pool.recycle(this);
+  }
+
+  @Override
+  public LogRecordData asLogRecordData() {
+    return data;
+  }
+
+  @Override
+  public <T> ReadWriteLogRecord setAttribute(AttributeKey<T> key, T value) {
+    if (key == null || key.getKey().isEmpty() || value == null) {
+      return this;
+    }
+    synchronized (lock) {
+      if (attributes == null) {
+        attributes =
+            AttributesMap.create(
+                logLimits.getMaxNumberOfAttributes(), logLimits.getMaxAttributeValueLength());
+      }
+      attributes.put(key, value);
+    }
+    return this;
+  }
+
+  @Override
+  public LogRecordData toLogRecordData() {
+    synchronized (lock) {
+      return SdkLogRecordData.create(
+          resource,
+          instrumentationScopeInfo,
+          timestampEpochNanos,
+          observedTimestampEpochNanos,
+          spanContext,
+          severity,
+          severityText,
+          body,
+          getImmutableAttributes(),
+          totalAttributeCount(),
+          eventName);
+    }
+  }
+
+  int totalAttributeCount() {
+    synchronized (lock) {
+      return attributes == null ? 0 : attributes.getTotalAddedValues();
+    }
+  }
+
+  /** Returns the attributes read in place by the {@link #asLogRecordData()} view. */
+  Attributes viewAttributes() {
+    synchronized (lock) {
+      return attributes == null || attributes.isEmpty() ? Attributes.empty() : attributes;
+    }
+  }
+
+  private Attributes getImmutableAttributes() {
+    synchronized (lock) {
+      if (attributes == null || attributes.isEmpty()) {
+        return Attributes.empty();
+      }
+      return attributes.immutableCopy();
+    }
+  }
+
+  @Override
+  public InstrumentationScopeInfo getInstrumentationScopeInfo() {
+    return instrumentationScopeInfo;
+  }
+
+  @Override
+  public long getTimestampEpochNanos() {
+    return timestampEpochNanos;
+  }
+
+  @Override
+  public long getObservedTimestampEpochNanos() {
+    return observedTimestampEpochNanos;
+  }
+
+  @Override
+  public SpanContext getSpanContext() {
+    return spanContext;
+  }
+
+  @Override
+  public Severity getSeverity() {
+    return severity;
+  }
+
+  @Nullable
+  @Override
+  public String getSeverityText() {
+    return severityText;
+  }
+
+  @Nullable
+  @Override
+  public Value<?> getBodyValue() {
+    return body;
+  }
+
+  @Override
+  public Attributes getAttributes() {
+    return getImmutableAttributes();
+  }
+
+  @Override
+  @Nullable
+  public String getEventName() {
+    return eventName;
+  }
+
+  @Nullable
+  @Override
+  public <T> T getAttribute(AttributeKey<T> key) {
+    synchronized (lock) {
+      if (attributes == null || attributes.isEmpty()) {
+        return null;
+      }
+      return attributes.get(key);
+    }
+  }
+
+  /**
+   * Reads the log record in place. Its attributes are the log record's attributes map, which isn't
+   * written to once the log record has been emitted, until it is released.
+   */
+  class DataView implements LogRecordData {
+
+    @Override
+    public Resource getResource() {
+      return resource;
+    }
+
+    @Override
+    public InstrumentationScopeInfo getInstrumentationScopeInfo() {
+      return instrumentationScopeInfo;
+    }
+
+    @Override
+    public long getTimestampEpochNanos() {
+      return timestampEpochNanos;
+    }
+
+    @Override
+    public long getObservedTimestampEpochNanos() {
+      return observedTimestampEpochNanos;
+    }
+
+    @Override
+    public SpanContext getSpanContext() {
+      return spanContext;
+    }
+
+    @Override
+    public Severity getSeverity() {
+      return severity;
+    }
+
+    @Nullable
+    @Override
+    public String getSeverityText() {
+      return severityText;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation") // Implementation of deprecated method
+    public io.opentelemetry.sdk.logs.data.Body getBody() {
+      Value<?> valueBody = body;
+      return valueBody == null
+          ? io.opentelemetry.sdk.logs.data.Body.empty()
+          : io.opentelemetry.sdk.logs.data.Body.string(valueBody.asString());
+    }
+
+    @Nullable
+    @Override
+    public Value<?> getBodyValue() {
+      return body;
+    }
+
+    @Override
+    public Attributes getAttributes() {
+      return viewAttributes();
+    }
+
+    @Override
+    public int getTotalAttributeCount() {
+      return totalAttributeCount();
+    }
+
+    @Nullable
+    @Override
+    public String getEventName() {
+      return eventName;
+    }
+
+    @Override
+    public String toString() {
+      return "RecyclableLogRecordData{"
+          + "resource="
+          + resource
+          + ", instrumentationScopeInfo="
+          + instrumentationScopeInfo
+          + ", timestampEpochNanos="
+          + timestampEpochNanos
+          + ", observedTimestampEpochNanos="
+          + observedTimestampEpochNanos
+          + ", spanContext="
+          + spanContext
+          + ", severity="
+          + severity
+          + ", severityText="
+          + severityText
+          + ", body="
+          + body
+          + ", attributes="
+          + getAttributes()
+          + ", eventName="
+          + eventName
+          + '}';
+    }
+  }
+}
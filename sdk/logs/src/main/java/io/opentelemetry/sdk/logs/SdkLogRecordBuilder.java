@@ -32,6 +32,8 @@ class SdkLogRecordBuilder implements LogRecordBuilder {
   @Nullable protected Value<?> body;
   @Nullable protected String eventName;
   @Nullable private AttributesMap attributes;
+  // When log records are pooled, attributes are written into the log record to be emitted instead
+  @Nullable private RecyclableSdkLogRecord pooledLogRecord;
 
   SdkLogRecordBuilder(
       LoggerSharedState loggerSharedState, InstrumentationScopeInfo instrumentationScopeInfo) {
@@ -106,6 +108,11 @@ class SdkLogRecordBuilder implements LogRecordBuilder {
     if (key == null || key.getKey().isEmpty() || value == null) {
       return this;
     }
+    LogRecordPool logRecordPool = loggerSharedState.getLogRecordPool();
+    if (logRecordPool != null) {
+      pooledLogRecord(logRecordPool).setAttribute(key, value);
+      return this;
+    }
     if (this.attributes == null) {
       this.attributes =
           AttributesMap.create(
@@ -125,6 +132,11 @@ class SdkLogRecordBuilder implements LogRecordBuilder {
         this.observedTimestampEpochNanos == 0
             ? this.loggerSharedState.getClock().now()
             : this.observedTimestampEpochNanos;
+    LogRecordPool logRecordPool = loggerSharedState.getLogRecordPool();
+    if (logRecordPool != null) {
+      emitPooled(logRecordPool, context, observedTimestampEpochNanos);
+      return;
+    }
     loggerSharedState
         .getLogRecordProcessor()
         .onEmit(
@@ -142,4 +154,36 @@ class SdkLogRecordBuilder implements LogRecordBuilder {
                 attributes,
                 eventName));
   }
+
+  /** Returns the pooled log record attributes are written into, acquiring it on first use. */
+  RecyclableSdkLogRecord pooledLogRecord(LogRecordPool logRecordPool) {
+    RecyclableSdkLogRecord logRecord = pooledLogRecord;
+    if (logRecord == null) {
+      logRecord = logRecordPool.acquire(logLimits);
+      pooledLogRecord = logRecord;
+    }
+    return logRecord;
+  }
+
+  void emitPooled(LogRecordPool logRecordPool, Context context, long observedTimestampEpochNanos) {
+    RecyclableSdkLogRecord logRecord = pooledLogRecord(logRecordPool);
+    // The attributes are handed off with the log record, so emitting again starts a new one
+    pooledLogRecord = null;
+    logRecord.initialize(
+        loggerSharedState.getResource(),
+        instrumentationScopeInfo,
+        timestampEpochNanos,
+        observedTimestampEpochNanos,
+        Span.fromContext(context).getSpanContext(),
+        severity,
+        severityText,
+        body,
+        eventName);
+    try {
+      loggerSharedState.getLogRecordProcessor().onEmit(context, logRecord);
+    } finally {
+      // Processors keeping the log record have retained it
+      logRecord.release();
+    }
+  }
 }
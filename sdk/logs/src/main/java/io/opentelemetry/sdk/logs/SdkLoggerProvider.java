@@ -15,6 +15,7 @@ import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.internal.ComponentRegistry;
 import io.opentelemetry.sdk.internal.ExceptionAttributeResolver;
 import io.opentelemetry.sdk.internal.ScopeConfigurator;
+import io.opentelemetry.sdk.logs.internal.ExtendedLogRecordProcessor;
 import io.opentelemetry.sdk.logs.internal.LoggerConfig;
 import io.opentelemetry.sdk.resources.Resource;
 import java.io.Closeable;
@@ -58,11 +59,20 @@ public final class SdkLoggerProvider implements LoggerProvider, Closeable {
       List<LogRecordProcessor> processors,
       Clock clock,
       ScopeConfigurator<LoggerConfig> loggerConfigurator,
-      ExceptionAttributeResolver exceptionAttributeResolver) {
+      ExceptionAttributeResolver exceptionAttributeResolver,
+      int logRecordPoolSize) {
     LogRecordProcessor logRecordProcessor = LogRecordProcessor.composite(processors);
     this.sharedState =
         new LoggerSharedState(
-            resource, logLimitsSupplier, logRecordProcessor, clock, exceptionAttributeResolver);
+            resource,
+            logLimitsSupplier,
+            logRecordProcessor,
+            clock,
+            exceptionAttributeResolver,
+            // Pooled log records are recycled once emitted, unless retained by the processors
+            logRecordPoolSize == 0 || !acceptsRecycledLogRecords(logRecordProcessor)
+                ? null
+                : new LogRecordPool(logRecordPoolSize, SdkLogger.INCUBATOR_AVAILABLE));
     this.loggerComponentRegistry =
         new ComponentRegistry<>(
             instrumentationScopeInfo ->
@@ -94,6 +104,11 @@ public final class SdkLoggerProvider implements LoggerProvider, Closeable {
         loggerComponentRegistry, instrumentationNameOrDefault(instrumentationScopeName));
   }
 
+  private static boolean acceptsRecycledLogRecords(LogRecordProcessor logRecordProcessor) {
+    return logRecordProcessor instanceof ExtendedLogRecordProcessor
+        && ((ExtendedLogRecordProcessor) logRecordProcessor).acceptsRecycledLogRecords();
+  }
+
   private static String instrumentationNameOrDefault(@Nullable String instrumentationScopeName) {
     if (instrumentationScopeName == null || instrumentationScopeName.isEmpty()) {
       LOGGER.fine("Logger requested without instrumentation scope name.");
@@ -5,6 +5,7 @@
 
 package io.opentelemetry.sdk.logs;
 
+import static io.opentelemetry.api.internal.Utils.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import io.opentelemetry.api.logs.LogRecordBuilder;
@@ -16,7 +17,11 @@ import io.opentelemetry.sdk.internal.ExceptionAttributeResolver;
 import io.opentelemetry.sdk.internal.ScopeConfigurator;
 import io.opentelemetry.sdk.internal.ScopeConfiguratorBuilder;
 import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.export.BatchLogRecordProcessor;
+import io.opentelemetry.sdk.logs.internal.ExtendedLogRecordExporter;
+import io.opentelemetry.sdk.logs.internal.ExtendedLogRecordProcessor;
 import io.opentelemetry.sdk.logs.internal.LoggerConfig;
+import io.opentelemetry.sdk.logs.internal.RecyclableLogRecord;
 import io.opentelemetry.sdk.logs.internal.SdkLoggerProviderUtil;
 import io.opentelemetry.sdk.resources.Resource;
 import java.util.ArrayList;
@@ -40,6 +45,7 @@ public final class SdkLoggerProviderBuilder {
       LoggerConfig.configuratorBuilder();
   private ExceptionAttributeResolver exceptionAttributeResolver =
       ExceptionAttributeResolver.getDefault();
+  private int logRecordPoolSize = 0;
 
   SdkLoggerProviderBuilder() {}
 
@@ -186,6 +192,30 @@ public final class SdkLoggerProviderBuilder {
     return this;
   }
 
+  /**
+   * Sets the number of log records to keep in a pool for reuse, or {@code 0} to allocate a new log
+   * record for every log, which is the default.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkLoggerProviderUtil#setLogRecordPoolSize(SdkLoggerProviderBuilder, int)}.
+   *
+   * <p>Pooled log records are filled in place when emitted, and recycled once every {@link
+   * LogRecordProcessor} is done with them. A {@link LogRecordProcessor} which keeps a log record
+   * past {@link LogRecordProcessor#onEmit} must retain it as described by {@link
+   * RecyclableLogRecord}, as the {@link BatchLogRecordProcessor} does, which also exports pooled
+   * log records without a snapshot when its exporter implements {@link ExtendedLogRecordExporter}.
+   * Log records are only pooled if every registered processor opts in through {@link
+   * ExtendedLogRecordProcessor#acceptsRecycledLogRecords()}, as the SDK's processors do.
+   *
+   * <p>A log record builder writes its attributes directly into the pooled log record, which is
+   * handed to the processors on emit, so a builder emitted again only has the attributes set since.
+   */
+  SdkLoggerProviderBuilder setLogRecordPoolSize(int logRecordPoolSize) {
+    checkArgument(logRecordPoolSize >= 0, "logRecordPoolSize must be non-negative");
+    this.logRecordPoolSize = logRecordPoolSize;
+    return this;
+  }
+
   /**
    * Create a {@link SdkLoggerProvider} instance.
    *
@@ -198,6 +228,7 @@ public final class SdkLoggerProviderBuilder {
         logRecordProcessors,
         clock,
         loggerConfiguratorBuilder.build(),
-        exceptionAttributeResolver);
+        exceptionAttributeResolver,
+        logRecordPoolSize);
   }
 }
@@ -12,22 +12,33 @@ import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.internal.AdaptiveBatchPolicy;
+import io.opentelemetry.sdk.internal.ConcurrentExporter;
 import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import io.opentelemetry.sdk.internal.RingBufferQueue;
 import io.opentelemetry.sdk.logs.LogRecordProcessor;
 import io.opentelemetry.sdk.logs.ReadWriteLogRecord;
 import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.internal.ExtendedLogRecordExporter;
+import io.opentelemetry.sdk.logs.internal.ExtendedLogRecordProcessor;
+import io.opentelemetry.sdk.logs.internal.RecyclableLogRecord;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * Implementation of the {@link LogRecordProcessor} that batches logs exported by the SDK then
@@ -38,9 +49,35 @@ import java.util.logging.Logger;
  * when there are {@code maxExportBatchSize} pending logs or {@code scheduleDelayNanos} has passed
  * since the last export finished.
  *
+ * <p>When configured with more than one shard, each shard has its own worker thread, queue and
+ * batch, and exports independently of the others. The {@code maxQueueSize} is divided evenly
+ * between the shards. Each emitting thread sticks to a shard until it has queued a batch's worth of
+ * logs there, or the shard's queue is full, then moves on to the next shard, so that a single
+ * thread, such as an asynchronous appender's, spreads its logs over all shards. Logs emitted by a
+ * thread are therefore not necessarily exported in the order they were emitted.
+ *
+ * <p>When the exporter can have more than one export in flight, as signalled by {@link
+ * ConcurrentExporter}, a worker starts the next export without waiting for the previous one to
+ * complete, waiting instead while the exporter is at capacity. Each shard then has up to the
+ * exporter's limit of exports in flight, rather than one. In both cases, the exports in flight
+ * across all shards are further bounded by {@code maxConcurrentExports}.
+ *
+ * <p>Pooled log records, see {@link RecyclableLogRecord}, are retained while queued. When the
+ * exporter accepts them, as signalled by {@link ExtendedLogRecordExporter}, they are exported
+ * without a snapshot and released once the export completes, otherwise they are released as soon as
+ * they are copied into the batch.
+ *
+ * <p>When configured with a {@link RingBufferQueue.WaitStrategy}, logs are queued in a {@link
+ * RingBufferQueue} rather than signalling the worker once it needs more logs for a batch, and the
+ * worker waits for logs with that strategy.
+ *
+ * <p>When configured with a target latency, each shard adapts its batch size and schedule delay to
+ * the rate at which logs are queued and to the exporter's latency with an {@link
+ * AdaptiveBatchPolicy}, bounded by {@code maxExportBatchSize} and {@code scheduleDelayNanos}.
+ *
  * @since 1.27.0
  */
-public final class BatchLogRecordProcessor implements LogRecordProcessor {
+public final class BatchLogRecordProcessor implements ExtendedLogRecordProcessor {
 
   private static final String WORKER_THREAD_NAME =
       BatchLogRecordProcessor.class.getSimpleName() + "_WorkerThread";
@@ -48,10 +85,19 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
       AttributeKey.stringKey("processorType");
   private static final AttributeKey<Boolean> LOG_RECORD_PROCESSOR_DROPPED_LABEL =
       AttributeKey.booleanKey("dropped");
+  private static final AttributeKey<Long> LOG_RECORD_PROCESSOR_SHARD_LABEL =
+      AttributeKey.longKey("shard");
   private static final String LOG_RECORD_PROCESSOR_TYPE_VALUE =
       BatchLogRecordProcessor.class.getSimpleName();
 
-  private final Worker worker;
+  private final LogRecordExporter logRecordExporter;
+  private final int maxConcurrentExports;
+  @Nullable private final RingBufferQueue.WaitStrategy waitStrategy;
+  private final Worker[] workers;
+  // The shard each emitting thread currently queues logs in, when there is more than one.
+  @SuppressWarnings("ThreadLocalUsage")
+  private final ThreadLocal<ShardCursor> shardCursors = new ThreadLocal<>();
+  private final AtomicInteger nextShard = new AtomicInteger();
   private final AtomicBoolean isShutdown = new AtomicBoolean(false);
 
   /**
@@ -71,17 +117,110 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
       long scheduleDelayNanos,
       int maxQueueSize,
       int maxExportBatchSize,
-      long exporterTimeoutNanos) {
-    this.worker =
-        new Worker(
-            logRecordExporter,
-            meterProvider,
-            scheduleDelayNanos,
-            maxExportBatchSize,
-            exporterTimeoutNanos,
-            new ArrayBlockingQueue<>(maxQueueSize)); // TODO: use JcTools.newFixedSizeQueue(..)
-    Thread workerThread = new DaemonThreadFactory(WORKER_THREAD_NAME).newThread(worker);
-    workerThread.start();
+      long exporterTimeoutNanos,
+      int shardCount,
+      int maxConcurrentExports,
+      @Nullable RingBufferQueue.WaitStrategy waitStrategy,
+      int adaptiveMinExportBatchSize,
+      long adaptiveMinScheduleDelayNanos,
+      long adaptiveTargetLatencyNanos) {
+    this.logRecordExporter = logRecordExporter;
+    this.waitStrategy = waitStrategy;
+    // Each shard has at most one export in flight, or as many as a concurrent exporter allows, so
+    // only a limit below that needs to be enforced.
+    long maxExportsInFlight = (long) shardCount * exportsPerShard(logRecordExporter);
+    this.maxConcurrentExports = (int) Math.min(maxConcurrentExports, maxExportsInFlight);
+    Semaphore exportPermits =
+        maxConcurrentExports < maxExportsInFlight ? new Semaphore(maxConcurrentExports) : null;
+    int shardQueueSize = Math.max(1, maxQueueSize / shardCount);
+
+    Meter meter = meterProvider.meterBuilder("io.opentelemetry.sdk.logs").build();
+    LongCounter processedLogsCounter =
+        meter
+            .counterBuilder("processedLogs")
+            .setUnit("1")
+            .setDescription(
+                "The number of logs processed by the BatchLogRecordProcessor. "
+                    + "[dropped=true if they were dropped due to high throughput]")
+            .build();
+    this.workers = new Worker[shardCount];
+    for (int i = 0; i < shardCount; i++) {
+      Attributes attributes =
+          shardCount == 1
+              ? Attributes.of(LOG_RECORD_PROCESSOR_TYPE_LABEL, LOG_RECORD_PROCESSOR_TYPE_VALUE)
+              : Attributes.of(
+                  LOG_RECORD_PROCESSOR_TYPE_LABEL,
+                  LOG_RECORD_PROCESSOR_TYPE_VALUE,
+                  LOG_RECORD_PROCESSOR_SHARD_LABEL,
+                  (long) i);
+      int shardBatchSize = Math.min(maxExportBatchSize, shardQueueSize);
+      // Adaptive batching is disabled without a target latency
+      AdaptiveBatchPolicy batchPolicy =
+          adaptiveTargetLatencyNanos > 0
+              ? new AdaptiveBatchPolicy(
+                  Math.min(adaptiveMinExportBatchSize, shardBatchSize),
+                  shardBatchSize,
+                  Math.min(adaptiveMinScheduleDelayNanos, scheduleDelayNanos),
+                  scheduleDelayNanos,
+                  adaptiveTargetLatencyNanos)
+              : null;
+      workers[i] =
+          new Worker(
+              logRecordExporter,
+              processedLogsCounter,
+              attributes,
+              scheduleDelayNanos,
+              shardBatchSize,
+              exporterTimeoutNanos,
+              waitStrategy == null
+                  // TODO: use JcTools.newFixedSizeQueue(..)
+                  ? new ArrayBlockingQueue<>(shardQueueSize)
+                  : new RingBufferQueue<>(shardQueueSize, waitStrategy),
+              exportPermits,
+              batchPolicy);
+    }
+    meter
+        .gaugeBuilder("queueSize")
+        .ofLongs()
+        .setDescription("The number of items queued")
+        .setUnit("1")
+        .buildWithCallback(
+            result -> {
+              for (Worker worker : workers) {
+                result.record(worker.queue.size(), worker.attributes);
+              }
+            });
+    if (adaptiveTargetLatencyNanos > 0) {
+      meter
+          .gaugeBuilder("exportBatchSize")
+          .ofLongs()
+          .setDescription("The number of items exported per batch, as adapted to the load")
+          .setUnit("1")
+          .buildWithCallback(
+              result -> {
+                for (Worker worker : workers) {
+                  result.record(worker.batchSize(), worker.attributes);
+                }
+              });
+      meter
+          .gaugeBuilder("scheduleDelay")
+          .ofLongs()
+          .setDescription("The delay between exports, as adapted to the load")
+          .setUnit("ms")
+          .buildWithCallback(
+              result -> {
+                for (Worker worker : workers) {
+                  result.record(
+                      TimeUnit.NANOSECONDS.toMillis(worker.scheduleDelayNanos()),
+                      worker.attributes);
+                }
+              });
+    }
+
+    DaemonThreadFactory threadFactory = new DaemonThreadFactory(WORKER_THREAD_NAME);
+    for (Worker worker : workers) {
+      threadFactory.newThread(worker).start();
+    }
   }
 
   @Override
@@ -89,7 +228,41 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
     if (logRecord == null) {
       return;
     }
-    worker.addLog(logRecord);
+    if (workers.length == 1) {
+      workers[0].addLog(logRecord);
+      return;
+    }
+    ShardCursor cursor = shardCursors.get();
+    if (cursor == null) {
+      // Spread the threads' starting shards over the shards
+      cursor = new ShardCursor(Math.floorMod(nextShard.getAndIncrement(), workers.length));
+      shardCursors.set(cursor);
+    }
+    Worker worker = workers[cursor.shard];
+    if (worker.offer(logRecord)) {
+      // Move on once a batch is queued, so the next batch is built by another shard in parallel
+      if (++cursor.queued >= worker.batchSize()) {
+        cursor.shard = (cursor.shard + 1) % workers.length;
+        cursor.queued = 0;
+      }
+      return;
+    }
+    // The shard is full, try the others before dropping the log
+    for (int i = 1; i < workers.length; i++) {
+      int shard = (cursor.shard + i) % workers.length;
+      if (workers[shard].offer(logRecord)) {
+        cursor.shard = shard;
+        cursor.queued = 1;
+        return;
+      }
+    }
+    worker.recordDropped();
+  }
+
+  @Override
+  public boolean acceptsRecycledLogRecords() {
+    // Queued log records are retained until exported
+    return true;
   }
 
   @Override
@@ -97,12 +270,38 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
     if (isShutdown.getAndSet(true)) {
       return CompletableResultCode.ofSuccess();
     }
-    return worker.shutdown();
+    CompletableResultCode result = new CompletableResultCode();
+
+    CompletableResultCode flushResult = forceFlush();
+    flushResult.whenComplete(
+        () -> {
+          for (Worker worker : workers) {
+            worker.continueWork = false;
+          }
+          CompletableResultCode shutdownResult = logRecordExporter.shutdown();
+          shutdownResult.whenComplete(
+              () -> {
+                if (!flushResult.isSuccess() || !shutdownResult.isSuccess()) {
+                  result.fail();
+                } else {
+                  result.succeed();
+                }
+              });
+        });
+
+    return result;
   }
 
   @Override
   public CompletableResultCode forceFlush() {
-    return worker.forceFlush();
+    if (workers.length == 1) {
+      return workers[0].forceFlush();
+    }
+    List<CompletableResultCode> results = new ArrayList<>(workers.length);
+    for (Worker worker : workers) {
+      results.add(worker.forceFlush());
+    }
+    return CompletableResultCode.ofAll(results);
   }
 
   /**
@@ -111,36 +310,72 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
    * @since 1.37.0
    */
   public LogRecordExporter getLogRecordExporter() {
-    return worker.logRecordExporter;
+    return logRecordExporter;
   }
 
   // Visible for testing
   List<LogRecordData> getBatch() {
-    return worker.batch;
+    return workers[0].batch;
   }
 
   @Override
   public String toString() {
     return "BatchLogRecordProcessor{"
         + "logRecordExporter="
-        + worker.logRecordExporter
+        + logRecordExporter
         + ", scheduleDelayNanos="
-        + worker.scheduleDelayNanos
+        + shardValues(worker -> worker.scheduleDelayNanos)
         + ", maxExportBatchSize="
-        + worker.maxExportBatchSize
+        + shardValues(worker -> worker.maxExportBatchSize)
         + ", exporterTimeoutNanos="
-        + worker.exporterTimeoutNanos
+        + shardValues(worker -> worker.exporterTimeoutNanos)
+        + ", shardCount="
+        + workers.length
+        + ", maxConcurrentExports="
+        + maxConcurrentExports
+        + (waitStrategy == null ? "" : ", waitStrategy=" + waitStrategy)
+        + (workers[0].batchPolicy == null
+            ? ""
+            : ", adaptiveBatchPolicy="
+                + shardValues(worker -> String.valueOf(worker.batchPolicy)))
         + '}';
   }
 
+  // Returns the value of a property shared by all shards, or the value of each shard if they
+  // differ.
+  private String shardValues(Function<Worker, Object> property) {
+    Set<String> values = new LinkedHashSet<>();
+    for (Worker worker : workers) {
+      values.add(String.valueOf(property.apply(worker)));
+    }
+    return values.size() == 1 ? values.iterator().next() : values.toString();
+  }
+
+  private static int exportsPerShard(LogRecordExporter logRecordExporter) {
+    return logRecordExporter instanceof ConcurrentExporter
+        ? Math.max(1, ((ConcurrentExporter) logRecordExporter).getMaxConcurrentExports())
+        : 1;
+  }
+
+  // The shard an emitting thread queues logs in, only accessed by that thread.
+  private static final class ShardCursor {
+    private int shard;
+    // The number of logs the thread queued in the shard since moving to it.
+    private int queued;
+
+    private ShardCursor(int shard) {
+      this.shard = shard;
+    }
+  }
+
   // Worker is a thread that batches multiple logs and calls the registered LogRecordExporter to
-  // export
-  // the data.
+  // export the data. There is one worker per shard.
   private static final class Worker implements Runnable {
 
     private static final Logger logger = Logger.getLogger(Worker.class.getName());
 
     private final LongCounter processedLogsCounter;
+    private final Attributes attributes;
     private final Attributes droppedAttrs;
     private final Attributes exportedAttrs;
 
@@ -148,10 +383,24 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
     private final long scheduleDelayNanos;
     private final int maxExportBatchSize;
     private final long exporterTimeoutNanos;
+    // Shared by all workers when the number of concurrent exports is limited.
+    @Nullable private final Semaphore exportPermits;
+    // Set when exports are not awaited, only accessed by the worker thread.
+    @Nullable private final ConcurrentExporter concurrentExporter;
+    private final List<CompletableResultCode> pendingExports = new ArrayList<>();
+    private final boolean exportsRecycledLogRecords;
+    // The pooled log records read by the batch, released once the batch is exported.
+    private final ArrayList<RecyclableLogRecord> recycledBatch = new ArrayList<>();
+    // Set when the batch size and schedule delay adapt to the load, within maxExportBatchSize and
+    // scheduleDelayNanos.
+    @Nullable private final AdaptiveBatchPolicy batchPolicy;
 
     private long nextExportTime;
 
     private final Queue<ReadWriteLogRecord> queue;
+    // Set when logs are queued in a ring buffer, which has the worker wait for logs itself, so
+    // neither logsNeeded nor signal are used.
+    @Nullable private final RingBufferQueue<ReadWriteLogRecord> ringBuffer;
     // When waiting on the logs queue, exporter thread sets this atomic to the number of more
     // logs it needs before doing an export. Writer threads would then wait for the queue to reach
     // logsNeeded size before notifying the exporter thread about new entries.
@@ -166,61 +415,69 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
 
     private Worker(
         LogRecordExporter logRecordExporter,
-        MeterProvider meterProvider,
+        LongCounter processedLogsCounter,
+        Attributes attributes,
         long scheduleDelayNanos,
         int maxExportBatchSize,
         long exporterTimeoutNanos,
-        Queue<ReadWriteLogRecord> queue) {
+        Queue<ReadWriteLogRecord> queue,
+        @Nullable Semaphore exportPermits,
+        @Nullable AdaptiveBatchPolicy batchPolicy) {
       this.logRecordExporter = logRecordExporter;
       this.scheduleDelayNanos = scheduleDelayNanos;
       this.maxExportBatchSize = maxExportBatchSize;
       this.exporterTimeoutNanos = exporterTimeoutNanos;
+      this.exportPermits = exportPermits;
+      this.batchPolicy = batchPolicy;
+      // With the default of one export in flight, exports are awaited as before, so each shard
+      // keeps its own export in flight.
+      this.concurrentExporter =
+          logRecordExporter instanceof ConcurrentExporter
+                  && ((ConcurrentExporter) logRecordExporter).getMaxConcurrentExports() > 1
+              ? (ConcurrentExporter) logRecordExporter
+              : null;
+      this.exportsRecycledLogRecords =
+          logRecordExporter instanceof ExtendedLogRecordExporter
+              && ((ExtendedLogRecordExporter) logRecordExporter).acceptsRecycledLogRecords();
       this.queue = queue;
+      this.ringBuffer =
+          queue instanceof RingBufferQueue ? (RingBufferQueue<ReadWriteLogRecord>) queue : null;
       this.signal = new ArrayBlockingQueue<>(1);
-      Meter meter = meterProvider.meterBuilder("io.opentelemetry.sdk.logs").build();
-      meter
-          .gaugeBuilder("queueSize")
-          .ofLongs()
-          .setDescription("The number of items queued")
-          .setUnit("1")
-          .buildWithCallback(
-              result ->
-                  result.record(
-                      queue.size(),
-                      Attributes.of(
-                          LOG_RECORD_PROCESSOR_TYPE_LABEL, LOG_RECORD_PROCESSOR_TYPE_VALUE)));
-      processedLogsCounter =
-          meter
-              .counterBuilder("processedLogs")
-              .setUnit("1")
-              .setDescription(
-                  "The number of logs processed by the BatchLogRecordProcessor. "
-                      + "[dropped=true if they were dropped due to high throughput]")
-              .build();
-      droppedAttrs =
-          Attributes.of(
-              LOG_RECORD_PROCESSOR_TYPE_LABEL,
-              LOG_RECORD_PROCESSOR_TYPE_VALUE,
-              LOG_RECORD_PROCESSOR_DROPPED_LABEL,
-              true);
-      exportedAttrs =
-          Attributes.of(
-              LOG_RECORD_PROCESSOR_TYPE_LABEL,
-              LOG_RECORD_PROCESSOR_TYPE_VALUE,
-              LOG_RECORD_PROCESSOR_DROPPED_LABEL,
-              false);
+      this.processedLogsCounter = processedLogsCounter;
+      this.attributes = attributes;
+      droppedAttrs = attributes.toBuilder().put(LOG_RECORD_PROCESSOR_DROPPED_LABEL, true).build();
+      exportedAttrs = attributes.toBuilder().put(LOG_RECORD_PROCESSOR_DROPPED_LABEL, false).build();
 
       this.batch = new ArrayList<>(this.maxExportBatchSize);
     }
 
     private void addLog(ReadWriteLogRecord logData) {
+      if (!offer(logData)) {
+        recordDropped();
+      }
+    }
+
+    // Returns false, without counting the log as dropped, if the queue is full.
+    private boolean offer(ReadWriteLogRecord logData) {
+      RecyclableLogRecord recyclable =
+          logData instanceof RecyclableLogRecord ? (RecyclableLogRecord) logData : null;
+      if (recyclable != null) {
+        recyclable.retain();
+      }
       if (!queue.offer(logData)) {
-        processedLogsCounter.add(1, droppedAttrs);
-      } else {
-        if (queue.size() >= logsNeeded.get()) {
-          signal.offer(true);
+        if (recyclable != null) {
+          recyclable.release();
         }
+        return false;
       }
+      if (ringBuffer == null && queue.size() >= logsNeeded.get()) {
+        signal.offer(true);
+      }
+      return true;
+    }
+
+    private void recordDropped() {
+      processedLogsCounter.add(1, droppedAttrs);
     }
 
     @Override
@@ -231,18 +488,23 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
         if (flushRequested.get() != null) {
           flush();
         }
-        while (!queue.isEmpty() && batch.size() < maxExportBatchSize) {
-          batch.add(queue.poll().toLogRecordData());
-        }
-        if (batch.size() >= maxExportBatchSize || System.nanoTime() >= nextExportTime) {
+        int batchSize = batchSize();
+        drain(batchSize - batch.size());
+        if (batch.size() >= batchSize || System.nanoTime() >= nextExportTime) {
+          AdaptiveBatchPolicy batchPolicy = this.batchPolicy;
+          if (batchPolicy != null) {
+            batchPolicy.onBatch(batch.size(), queue.size(), System.nanoTime());
+          }
           exportCurrentBatch();
           updateNextExportTime();
         }
         if (queue.isEmpty()) {
           try {
             long pollWaitTime = nextExportTime - System.nanoTime();
-            if (pollWaitTime > 0) {
-              logsNeeded.set(maxExportBatchSize - batch.size());
+            if (ringBuffer != null) {
+              ringBuffer.await(batchSize() - batch.size(), nextExportTime);
+            } else if (pollWaitTime > 0) {
+              logsNeeded.set(batchSize() - batch.size());
               signal.poll(pollWaitTime, TimeUnit.NANOSECONDS);
               logsNeeded.set(Integer.MAX_VALUE);
             }
@@ -257,15 +519,14 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
     private void flush() {
       int logsToFlush = queue.size();
       while (logsToFlush > 0) {
-        ReadWriteLogRecord logRecord = queue.poll();
-        assert logRecord != null;
-        batch.add(logRecord.toLogRecordData());
-        logsToFlush--;
-        if (batch.size() >= maxExportBatchSize) {
+        int batchSize = batchSize();
+        logsToFlush -= drain(Math.min(logsToFlush, batchSize - batch.size()));
+        if (batch.size() >= batchSize) {
           exportCurrentBatch();
         }
       }
       exportCurrentBatch();
+      awaitPendingExports();
       CompletableResultCode flushResult = flushRequested.get();
       if (flushResult != null) {
         flushResult.succeed();
@@ -273,36 +534,58 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
       }
     }
 
-    private void updateNextExportTime() {
-      nextExportTime = System.nanoTime() + scheduleDelayNanos;
+    private int drain(int limit) {
+      RingBufferQueue<ReadWriteLogRecord> ringBuffer = this.ringBuffer;
+      if (ringBuffer != null) {
+        return ringBuffer.drain(this::addToBatch, limit);
+      }
+      int drained = 0;
+      ReadWriteLogRecord logRecord;
+      while (drained < limit && (logRecord = queue.poll()) != null) {
+        addToBatch(logRecord);
+        drained++;
+      }
+      return drained;
     }
 
-    private CompletableResultCode shutdown() {
-      CompletableResultCode result = new CompletableResultCode();
-
-      CompletableResultCode flushResult = forceFlush();
-      flushResult.whenComplete(
-          () -> {
-            continueWork = false;
-            CompletableResultCode shutdownResult = logRecordExporter.shutdown();
-            shutdownResult.whenComplete(
-                () -> {
-                  if (!flushResult.isSuccess() || !shutdownResult.isSuccess()) {
-                    result.fail();
-                  } else {
-                    result.succeed();
-                  }
-                });
-          });
-
-      return result;
+    private void addToBatch(ReadWriteLogRecord logRecord) {
+      if (!(logRecord instanceof RecyclableLogRecord)) {
+        batch.add(logRecord.toLogRecordData());
+        return;
+      }
+      RecyclableLogRecord recyclable = (RecyclableLogRecord) logRecord;
+      if (exportsRecycledLogRecords) {
+        batch.add(recyclable.asLogRecordData());
+        recycledBatch.add(recyclable);
+      } else {
+        batch.add(recyclable.toLogRecordData());
+        recyclable.release();
+      }
+    }
+
+    private int batchSize() {
+      AdaptiveBatchPolicy batchPolicy = this.batchPolicy;
+      return batchPolicy == null ? maxExportBatchSize : batchPolicy.getBatchSize();
+    }
+
+    private long scheduleDelayNanos() {
+      AdaptiveBatchPolicy batchPolicy = this.batchPolicy;
+      return batchPolicy == null ? scheduleDelayNanos : batchPolicy.getScheduleDelayNanos();
+    }
+
+    private void updateNextExportTime() {
+      nextExportTime = System.nanoTime() + scheduleDelayNanos();
     }
 
     private CompletableResultCode forceFlush() {
       CompletableResultCode flushResult = new CompletableResultCode();
       // we set the atomic here to trigger the worker loop to do a flush of the entire queue.
       if (flushRequested.compareAndSet(null, flushResult)) {
-        signal.offer(true);
+        if (ringBuffer != null) {
+          ringBuffer.wakeUp();
+        } else {
+          signal.offer(true);
+        }
       }
       CompletableResultCode possibleResult = flushRequested.get();
       // there's a race here where the flush happening in the worker loop could complete before we
@@ -316,20 +599,99 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
         return;
       }
 
+      Semaphore exportPermits = this.exportPermits;
+      boolean releasePermit = false;
       try {
-        CompletableResultCode result =
-            logRecordExporter.export(Collections.unmodifiableList(batch));
-        result.join(exporterTimeoutNanos, TimeUnit.NANOSECONDS);
-        if (result.isSuccess()) {
-          processedLogsCounter.add(batch.size(), exportedAttrs);
+        if (exportPermits != null) {
+          exportPermits.acquire();
+          releasePermit = true;
+        }
+        ConcurrentExporter concurrentExporter = this.concurrentExporter;
+        if (concurrentExporter == null) {
+          long exportStartNanos = System.nanoTime();
+          CompletableResultCode result =
+              logRecordExporter.export(Collections.unmodifiableList(batch));
+          releaseRecycledBatchWhenComplete(result);
+          result.join(exporterTimeoutNanos, TimeUnit.NANOSECONDS);
+          recordExportResult(result, batch.size(), exportStartNanos);
         } else {
-          logger.log(Level.FINE, "Exporter failed");
+          // Exports in flight stay bounded, so the batch is dropped if the exporter stays at
+          // capacity.
+          if (!concurrentExporter.awaitExportCapacity(
+              exporterTimeoutNanos, TimeUnit.NANOSECONDS)) {
+            logger.log(Level.FINE, "Exporter has no capacity, dropping logs");
+            processedLogsCounter.add(batch.size(), droppedAttrs);
+            return;
+          }
+          int exportedLogs = batch.size();
+          long exportStartNanos = System.nanoTime();
+          CompletableResultCode result =
+              logRecordExporter.export(Collections.unmodifiableList(new ArrayList<>(batch)));
+          releaseRecycledBatchWhenComplete(result);
+          // The permit is held until the export completes.
+          releasePermit = false;
+          result.whenComplete(
+              () -> {
+                if (exportPermits != null) {
+                  exportPermits.release();
+                }
+                recordExportResult(result, exportedLogs, exportStartNanos);
+              });
+          pendingExports.removeIf(CompletableResultCode::isDone);
+          pendingExports.add(result);
         }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
       } catch (RuntimeException e) {
         logger.log(Level.WARNING, "Exporter threw an Exception", e);
       } finally {
+        if (exportPermits != null && releasePermit) {
+          exportPermits.release();
+        }
         batch.clear();
+        // Only left over if the exporter threw
+        releaseAll(recycledBatch);
+        recycledBatch.clear();
+      }
+    }
+
+    // The exporter may read the batch until the export completes, even when an awaited export
+    // timed out.
+    private void releaseRecycledBatchWhenComplete(CompletableResultCode result) {
+      if (recycledBatch.isEmpty()) {
+        return;
+      }
+      List<RecyclableLogRecord> exported = new ArrayList<>(recycledBatch);
+      recycledBatch.clear();
+      result.whenComplete(() -> releaseAll(exported));
+    }
+
+    private static void releaseAll(List<RecyclableLogRecord> logRecords) {
+      for (RecyclableLogRecord logRecord : logRecords) {
+        logRecord.release();
+      }
+    }
+
+    private void recordExportResult(
+        CompletableResultCode result, int exportedLogs, long exportStartNanos) {
+      AdaptiveBatchPolicy batchPolicy = this.batchPolicy;
+      if (batchPolicy != null) {
+        // An awaited export which timed out counts as taking the timeout
+        batchPolicy.onExportComplete(System.nanoTime() - exportStartNanos);
+      }
+      if (result.isSuccess()) {
+        processedLogsCounter.add(exportedLogs, exportedAttrs);
+      } else {
+        logger.log(Level.FINE, "Exporter failed");
+      }
+    }
+
+    // Waits for exports which were not awaited, so a flush covers them.
+    private void awaitPendingExports() {
+      for (CompletableResultCode result : pendingExports) {
+        result.join(exporterTimeoutNanos, TimeUnit.NANOSECONDS);
       }
+      pendingExports.clear();
     }
   }
 }
@@ -7,6 +7,7 @@ package io.opentelemetry.sdk.logs.export;
 
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.internal.ExtendedLogRecordExporter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -20,7 +21,7 @@ import java.util.logging.Logger;
  * <p>Can be used to export to multiple backends using the same {@link LogRecordExporter} like a
  * {@link SimpleLogRecordProcessor} or a {@link BatchLogRecordProcessor}.
  */
-final class MultiLogRecordExporter implements LogRecordExporter {
+final class MultiLogRecordExporter implements ExtendedLogRecordExporter {
   private static final Logger logger = Logger.getLogger(MultiLogRecordExporter.class.getName());
 
   private final LogRecordExporter[] logRecordExporters;
@@ -39,6 +40,17 @@ final class MultiLogRecordExporter implements LogRecordExporter {
     return new MultiLogRecordExporter(logRecordExporters.toArray(new LogRecordExporter[0]));
   }
 
+  @Override
+  public boolean acceptsRecycledLogRecords() {
+    for (LogRecordExporter logRecordExporter : logRecordExporters) {
+      if (!(logRecordExporter instanceof ExtendedLogRecordExporter)
+          || !((ExtendedLogRecordExporter) logRecordExporter).acceptsRecycledLogRecords()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   @Override
   public CompletableResultCode export(Collection<LogRecordData> logs) {
     List<CompletableResultCode> results = new ArrayList<>(logRecordExporters.length);
@@ -12,6 +12,7 @@ import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.logs.LogRecordProcessor;
 import io.opentelemetry.sdk.logs.ReadWriteLogRecord;
 import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.internal.ExtendedLogRecordProcessor;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -32,7 +33,7 @@ import java.util.logging.Logger;
  *
  * @since 1.27.0
  */
-public final class SimpleLogRecordProcessor implements LogRecordProcessor {
+public final class SimpleLogRecordProcessor implements ExtendedLogRecordProcessor {
 
   private static final Logger logger = Logger.getLogger(SimpleLogRecordProcessor.class.getName());
 
@@ -85,6 +86,12 @@ public final class SimpleLogRecordProcessor implements LogRecordProcessor {
     }
   }
 
+  @Override
+  public boolean acceptsRecycledLogRecords() {
+    // Log records are exported as snapshots taken during onEmit
+    return true;
+  }
+
   @Override
   public CompletableResultCode shutdown() {
     if (isShutdown.getAndSet(true)) {
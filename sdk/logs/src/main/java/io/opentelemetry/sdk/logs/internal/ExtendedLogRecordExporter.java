@@ -0,0 +1,30 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs.internal;
+
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.export.LogRecordExporter;
+
+/**
+ * Extended {@link LogRecordExporter} with experimental APIs.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface ExtendedLogRecordExporter extends LogRecordExporter {
+
+  /**
+   * Returns {@code true} if this exporter accepts {@link RecyclableLogRecord#asLogRecordData()}
+   * views in place of {@link RecyclableLogRecord#toLogRecordData()} snapshots. Log record
+   * processors can then pass pooled log records to {@link #export(java.util.Collection)} without
+   * allocating a snapshot for each of them, and recycle them once the export completes.
+   *
+   * <p>Such {@link LogRecordData} compare by identity rather than by value, and must not be read
+   * after the result of the export completes. Exporters which only read the logs they are given
+   * until then, such as those serializing them, can safely accept them.
+   */
+  boolean acceptsRecycledLogRecords();
+}
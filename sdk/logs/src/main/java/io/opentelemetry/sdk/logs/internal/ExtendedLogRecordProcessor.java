@@ -0,0 +1,29 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs.internal;
+
+import io.opentelemetry.sdk.logs.LogRecordProcessor;
+
+/**
+ * Extended {@link LogRecordProcessor} with experimental APIs.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface ExtendedLogRecordProcessor extends LogRecordProcessor {
+
+  /**
+   * Returns {@code true} if this processor accepts pooled {@link RecyclableLogRecord}s, which are
+   * recycled as soon as {@link LogRecordProcessor#onEmit} returns unless retained. Log records are
+   * only pooled if every registered processor accepts them.
+   *
+   * <p>Processors which only use the log records they are given during {@link
+   * LogRecordProcessor#onEmit}, such as those taking a {@link
+   * io.opentelemetry.sdk.logs.ReadWriteLogRecord#toLogRecordData()} snapshot, and those which
+   * {@link RecyclableLogRecord#retain()} the log records they keep, can safely accept them.
+   */
+  boolean acceptsRecycledLogRecords();
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs.internal;
+
+import io.opentelemetry.sdk.logs.LogRecordProcessor;
+import io.opentelemetry.sdk.logs.ReadWriteLogRecord;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+
+/**
+ * A {@link ReadWriteLogRecord} drawn from a pool, which is recycled once it is no longer
+ * referenced.
+ *
+ * <p>The log record is only valid while {@link LogRecordProcessor#onEmit} is called with it. A
+ * {@link LogRecordProcessor} which keeps it past that call must {@link #retain()} it first and
+ * {@link #release()} it once done with it.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface RecyclableLogRecord extends ReadWriteLogRecord {
+
+  /** Keeps the log record from being recycled until a matching call to {@link #release()}. */
+  void retain();
+
+  /**
+   * Releases a reference to the log record, recycling it once no references are left. The log
+   * record, and any {@link #asLogRecordData()} view of it, must not be used afterward.
+   */
+  void release();
+
+  /**
+   * Returns a {@link LogRecordData} view of this log record, which is only valid until the log
+   * record is released. Unlike {@link #toLogRecordData()}, no snapshot is allocated.
+   */
+  LogRecordData asLogRecordData();
+}
@@ -7,11 +7,14 @@ package io.opentelemetry.sdk.logs.internal;
 
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.internal.ExceptionAttributeResolver;
+import io.opentelemetry.sdk.internal.RingBufferQueue;
 import io.opentelemetry.sdk.internal.ScopeConfigurator;
 import io.opentelemetry.sdk.logs.SdkLoggerProvider;
 import io.opentelemetry.sdk.logs.SdkLoggerProviderBuilder;
+import io.opentelemetry.sdk.logs.export.BatchLogRecordProcessorBuilder;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.function.Predicate;
 
 /**
@@ -90,4 +93,58 @@ public final class SdkLoggerProviderUtil {
           "Error calling setExceptionAttributeResolver on SdkLoggerProviderBuilder", e);
     }
   }
+
+  /** Reflectively set the log record pool size to the {@link SdkLoggerProviderBuilder}. */
+  public static void setLogRecordPoolSize(
+      SdkLoggerProviderBuilder sdkLoggerProviderBuilder, int logRecordPoolSize) {
+    try {
+      Method method =
+          SdkLoggerProviderBuilder.class.getDeclaredMethod("setLogRecordPoolSize", int.class);
+      method.setAccessible(true);
+      method.invoke(sdkLoggerProviderBuilder, logRecordPoolSize);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setLogRecordPoolSize on SdkLoggerProviderBuilder", e);
+    }
+  }
+
+  /**
+   * Reflectively set the {@link RingBufferQueue.WaitStrategy} of a ring buffer queue on the {@link
+   * BatchLogRecordProcessorBuilder}.
+   */
+  public static BatchLogRecordProcessorBuilder setRingBufferWaitStrategy(
+      BatchLogRecordProcessorBuilder batchLogRecordProcessorBuilder,
+      RingBufferQueue.WaitStrategy waitStrategy) {
+    try {
+      Method method =
+          BatchLogRecordProcessorBuilder.class.getDeclaredMethod(
+              "setRingBufferWaitStrategy", RingBufferQueue.WaitStrategy.class);
+      method.setAccessible(true);
+      method.invoke(batchLogRecordProcessorBuilder, waitStrategy);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setRingBufferWaitStrategy on BatchLogRecordProcessorBuilder", e);
+    }
+    return batchLogRecordProcessorBuilder;
+  }
+
+  /** Reflectively enable adaptive batching on the {@link BatchLogRecordProcessorBuilder}. */
+  public static BatchLogRecordProcessorBuilder setAdaptiveBatching(
+      BatchLogRecordProcessorBuilder batchLogRecordProcessorBuilder,
+      int minExportBatchSize,
+      Duration minScheduleDelay,
+      Duration targetLatency) {
+    try {
+      Method method =
+          BatchLogRecordProcessorBuilder.class.getDeclaredMethod(
+              "setAdaptiveBatching", int.class, Duration.class, Duration.class);
+      method.setAccessible(true);
+      method.invoke(
+          batchLogRecordProcessorBuilder, minExportBatchSize, minScheduleDelay, targetLatency);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setAdaptiveBatching on BatchLogRecordProcessorBuilder", e);
+    }
+    return batchLogRecordProcessorBuilder;
+  }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.Value;
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.resources.Resource;
+import org.junit.jupiter.api.Test;
+
+class LogRecordPoolTest {
+
+  private static final AttributeKey<String> KEY = AttributeKey.stringKey("key");
+
+  @Test
+  void releasedLogRecordIsReused() {
+    LogRecordPool pool = new LogRecordPool(1);
+
+    RecyclableSdkLogRecord logRecord = pool.acquire(LogLimits.getDefault());
+    fill(logRecord, "body");
+    logRecord.setAttribute(KEY, "value");
+    LogRecordData snapshot = logRecord.toLogRecordData();
+    logRecord.release();
+
+    RecyclableSdkLogRecord reused = pool.acquire(LogLimits.getDefault());
+    assertThat(reused).isSameAs(logRecord);
+    assertThat(reused.asLogRecordData())
+        .hasBody((Value<?>) null)
+        .hasAttributes(Attributes.empty());
+    assertThat(reused.asLogRecordData().getTotalAttributeCount()).isZero();
+    // Snapshots aren't affected by recycling
+    assertThat(snapshot).hasBody("body").hasAttributes(Attributes.of(KEY, "value"));
+  }
+
+  @Test
+  void retainedLogRecordIsNotReused() {
+    LogRecordPool pool = new LogRecordPool(1);
+
+    RecyclableSdkLogRecord logRecord = pool.acquire(LogLimits.getDefault());
+    fill(logRecord, "body");
+    logRecord.setAttribute(KEY, "value");
+    logRecord.retain();
+    logRecord.release();
+
+    assertThat(pool.acquire(LogLimits.getDefault())).isNotSameAs(logRecord);
+    assertThat(logRecord.asLogRecordData())
+        .hasBody("body")
+        .hasAttributes(Attributes.of(KEY, "value"));
+
+    logRecord.release();
+    assertThat(pool.acquire(LogLimits.getDefault())).isSameAs(logRecord);
+  }
+
+  @Test
+  void releasedTooOften() {
+    LogRecordPool pool = new LogRecordPool(1);
+
+    RecyclableSdkLogRecord logRecord = pool.acquire(LogLimits.getDefault());
+    logRecord.release();
+
+    assertThatThrownBy(logRecord::release).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void fullPoolDropsLogRecords() {
+    LogRecordPool pool = new LogRecordPool(1);
+
+    RecyclableSdkLogRecord first = pool.acquire(LogLimits.getDefault());
+    RecyclableSdkLogRecord second = pool.acquire(LogLimits.getDefault());
+    first.release();
+    second.release();
+
+    assertThat(pool.acquire(LogLimits.getDefault())).isSameAs(first);
+    assertThat(pool.acquire(LogLimits.getDefault())).isNotSameAs(second);
+  }
+
+  @Test
+  void reusedLogRecordAppliesNewLimits() {
+    LogRecordPool pool = new LogRecordPool(1);
+
+    RecyclableSdkLogRecord logRecord = pool.acquire(LogLimits.getDefault());
+    logRecord.setAttribute(KEY, "value");
+    logRecord.release();
+
+    RecyclableSdkLogRecord reused =
+        pool.acquire(
+            LogLimits.builder().setMaxNumberOfAttributes(1).setMaxAttributeValueLength(3).build());
+    reused.setAttribute(KEY, "value");
+    reused.setAttribute(AttributeKey.stringKey("dropped"), "value");
+
+    assertThat(reused.asLogRecordData()).hasAttributes(Attributes.of(KEY, "val"));
+    assertThat(reused.asLogRecordData().getTotalAttributeCount()).isEqualTo(2);
+  }
+
+  private static void fill(RecyclableSdkLogRecord logRecord, String body) {
+    logRecord.initialize(
+        Resource.empty(),
+        InstrumentationScopeInfo.create("test"),
+        100,
+        200,
+        SpanContext.getInvalid(),
+        Severity.INFO,
+        "info",
+        Value.of(body),
+        "event");
+  }
+}
@@ -29,7 +29,8 @@ class LoggerSharedStateTest {
             LogLimits::getDefault,
             logRecordProcessor,
             Clock.getDefault(),
-            ExceptionAttributeResolver.getDefault());
+            ExceptionAttributeResolver.getDefault(),
+            null);
     state.shutdown();
     state.shutdown();
     verify(logRecordProcessor, times(1)).shutdown();
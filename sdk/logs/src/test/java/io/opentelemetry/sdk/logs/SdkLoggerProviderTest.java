@@ -15,6 +15,8 @@ import static org.mockito.Mockito.when;
 
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.logs.LogRecordBuilder;
+import io.opentelemetry.api.logs.Logger;
 import io.opentelemetry.api.logs.LoggerProvider;
 import io.opentelemetry.api.logs.Severity;
 import io.opentelemetry.api.trace.Span;
@@ -30,9 +32,15 @@ import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.internal.ScopeConfigurator;
 import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.export.SimpleLogRecordProcessor;
+import io.opentelemetry.sdk.logs.internal.ExtendedLogRecordProcessor;
 import io.opentelemetry.sdk.logs.internal.LoggerConfig;
+import io.opentelemetry.sdk.logs.internal.RecyclableLogRecord;
 import io.opentelemetry.sdk.logs.internal.SdkLoggerProviderUtil;
 import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.exporter.InMemoryLogRecordExporter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -276,6 +284,82 @@ class SdkLoggerProviderTest {
             Attributes.builder().put("k1", "new-v1").put("k2", "v2").put("k3", "v3").build());
   }
 
+  @Test
+  void loggerBuilder_PooledLogRecords() {
+    List<ReadWriteLogRecord> logRecords = new ArrayList<>();
+    List<LogRecordData> logRecordData = new ArrayList<>();
+    SdkLoggerProviderBuilder builder =
+        SdkLoggerProvider.builder()
+            .addLogRecordProcessor(
+                new ExtendedLogRecordProcessor() {
+                  @Override
+                  public void onEmit(Context context, ReadWriteLogRecord logRecord) {
+                    logRecords.add(logRecord);
+                    logRecordData.add(logRecord.toLogRecordData());
+                  }
+
+                  @Override
+                  public boolean acceptsRecycledLogRecords() {
+                    return true;
+                  }
+                });
+    SdkLoggerProviderUtil.setLogRecordPoolSize(builder, 1);
+    sdkLoggerProvider = builder.build();
+    Logger logger = sdkLoggerProvider.get("test");
+
+    logger
+        .logRecordBuilder()
+        .setBody("first")
+        .setAttribute(AttributeKey.stringKey("k1"), "v1")
+        .emit();
+    LogRecordBuilder logRecordBuilder =
+        logger
+            .logRecordBuilder()
+            .setBody("second")
+            .setAttribute(AttributeKey.stringKey("k2"), "v2");
+    logRecordBuilder.emit();
+    // The attributes were handed off with the emitted log record
+    logRecordBuilder.setAttribute(AttributeKey.stringKey("k3"), "v3").emit();
+
+    assertThat(logRecords).hasSize(3);
+    assertThat(logRecords.get(0))
+        .isInstanceOf(RecyclableLogRecord.class)
+        .isSameAs(logRecords.get(1))
+        .isSameAs(logRecords.get(2));
+    assertThat(logRecordData.get(0))
+        .hasBody("first")
+        .hasAttributes(Attributes.builder().put("k1", "v1").build());
+    assertThat(logRecordData.get(1))
+        .hasBody("second")
+        .hasAttributes(Attributes.builder().put("k2", "v2").build());
+    assertThat(logRecordData.get(2))
+        .hasBody("second")
+        .hasAttributes(Attributes.builder().put("k3", "v3").build());
+  }
+
+  @Test
+  void loggerBuilder_PooledLogRecords_ProcessorNotOptedIn() {
+    List<ReadWriteLogRecord> logRecords = new ArrayList<>();
+    SdkLoggerProviderBuilder builder =
+        SdkLoggerProvider.builder()
+            .addLogRecordProcessor(
+                SimpleLogRecordProcessor.create(InMemoryLogRecordExporter.create()))
+            .addLogRecordProcessor((unused, logRecord) -> logRecords.add(logRecord));
+    SdkLoggerProviderUtil.setLogRecordPoolSize(builder, 1);
+    sdkLoggerProvider = builder.build();
+    Logger logger = sdkLoggerProvider.get("test");
+
+    logger.logRecordBuilder().setBody("first").emit();
+    logger.logRecordBuilder().setBody("second").emit();
+
+    // A processor which may keep log records without retaining them gets log records of its own
+    assertThat(logRecords)
+        .hasSize(2)
+        .allSatisfy(logRecord -> assertThat(logRecord).isNotInstanceOf(RecyclableLogRecord.class));
+    assertThat(logRecords.get(0).toLogRecordData()).hasBody("first");
+    assertThat(logRecords.get(1).toLogRecordData()).hasBody("second");
+  }
+
   @Test
   void loggerBuilder_ProcessorWithContext() {
     ContextKey<String> contextKey = ContextKey.named("my-context-key");
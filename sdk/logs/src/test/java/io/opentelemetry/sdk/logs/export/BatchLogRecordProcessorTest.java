@@ -22,21 +22,35 @@ import static org.mockito.Mockito.when;
 import io.opentelemetry.api.internal.GuardedBy;
 import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.internal.ConcurrentExporter;
+import io.opentelemetry.sdk.internal.RingBufferQueue;
 import io.opentelemetry.sdk.logs.SdkLoggerProvider;
+import io.opentelemetry.sdk.logs.SdkLoggerProviderBuilder;
 import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.internal.ExtendedLogRecordExporter;
+import io.opentelemetry.sdk.logs.internal.SdkLoggerProviderUtil;
+import io.opentelemetry.sdk.testing.exporter.InMemoryLogRecordExporter;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -82,6 +96,11 @@ class BatchLogRecordProcessorTest {
         .isEqualTo(
             TimeUnit.MILLISECONDS.toNanos(
                 BatchLogRecordProcessorBuilder.DEFAULT_EXPORT_TIMEOUT_MILLIS));
+    assertThat(builder.getShardCount())
+        .isEqualTo(BatchLogRecordProcessorBuilder.DEFAULT_SHARD_COUNT);
+    assertThat(builder.getMaxConcurrentExports()).isEqualTo(Integer.MAX_VALUE);
+    assertThat(builder.getRingBufferWaitStrategy()).isNull();
+    assertThat(builder.getAdaptiveTargetLatencyNanos()).isZero();
   }
 
   @Test
@@ -119,6 +138,20 @@ class BatchLogRecordProcessorTest {
             () -> BatchLogRecordProcessor.builder(mockLogRecordExporter).setMaxQueueSize(0))
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage("maxQueueSize must be positive.");
+    assertThatThrownBy(
+            () -> BatchLogRecordProcessor.builder(mockLogRecordExporter).setShardCount(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("shardCount must be positive.");
+    assertThatThrownBy(
+            () -> BatchLogRecordProcessor.builder(mockLogRecordExporter).setMaxConcurrentExports(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxConcurrentExports must be positive.");
+    assertThatThrownBy(
+            () ->
+                BatchLogRecordProcessor.builder(mockLogRecordExporter)
+                    .setAdaptiveBatching(0, Duration.ZERO, Duration.ofSeconds(1)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("minExportBatchSize must be positive.");
   }
 
   @Test
@@ -180,6 +213,284 @@ class BatchLogRecordProcessorTest {
             logRecordData -> assertThat(logRecordData).hasBody(LOG_MESSAGE_2));
   }
 
+  @Test
+  void concurrentExporter_exportsWithoutAwaiting() {
+    ConcurrentLogRecordExporter exporter = new ConcurrentLogRecordExporter(2);
+    BatchLogRecordProcessor processor =
+        BatchLogRecordProcessor.builder(exporter)
+            .setMaxExportBatchSize(1)
+            .setScheduleDelay(10, TimeUnit.SECONDS)
+            .build();
+    SdkLoggerProvider loggerProvider =
+        SdkLoggerProvider.builder().addLogRecordProcessor(processor).build();
+
+    emitLog(loggerProvider, LOG_MESSAGE_1);
+    emitLog(loggerProvider, LOG_MESSAGE_2);
+    await().untilAsserted(() -> assertThat(exporter.results).hasSize(2));
+
+    // The exporter is at capacity, so the next export waits for one to complete.
+    emitLog(loggerProvider, LOG_MESSAGE_1);
+    exporter.results.get(0).succeed();
+    await().untilAsserted(() -> assertThat(exporter.results).hasSize(3));
+
+    // A flush covers the exports still in flight.
+    CompletableResultCode flushResult = processor.forceFlush();
+    assertThat(flushResult.isDone()).isFalse();
+    exporter.results.forEach(CompletableResultCode::succeed);
+    assertThat(flushResult.join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    loggerProvider.shutdown();
+  }
+
+  @Test
+  void concurrentExporter_maxConcurrentExports() throws InterruptedException {
+    ConcurrentLogRecordExporter exporter = new ConcurrentLogRecordExporter(4);
+    BatchLogRecordProcessor processor =
+        BatchLogRecordProcessor.builder(exporter)
+            .setMaxConcurrentExports(2)
+            .setMaxExportBatchSize(1)
+            .setScheduleDelay(10, TimeUnit.SECONDS)
+            .build();
+    SdkLoggerProvider loggerProvider =
+        SdkLoggerProvider.builder().addLogRecordProcessor(processor).build();
+
+    emitLog(loggerProvider, LOG_MESSAGE_1);
+    emitLog(loggerProvider, LOG_MESSAGE_2);
+    await().untilAsserted(() -> assertThat(exporter.results).hasSize(2));
+
+    // The exporter has capacity, but the processor is at its own limit.
+    emitLog(loggerProvider, LOG_MESSAGE_1);
+    Thread.sleep(50);
+    assertThat(exporter.results).hasSize(2);
+
+    exporter.results.get(0).succeed();
+    await().untilAsserted(() -> assertThat(exporter.results).hasSize(3));
+    exporter.results.forEach(CompletableResultCode::succeed);
+    loggerProvider.shutdown();
+  }
+
+  @Test
+  void concurrentExporter_dropsWithoutCapacity() {
+    ConcurrentLogRecordExporter exporter = new ConcurrentLogRecordExporter(2);
+    BatchLogRecordProcessor processor =
+        BatchLogRecordProcessor.builder(exporter)
+            .setMaxExportBatchSize(1)
+            .setScheduleDelay(10, TimeUnit.SECONDS)
+            .setExporterTimeout(10, TimeUnit.MILLISECONDS)
+            .build();
+    SdkLoggerProvider loggerProvider =
+        SdkLoggerProvider.builder().addLogRecordProcessor(processor).build();
+
+    emitLog(loggerProvider, LOG_MESSAGE_1);
+    emitLog(loggerProvider, LOG_MESSAGE_1);
+    await().untilAsserted(() -> assertThat(exporter.results).hasSize(2));
+
+    // The exporter stays at capacity, so the batch is dropped rather than exported.
+    emitLog(loggerProvider, LOG_MESSAGE_2);
+    await().untilAsserted(() -> assertThat(exporter.capacityTimeouts.get()).isEqualTo(1));
+    assertThat(exporter.results).hasSize(2);
+
+    exporter.results.forEach(CompletableResultCode::succeed);
+    emitLog(loggerProvider, LOG_MESSAGE_1);
+    await().untilAsserted(() -> assertThat(exporter.results).hasSize(3));
+    assertThat(exporter.exportedBodies)
+        .containsExactly(LOG_MESSAGE_1, LOG_MESSAGE_1, LOG_MESSAGE_1);
+    loggerProvider.shutdown();
+  }
+
+  @Test
+  void pooledLogRecords_exportedInPlace() {
+    RecyclingLogRecordExporter exporter = new RecyclingLogRecordExporter();
+    BatchLogRecordProcessor processor =
+        BatchLogRecordProcessor.builder(exporter)
+            .setMaxExportBatchSize(1)
+            .setScheduleDelay(10, TimeUnit.SECONDS)
+            .build();
+    SdkLoggerProviderBuilder builder = SdkLoggerProvider.builder().addLogRecordProcessor(processor);
+    SdkLoggerProviderUtil.setLogRecordPoolSize(builder, 1);
+    SdkLoggerProvider loggerProvider = builder.build();
+
+    emitLog(loggerProvider, LOG_MESSAGE_1);
+    await().untilAsserted(() -> assertThat(exporter.exported).hasSize(1));
+    LogRecordData first = exporter.exported.get(0);
+    assertThat(first).hasBody(LOG_MESSAGE_1);
+
+    // Completing the export releases the log record to the pool for the next log.
+    exporter.results.get(0).succeed();
+    await().untilAsserted(() -> assertThat(processor.getBatch()).isEmpty());
+    emitLog(loggerProvider, LOG_MESSAGE_2);
+    await().untilAsserted(() -> assertThat(exporter.exported).hasSize(2));
+    assertThat(exporter.exported.get(1)).isSameAs(first);
+    assertThat(first).hasBody(LOG_MESSAGE_2);
+
+    exporter.results.get(1).succeed();
+    loggerProvider.shutdown();
+  }
+
+  @Test
+  void pooledLogRecords_exportedAsSnapshots() {
+    WaitingLogRecordExporter waitingLogRecordExporter =
+        new WaitingLogRecordExporter(2, CompletableResultCode.ofSuccess());
+    SdkLoggerProviderBuilder builder =
+        SdkLoggerProvider.builder()
+            .addLogRecordProcessor(
+                BatchLogRecordProcessor.builder(waitingLogRecordExporter)
+                    .setScheduleDelay(MAX_SCHEDULE_DELAY_MILLIS, TimeUnit.MILLISECONDS)
+                    .build());
+    SdkLoggerProviderUtil.setLogRecordPoolSize(builder, 1);
+    SdkLoggerProvider loggerProvider = builder.build();
+
+    emitLog(loggerProvider, LOG_MESSAGE_1);
+    emitLog(loggerProvider, LOG_MESSAGE_2);
+    List<LogRecordData> exported = waitingLogRecordExporter.waitForExport();
+    assertThat(exported)
+        .satisfiesExactly(
+            logRecordData -> assertThat(logRecordData).hasBody(LOG_MESSAGE_1),
+            logRecordData -> assertThat(logRecordData).hasBody(LOG_MESSAGE_2));
+  }
+
+  @Test
+  void shardedExport() throws InterruptedException {
+    InMemoryLogRecordExporter logRecordExporter = InMemoryLogRecordExporter.create();
+    BatchLogRecordProcessor batchLogRecordProcessor =
+        BatchLogRecordProcessor.builder(logRecordExporter)
+            .setShardCount(4)
+            .setMaxExportBatchSize(7)
+            .setScheduleDelay(10, TimeUnit.SECONDS)
+            .build();
+    SdkLoggerProvider sdkLoggerProvider =
+        SdkLoggerProvider.builder().addLogRecordProcessor(batchLogRecordProcessor).build();
+
+    emitLogsOnThreads(sdkLoggerProvider, 8, 25);
+    batchLogRecordProcessor.forceFlush().join(10, TimeUnit.SECONDS);
+
+    List<String> exported = new ArrayList<>();
+    for (LogRecordData logRecordData : logRecordExporter.getFinishedLogRecordItems()) {
+      exported.add(Objects.requireNonNull(logRecordData.getBodyValue()).asString());
+    }
+    List<String> expected = new ArrayList<>();
+    for (int thread = 0; thread < 8; thread++) {
+      for (int i = 0; i < 25; i++) {
+        expected.add("thread " + thread + " log " + i);
+      }
+    }
+    assertThat(exported).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  @Test
+  void shardedExport_singleThread() {
+    ConcurrencyTrackingLogRecordExporter logRecordExporter =
+        new ConcurrencyTrackingLogRecordExporter();
+    BatchLogRecordProcessor batchLogRecordProcessor =
+        BatchLogRecordProcessor.builder(logRecordExporter)
+            .setShardCount(4)
+            .setMaxExportBatchSize(5)
+            .setScheduleDelay(10, TimeUnit.SECONDS)
+            .build();
+    SdkLoggerProvider sdkLoggerProvider =
+        SdkLoggerProvider.builder().addLogRecordProcessor(batchLogRecordProcessor).build();
+
+    // A single emitting thread, such as an asynchronous appender's, moves on to the next shard
+    // once it has queued a batch, so all shards export.
+    for (int i = 0; i < 40; i++) {
+      emitLog(sdkLoggerProvider, "log " + i);
+    }
+    batchLogRecordProcessor.forceFlush().join(10, TimeUnit.SECONDS);
+
+    assertThat(logRecordExporter.exported.get()).isEqualTo(40);
+    assertThat(logRecordExporter.exportingThreads).hasSize(4);
+  }
+
+  @ParameterizedTest
+  @EnumSource(RingBufferQueue.WaitStrategy.class)
+  void ringBufferQueue(RingBufferQueue.WaitStrategy waitStrategy) throws InterruptedException {
+    InMemoryLogRecordExporter logRecordExporter = InMemoryLogRecordExporter.create();
+    BatchLogRecordProcessorBuilder builder =
+        BatchLogRecordProcessor.builder(logRecordExporter)
+            .setShardCount(2)
+            .setMaxExportBatchSize(7)
+            .setScheduleDelay(10, TimeUnit.SECONDS);
+    SdkLoggerProviderUtil.setRingBufferWaitStrategy(builder, waitStrategy);
+    assertThat(builder.getRingBufferWaitStrategy()).isEqualTo(waitStrategy);
+    BatchLogRecordProcessor batchLogRecordProcessor = builder.build();
+    SdkLoggerProvider sdkLoggerProvider =
+        SdkLoggerProvider.builder().addLogRecordProcessor(batchLogRecordProcessor).build();
+
+    emitLogsOnThreads(sdkLoggerProvider, 8, 25);
+    batchLogRecordProcessor.forceFlush().join(10, TimeUnit.SECONDS);
+
+    assertThat(logRecordExporter.getFinishedLogRecordItems()).hasSize(200);
+    assertThat(batchLogRecordProcessor.toString()).endsWith(", waitStrategy=" + waitStrategy + "}");
+    sdkLoggerProvider.shutdown();
+  }
+
+  @Test
+  void adaptiveBatching_exportsWithinTargetLatency() {
+    InMemoryLogRecordExporter logRecordExporter = InMemoryLogRecordExporter.create();
+    BatchLogRecordProcessorBuilder builder =
+        BatchLogRecordProcessor.builder(logRecordExporter).setScheduleDelay(1, TimeUnit.HOURS);
+    SdkLoggerProviderUtil.setAdaptiveBatching(builder, 1, Duration.ZERO, Duration.ofMillis(100));
+    assertThat(builder.getAdaptiveTargetLatencyNanos())
+        .isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    BatchLogRecordProcessor batchLogRecordProcessor = builder.build();
+    SdkLoggerProvider sdkLoggerProvider =
+        SdkLoggerProvider.builder().addLogRecordProcessor(batchLogRecordProcessor).build();
+
+    // The schedule delay only bounds the adapted delay, which starts at the target latency
+    emitLog(sdkLoggerProvider, LOG_MESSAGE_1);
+    await()
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(logRecordExporter.getFinishedLogRecordItems())
+                    .satisfiesExactly(
+                        logRecordData -> assertThat(logRecordData).hasBody(LOG_MESSAGE_1)));
+    assertThat(batchLogRecordProcessor.toString())
+        .contains("adaptiveBatchPolicy=AdaptiveBatchPolicy{minBatchSize=1, maxBatchSize=512, ");
+    sdkLoggerProvider.shutdown();
+  }
+
+  @Test
+  void shardedExport_maxConcurrentExports() throws InterruptedException {
+    ConcurrencyTrackingLogRecordExporter logRecordExporter =
+        new ConcurrencyTrackingLogRecordExporter();
+    BatchLogRecordProcessor batchLogRecordProcessor =
+        BatchLogRecordProcessor.builder(logRecordExporter)
+            .setShardCount(4)
+            .setMaxConcurrentExports(2)
+            .setMaxExportBatchSize(1)
+            .setScheduleDelay(10, TimeUnit.SECONDS)
+            .build();
+    SdkLoggerProvider sdkLoggerProvider =
+        SdkLoggerProvider.builder().addLogRecordProcessor(batchLogRecordProcessor).build();
+
+    emitLogsOnThreads(sdkLoggerProvider, 8, 5);
+    batchLogRecordProcessor.forceFlush().join(10, TimeUnit.SECONDS);
+
+    assertThat(logRecordExporter.exported.get()).isEqualTo(40);
+    assertThat(logRecordExporter.maxInFlight.get()).isBetween(1, 2);
+  }
+
+  private void emitLogsOnThreads(SdkLoggerProvider sdkLoggerProvider, int threads, int logs)
+      throws InterruptedException {
+    List<Thread> emitters = new ArrayList<>();
+    for (int thread = 0; thread < threads; thread++) {
+      String prefix = "thread " + thread + " log ";
+      emitters.add(
+          new Thread(
+              () -> {
+                for (int i = 0; i < logs; i++) {
+                  emitLog(sdkLoggerProvider, prefix + i);
+                }
+              }));
+    }
+    for (Thread emitter : emitters) {
+      emitter.start();
+    }
+    for (Thread emitter : emitters) {
+      emitter.join();
+    }
+  }
+
   @Test
   void emitMoreLogsThanBufferSize() {
     CompletableLogRecordExporter logRecordExporter = new CompletableLogRecordExporter();
@@ -482,9 +793,44 @@ class BatchLogRecordProcessorTest {
                 + ", scheduleDelayNanos=1000000000"
                 + ", maxExportBatchSize=512"
                 + ", exporterTimeoutNanos=30000000000"
+                + ", shardCount=1"
+                + ", maxConcurrentExports=1"
                 + "}");
   }
 
+  private static class ConcurrencyTrackingLogRecordExporter implements LogRecordExporter {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger exported = new AtomicInteger();
+    private final Set<Thread> exportingThreads = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public CompletableResultCode export(Collection<LogRecordData> logs) {
+      exportingThreads.add(Thread.currentThread());
+      int current = inFlight.incrementAndGet();
+      maxInFlight.accumulateAndGet(current, Math::max);
+      try {
+        Thread.sleep(5);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      exported.addAndGet(logs.size());
+      inFlight.decrementAndGet();
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      return CompletableResultCode.ofSuccess();
+    }
+  }
+
   private static final class BlockingLogRecordExporter implements LogRecordExporter {
 
     final Object monitor = new Object();
@@ -546,6 +892,87 @@ class BatchLogRecordProcessorTest {
     }
   }
 
+  private static class ConcurrentLogRecordExporter
+      implements LogRecordExporter, ConcurrentExporter {
+
+    private final int maxConcurrentExports;
+    private final Semaphore capacity;
+    private final List<CompletableResultCode> results = new CopyOnWriteArrayList<>();
+    private final List<String> exportedBodies = new CopyOnWriteArrayList<>();
+    private final AtomicInteger capacityTimeouts = new AtomicInteger();
+
+    private ConcurrentLogRecordExporter(int maxConcurrentExports) {
+      this.maxConcurrentExports = maxConcurrentExports;
+      this.capacity = new Semaphore(maxConcurrentExports);
+    }
+
+    @Override
+    public int getMaxConcurrentExports() {
+      return maxConcurrentExports;
+    }
+
+    @Override
+    public boolean awaitExportCapacity(long timeout, TimeUnit unit) throws InterruptedException {
+      if (!capacity.tryAcquire(timeout, unit)) {
+        capacityTimeouts.incrementAndGet();
+        return false;
+      }
+      capacity.release();
+      return true;
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<LogRecordData> logs) {
+      logs.forEach(
+          log -> exportedBodies.add(Objects.requireNonNull(log.getBodyValue()).asString()));
+      CompletableResultCode result = new CompletableResultCode();
+      if (capacity.tryAcquire()) {
+        result.whenComplete(capacity::release);
+      }
+      results.add(result);
+      return result;
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      return CompletableResultCode.ofSuccess();
+    }
+  }
+
+  private static final class RecyclingLogRecordExporter implements ExtendedLogRecordExporter {
+
+    private final List<LogRecordData> exported = new CopyOnWriteArrayList<>();
+    private final List<CompletableResultCode> results = new CopyOnWriteArrayList<>();
+
+    @Override
+    public boolean acceptsRecycledLogRecords() {
+      return true;
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<LogRecordData> logs) {
+      exported.addAll(logs);
+      CompletableResultCode result = new CompletableResultCode();
+      results.add(result);
+      return result;
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      return CompletableResultCode.ofSuccess();
+    }
+  }
+
   private static class CompletableLogRecordExporter implements LogRecordExporter {
 
     private final List<CompletableResultCode> results = new ArrayList<>();
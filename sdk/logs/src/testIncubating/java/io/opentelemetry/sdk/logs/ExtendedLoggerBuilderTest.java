@@ -5,6 +5,7 @@
 
 package io.opentelemetry.sdk.logs;
 
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
 import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
 import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equalTo;
 import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.satisfies;
@@ -12,9 +13,12 @@ import static io.opentelemetry.semconv.ExceptionAttributes.EXCEPTION_MESSAGE;
 import static io.opentelemetry.semconv.ExceptionAttributes.EXCEPTION_STACKTRACE;
 import static io.opentelemetry.semconv.ExceptionAttributes.EXCEPTION_TYPE;
 
+import io.opentelemetry.api.incubator.common.ExtendedAttributeKey;
+import io.opentelemetry.api.incubator.common.ExtendedAttributes;
 import io.opentelemetry.api.incubator.logs.ExtendedLogRecordBuilder;
 import io.opentelemetry.api.logs.Logger;
 import io.opentelemetry.sdk.internal.ExceptionAttributeResolver;
+import io.opentelemetry.sdk.logs.data.internal.ExtendedLogRecordData;
 import io.opentelemetry.sdk.logs.export.SimpleLogRecordProcessor;
 import io.opentelemetry.sdk.logs.internal.SdkLoggerProviderUtil;
 import io.opentelemetry.sdk.testing.exporter.InMemoryLogRecordExporter;
@@ -76,4 +80,35 @@ class ExtendedLoggerBuilderTest {
                         equalTo(EXCEPTION_TYPE, "type"),
                         equalTo(EXCEPTION_STACKTRACE, "stacktrace")));
   }
+
+  @Test
+  void pooledLogRecords() {
+    SdkLoggerProviderUtil.setLogRecordPoolSize(loggerProviderBuilder, 1);
+    Logger logger = loggerProviderBuilder.build().get("logger");
+    ExtendedAttributeKey<ExtendedAttributes> mapKey =
+        ExtendedAttributeKey.extendedAttributesKey("map");
+    ExtendedAttributes map = ExtendedAttributes.builder().put("key", "value").build();
+
+    ((ExtendedLogRecordBuilder) logger.logRecordBuilder())
+        .setAttribute(mapKey, map)
+        .setException(new Exception("error"))
+        .emit();
+    ((ExtendedLogRecordBuilder) logger.logRecordBuilder())
+        .setAttribute(stringKey("key"), "value")
+        .emit();
+
+    assertThat(exporter.getFinishedLogRecordItems())
+        .satisfiesExactly(
+            logRecord -> {
+              ExtendedAttributes attributes =
+                  ((ExtendedLogRecordData) logRecord).getExtendedAttributes();
+              assertThat(attributes.get(mapKey)).isEqualTo(map);
+              assertThat(attributes.get(ExtendedAttributeKey.fromAttributeKey(EXCEPTION_MESSAGE)))
+                  .isEqualTo("error");
+              assertThat(logRecord.getTotalAttributeCount()).isEqualTo(4);
+            },
+            logRecord ->
+                assertThat(((ExtendedLogRecordData) logRecord).getExtendedAttributes())
+                    .isEqualTo(ExtendedAttributes.builder().put("key", "value").build()));
+  }
 }
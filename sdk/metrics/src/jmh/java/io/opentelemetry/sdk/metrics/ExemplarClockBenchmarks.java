@@ -5,7 +5,20 @@
 
 package io.opentelemetry.sdk.metrics;
 
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.metrics.internal.SdkMeterProviderUtil;
+import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -13,6 +26,12 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 
 /**
@@ -20,6 +39,9 @@ import org.openjdk.jmh.annotations.Warmup;
  * obtain the measurement time when storing exemplar values. This benchmark illustrates the
  * performance impact of using the higher precision {@link Clock#now()} instead of {@link
  * Clock#now(boolean)} with {@code highPrecision=false}.
+ *
+ * <p>The {@code record_*} benchmarks compare recording throughput with exemplars sampled on every
+ * measurement against exemplars turned off, with several threads recording to the same series.
  */
 @BenchmarkMode({Mode.AverageTime})
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
@@ -41,4 +63,61 @@ public class ExemplarClockBenchmarks {
   public void now_highPrecision() {
     clock.now(true);
   }
+
+  @State(Scope.Benchmark)
+  public static class RecordState {
+    @Param({"true", "false"})
+    boolean exemplars;
+
+    @Param MemoryMode memoryMode;
+
+    SdkMeterProvider meterProvider;
+    DoubleHistogram histogram;
+    LongCounter counter;
+    Attributes attributes;
+    Context context;
+
+    @Setup
+    public void setup() {
+      SdkMeterProviderBuilder builder =
+          SdkMeterProvider.builder()
+              .registerMetricReader(
+                  InMemoryMetricReader.builder().setMemoryMode(memoryMode).build());
+      SdkMeterProviderUtil.setExemplarFilter(
+          builder, exemplars ? ExemplarFilter.alwaysOn() : ExemplarFilter.alwaysOff());
+      meterProvider = builder.build();
+      histogram = meterProvider.get("meter").histogramBuilder("histogram").build();
+      counter = meterProvider.get("meter").counterBuilder("counter").build();
+      attributes = Attributes.of(AttributeKey.stringKey("key"), "value");
+      context =
+          Span.wrap(
+                  SpanContext.create(
+                      "ff000000000000000000000000000041",
+                      "ff00000000000041",
+                      TraceFlags.getSampled(),
+                      TraceState.getDefault()))
+              .storeInContext(Context.root());
+    }
+
+    @TearDown
+    public void tearDown() {
+      meterProvider.shutdown().join(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Threads(4)
+  public void record_histogram(RecordState state) {
+    state.histogram.record(100, state.attributes, state.context);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Threads(4)
+  public void record_counter(RecordState state) {
+    state.counter.add(1, state.attributes, state.context);
+  }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Like {@link MetricAdviceBenchmark}, but filters HTTP span attributes down to HTTP metric
+ * attributes with a view's attribute filter instead of advice. Run with {@code -prof gc} to compare
+ * allocation per measurement.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class MetricViewAttributeFilterBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class ThreadState {
+
+    @Param AttributesParam attributesParam;
+
+    SdkMeterProvider meterProvider;
+    LongCounter counter;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+      Set<String> keysToRetain =
+          MetricAdviceBenchmark.httpServerMetricAttributeKeys.stream()
+              .map(AttributeKey::getKey)
+              .collect(Collectors.toSet());
+      meterProvider =
+          SdkMeterProvider.builder()
+              .registerMetricReader(InMemoryMetricReader.createDelta())
+              .registerView(
+                  InstrumentSelector.builder().setName("counter").build(),
+                  View.builder().setAttributeFilter(keysToRetain).build())
+              .build();
+      counter = meterProvider.get("meter").counterBuilder("counter").build();
+    }
+
+    @TearDown
+    public void tearDown() {
+      meterProvider.shutdown().join(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void record(ThreadState threadState) {
+    threadState.counter.add(1, threadState.attributesParam.attributes());
+  }
+
+  public enum AttributesParam {
+    /**
+     * Record newly built HTTP span attributes, whose filtered attributes are cached by equality
+     * rather than identity.
+     */
+    ALL_ATTRIBUTES {
+      @Override
+      Attributes attributes() {
+        return MetricAdviceBenchmark.httpServerSpanAttributes();
+      }
+    },
+    /**
+     * Record the same HTTP span attributes instance, isolating the cost of filtering from creating
+     * attributes.
+     */
+    ALL_ATTRIBUTES_CACHED {
+      @Override
+      Attributes attributes() {
+        return MetricAdviceBenchmark.CACHED_HTTP_SERVER_SPAN_ATTRIBUTES;
+      }
+    };
+
+    abstract Attributes attributes();
+  }
+}
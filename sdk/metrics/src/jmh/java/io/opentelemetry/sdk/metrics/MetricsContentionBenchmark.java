@@ -0,0 +1,98 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how recording to a single {@link LongCounter} series scales with the number of recording
+ * threads, with and without striped tracking of in-progress recordings.
+ */
+@BenchmarkMode({Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class MetricsContentionBenchmark {
+
+  private static final Attributes ATTRIBUTES = Attributes.builder().put("KEY", "VALUE").build();
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+
+    @Param({"1", "64"})
+    int recordingStripes;
+
+    @Param({"CUMULATIVE", "DELTA"})
+    String temporality;
+
+    SdkMeterProvider meterProvider;
+    LongCounter counter;
+
+    @Setup
+    public void setup() {
+      InMemoryMetricReader reader =
+          "DELTA".equals(temporality)
+              ? InMemoryMetricReader.createDelta()
+              : InMemoryMetricReader.create();
+      meterProvider =
+          SdkMeterProvider.builder()
+              .setResource(Resource.empty())
+              .registerMetricReader(reader)
+              .setExemplarFilter(ExemplarFilter.alwaysOff())
+              .setRecordingStripes(recordingStripes)
+              .build();
+      counter = meterProvider.get("io.opentelemetry.sdk.metrics").counterBuilder("counter").build();
+    }
+
+    @TearDown
+    public void tearDown() {
+      meterProvider.shutdown().join(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void oneThread(BenchmarkState state) {
+    state.counter.add(1, ATTRIBUTES);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void eightThreads(BenchmarkState state) {
+    state.counter.add(1, ATTRIBUTES);
+  }
+
+  @Benchmark
+  @Threads(32)
+  public void thirtyTwoThreads(BenchmarkState state) {
+    state.counter.add(1, ATTRIBUTES);
+  }
+
+  @Benchmark
+  @Threads(64)
+  public void sixtyFourThreads(BenchmarkState state) {
+    state.counter.add(1, ATTRIBUTES);
+  }
+}
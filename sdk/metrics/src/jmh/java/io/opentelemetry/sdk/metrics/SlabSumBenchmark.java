@@ -0,0 +1,110 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.metrics.internal.view.SumAggregation;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares recording to and collecting a high-cardinality cumulative sum with the default sum
+ * aggregation against {@link SumAggregation#getSlabInstance()}.
+ *
+ * <p>Run with {@code -prof gc} to compare allocation and GC time, and with a heap histogram (e.g.
+ * {@code jmap -histo:live}) taken during a run to compare the heap footprint of the series.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SlabSumBenchmark {
+
+  private static final AttributeKey<Long> SERIES_ID = AttributeKey.longKey("series.id");
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+    @Param({"100000", "500000"})
+    int cardinality;
+
+    @Param({"false", "true"})
+    boolean slab;
+
+    @Param MemoryMode memoryMode;
+
+    SdkMeterProvider meterProvider;
+    InMemoryMetricReader reader;
+    LongCounter counter;
+    Attributes[] attributes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      reader = InMemoryMetricReader.builder().setMemoryMode(memoryMode).build();
+      meterProvider =
+          SdkMeterProvider.builder()
+              .registerMetricReader(reader)
+              .registerView(
+                  InstrumentSelector.builder().setName("*").build(),
+                  View.builder()
+                      .setAggregation(slab ? SumAggregation.getSlabInstance() : Aggregation.sum())
+                      .setCardinalityLimit(cardinality + 1)
+                      .build())
+              .build();
+      counter = meterProvider.get("meter").counterBuilder("counter").build();
+      attributes = new Attributes[cardinality];
+      for (int i = 0; i < cardinality; i++) {
+        attributes[i] = Attributes.of(SERIES_ID, (long) i);
+        counter.add(1, attributes[i]);
+      }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      meterProvider.shutdown().join(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ThreadState {
+    int index;
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void record(BenchmarkState state, ThreadState threadState) {
+    Attributes[] attributes = state.attributes;
+    int index = threadState.index;
+    state.counter.add(1, attributes[index]);
+    threadState.index = index + 1 == attributes.length ? 0 : index + 1;
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Warmup(iterations = 5)
+  @Measurement(iterations = 20)
+  public Object collect(BenchmarkState state) {
+    return state.reader.collectAllMetrics();
+  }
+}
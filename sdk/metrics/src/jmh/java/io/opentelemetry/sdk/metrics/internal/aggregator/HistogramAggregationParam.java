@@ -29,7 +29,14 @@ public enum HistogramAggregationParam {
           ExemplarReservoirFactory.noSamples(), 20, 0, IMMUTABLE_DATA)),
   EXPONENTIAL_CIRCULAR_BUFFER(
       new DoubleBase2ExponentialHistogramAggregator(
-          ExemplarReservoirFactory.noSamples(), 160, 0, IMMUTABLE_DATA));
+          ExemplarReservoirFactory.noSamples(), 160, 0, IMMUTABLE_DATA)),
+  EXPONENTIAL_THREAD_BUFFERED(
+      new DoubleBase2ExponentialHistogramAggregator(
+          ExemplarReservoirFactory.noSamples(),
+          160,
+          0,
+          IMMUTABLE_DATA,
+          /* threadBuffered= */ true));
 
   private final Aggregator<?> aggregator;
 
@@ -23,7 +23,11 @@ import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 
-/** Measures runtime cost of histogram aggregations. */
+/**
+ * Measures runtime cost of histogram aggregations. The {@code aggregate} benchmarks record to a
+ * handle per thread, while the {@code contended} benchmarks record to a single handle from 1 to 64
+ * threads and report the total recordings per second.
+ */
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 @Measurement(iterations = 10, time = 1)
@@ -53,6 +57,69 @@ public class HistogramBenchmark {
     }
   }
 
+  /**
+   * A handle shared by all benchmark threads, as when many threads record to the same series. Each
+   * thread generates its own values.
+   */
+  @State(Scope.Benchmark)
+  public static class SharedState {
+    @Param HistogramAggregationParam aggregation;
+    private AggregatorHandle<?> aggregatorHandle;
+
+    @Setup(Level.Trial)
+    public final void setup() {
+      aggregatorHandle = aggregation.getAggregator().createHandle();
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class SharedThreadState {
+    @Param HistogramValueGenerator valueGen;
+    private DoubleSupplier valueSupplier;
+
+    @Setup(Level.Trial)
+    public final void setup() {
+      valueSupplier = valueGen.supplier();
+    }
+
+    public void record(SharedState sharedState) {
+      sharedState.aggregatorHandle.recordDouble(
+          valueSupplier.getAsDouble(), Attributes.empty(), Context.current());
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @Threads(value = 1)
+  public void contended_1Threads(SharedState sharedState, SharedThreadState threadState) {
+    threadState.record(sharedState);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @Threads(value = 4)
+  public void contended_4Threads(SharedState sharedState, SharedThreadState threadState) {
+    threadState.record(sharedState);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @Threads(value = 16)
+  public void contended_16Threads(SharedState sharedState, SharedThreadState threadState) {
+    threadState.record(sharedState);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @Threads(value = 64)
+  public void contended_64Threads(SharedState sharedState, SharedThreadState threadState) {
+    threadState.record(sharedState);
+  }
+
   @Benchmark
   @Threads(value = 10)
   public void aggregate_10Threads(ThreadState threadState) {
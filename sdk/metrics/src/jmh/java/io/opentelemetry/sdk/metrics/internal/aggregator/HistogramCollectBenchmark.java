@@ -18,6 +18,7 @@ import io.opentelemetry.sdk.metrics.export.MetricExporter;
 import io.opentelemetry.sdk.metrics.export.PeriodicMetricReader;
 import io.opentelemetry.sdk.metrics.internal.SdkMeterProviderUtil;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
+import io.opentelemetry.sdk.metrics.internal.view.Base2ExponentialHistogramAggregation;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -114,7 +115,9 @@ public class HistogramCollectBenchmark {
     EXPLICIT_BUCKET_HISTOGRAM(Aggregation.explicitBucketHistogram()),
     DEFAULT_BASE2_EXPONENTIAL_BUCKET_HISTOGRAM(Aggregation.base2ExponentialBucketHistogram()),
     ZERO_MAX_SCALE_BASE2_EXPONENTIAL_BUCKET_HISTOGRAM(
-        Aggregation.base2ExponentialBucketHistogram(160, 0));
+        Aggregation.base2ExponentialBucketHistogram(160, 0)),
+    THREAD_BUFFERED_BASE2_EXPONENTIAL_BUCKET_HISTOGRAM(
+        Base2ExponentialHistogramAggregation.create(160, 20, /* threadBuffered= */ true));
 
     private final Aggregation aggregation;
 
@@ -0,0 +1,90 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares looking up a series by {@link Attributes} in a {@link ConcurrentAttributesMap} against
+ * a {@link ConcurrentHashMap}, as done by {@link DefaultSynchronousMetricStorage} on every
+ * recording.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 5, time = 1)
+@Warmup(iterations = 5, time = 1)
+@Fork(1)
+public class AttributesMapBenchmark {
+
+  private static final AttributeKey<String> KEY = AttributeKey.stringKey("key");
+  private static final AttributeKey<Long> ID = AttributeKey.longKey("id");
+
+  @State(Scope.Benchmark)
+  public static class MapState {
+    @Param({"1000", "100000"})
+    int cardinality;
+
+    Attributes[] attributes;
+    ConcurrentHashMap<Attributes, Object> concurrentHashMap;
+    ConcurrentAttributesMap<Object> concurrentAttributesMap;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      attributes = new Attributes[cardinality];
+      concurrentHashMap = new ConcurrentHashMap<>();
+      concurrentAttributesMap = new ConcurrentAttributesMap<>();
+      for (int i = 0; i < cardinality; i++) {
+        attributes[i] = Attributes.of(KEY, "value", ID, (long) i);
+        Object value = new Object();
+        concurrentHashMap.put(attributes[i], value);
+        concurrentAttributesMap.putIfAbsent(attributes[i], value);
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ThreadState {
+    int index;
+
+    Attributes next(MapState mapState) {
+      Attributes[] attributes = mapState.attributes;
+      Attributes next = attributes[index];
+      index = index + 1 == attributes.length ? 0 : index + 1;
+      return next;
+    }
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Object get_concurrentHashMap(MapState mapState, ThreadState threadState) {
+    return mapState.concurrentHashMap.get(threadState.next(mapState));
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Object get_concurrentAttributesMap(MapState mapState, ThreadState threadState) {
+    return mapState.concurrentAttributesMap.get(threadState.next(mapState));
+  }
+}
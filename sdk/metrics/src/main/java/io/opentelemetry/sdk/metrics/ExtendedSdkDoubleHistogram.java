@@ -6,10 +6,13 @@
 package io.opentelemetry.sdk.metrics;
 
 import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.incubator.metrics.BoundDoubleHistogram;
 import io.opentelemetry.api.incubator.metrics.ExtendedDoubleHistogram;
 import io.opentelemetry.api.incubator.metrics.ExtendedDoubleHistogramBuilder;
 import io.opentelemetry.api.incubator.metrics.ExtendedLongHistogramBuilder;
 import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
+import io.opentelemetry.sdk.metrics.internal.state.BoundStorageHandle;
 import io.opentelemetry.sdk.metrics.internal.state.WriteableMetricStorage;
 import java.util.List;
 
@@ -26,6 +29,18 @@ final class ExtendedSdkDoubleHistogram extends SdkDoubleHistogram
     return sdkMeter.isMeterEnabled() && storage.isEnabled();
   }
 
+  @Override
+  public BoundDoubleHistogram bind(Attributes attributes) {
+    BoundStorageHandle boundHandle = storage.bind(attributes);
+    return (value, context) -> {
+      if (value < 0) {
+        logNegativeValue();
+        return;
+      }
+      boundHandle.recordDouble(value, context);
+    };
+  }
+
   static final class ExtendedSdkDoubleHistogramBuilder extends SdkDoubleHistogramBuilder
       implements ExtendedDoubleHistogramBuilder {
 
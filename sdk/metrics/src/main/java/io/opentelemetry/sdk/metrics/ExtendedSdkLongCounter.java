@@ -6,10 +6,13 @@
 package io.opentelemetry.sdk.metrics;
 
 import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.incubator.metrics.BoundLongCounter;
 import io.opentelemetry.api.incubator.metrics.ExtendedDoubleCounterBuilder;
 import io.opentelemetry.api.incubator.metrics.ExtendedLongCounter;
 import io.opentelemetry.api.incubator.metrics.ExtendedLongCounterBuilder;
 import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
+import io.opentelemetry.sdk.metrics.internal.state.BoundStorageHandle;
 import io.opentelemetry.sdk.metrics.internal.state.WriteableMetricStorage;
 import java.util.List;
 
@@ -25,6 +28,18 @@ final class ExtendedSdkLongCounter extends SdkLongCounter implements ExtendedLon
     return sdkMeter.isMeterEnabled() && storage.isEnabled();
   }
 
+  @Override
+  public BoundLongCounter bind(Attributes attributes) {
+    BoundStorageHandle boundHandle = storage.bind(attributes);
+    return (increment, context) -> {
+      if (increment < 0) {
+        logNegativeIncrement();
+        return;
+      }
+      boundHandle.recordLong(increment, context);
+    };
+  }
+
   static final class ExtendedSdkLongCounterBuilder extends SdkLongCounterBuilder
       implements ExtendedLongCounterBuilder {
 
@@ -36,16 +36,20 @@ class SdkDoubleHistogram extends AbstractInstrument implements DoubleHistogram {
   @Override
   public void record(double value, Attributes attributes, Context context) {
     if (value < 0) {
-      throttlingLogger.log(
-          Level.WARNING,
-          "Histograms can only record non-negative values. Instrument "
-              + getDescriptor().getName()
-              + " has recorded a negative value.");
+      logNegativeValue();
       return;
     }
     storage.recordDouble(value, attributes, context);
   }
 
+  void logNegativeValue() {
+    throttlingLogger.log(
+        Level.WARNING,
+        "Histograms can only record non-negative values. Instrument "
+            + getDescriptor().getName()
+            + " has recorded a negative value.");
+  }
+
   @Override
   public void record(double value, Attributes attributes) {
     record(value, attributes, Context.current());
@@ -37,16 +37,20 @@ class SdkLongCounter extends AbstractInstrument implements LongCounter {
   @Override
   public void add(long increment, Attributes attributes, Context context) {
     if (increment < 0) {
-      throttlingLogger.log(
-          Level.WARNING,
-          "Counters can only increase. Instrument "
-              + getDescriptor().getName()
-              + " has recorded a negative value.");
+      logNegativeIncrement();
       return;
     }
     storage.recordLong(increment, attributes, context);
   }
 
+  void logNegativeIncrement() {
+    throttlingLogger.log(
+        Level.WARNING,
+        "Counters can only increase. Instrument "
+            + getDescriptor().getName()
+            + " has recorded a negative value.");
+  }
+
   @Override
   public void add(long increment, Attributes attributes) {
     add(increment, attributes, Context.current());
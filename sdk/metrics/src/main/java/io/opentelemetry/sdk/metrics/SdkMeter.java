@@ -19,16 +19,20 @@ import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.api.metrics.ObservableMeasurement;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
 import io.opentelemetry.sdk.metrics.data.MetricData;
 import io.opentelemetry.sdk.metrics.internal.MeterConfig;
 import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
 import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
 import io.opentelemetry.sdk.metrics.internal.state.AsynchronousMetricStorage;
+import io.opentelemetry.sdk.metrics.internal.state.BoundStorageHandle;
+import io.opentelemetry.sdk.metrics.internal.state.CallbackInvoker;
 import io.opentelemetry.sdk.metrics.internal.state.CallbackRegistration;
 import io.opentelemetry.sdk.metrics.internal.state.MeterProviderSharedState;
 import io.opentelemetry.sdk.metrics.internal.state.MetricStorage;
 import io.opentelemetry.sdk.metrics.internal.state.MetricStorageRegistry;
 import io.opentelemetry.sdk.metrics.internal.state.SdkObservableMeasurement;
+import io.opentelemetry.sdk.metrics.internal.state.SharedSynchronousMetricStorage;
 import io.opentelemetry.sdk.metrics.internal.state.SynchronousMetricStorage;
 import io.opentelemetry.sdk.metrics.internal.state.WriteableMetricStorage;
 import io.opentelemetry.sdk.metrics.internal.view.RegisteredView;
@@ -36,6 +40,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -44,6 +50,7 @@ import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
+import javax.annotation.Nullable;
 
 /** {@link SdkMeter} is SDK implementation of {@link Meter}. */
 final class SdkMeter implements Meter {
@@ -88,6 +95,7 @@ final class SdkMeter implements Meter {
   private final MeterProviderSharedState meterProviderSharedState;
   private final InstrumentationScopeInfo instrumentationScopeInfo;
   private final Map<RegisteredReader, MetricStorageRegistry> readerStorageRegistries;
+  @Nullable private final CallbackInvoker callbackInvoker;
 
   private volatile boolean meterEnabled;
 
@@ -96,6 +104,21 @@ final class SdkMeter implements Meter {
       InstrumentationScopeInfo instrumentationScopeInfo,
       List<RegisteredReader> registeredReaders,
       MeterConfig meterConfig) {
+    this(
+        meterProviderSharedState,
+        instrumentationScopeInfo,
+        registeredReaders,
+        meterConfig,
+        /* callbackInvoker= */ null);
+  }
+
+  SdkMeter(
+      MeterProviderSharedState meterProviderSharedState,
+      InstrumentationScopeInfo instrumentationScopeInfo,
+      List<RegisteredReader> registeredReaders,
+      MeterConfig meterConfig,
+      @Nullable CallbackInvoker callbackInvoker) {
+    this.callbackInvoker = callbackInvoker;
     this.instrumentationScopeInfo = instrumentationScopeInfo;
     this.meterProviderSharedState = meterProviderSharedState;
     this.readerStorageRegistries =
@@ -131,9 +154,18 @@ final class SdkMeter implements Meter {
     synchronized (collectLock) {
       // Only invoke callbacks if meter is enabled
       if (meterEnabled) {
-        for (CallbackRegistration callbackRegistration : currentRegisteredCallbacks) {
-          callbackRegistration.invokeCallback(
-              registeredReader, meterProviderSharedState.getStartEpochNanos(), epochNanos);
+        CallbackInvoker invoker = callbackInvoker;
+        if (invoker != null) {
+          invoker.invokeCallbacks(
+              currentRegisteredCallbacks,
+              registeredReader,
+              meterProviderSharedState.getStartEpochNanos(),
+              epochNanos);
+        } else {
+          for (CallbackRegistration callbackRegistration : currentRegisteredCallbacks) {
+            callbackRegistration.invokeCallback(
+                registeredReader, meterProviderSharedState.getStartEpochNanos(), epochNanos);
+          }
         }
       }
 
@@ -274,6 +306,8 @@ final class SdkMeter implements Meter {
   WriteableMetricStorage registerSynchronousMetricStorage(InstrumentDescriptor instrument) {
 
     List<SynchronousMetricStorage> registeredStorages = new ArrayList<>();
+    // Readers which may share a storage, grouped by their equal views
+    Map<RegisteredView, List<RegisteredReader>> shareableReaders = new LinkedHashMap<>();
     for (Map.Entry<RegisteredReader, MetricStorageRegistry> entry :
         readerStorageRegistries.entrySet()) {
       RegisteredReader reader = entry.getKey();
@@ -283,22 +317,85 @@ final class SdkMeter implements Meter {
         if (Aggregation.drop() == registeredView.getView().getAggregation()) {
           continue;
         }
+        if (meterProviderSharedState.isStorageSharedAcrossReaders()
+            && SharedSynchronousMetricStorage.isShareable(reader, registeredView)) {
+          shareableReaders.computeIfAbsent(registeredView, unused -> new ArrayList<>()).add(reader);
+          continue;
+        }
         registeredStorages.add(
-            registry.register(
-                SynchronousMetricStorage.create(
-                    reader,
-                    registeredView,
-                    instrument,
-                    meterProviderSharedState.getExemplarFilter(),
-                    meterEnabled)));
+            registry.register(createSynchronousMetricStorage(reader, registeredView, instrument)));
+      }
+    }
+    for (Map.Entry<RegisteredView, List<RegisteredReader>> entry : shareableReaders.entrySet()) {
+      registerSharedSynchronousMetricStorages(
+          entry.getKey(), entry.getValue(), instrument, registeredStorages);
+    }
+
+    // Record to each shared storage once, rather than once per reader sharing it
+    List<SynchronousMetricStorage> writeableStorages = new ArrayList<>(registeredStorages.size());
+    Set<SynchronousMetricStorage> distinctStorages =
+        Collections.newSetFromMap(new IdentityHashMap<>());
+    for (SynchronousMetricStorage storage : registeredStorages) {
+      SynchronousMetricStorage writeableStorage =
+          storage instanceof SharedSynchronousMetricStorage
+              ? ((SharedSynchronousMetricStorage) storage).getSharedStorage()
+              : storage;
+      if (distinctStorages.add(writeableStorage)) {
+        writeableStorages.add(writeableStorage);
       }
     }
 
-    if (registeredStorages.size() == 1) {
-      return registeredStorages.get(0);
+    if (writeableStorages.size() == 1) {
+      return writeableStorages.get(0);
     }
 
-    return new MultiWritableMetricStorage(registeredStorages);
+    return new MultiWritableMetricStorage(writeableStorages);
+  }
+
+  /**
+   * Registers a storage for {@code registeredView} shared by {@code readers}, which is aggregated
+   * with cumulative temporality and so requires at least one reader with cumulative temporality.
+   * Readers which can't share it get a storage of their own.
+   */
+  private void registerSharedSynchronousMetricStorages(
+      RegisteredView registeredView,
+      List<RegisteredReader> readers,
+      InstrumentDescriptor instrument,
+      List<SynchronousMetricStorage> registeredStorages) {
+    RegisteredReader cumulativeReader = null;
+    for (RegisteredReader reader : readers) {
+      if (reader.getReader().getAggregationTemporality(instrument.getType())
+          == AggregationTemporality.CUMULATIVE) {
+        cumulativeReader = reader;
+        break;
+      }
+    }
+    SynchronousMetricStorage sharedStorage =
+        readers.size() > 1 && cumulativeReader != null
+            ? createSynchronousMetricStorage(cumulativeReader, registeredView, instrument)
+            : null;
+    for (RegisteredReader reader : readers) {
+      SynchronousMetricStorage storage =
+          sharedStorage == null
+              ? null
+              : SharedSynchronousMetricStorage.create(sharedStorage, reader, instrument);
+      if (storage == null) {
+        storage = createSynchronousMetricStorage(reader, registeredView, instrument);
+      }
+      registeredStorages.add(
+          Objects.requireNonNull(readerStorageRegistries.get(reader)).register(storage));
+    }
+  }
+
+  private SynchronousMetricStorage createSynchronousMetricStorage(
+      RegisteredReader reader, RegisteredView registeredView, InstrumentDescriptor instrument) {
+    return SynchronousMetricStorage.create(
+        reader,
+        registeredView,
+        instrument,
+        meterProviderSharedState.getExemplarFilter(),
+        meterEnabled,
+        meterProviderSharedState.getRecordingStripes());
   }
 
   /** Register new asynchronous storage associated with a given instrument. */
@@ -378,5 +475,28 @@ final class SdkMeter implements Meter {
       }
       return false;
     }
+
+    @Override
+    public BoundStorageHandle bind(Attributes attributes) {
+      List<BoundStorageHandle> boundHandles = new ArrayList<>(storages.size());
+      for (WriteableMetricStorage storage : storages) {
+        boundHandles.add(storage.bind(attributes));
+      }
+      return new BoundStorageHandle() {
+        @Override
+        public void recordLong(long value, Context context) {
+          for (BoundStorageHandle boundHandle : boundHandles) {
+            boundHandle.recordLong(value, context);
+          }
+        }
+
+        @Override
+        public void recordDouble(double value, Context context) {
+          for (BoundStorageHandle boundHandle : boundHandles) {
+            boundHandle.recordDouble(value, context);
+          }
+        }
+      };
+    }
   }
 }
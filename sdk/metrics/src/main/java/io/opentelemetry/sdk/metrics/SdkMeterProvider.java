@@ -23,19 +23,26 @@ import io.opentelemetry.sdk.metrics.internal.MeterConfig;
 import io.opentelemetry.sdk.metrics.internal.SdkMeterProviderUtil;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
 import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
+import io.opentelemetry.sdk.metrics.internal.state.CallbackInvoker;
 import io.opentelemetry.sdk.metrics.internal.state.MeterProviderSharedState;
 import io.opentelemetry.sdk.metrics.internal.view.RegisteredView;
 import io.opentelemetry.sdk.metrics.internal.view.ViewRegistry;
 import io.opentelemetry.sdk.resources.Resource;
 import java.io.Closeable;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * SDK implementation for {@link MeterProvider}.
@@ -68,7 +75,12 @@ public final class SdkMeterProvider implements MeterProvider, Closeable {
       Clock clock,
       Resource resource,
       ExemplarFilter exemplarFilter,
-      ScopeConfigurator<MeterConfig> meterConfigurator) {
+      ScopeConfigurator<MeterConfig> meterConfigurator,
+      int recordingStripes,
+      boolean storageSharedAcrossReaders,
+      @Nullable ExecutorService collectionExecutor,
+      @Nullable ExecutorService callbackExecutor,
+      Duration callbackTimeout) {
     long startEpochNanos = clock.now();
     this.registeredViews = registeredViews;
     this.registeredReaders =
@@ -81,7 +93,17 @@ public final class SdkMeterProvider implements MeterProvider, Closeable {
             .collect(toList());
     this.metricProducers = metricProducers;
     this.sharedState =
-        MeterProviderSharedState.create(clock, resource, exemplarFilter, startEpochNanos);
+        MeterProviderSharedState.create(
+            clock,
+            resource,
+            exemplarFilter,
+            startEpochNanos,
+            recordingStripes,
+            storageSharedAcrossReaders);
+    CallbackInvoker callbackInvoker =
+        callbackExecutor == null
+            ? null
+            : CallbackInvoker.create(callbackExecutor, callbackTimeout, this);
     this.registry =
         new ComponentRegistry<>(
             instrumentationLibraryInfo ->
@@ -89,11 +111,13 @@ public final class SdkMeterProvider implements MeterProvider, Closeable {
                     sharedState,
                     instrumentationLibraryInfo,
                     registeredReaders,
-                    getMeterConfig(instrumentationLibraryInfo)));
+                    getMeterConfig(instrumentationLibraryInfo),
+                    callbackInvoker));
     this.meterConfigurator = meterConfigurator;
     for (RegisteredReader registeredReader : registeredReaders) {
       List<MetricProducer> readerMetricProducers = new ArrayList<>(metricProducers);
-      readerMetricProducers.add(new LeasedMetricProducer(registry, sharedState, registeredReader));
+      readerMetricProducers.add(
+          new LeasedMetricProducer(registry, sharedState, registeredReader, collectionExecutor));
       registeredReader
           .getReader()
           .register(new SdkCollectionRegistration(readerMetricProducers, sharedState));
@@ -201,14 +225,17 @@ public final class SdkMeterProvider implements MeterProvider, Closeable {
     private final ComponentRegistry<SdkMeter> registry;
     private final MeterProviderSharedState sharedState;
     private final RegisteredReader registeredReader;
+    @Nullable private final ExecutorService collectionExecutor;
 
     LeasedMetricProducer(
         ComponentRegistry<SdkMeter> registry,
         MeterProviderSharedState sharedState,
-        RegisteredReader registeredReader) {
+        RegisteredReader registeredReader,
+        @Nullable ExecutorService collectionExecutor) {
       this.registry = registry;
       this.sharedState = sharedState;
       this.registeredReader = registeredReader;
+      this.collectionExecutor = collectionExecutor;
     }
 
     @Override
@@ -216,12 +243,87 @@ public final class SdkMeterProvider implements MeterProvider, Closeable {
       Collection<SdkMeter> meters = registry.getComponents();
       List<MetricData> result = new ArrayList<>();
       long collectTime = sharedState.getClock().now();
-      for (SdkMeter meter : meters) {
-        result.addAll(meter.collectAll(registeredReader, collectTime));
+      ExecutorService executor = collectionExecutor;
+      if (executor == null || meters.size() <= 1) {
+        for (SdkMeter meter : meters) {
+          result.addAll(meter.collectAll(registeredReader, collectTime));
+        }
+      } else {
+        collectInParallel(executor, new ArrayList<>(meters), collectTime, result);
       }
       registeredReader.setLastCollectEpochNanos(collectTime);
       return Collections.unmodifiableCollection(result);
     }
+
+    /**
+     * Collects each of {@code meters} in its own task, the first on the calling thread and the rest
+     * on {@code executor}, and adds the results to {@code result} in the order of {@code meters}.
+     * Meters the executor rejects are collected on the calling thread. Returns only once every
+     * meter has been collected, so no collection is still in progress once this returns.
+     */
+    private void collectInParallel(
+        ExecutorService executor,
+        List<SdkMeter> meters,
+        long collectTime,
+        List<MetricData> result) {
+      List<Future<Collection<MetricData>>> futures = new ArrayList<>(meters.size() - 1);
+      for (SdkMeter meter : meters.subList(1, meters.size())) {
+        try {
+          futures.add(executor.submit(() -> meter.collectAll(registeredReader, collectTime)));
+        } catch (RejectedExecutionException e) {
+          futures.add(null);
+        }
+      }
+
+      RuntimeException failure = null;
+      try {
+        result.addAll(meters.get(0).collectAll(registeredReader, collectTime));
+      } catch (RuntimeException e) {
+        failure = e;
+      }
+      // Wait for every meter, even after a failure or an interrupt, so no meter is still being
+      // collected once this returns.
+      boolean interrupted = false;
+      for (int i = 0; i < futures.size(); i++) {
+        Future<Collection<MetricData>> future = futures.get(i);
+        if (future == null) {
+          if (failure == null) {
+            try {
+              result.addAll(meters.get(i + 1).collectAll(registeredReader, collectTime));
+            } catch (RuntimeException e) {
+              failure = e;
+            }
+          }
+          continue;
+        }
+        while (true) {
+          try {
+            Collection<MetricData> meterResult = future.get();
+            if (failure == null) {
+              result.addAll(meterResult);
+            }
+            break;
+          } catch (InterruptedException e) {
+            interrupted = true;
+          } catch (ExecutionException e) {
+            if (failure == null) {
+              Throwable cause = e.getCause();
+              failure =
+                  cause instanceof RuntimeException
+                      ? (RuntimeException) cause
+                      : new IllegalStateException("Error collecting meter", cause);
+            }
+            break;
+          }
+        }
+      }
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+      if (failure != null) {
+        throw failure;
+      }
+    }
   }
 
   private static class SdkCollectionRegistration implements CollectionRegistration {
@@ -5,6 +5,8 @@
 
 package io.opentelemetry.sdk.metrics;
 
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+
 import io.opentelemetry.sdk.common.Clock;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.internal.ScopeConfigurator;
@@ -18,11 +20,14 @@ import io.opentelemetry.sdk.metrics.internal.debug.SourceInfo;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
 import io.opentelemetry.sdk.metrics.internal.view.RegisteredView;
 import io.opentelemetry.sdk.resources.Resource;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Predicate;
+import javax.annotation.Nullable;
 
 /**
  * Builder class for the {@link SdkMeterProvider}.
@@ -38,6 +43,8 @@ public final class SdkMeterProviderBuilder {
    */
   private static final ExemplarFilter DEFAULT_EXEMPLAR_FILTER = ExemplarFilter.traceBased();
 
+  private static final Duration DEFAULT_CALLBACK_TIMEOUT = Duration.ofSeconds(1);
+
   private Clock clock = Clock.getDefault();
   private Resource resource = Resource.getDefault();
   private final IdentityHashMap<MetricReader, CardinalityLimitSelector> metricReaders =
@@ -47,6 +54,11 @@ public final class SdkMeterProviderBuilder {
   private ExemplarFilter exemplarFilter = DEFAULT_EXEMPLAR_FILTER;
   private ScopeConfiguratorBuilder<MeterConfig> meterConfiguratorBuilder =
       MeterConfig.configuratorBuilder();
+  private int recordingStripes = 1;
+  private boolean storageSharedAcrossReaders;
+  @Nullable private ExecutorService collectionExecutor;
+  @Nullable private ExecutorService callbackExecutor;
+  private Duration callbackTimeout = DEFAULT_CALLBACK_TIMEOUT;
 
   SdkMeterProviderBuilder() {}
 
@@ -124,6 +136,7 @@ public final class SdkMeterProviderBuilder {
             view,
             view.getAttributesProcessor(),
             view.getCardinalityLimit(),
+            view.getMaxSeriesIdleCollections(),
             SourceInfo.fromCurrentStack()));
     return this;
   }
@@ -198,6 +211,86 @@ public final class SdkMeterProviderBuilder {
     return this;
   }
 
+  /**
+   * Sets the number of stripes synchronous instruments use to track in-progress recordings. By
+   * default a single counter per instrument and reader is shared by all recording threads, which
+   * can become a point of contention when many threads record to the same instrument. Higher
+   * values spread recording threads over more cache lines at the cost of a slightly more expensive
+   * collection. The value is rounded up to the next power of two.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkMeterProviderUtil#setRecordingStripes(SdkMeterProviderBuilder, int)}.
+   */
+  SdkMeterProviderBuilder setRecordingStripes(int recordingStripes) {
+    checkArgument(recordingStripes > 0, "recordingStripes must be positive");
+    this.recordingStripes = recordingStripes;
+    return this;
+  }
+
+  /**
+   * Sets whether readers share the storage of synchronous instruments. By default, each reader
+   * aggregates every measurement into a storage of its own, so each measurement is aggregated once
+   * per reader. When enabled, readers with the same view of an instrument share a single storage
+   * aggregating with cumulative temporality, and readers with delta temporality compute the delta
+   * from the points they collected last. Only readers with {@link
+   * io.opentelemetry.sdk.common.export.MemoryMode#IMMUTABLE_DATA} share storages, and delta readers
+   * only share storages of sums. All readers sharing a storage see the exemplars offered since the
+   * last collection of any of them.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkMeterProviderUtil#setStorageSharedAcrossReaders(SdkMeterProviderBuilder, boolean)}.
+   */
+  SdkMeterProviderBuilder setStorageSharedAcrossReaders(boolean storageSharedAcrossReaders) {
+    this.storageSharedAcrossReaders = storageSharedAcrossReaders;
+    return this;
+  }
+
+  /**
+   * Sets an {@link ExecutorService} to collect meters on, for example a {@link
+   * java.util.concurrent.ForkJoinPool}. By default, all meters are collected one after another on
+   * the thread collecting metrics. When set, each meter is collected in its own task on the
+   * executor, shortening collection at the cost of using more threads. Collected metrics are
+   * returned in the same order either way.
+   *
+   * <p>The executor must not be the one metric readers collect on, such as the executor of a
+   * {@link io.opentelemetry.sdk.metrics.export.PeriodicMetricReader}, nor the one callbacks are
+   * invoked on, as collection waits for the tasks it submits. The executor is not shut down with
+   * the {@link SdkMeterProvider}.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkMeterProviderUtil#setCollectionExecutor(SdkMeterProviderBuilder, ExecutorService)}.
+   */
+  SdkMeterProviderBuilder setCollectionExecutor(ExecutorService collectionExecutor) {
+    Objects.requireNonNull(collectionExecutor, "collectionExecutor");
+    this.collectionExecutor = collectionExecutor;
+    return this;
+  }
+
+  /**
+   * Sets an {@link ExecutorService} to invoke the callbacks of asynchronous instruments on, and
+   * the time each collection waits for them. By default, callbacks are invoked one after another
+   * on the thread collecting metrics, so a slow callback delays the whole collection. When set,
+   * the callbacks of a meter are invoked concurrently and a callback which doesn't complete within
+   * {@code timeout} is represented by the values it observed last. A timed out callback isn't
+   * invoked again until it completes. The duration of each callback is recorded to the {@code
+   * otel.sdk.metric.callback.duration} histogram of the built {@link SdkMeterProvider}.
+   *
+   * <p>The executor should be bounded, and must not be the one metric readers collect on. It is
+   * not shut down with the {@link SdkMeterProvider}.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkMeterProviderUtil#setCallbackExecutor(SdkMeterProviderBuilder, ExecutorService,
+   * Duration)}.
+   */
+  SdkMeterProviderBuilder setCallbackExecutor(ExecutorService callbackExecutor, Duration timeout) {
+    Objects.requireNonNull(callbackExecutor, "callbackExecutor");
+    Objects.requireNonNull(timeout, "timeout");
+    checkArgument(!timeout.isNegative(), "timeout must be non-negative");
+    this.callbackExecutor = callbackExecutor;
+    this.callbackTimeout = timeout;
+    return this;
+  }
+
   /** Returns an {@link SdkMeterProvider} built with the configuration of this builder. */
   public SdkMeterProvider build() {
     return new SdkMeterProvider(
@@ -207,6 +300,11 @@ public final class SdkMeterProviderBuilder {
         clock,
         resource,
         exemplarFilter,
-        meterConfiguratorBuilder.build());
+        meterConfiguratorBuilder.build(),
+        recordingStripes,
+        storageSharedAcrossReaders,
+        collectionExecutor,
+        callbackExecutor,
+        callbackTimeout);
   }
 }
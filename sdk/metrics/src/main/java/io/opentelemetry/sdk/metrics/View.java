@@ -33,9 +33,15 @@ public abstract class View {
       @Nullable String description,
       Aggregation aggregation,
       AttributesProcessor attributesProcessor,
-      int cardinalityLimit) {
+      int cardinalityLimit,
+      int maxSeriesIdleCollections) {
     return new AutoValue_View(
-        name, description, aggregation, attributesProcessor, cardinalityLimit);
+        name,
+        description,
+        aggregation,
+        attributesProcessor,
+        cardinalityLimit,
+        maxSeriesIdleCollections);
   }
 
   View() {}
@@ -67,6 +73,12 @@ public abstract class View {
    */
   public abstract int getCardinalityLimit();
 
+  /**
+   * Returns the number of consecutive collections without measurements after which a series of a
+   * cumulative metric is evicted, or {@code 0} if series are never evicted.
+   */
+  abstract int getMaxSeriesIdleCollections();
+
   @Override
   public final String toString() {
     StringJoiner joiner = new StringJoiner(", ", "View{", "}");
@@ -79,6 +91,9 @@ public abstract class View {
     joiner.add("aggregation=" + getAggregation());
     joiner.add("attributesProcessor=" + getAttributesProcessor());
     joiner.add("cardinalityLimit=" + getCardinalityLimit());
+    if (getMaxSeriesIdleCollections() > 0) {
+      joiner.add("maxSeriesIdleCollections=" + getMaxSeriesIdleCollections());
+    }
     return joiner.toString();
   }
 }
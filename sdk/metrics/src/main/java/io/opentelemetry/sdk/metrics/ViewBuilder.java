@@ -5,6 +5,8 @@
 
 package io.opentelemetry.sdk.metrics;
 
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+
 import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.internal.IncludeExcludePredicate;
 import io.opentelemetry.sdk.metrics.internal.SdkMeterProviderUtil;
@@ -28,6 +30,7 @@ public final class ViewBuilder {
   private Aggregation aggregation = Aggregation.defaultAggregation();
   private AttributesProcessor processor = AttributesProcessor.noop();
   private int cardinalityLimit = MetricStorage.DEFAULT_MAX_CARDINALITY;
+  private int maxSeriesIdleCollections = 0;
 
   ViewBuilder() {}
 
@@ -123,8 +126,32 @@ public final class ViewBuilder {
     return this;
   }
 
+  /**
+   * Evict series of cumulative metrics which have no measurements recorded for {@code
+   * maxSeriesIdleCollections} consecutive collections.
+   *
+   * <p>Evicting idle series bounds the memory held by long-running processes recording to many
+   * short-lived attribute sets, and frees room under the cardinality limit for new series. An
+   * evicted series is no longer exported, and if measurements are recorded to it again, it starts
+   * over from zero with the start time of the collection preceding its first new measurement.
+   * Series of delta metrics are not affected, as they are only retained while measurements are
+   * recorded to them.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkMeterProviderUtil#setMaxSeriesIdleCollections(ViewBuilder, int)}.
+   *
+   * @param maxSeriesIdleCollections the number of idle collections after which a series is
+   *     evicted, or {@code 0} to never evict series
+   */
+  ViewBuilder setMaxSeriesIdleCollections(int maxSeriesIdleCollections) {
+    checkArgument(maxSeriesIdleCollections >= 0, "maxSeriesIdleCollections must be >= 0");
+    this.maxSeriesIdleCollections = maxSeriesIdleCollections;
+    return this;
+  }
+
   /** Returns a {@link View} with the configuration of this builder. */
   public View build() {
-    return View.create(name, description, aggregation, processor, cardinalityLimit);
+    return View.create(
+        name, description, aggregation, processor, cardinalityLimit, maxSeriesIdleCollections);
   }
 }
@@ -15,6 +15,8 @@ import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
 import io.opentelemetry.sdk.metrics.internal.view.StringPredicates;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Predicate;
 
 /**
@@ -49,6 +51,97 @@ public final class SdkMeterProviderUtil {
     return sdkMeterProviderBuilder;
   }
 
+  /**
+   * Reflectively set the number of stripes used to track in-progress recordings of synchronous
+   * instruments on the {@link SdkMeterProviderBuilder}.
+   *
+   * @param sdkMeterProviderBuilder the builder
+   * @param recordingStripes the number of stripes, rounded up to the next power of two
+   */
+  public static SdkMeterProviderBuilder setRecordingStripes(
+      SdkMeterProviderBuilder sdkMeterProviderBuilder, int recordingStripes) {
+    try {
+      Method method =
+          SdkMeterProviderBuilder.class.getDeclaredMethod("setRecordingStripes", int.class);
+      method.setAccessible(true);
+      method.invoke(sdkMeterProviderBuilder, recordingStripes);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setRecordingStripes on SdkMeterProviderBuilder", e);
+    }
+    return sdkMeterProviderBuilder;
+  }
+
+  /**
+   * Reflectively set whether readers share the storage of synchronous instruments on the {@link
+   * SdkMeterProviderBuilder}.
+   *
+   * @param sdkMeterProviderBuilder the builder
+   * @param storageSharedAcrossReaders whether readers with the same view share a storage
+   */
+  public static SdkMeterProviderBuilder setStorageSharedAcrossReaders(
+      SdkMeterProviderBuilder sdkMeterProviderBuilder, boolean storageSharedAcrossReaders) {
+    try {
+      Method method =
+          SdkMeterProviderBuilder.class.getDeclaredMethod(
+              "setStorageSharedAcrossReaders", boolean.class);
+      method.setAccessible(true);
+      method.invoke(sdkMeterProviderBuilder, storageSharedAcrossReaders);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setStorageSharedAcrossReaders on SdkMeterProviderBuilder", e);
+    }
+    return sdkMeterProviderBuilder;
+  }
+
+  /**
+   * Reflectively set the {@link ExecutorService} meters are collected on to the {@link
+   * SdkMeterProviderBuilder}.
+   *
+   * @param sdkMeterProviderBuilder the builder
+   * @param collectionExecutor the executor to spread collection of meters over
+   */
+  public static SdkMeterProviderBuilder setCollectionExecutor(
+      SdkMeterProviderBuilder sdkMeterProviderBuilder, ExecutorService collectionExecutor) {
+    try {
+      Method method =
+          SdkMeterProviderBuilder.class.getDeclaredMethod(
+              "setCollectionExecutor", ExecutorService.class);
+      method.setAccessible(true);
+      method.invoke(sdkMeterProviderBuilder, collectionExecutor);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setCollectionExecutor on SdkMeterProviderBuilder", e);
+    }
+    return sdkMeterProviderBuilder;
+  }
+
+  /**
+   * Reflectively set the {@link ExecutorService} the callbacks of asynchronous instruments are
+   * invoked on, and the time collection waits for them, to the {@link SdkMeterProviderBuilder}.
+   *
+   * @param sdkMeterProviderBuilder the builder
+   * @param callbackExecutor the executor to invoke callbacks on
+   * @param timeout the time each collection waits for a callback before recording the values it
+   *     observed last
+   */
+  public static SdkMeterProviderBuilder setCallbackExecutor(
+      SdkMeterProviderBuilder sdkMeterProviderBuilder,
+      ExecutorService callbackExecutor,
+      Duration timeout) {
+    try {
+      Method method =
+          SdkMeterProviderBuilder.class.getDeclaredMethod(
+              "setCallbackExecutor", ExecutorService.class, Duration.class);
+      method.setAccessible(true);
+      method.invoke(sdkMeterProviderBuilder, callbackExecutor, timeout);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setCallbackExecutor on SdkMeterProviderBuilder", e);
+    }
+    return sdkMeterProviderBuilder;
+  }
+
   /** Reflectively set the {@link ScopeConfigurator} to the {@link SdkMeterProvider}. */
   public static void setMeterConfigurator(
       SdkMeterProvider sdkMeterProvider, ScopeConfigurator<MeterConfig> scopeConfigurator) {
@@ -124,6 +217,26 @@ public final class SdkMeterProviderUtil {
     appendFilteredBaggageAttributes(viewBuilder, StringPredicates.ALL);
   }
 
+  /**
+   * Reflectively set the number of consecutive collections without measurements after which series
+   * of cumulative metrics matching the view are evicted.
+   *
+   * @param viewBuilder the builder
+   * @param maxSeriesIdleCollections the number of idle collections, or {@code 0} to never evict
+   */
+  public static void setMaxSeriesIdleCollections(
+      ViewBuilder viewBuilder, int maxSeriesIdleCollections) {
+    try {
+      Method method =
+          ViewBuilder.class.getDeclaredMethod("setMaxSeriesIdleCollections", int.class);
+      method.setAccessible(true);
+      method.invoke(viewBuilder, maxSeriesIdleCollections);
+    } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
+      throw new IllegalStateException(
+          "Error calling setMaxSeriesIdleCollections on ViewBuilder", e);
+    }
+  }
+
   private static void addAttributesProcessor(
       ViewBuilder viewBuilder, AttributesProcessor attributesProcessor) {
     try {
@@ -14,6 +14,7 @@ import io.opentelemetry.sdk.metrics.internal.exemplar.DoubleExemplarReservoir;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarReservoirFactory;
 import io.opentelemetry.sdk.metrics.internal.exemplar.LongExemplarReservoir;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -30,6 +31,11 @@ import javax.annotation.concurrent.ThreadSafe;
 @ThreadSafe
 public abstract class AggregatorHandle<T extends PointData> {
 
+  private static final AtomicIntegerFieldUpdater<AggregatorHandle<?>> RECORDED_SINCE_CHECK =
+      newUpdater("recordedSinceCheck");
+  private static final AtomicIntegerFieldUpdater<AggregatorHandle<?>> UNCOLLECTED_READERS =
+      newUpdater("uncollectedReaders");
+
   private static final String UNSUPPORTED_LONG_MESSAGE =
       "This aggregator does not support long values.";
   private static final String UNSUPPORTED_DOUBLE_MESSAGE =
@@ -40,6 +46,18 @@ public abstract class AggregatorHandle<T extends PointData> {
   @Nullable private final LongExemplarReservoir longReservoirFactory;
   private final boolean isDoubleType;
   private volatile boolean valuesRecorded = false;
+  // 1 if values were recorded since the last checkIdle(), only tracked when trackIdle is set
+  private volatile int recordedSinceCheck = 0;
+  // Set before the handle is published to recording threads
+  private boolean trackIdle = false;
+  // The bits of the readers which haven't collected since values were last recorded, only tracked
+  // for the readers set by trackCollections
+  private volatile int uncollectedReaders = 0;
+  // Set before the handle is published to recording threads
+  private int trackedReaders = 0;
+  // Only accessed by the collecting thread, or set before the handle is published
+  private int idleCollections = 0;
+  private long seriesStartEpochNanos = 0;
 
   protected AggregatorHandle(ExemplarReservoirFactory reservoirFactory) {
     this.isDoubleType = isDoubleType();
@@ -117,7 +135,7 @@ public abstract class AggregatorHandle<T extends PointData> {
     throwUnsupportedIfNull(this.longReservoirFactory, UNSUPPORTED_LONG_MESSAGE)
         .offerLongMeasurement(value, attributes, context);
     doRecordLong(value);
-    valuesRecorded = true;
+    markValuesRecorded();
   }
 
   /**
@@ -132,7 +150,7 @@ public abstract class AggregatorHandle<T extends PointData> {
     throwUnsupportedIfNull(this.doubleReservoirFactory, UNSUPPORTED_DOUBLE_MESSAGE)
         .offerDoubleMeasurement(value, attributes, context);
     doRecordDouble(value);
-    valuesRecorded = true;
+    markValuesRecorded();
   }
 
   /**
@@ -143,6 +161,95 @@ public abstract class AggregatorHandle<T extends PointData> {
     throw new UnsupportedOperationException(UNSUPPORTED_DOUBLE_MESSAGE);
   }
 
+  private void markValuesRecorded() {
+    // Only write when the flag changes, avoiding a volatile store on every measurement which would
+    // bounce the cache line between threads recording to the same handle.
+    if (!valuesRecorded) {
+      valuesRecorded = true;
+    }
+    if (trackIdle && recordedSinceCheck == 0) {
+      recordedSinceCheck = 1;
+    }
+    int readers = trackedReaders;
+    if (readers != 0 && uncollectedReaders != readers) {
+      UNCOLLECTED_READERS.accumulateAndGet(this, readers, (current, bits) -> current | bits);
+    }
+  }
+
+  /**
+   * Starts tracking, for each reader whose bit is set in {@code readers}, whether values were
+   * recorded to this handle since the reader last collected it, see {@link
+   * #checkRecordedSinceCollect(int)}. Must be called before the handle is shared with recording
+   * threads.
+   */
+  public void trackCollections(int readers) {
+    trackedReaders = readers;
+  }
+
+  /**
+   * Called by the reader whose bit is {@code reader} when it collects this handle. Returns whether
+   * values were recorded since the reader's previous call.
+   */
+  public boolean checkRecordedSinceCollect(int reader) {
+    return (UNCOLLECTED_READERS.getAndAccumulate(this, reader, (current, bit) -> current & ~bit)
+            & reader)
+        != 0;
+  }
+
+  /**
+   * Starts tracking the collections in which no values are recorded to this handle, see {@link
+   * #checkIdle()}. Must be called before the handle is shared with recording threads.
+   */
+  public void trackIdle() {
+    trackIdle = true;
+  }
+
+  /**
+   * Called once per collection by storages tracking idle series. Returns the number of consecutive
+   * collections, including this one, in which no values were recorded to this handle.
+   */
+  public int checkIdle() {
+    if (RECORDED_SINCE_CHECK.getAndSet(this, 0) == 1) {
+      idleCollections = 0;
+    } else {
+      idleCollections++;
+    }
+    return idleCollections;
+  }
+
+  /** Returns the number of idle collections counted by the last {@link #checkIdle()}. */
+  public int getIdleCollections() {
+    return idleCollections;
+  }
+
+  /** Returns whether values have been recorded since the last {@link #checkIdle()}. */
+  public boolean isRecordedSinceCheck() {
+    return recordedSinceCheck == 1;
+  }
+
+  /**
+   * Returns the start epoch of the series this handle aggregates, or {@code 0} if the series has
+   * been aggregated since the start of the storage.
+   */
+  public long getSeriesStartEpochNanos() {
+    return seriesStartEpochNanos;
+  }
+
+  /**
+   * Sets the start epoch of the series this handle aggregates, i.e. when a storage recreates a
+   * series it previously evicted.
+   */
+  public void setSeriesStartEpochNanos(long seriesStartEpochNanos) {
+    this.seriesStartEpochNanos = seriesStartEpochNanos;
+  }
+
+  /**
+   * Called by storages when they discard this handle, rather than retaining it or returning it to
+   * a pool. Frees any resources which the garbage collector doesn't reclaim. The handle must no
+   * longer be used.
+   */
+  public void release() {}
+
   /**
    * Checks whether this handle has values recorded.
    *
@@ -152,6 +259,12 @@ public abstract class AggregatorHandle<T extends PointData> {
     return valuesRecorded;
   }
 
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static AtomicIntegerFieldUpdater<AggregatorHandle<?>> newUpdater(String fieldName) {
+    return (AtomicIntegerFieldUpdater)
+        AtomicIntegerFieldUpdater.newUpdater(AggregatorHandle.class, fieldName);
+  }
+
   private static <S> S throwUnsupportedIfNull(@Nullable S value, String message) {
     if (value == null) {
       throw new UnsupportedOperationException(message);
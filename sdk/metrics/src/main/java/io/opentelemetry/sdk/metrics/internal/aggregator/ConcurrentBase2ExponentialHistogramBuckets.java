@@ -0,0 +1,194 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.aggregator;
+
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.internal.DynamicPrimitiveLongList;
+import io.opentelemetry.sdk.metrics.internal.data.MutableExponentialHistogramBuckets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.annotation.Nullable;
+
+/**
+ * The buckets of one sign of a base2 exponential histogram, which can be recorded to concurrently.
+ *
+ * <p>Counts are kept in a circular array of {@code maxBuckets} atomic counters, and the window of
+ * populated indexes is widened with compare-and-set. {@link #record(double)} may be called
+ * concurrently, but every other method changes or reads the whole state, so callers must ensure no
+ * recording is in progress, see {@link DoubleBase2ExponentialHistogramAggregator.Handle}.
+ */
+final class ConcurrentBase2ExponentialHistogramBuckets {
+
+  // An empty window has its start after its end.
+  private static final long EMPTY_WINDOW = window(1, 0);
+
+  private final int maxBuckets;
+  private final AtomicLongArray counts;
+  private final AtomicLong window = new AtomicLong(EMPTY_WINDOW);
+  private int scale;
+  private Base2ExponentialHistogramIndexer indexer;
+
+  // Scratch space for downscaling, allocated on first use.
+  @Nullable private long[] downscaleCounts;
+
+  ConcurrentBase2ExponentialHistogramBuckets(int scale, int maxBuckets) {
+    this.maxBuckets = maxBuckets;
+    this.counts = new AtomicLongArray(maxBuckets);
+    this.scale = scale;
+    this.indexer = Base2ExponentialHistogramIndexer.get(scale);
+  }
+
+  /**
+   * Records a non-zero value. Returns {@code false} if the value does not fit the current scale,
+   * in which case the buckets must be downscaled by {@link #getScaleReduction(double)}.
+   */
+  boolean record(double value) {
+    int index = indexer.computeIndex(value);
+    long current;
+    long updated;
+    do {
+      current = window.get();
+      int start = start(current);
+      int end = end(current);
+      if (start > end) {
+        updated = window(index, index);
+      } else {
+        start = Math.min(start, index);
+        end = Math.max(end, index);
+        if ((long) end - start + 1 > maxBuckets) {
+          return false;
+        }
+        updated = window(start, end);
+      }
+    } while (updated != current && !window.compareAndSet(current, updated));
+    counts.incrementAndGet(slot(index));
+    return true;
+  }
+
+  int getScale() {
+    return scale;
+  }
+
+  /** Returns the scale reduction needed to record {@code value}, as for {@link #downscale(int)}. */
+  int getScaleReduction(double value) {
+    long index = indexer.computeIndex(value);
+    long current = window.get();
+    long newStart = Math.min(index, start(current));
+    long newEnd = Math.max(index, end(current));
+    int scaleReduction = 0;
+    while (newEnd - newStart + 1 > maxBuckets) {
+      newStart >>= 1;
+      newEnd >>= 1;
+      scaleReduction++;
+    }
+    return scaleReduction;
+  }
+
+  void downscale(int by) {
+    if (by == 0) {
+      return;
+    } else if (by < 0) {
+      // This should never happen without an SDK bug
+      throw new IllegalStateException("Cannot downscale by negative amount. Was given " + by + ".");
+    }
+    long current = window.get();
+    int start = start(current);
+    int end = end(current);
+    if (start <= end) {
+      long[] previous = downscaleCounts;
+      if (previous == null) {
+        previous = new long[maxBuckets];
+        downscaleCounts = previous;
+      }
+      for (int index = start; index <= end; index++) {
+        previous[index - start] = counts.getAndSet(slot(index), 0);
+      }
+      for (int index = start; index <= end; index++) {
+        long count = previous[index - start];
+        if (count > 0) {
+          counts.addAndGet(slot(index >> by), count);
+        }
+      }
+      window.set(window(start >> by, end >> by));
+    }
+    scale -= by;
+    indexer = Base2ExponentialHistogramIndexer.get(scale);
+  }
+
+  /** Resets all counters to zero and the scale to {@code scale}. */
+  void clear(int scale) {
+    long current = window.get();
+    for (int index = start(current); index <= end(current); index++) {
+      counts.set(slot(index), 0);
+    }
+    window.set(EMPTY_WINDOW);
+    this.scale = scale;
+    this.indexer = Base2ExponentialHistogramIndexer.get(scale);
+  }
+
+  /** Returns a copy of the buckets, for {@link MemoryMode#IMMUTABLE_DATA} point data. */
+  DoubleBase2ExponentialHistogramBuckets copy() {
+    DoubleBase2ExponentialHistogramBuckets copy =
+        new DoubleBase2ExponentialHistogramBuckets(scale, maxBuckets, MemoryMode.IMMUTABLE_DATA);
+    long current = window.get();
+    for (int index = start(current); index <= end(current); index++) {
+      long count = counts.get(slot(index));
+      if (count > 0) {
+        copy.increment(index, count);
+      }
+    }
+    return copy;
+  }
+
+  /** Copies the buckets into {@code reusableBuckets}, reusing its bucket count list. */
+  MutableExponentialHistogramBuckets copyInto(MutableExponentialHistogramBuckets reusableBuckets) {
+    DynamicPrimitiveLongList bucketCounts = reusableBuckets.getReusableBucketCountsList();
+    long current = window.get();
+    int start = start(current);
+    int end = end(current);
+    if (start > end) {
+      bucketCounts.resizeAndClear(0);
+      return reusableBuckets.set(scale, 0, 0, bucketCounts);
+    }
+    int length = end - start + 1;
+    if (bucketCounts.size() != length) {
+      bucketCounts.resizeAndClear(length);
+    }
+    long totalCount = 0;
+    for (int i = 0; i < length; i++) {
+      long count = counts.get(slot(start + i));
+      bucketCounts.setLong(i, count);
+      totalCount += count;
+    }
+    return reusableBuckets.set(scale, start, totalCount, bucketCounts);
+  }
+
+  /** Returns the total count of the buckets. */
+  long getTotalCount() {
+    long current = window.get();
+    long totalCount = 0;
+    for (int index = start(current); index <= end(current); index++) {
+      totalCount += counts.get(slot(index));
+    }
+    return totalCount;
+  }
+
+  private int slot(int index) {
+    return Math.floorMod(index, maxBuckets);
+  }
+
+  private static long window(int start, int end) {
+    return ((long) start << 32) | (end & 0xFFFFFFFFL);
+  }
+
+  private static int start(long window) {
+    return (int) (window >> 32);
+  }
+
+  private static int end(long window) {
+    return (int) window;
+  }
+}
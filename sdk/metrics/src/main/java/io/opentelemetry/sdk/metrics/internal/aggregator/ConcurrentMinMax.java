@@ -0,0 +1,54 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.aggregator;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * The minimum and maximum of recorded values, updated without locking. The bits of each double are
+ * compare-and-set only when a value extends the range, so once the range has settled recording is
+ * a plain volatile read.
+ */
+final class ConcurrentMinMax {
+
+  private static final AtomicLongFieldUpdater<ConcurrentMinMax> MIN =
+      AtomicLongFieldUpdater.newUpdater(ConcurrentMinMax.class, "minBits");
+  private static final AtomicLongFieldUpdater<ConcurrentMinMax> MAX =
+      AtomicLongFieldUpdater.newUpdater(ConcurrentMinMax.class, "maxBits");
+
+  // Initial values match the previous synchronized handles, which report them only if count > 0.
+  private static final long INITIAL_MIN_BITS = Double.doubleToRawLongBits(Double.MAX_VALUE);
+  private static final long INITIAL_MAX_BITS = Double.doubleToRawLongBits(-1);
+
+  private volatile long minBits = INITIAL_MIN_BITS;
+  private volatile long maxBits = INITIAL_MAX_BITS;
+
+  void record(double value) {
+    long current;
+    long updated;
+    do {
+      current = minBits;
+      updated = Double.doubleToRawLongBits(Math.min(Double.longBitsToDouble(current), value));
+    } while (updated != current && !MIN.compareAndSet(this, current, updated));
+    do {
+      current = maxBits;
+      updated = Double.doubleToRawLongBits(Math.max(Double.longBitsToDouble(current), value));
+    } while (updated != current && !MAX.compareAndSet(this, current, updated));
+  }
+
+  double getMin() {
+    return Double.longBitsToDouble(minBits);
+  }
+
+  double getMax() {
+    return Double.longBitsToDouble(maxBits);
+  }
+
+  void reset() {
+    minBits = INITIAL_MIN_BITS;
+    maxBits = INITIAL_MAX_BITS;
+  }
+}
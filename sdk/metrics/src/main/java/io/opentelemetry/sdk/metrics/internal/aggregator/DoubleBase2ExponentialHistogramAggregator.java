@@ -6,6 +6,7 @@
 package io.opentelemetry.sdk.metrics.internal.aggregator;
 
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.internal.GuardedBy;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.common.export.MemoryMode;
@@ -15,6 +16,9 @@ import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
 import io.opentelemetry.sdk.metrics.data.ExponentialHistogramBuckets;
 import io.opentelemetry.sdk.metrics.data.ExponentialHistogramPointData;
 import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.internal.concurrent.AdderUtil;
+import io.opentelemetry.sdk.metrics.internal.concurrent.DoubleAdder;
+import io.opentelemetry.sdk.metrics.internal.concurrent.LongAdder;
 import io.opentelemetry.sdk.metrics.internal.data.EmptyExponentialHistogramBuckets;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableExponentialHistogramData;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableExponentialHistogramPointData;
@@ -24,8 +28,12 @@ import io.opentelemetry.sdk.metrics.internal.data.MutableExponentialHistogramPoi
 import io.opentelemetry.sdk.metrics.internal.descriptor.MetricDescriptor;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarReservoirFactory;
 import io.opentelemetry.sdk.resources.Resource;
+import java.lang.ref.WeakReference;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import javax.annotation.Nullable;
 
 /**
@@ -41,6 +49,7 @@ public final class DoubleBase2ExponentialHistogramAggregator
   private final int maxBuckets;
   private final int maxScale;
   private final MemoryMode memoryMode;
+  private final boolean threadBuffered;
 
   /**
    * Constructs an exponential histogram aggregator.
@@ -52,14 +61,34 @@ public final class DoubleBase2ExponentialHistogramAggregator
       int maxBuckets,
       int maxScale,
       MemoryMode memoryMode) {
+    this(reservoirFactory, maxBuckets, maxScale, memoryMode, /* threadBuffered= */ false);
+  }
+
+  /**
+   * Constructs an exponential histogram aggregator.
+   *
+   * @param reservoirFactory Supplier of exemplar reservoirs per-stream.
+   * @param threadBuffered whether each recording thread records into its own buffer, merged on
+   *     collection, instead of sharing the buckets of the stream.
+   */
+  public DoubleBase2ExponentialHistogramAggregator(
+      ExemplarReservoirFactory reservoirFactory,
+      int maxBuckets,
+      int maxScale,
+      MemoryMode memoryMode,
+      boolean threadBuffered) {
     this.reservoirFactory = reservoirFactory;
     this.maxBuckets = maxBuckets;
     this.maxScale = maxScale;
     this.memoryMode = memoryMode;
+    this.threadBuffered = threadBuffered;
   }
 
   @Override
   public AggregatorHandle<ExponentialHistogramPointData> createHandle() {
+    if (threadBuffered) {
+      return new ThreadBufferedHandle(reservoirFactory, maxBuckets, maxScale, memoryMode);
+    }
     return new Handle(reservoirFactory, maxBuckets, maxScale, memoryMode);
   }
 
@@ -79,19 +108,29 @@ public final class DoubleBase2ExponentialHistogramAggregator
         ImmutableExponentialHistogramData.create(temporality, points));
   }
 
+  /**
+   * Records without a monitor. Recording threads share the handle: they update atomic bucket
+   * counters, a striped sum and a compare-and-set minimum and maximum. Only rescaling, when a value
+   * does not fit the current scale, and collection take an exclusive section, which waits for
+   * recordings in progress to complete.
+   */
   static final class Handle extends AggregatorHandle<ExponentialHistogramPointData> {
     private final int maxBuckets;
     private final int maxScale;
-    @Nullable private DoubleBase2ExponentialHistogramBuckets positiveBuckets;
-    @Nullable private DoubleBase2ExponentialHistogramBuckets negativeBuckets;
-    private long zeroCount;
-    private double sum;
-    private double min;
-    private double max;
-    private long count;
-    private int currentScale;
     private final MemoryMode memoryMode;
 
+    private final RecordingSection recordingSection = new RecordingSection();
+
+    // Written once under a shared section, with the current scale which can't change until the
+    // section is released.
+    @Nullable private volatile ConcurrentBase2ExponentialHistogramBuckets positiveBuckets;
+    @Nullable private volatile ConcurrentBase2ExponentialHistogramBuckets negativeBuckets;
+    private final LongAdder zeroCount = AdderUtil.createLongAdder();
+    private final DoubleAdder sum = AdderUtil.createDoubleAdder();
+    private final ConcurrentMinMax minMax = new ConcurrentMinMax();
+    // Only changed in an exclusive section.
+    private int currentScale;
+
     // Used only when MemoryMode = REUSABLE_DATA
     @Nullable private final MutableExponentialHistogramPointData reusablePoint;
 
@@ -103,11 +142,6 @@ public final class DoubleBase2ExponentialHistogramAggregator
       super(reservoirFactory);
       this.maxBuckets = maxBuckets;
       this.maxScale = maxScale;
-      this.sum = 0;
-      this.zeroCount = 0;
-      this.min = Double.MAX_VALUE;
-      this.max = -1;
-      this.count = 0;
       this.currentScale = maxScale;
       this.reusablePoint =
           (memoryMode == MemoryMode.REUSABLE_DATA)
@@ -117,65 +151,72 @@ public final class DoubleBase2ExponentialHistogramAggregator
     }
 
     @Override
-    protected synchronized ExponentialHistogramPointData doAggregateThenMaybeResetDoubles(
+    protected ExponentialHistogramPointData doAggregateThenMaybeResetDoubles(
         long startEpochNanos,
         long epochNanos,
         Attributes attributes,
         List<DoubleExemplarData> exemplars,
         boolean reset) {
+      recordingSection.acquireExclusive();
+      try {
+        ConcurrentBase2ExponentialHistogramBuckets positiveBuckets = this.positiveBuckets;
+        ConcurrentBase2ExponentialHistogramBuckets negativeBuckets = this.negativeBuckets;
+        long zeroCount = reset ? this.zeroCount.sumThenReset() : this.zeroCount.sum();
+        long count =
+            zeroCount
+                + (positiveBuckets == null ? 0 : positiveBuckets.getTotalCount())
+                + (negativeBuckets == null ? 0 : negativeBuckets.getTotalCount());
+        double sum = reset ? this.sum.sumThenReset() : this.sum.sum();
 
-      ExponentialHistogramPointData point;
-      if (reusablePoint == null) {
-        point =
-            ImmutableExponentialHistogramPointData.create(
-                currentScale,
-                sum,
-                zeroCount,
-                this.count > 0,
-                this.min,
-                this.count > 0,
-                this.max,
-                resolveBuckets(
-                    this.positiveBuckets, currentScale, reset, /* reusableBuckets= */ null),
-                resolveBuckets(
-                    this.negativeBuckets, currentScale, reset, /* reusableBuckets= */ null),
-                startEpochNanos,
-                epochNanos,
-                attributes,
-                exemplars);
-      } else /* REUSABLE_DATA */ {
-        point =
-            reusablePoint.set(
-                currentScale,
-                sum,
-                zeroCount,
-                this.count > 0,
-                this.min,
-                this.count > 0,
-                this.max,
-                resolveBuckets(
-                    this.positiveBuckets, currentScale, reset, reusablePoint.getPositiveBuckets()),
-                resolveBuckets(
-                    this.negativeBuckets, currentScale, reset, reusablePoint.getNegativeBuckets()),
-                startEpochNanos,
-                epochNanos,
-                attributes,
-                exemplars);
-      }
+        ExponentialHistogramPointData point;
+        if (reusablePoint == null) {
+          point =
+              ImmutableExponentialHistogramPointData.create(
+                  currentScale,
+                  sum,
+                  zeroCount,
+                  count > 0,
+                  minMax.getMin(),
+                  count > 0,
+                  minMax.getMax(),
+                  resolveBuckets(positiveBuckets, currentScale, reset, /* reusableBuckets= */ null),
+                  resolveBuckets(negativeBuckets, currentScale, reset, /* reusableBuckets= */ null),
+                  startEpochNanos,
+                  epochNanos,
+                  attributes,
+                  exemplars);
+        } else /* REUSABLE_DATA */ {
+          point =
+              reusablePoint.set(
+                  currentScale,
+                  sum,
+                  zeroCount,
+                  count > 0,
+                  minMax.getMin(),
+                  count > 0,
+                  minMax.getMax(),
+                  resolveBuckets(
+                      positiveBuckets, currentScale, reset, reusablePoint.getPositiveBuckets()),
+                  resolveBuckets(
+                      negativeBuckets, currentScale, reset, reusablePoint.getNegativeBuckets()),
+                  startEpochNanos,
+                  epochNanos,
+                  attributes,
+                  exemplars);
+        }
 
-      if (reset) {
-        this.sum = 0;
-        this.zeroCount = 0;
-        this.min = Double.MAX_VALUE;
-        this.max = -1;
-        this.count = 0;
-        this.currentScale = maxScale;
-      }
-      return point;
+        if (reset) {
+          minMax.reset();
+          this.currentScale = maxScale;
+        }
+        return point;
+      } finally {
+        recordingSection.releaseExclusive();
+      }
     }
 
     private ExponentialHistogramBuckets resolveBuckets(
-        @Nullable DoubleBase2ExponentialHistogramBuckets buckets,
+        @Nullable ConcurrentBase2ExponentialHistogramBuckets buckets,
         int scale,
         boolean reset,
         @Nullable ExponentialHistogramBuckets reusableBuckets) {
@@ -184,7 +225,7 @@ public final class DoubleBase2ExponentialHistogramAggregator
       }
 
       ExponentialHistogramBuckets copy;
-      if (reusableBuckets == null) {
+      if (memoryMode == MemoryMode.IMMUTABLE_DATA || reusableBuckets == null) {
         copy = buckets.copy();
       } else {
         MutableExponentialHistogramBuckets mutableExponentialHistogramBuckets;
@@ -193,18 +234,7 @@ public final class DoubleBase2ExponentialHistogramAggregator
         } else /* EmptyExponentialHistogramBuckets */ {
           mutableExponentialHistogramBuckets = new MutableExponentialHistogramBuckets();
         }
-
-        DynamicPrimitiveLongList reusableBucketCountsList =
-            mutableExponentialHistogramBuckets.getReusableBucketCountsList();
-        buckets.getBucketCountsIntoReusableList(reusableBucketCountsList);
-
-        mutableExponentialHistogramBuckets.set(
-            buckets.getScale(),
-            buckets.getOffset(),
-            buckets.getTotalCount(),
-            reusableBucketCountsList);
-
-        copy = mutableExponentialHistogramBuckets;
+        copy = buckets.copyInto(mutableExponentialHistogramBuckets);
       }
 
       if (reset) {
@@ -214,49 +244,68 @@ public final class DoubleBase2ExponentialHistogramAggregator
     }
 
     @Override
-    protected synchronized void doRecordDouble(double value) {
+    protected void doRecordDouble(double value) {
       // ignore NaN and infinity
       if (!Double.isFinite(value)) {
         return;
       }
-
-      sum += value;
-
-      this.min = Math.min(this.min, value);
-      this.max = Math.max(this.max, value);
-      count++;
-
       int c = Double.compare(value, 0);
-      DoubleBase2ExponentialHistogramBuckets buckets;
-      if (c == 0) {
-        zeroCount++;
-        return;
-      } else if (c > 0) {
-        // Initialize positive buckets at current scale, if needed
-        if (positiveBuckets == null) {
-          positiveBuckets =
-              new DoubleBase2ExponentialHistogramBuckets(currentScale, maxBuckets, memoryMode);
+
+      recordingSection.acquireShared();
+      try {
+        if (c == 0) {
+          zeroCount.increment();
+          recordStats(value);
+          return;
         }
-        buckets = positiveBuckets;
-      } else {
-        // Initialize negative buckets at current scale, if needed
-        if (negativeBuckets == null) {
-          negativeBuckets =
-              new DoubleBase2ExponentialHistogramBuckets(currentScale, maxBuckets, memoryMode);
+        if (getOrCreateBuckets(c).record(value)) {
+          recordStats(value);
+          return;
         }
-        buckets = negativeBuckets;
+      } finally {
+        recordingSection.releaseShared();
       }
 
-      // Record; If recording fails, calculate scale reduction and scale down to fit new value.
-      // 2nd attempt at recording should work with new scale
-      // TODO: We should experiment with downscale on demand during sync execution and only
-      // unifying scale factor between positive/negative at collection time
-      // (doAggregateThenMaybeReset).
-      if (!buckets.record(value)) {
-        // getScaleReduction() used with downScale() will scale down as required to record value,
-        // fit inside max allowed buckets, and make sure index can be represented by int.
-        downScale(buckets.getScaleReduction(value));
-        buckets.record(value);
+      // The value doesn't fit the current scale. Scale down both buckets exclusively, unless
+      // another thread did so already.
+      recordingSection.acquireExclusive();
+      try {
+        ConcurrentBase2ExponentialHistogramBuckets buckets = getOrCreateBuckets(c);
+        if (!buckets.record(value)) {
+          // getScaleReduction() used with downScale() will scale down as required to record value,
+          // fit inside max allowed buckets, and make sure index can be represented by int.
+          downScale(buckets.getScaleReduction(value));
+          buckets.record(value);
+        }
+        recordStats(value);
+      } finally {
+        recordingSection.releaseExclusive();
+      }
+    }
+
+    private void recordStats(double value) {
+      sum.add(value);
+      minMax.record(value);
+    }
+
+    private ConcurrentBase2ExponentialHistogramBuckets getOrCreateBuckets(int sign) {
+      ConcurrentBase2ExponentialHistogramBuckets buckets =
+          sign > 0 ? positiveBuckets : negativeBuckets;
+      if (buckets != null) {
+        return buckets;
+      }
+      // Initialize buckets at current scale, if needed
+      synchronized (this) {
+        buckets = sign > 0 ? positiveBuckets : negativeBuckets;
+        if (buckets == null) {
+          buckets = new ConcurrentBase2ExponentialHistogramBuckets(currentScale, maxBuckets);
+          if (sign > 0) {
+            positiveBuckets = buckets;
+          } else {
+            negativeBuckets = buckets;
+          }
+        }
+        return buckets;
       }
     }
 
@@ -273,7 +322,10 @@ public final class DoubleBase2ExponentialHistogramAggregator
       super.recordDouble((double) value, attributes, context);
     }
 
+    // Must be called in an exclusive section, or before the handle is shared.
     void downScale(int by) {
+      ConcurrentBase2ExponentialHistogramBuckets positiveBuckets = this.positiveBuckets;
+      ConcurrentBase2ExponentialHistogramBuckets negativeBuckets = this.negativeBuckets;
       if (positiveBuckets != null) {
         positiveBuckets.downscale(by);
         currentScale = positiveBuckets.getScale();
@@ -284,4 +336,329 @@ public final class DoubleBase2ExponentialHistogramAggregator
       }
     }
   }
+
+  /**
+   * Records into a buffer confined to the recording thread, so that recording threads don't write
+   * to shared memory. Collection merges the buffers of all threads, downscaling them to a common
+   * scale. This trades a buffer per thread and stream for recording without contention.
+   */
+  static final class ThreadBufferedHandle
+      extends AggregatorHandle<ExponentialHistogramPointData> {
+    private final int maxBuckets;
+    private final int maxScale;
+
+    // One buffer per thread and stream, by design.
+    @SuppressWarnings("ThreadLocalUsage")
+    private final ThreadLocal<ThreadBuffer> threadBuffer = new ThreadLocal<>();
+    private final Queue<ThreadBuffer> threadBuffers = new ConcurrentLinkedQueue<>();
+
+    private final Object lock = new Object();
+
+    // The counts of threads which have terminated, kept only when collection doesn't reset.
+    @GuardedBy("lock")
+    private final ThreadBuffer retired;
+
+    // Used only when MemoryMode = REUSABLE_DATA
+    @GuardedBy("lock")
+    @Nullable
+    private final ThreadBuffer reusableMerged;
+
+    @Nullable private final MutableExponentialHistogramPointData reusablePoint;
+
+    ThreadBufferedHandle(
+        ExemplarReservoirFactory reservoirFactory,
+        int maxBuckets,
+        int maxScale,
+        MemoryMode memoryMode) {
+      super(reservoirFactory);
+      this.maxBuckets = maxBuckets;
+      this.maxScale = maxScale;
+      this.retired = new ThreadBuffer(null, maxBuckets, maxScale, MemoryMode.REUSABLE_DATA);
+      if (memoryMode == MemoryMode.REUSABLE_DATA) {
+        this.reusableMerged =
+            new ThreadBuffer(null, maxBuckets, maxScale, MemoryMode.REUSABLE_DATA);
+        this.reusablePoint = new MutableExponentialHistogramPointData();
+      } else {
+        this.reusableMerged = null;
+        this.reusablePoint = null;
+      }
+    }
+
+    @Override
+    protected ExponentialHistogramPointData doAggregateThenMaybeResetDoubles(
+        long startEpochNanos,
+        long epochNanos,
+        Attributes attributes,
+        List<DoubleExemplarData> exemplars,
+        boolean reset) {
+      synchronized (lock) {
+        ThreadBuffer merged = reusableMerged;
+        if (merged == null) {
+          // IMMUTABLE_DATA: the merged buckets are handed out in the point.
+          merged = new ThreadBuffer(null, maxBuckets, maxScale, MemoryMode.IMMUTABLE_DATA);
+        } else {
+          merged.clear(maxScale);
+        }
+
+        merged.merge(retired);
+        for (Iterator<ThreadBuffer> it = threadBuffers.iterator(); it.hasNext(); ) {
+          ThreadBuffer buffer = it.next();
+          // Checked before merging, a terminated thread can't record after it.
+          boolean terminated = buffer.isOwnerTerminated();
+          synchronized (buffer) {
+            merged.merge(buffer);
+            if (terminated) {
+              it.remove();
+              if (!reset) {
+                retired.merge(buffer);
+              }
+            } else if (reset) {
+              buffer.clear(maxScale);
+            }
+          }
+        }
+        if (reset) {
+          retired.clear(maxScale);
+        }
+
+        if (reusablePoint == null) {
+          return ImmutableExponentialHistogramPointData.create(
+              merged.currentScale,
+              merged.sum,
+              merged.zeroCount,
+              merged.count > 0,
+              merged.min,
+              merged.count > 0,
+              merged.max,
+              resolveBuckets(merged.positiveBuckets, merged.currentScale, null),
+              resolveBuckets(merged.negativeBuckets, merged.currentScale, null),
+              startEpochNanos,
+              epochNanos,
+              attributes,
+              exemplars);
+        }
+        /* REUSABLE_DATA */
+        return reusablePoint.set(
+            merged.currentScale,
+            merged.sum,
+            merged.zeroCount,
+            merged.count > 0,
+            merged.min,
+            merged.count > 0,
+            merged.max,
+            resolveBuckets(
+                merged.positiveBuckets, merged.currentScale, reusablePoint.getPositiveBuckets()),
+            resolveBuckets(
+                merged.negativeBuckets, merged.currentScale, reusablePoint.getNegativeBuckets()),
+            startEpochNanos,
+            epochNanos,
+            attributes,
+            exemplars);
+      }
+    }
+
+    private static ExponentialHistogramBuckets resolveBuckets(
+        @Nullable DoubleBase2ExponentialHistogramBuckets buckets,
+        int scale,
+        @Nullable ExponentialHistogramBuckets reusableBuckets) {
+      if (buckets == null) {
+        return EmptyExponentialHistogramBuckets.get(scale);
+      }
+      if (reusableBuckets == null) {
+        // IMMUTABLE_DATA: the buckets were merged for this collection only.
+        return buckets;
+      }
+
+      MutableExponentialHistogramBuckets mutableExponentialHistogramBuckets;
+      if (reusableBuckets instanceof MutableExponentialHistogramBuckets) {
+        mutableExponentialHistogramBuckets = (MutableExponentialHistogramBuckets) reusableBuckets;
+      } else /* EmptyExponentialHistogramBuckets */ {
+        mutableExponentialHistogramBuckets = new MutableExponentialHistogramBuckets();
+      }
+
+      DynamicPrimitiveLongList reusableBucketCountsList =
+          mutableExponentialHistogramBuckets.getReusableBucketCountsList();
+      buckets.getBucketCountsIntoReusableList(reusableBucketCountsList);
+
+      return mutableExponentialHistogramBuckets.set(
+          buckets.getScale(),
+          buckets.getOffset(),
+          buckets.getTotalCount(),
+          reusableBucketCountsList);
+    }
+
+    @Override
+    protected void doRecordDouble(double value) {
+      // ignore NaN and infinity
+      if (!Double.isFinite(value)) {
+        return;
+      }
+      ThreadBuffer buffer = threadBuffer.get();
+      if (buffer == null) {
+        buffer =
+            new ThreadBuffer(
+                Thread.currentThread(), maxBuckets, maxScale, MemoryMode.REUSABLE_DATA);
+        threadBuffer.set(buffer);
+        threadBuffers.add(buffer);
+      }
+      // Only contended by collection.
+      synchronized (buffer) {
+        buffer.record(value);
+      }
+    }
+
+    @Override
+    protected boolean isDoubleType() {
+      return true;
+    }
+
+    @Override
+    public void recordLong(long value, Attributes attributes, Context context) {
+      // Redirect to #recordDouble, see Handle#recordLong.
+      super.recordDouble((double) value, attributes, context);
+    }
+
+    @Override
+    public void release() {
+      // Other live threads keep their buffer in their ThreadLocal map until the stale entry is
+      // expunged, so the buffers' buckets are dropped rather than left reachable from there.
+      ThreadBuffer buffer;
+      while ((buffer = threadBuffers.poll()) != null) {
+        synchronized (buffer) {
+          buffer.release();
+        }
+      }
+      threadBuffer.remove();
+    }
+  }
+
+  /**
+   * The state of an exponential histogram recorded by a single thread, or merged from several. Not
+   * thread-safe, callers synchronize on it when it is shared.
+   */
+  private static final class ThreadBuffer {
+    @Nullable private final WeakReference<Thread> owner;
+    private final int maxBuckets;
+    // Only affects allocation on downscale, buffers are never handed out in REUSABLE_DATA.
+    private final MemoryMode bucketsMemoryMode;
+    @Nullable private DoubleBase2ExponentialHistogramBuckets positiveBuckets;
+    @Nullable private DoubleBase2ExponentialHistogramBuckets negativeBuckets;
+    private long zeroCount;
+    private double sum;
+    private double min = Double.MAX_VALUE;
+    private double max = -1;
+    private long count;
+    private int currentScale;
+
+    private ThreadBuffer(
+        @Nullable Thread owner, int maxBuckets, int maxScale, MemoryMode bucketsMemoryMode) {
+      this.owner = owner == null ? null : new WeakReference<>(owner);
+      this.maxBuckets = maxBuckets;
+      this.bucketsMemoryMode = bucketsMemoryMode;
+      this.currentScale = maxScale;
+    }
+
+    private boolean isOwnerTerminated() {
+      if (owner == null) {
+        return false;
+      }
+      Thread thread = owner.get();
+      return thread == null || !thread.isAlive();
+    }
+
+    private void record(double value) {
+      sum += value;
+      min = Math.min(min, value);
+      max = Math.max(max, value);
+      count++;
+
+      int c = Double.compare(value, 0);
+      if (c == 0) {
+        zeroCount++;
+        return;
+      }
+      DoubleBase2ExponentialHistogramBuckets buckets = getOrCreateBuckets(c);
+      // Record; If recording fails, calculate scale reduction and scale down to fit new value.
+      // 2nd attempt at recording should work with new scale
+      if (!buckets.record(value)) {
+        downScale(buckets.getScaleReduction(value));
+        buckets.record(value);
+      }
+    }
+
+    /** Adds the state of {@code other}, downscaling as needed to fit its buckets. */
+    private void merge(ThreadBuffer other) {
+      if (other.count == 0) {
+        return;
+      }
+      sum += other.sum;
+      min = Math.min(min, other.min);
+      max = Math.max(max, other.max);
+      count += other.count;
+      zeroCount += other.zeroCount;
+
+      if (other.currentScale < currentScale) {
+        downScale(currentScale - other.currentScale);
+      }
+      mergeBuckets(other.positiveBuckets, 1);
+      mergeBuckets(other.negativeBuckets, -1);
+    }
+
+    private void mergeBuckets(@Nullable DoubleBase2ExponentialHistogramBuckets other, int sign) {
+      if (other == null || other.getTotalCount() == 0) {
+        return;
+      }
+      DoubleBase2ExponentialHistogramBuckets buckets = getOrCreateBuckets(sign);
+      downScale(buckets.getScaleReduction(other));
+      buckets.merge(other);
+    }
+
+    private DoubleBase2ExponentialHistogramBuckets getOrCreateBuckets(int sign) {
+      if (sign > 0) {
+        if (positiveBuckets == null) {
+          positiveBuckets =
+              new DoubleBase2ExponentialHistogramBuckets(
+                  currentScale, maxBuckets, bucketsMemoryMode);
+        }
+        return positiveBuckets;
+      }
+      if (negativeBuckets == null) {
+        negativeBuckets =
+            new DoubleBase2ExponentialHistogramBuckets(currentScale, maxBuckets, bucketsMemoryMode);
+      }
+      return negativeBuckets;
+    }
+
+    private void downScale(int by) {
+      if (positiveBuckets != null) {
+        positiveBuckets.downscale(by);
+      }
+      if (negativeBuckets != null) {
+        negativeBuckets.downscale(by);
+      }
+      // Also when there are no buckets yet, so they are created at the merged scale.
+      currentScale -= by;
+    }
+
+    private void release() {
+      positiveBuckets = null;
+      negativeBuckets = null;
+      clear(currentScale);
+    }
+
+    private void clear(int maxScale) {
+      if (positiveBuckets != null) {
+        positiveBuckets.clear(maxScale);
+      }
+      if (negativeBuckets != null) {
+        negativeBuckets.clear(maxScale);
+      }
+      zeroCount = 0;
+      sum = 0;
+      min = Double.MAX_VALUE;
+      max = -1;
+      count = 0;
+      currentScale = maxScale;
+    }
+  }
 }
@@ -78,6 +78,32 @@ final class DoubleBase2ExponentialHistogramBuckets implements ExponentialHistogr
     return recordingSuccessful;
   }
 
+  /** Adds {@code count} to the bucket at {@code index}, which must fit in the buckets. */
+  void increment(int index, long count) {
+    if (!counts.increment(index, count)) {
+      throw new IllegalStateException("Failed to increment bucket " + index + ".");
+    }
+    totalCount += count;
+  }
+
+  /**
+   * Adds the counts of {@code other} to these buckets. {@code other} must have a scale no lower
+   * than these buckets, and its counts must fit once downscaled, see {@link
+   * #getScaleReduction(DoubleBase2ExponentialHistogramBuckets)}.
+   */
+  void merge(DoubleBase2ExponentialHistogramBuckets other) {
+    if (other.counts.isEmpty()) {
+      return;
+    }
+    int deltaScale = other.scale - scale;
+    for (int i = other.counts.getIndexStart(); i <= other.counts.getIndexEnd(); i++) {
+      long count = other.counts.get(i);
+      if (count > 0) {
+        increment(i >> deltaScale, count);
+      }
+    }
+  }
+
   @Override
   public int getOffset() {
     // We need to unify the behavior of empty buckets.
@@ -199,6 +225,27 @@ final class DoubleBase2ExponentialHistogramBuckets implements ExponentialHistogr
     return getScaleReduction(newStart, newEnd);
   }
 
+  /**
+   * Returns the minimum scale reduction required to merge {@code other}, which must have a scale no
+   * lower than these buckets, into these buckets. To be used with downScale().
+   *
+   * @param other The buckets to be merged.
+   * @return The required scale reduction in order to fit the counts of {@code other}.
+   */
+  int getScaleReduction(DoubleBase2ExponentialHistogramBuckets other) {
+    if (other.counts.isEmpty()) {
+      return 0;
+    }
+    int deltaScale = other.scale - scale;
+    long newStart = other.counts.getIndexStart() >> deltaScale;
+    long newEnd = other.counts.getIndexEnd() >> deltaScale;
+    if (!counts.isEmpty()) {
+      newStart = Math.min(newStart, counts.getIndexStart());
+      newEnd = Math.max(newEnd, counts.getIndexEnd());
+    }
+    return getScaleReduction(newStart, newEnd);
+  }
+
   int getScaleReduction(long newStart, long newEnd) {
     int scaleReduction = 0;
 
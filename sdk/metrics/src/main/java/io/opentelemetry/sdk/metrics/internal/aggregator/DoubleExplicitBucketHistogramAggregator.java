@@ -15,6 +15,8 @@ import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
 import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
 import io.opentelemetry.sdk.metrics.data.HistogramPointData;
 import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.internal.concurrent.AdderUtil;
+import io.opentelemetry.sdk.metrics.internal.concurrent.DoubleAdder;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableHistogramData;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableHistogramPointData;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableMetricData;
@@ -27,6 +29,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
 import javax.annotation.Nullable;
 
 /**
@@ -86,28 +89,29 @@ public final class DoubleExplicitBucketHistogramAggregator
         ImmutableHistogramData.create(temporality, pointData));
   }
 
+  /**
+   * Records without locking: bucket counts are atomic, the sum is a striped adder and the minimum
+   * and maximum are compare-and-set only when they change. Recordings update them in a shared
+   * {@link RecordingSection} and collection reads them in an exclusive one, so a collected point
+   * never holds a recording half done, and its count, sum, minimum and maximum agree.
+   */
   static final class Handle extends AggregatorHandle<HistogramPointData> {
     // read-only
     private final List<Double> boundaryList;
     // read-only
     private final double[] boundaries;
 
-    private final Object lock = new Object();
-
-    @GuardedBy("lock")
-    private double sum;
-
-    @GuardedBy("lock")
-    private double min;
+    private final AtomicLongArray counts;
+    private final DoubleAdder sum = AdderUtil.createDoubleAdder();
+    private final ConcurrentMinMax minMax = new ConcurrentMinMax();
 
-    @GuardedBy("lock")
-    private double max;
+    private final RecordingSection recordingSection = new RecordingSection();
 
-    @GuardedBy("lock")
-    private long count;
+    // Collection only reads and resets the atomics, the lock guards the collection scratch state.
+    private final Object lock = new Object();
 
     @GuardedBy("lock")
-    private final long[] counts;
+    private final long[] collectedCounts;
 
     // Used only when MemoryMode = REUSABLE_DATA
     @Nullable private MutableHistogramPointData reusablePoint;
@@ -120,13 +124,10 @@ public final class DoubleExplicitBucketHistogramAggregator
       super(reservoirFactory);
       this.boundaryList = boundaryList;
       this.boundaries = boundaries;
-      this.counts = new long[this.boundaries.length + 1];
-      this.sum = 0;
-      this.min = Double.MAX_VALUE;
-      this.max = -1;
-      this.count = 0;
+      this.counts = new AtomicLongArray(this.boundaries.length + 1);
+      this.collectedCounts = new long[this.boundaries.length + 1];
       if (memoryMode == MemoryMode.REUSABLE_DATA) {
-        this.reusablePoint = new MutableHistogramPointData(counts.length);
+        this.reusablePoint = new MutableHistogramPointData(collectedCounts.length);
       }
     }
 
@@ -151,44 +152,54 @@ public final class DoubleExplicitBucketHistogramAggregator
         List<DoubleExemplarData> exemplars,
         boolean reset) {
       synchronized (lock) {
-        HistogramPointData pointData;
-        if (reusablePoint == null) {
-          pointData =
-              ImmutableHistogramPointData.create(
-                  startEpochNanos,
-                  epochNanos,
-                  attributes,
-                  sum,
-                  this.count > 0,
-                  this.min,
-                  this.count > 0,
-                  this.max,
-                  boundaryList,
-                  PrimitiveLongList.wrap(Arrays.copyOf(counts, counts.length)),
-                  exemplars);
-        } else /* REUSABLE_DATA */ {
-          pointData =
-              reusablePoint.set(
-                  startEpochNanos,
-                  epochNanos,
-                  attributes,
-                  sum,
-                  this.count > 0,
-                  this.min,
-                  this.count > 0,
-                  this.max,
-                  boundaryList,
-                  counts,
-                  exemplars);
+        long count = 0;
+        double sum;
+        double min;
+        double max;
+        recordingSection.acquireExclusive();
+        try {
+          for (int i = 0; i < collectedCounts.length; i++) {
+            long bucketCount = reset ? counts.getAndSet(i, 0) : counts.get(i);
+            collectedCounts[i] = bucketCount;
+            count += bucketCount;
+          }
+          sum = reset ? this.sum.sumThenReset() : this.sum.sum();
+          min = minMax.getMin();
+          max = minMax.getMax();
+          if (reset) {
+            minMax.reset();
+          }
+        } finally {
+          recordingSection.releaseExclusive();
         }
-        if (reset) {
-          this.sum = 0;
-          this.min = Double.MAX_VALUE;
-          this.max = -1;
-          this.count = 0;
-          Arrays.fill(this.counts, 0);
+
+        if (reusablePoint == null) {
+          return ImmutableHistogramPointData.create(
+              startEpochNanos,
+              epochNanos,
+              attributes,
+              sum,
+              count > 0,
+              min,
+              count > 0,
+              max,
+              boundaryList,
+              PrimitiveLongList.wrap(Arrays.copyOf(collectedCounts, collectedCounts.length)),
+              exemplars);
         }
-        return pointData;
+        /* REUSABLE_DATA */
+        return reusablePoint.set(
+            startEpochNanos,
+            epochNanos,
+            attributes,
+            sum,
+            count > 0,
+            min,
+            count > 0,
+            max,
+            boundaryList,
+            collectedCounts,
+            exemplars);
       }
     }
 
@@ -196,12 +207,13 @@ public final class DoubleExplicitBucketHistogramAggregator
     protected void doRecordDouble(double value) {
       int bucketIndex = ExplicitBucketHistogramUtils.findBucketIndex(this.boundaries, value);
 
-      synchronized (lock) {
-        this.sum += value;
-        this.min = Math.min(this.min, value);
-        this.max = Math.max(this.max, value);
-        this.count++;
-        this.counts[bucketIndex]++;
+      recordingSection.acquireShared();
+      try {
+        counts.incrementAndGet(bucketIndex);
+        sum.add(value);
+        minMax.record(value);
+      } finally {
+        recordingSection.releaseShared();
       }
     }
   }
@@ -13,6 +13,7 @@ import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
 import io.opentelemetry.sdk.metrics.data.DoublePointData;
 import io.opentelemetry.sdk.metrics.data.MetricData;
 import io.opentelemetry.sdk.metrics.internal.concurrent.AdderUtil;
+import io.opentelemetry.sdk.metrics.internal.concurrent.AtomicSlab;
 import io.opentelemetry.sdk.metrics.internal.concurrent.DoubleAdder;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableDoublePointData;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableMetricData;
@@ -36,6 +37,7 @@ public final class DoubleSumAggregator
     extends AbstractSumAggregator<DoublePointData, DoubleExemplarData> {
   private final ExemplarReservoirFactory reservoirFactory;
   private final MemoryMode memoryMode;
+  @Nullable private final AtomicSlab slab;
 
   /**
    * Constructs a sum aggregator.
@@ -48,15 +50,36 @@ public final class DoubleSumAggregator
       InstrumentDescriptor instrumentDescriptor,
       ExemplarReservoirFactory reservoirFactory,
       MemoryMode memoryMode) {
+    this(instrumentDescriptor, reservoirFactory, memoryMode, /* slab= */ null);
+  }
+
+  /**
+   * Constructs a sum aggregator.
+   *
+   * @param instrumentDescriptor The instrument being recorded, used to compute monotonicity.
+   * @param reservoirFactory Supplier of exemplar reservoirs per-stream.
+   * @param memoryMode The memory mode to use.
+   * @param slab The slab to keep the sum of each stream in, or {@code null} to keep each sum in its
+   *     own {@link DoubleAdder}.
+   */
+  public DoubleSumAggregator(
+      InstrumentDescriptor instrumentDescriptor,
+      ExemplarReservoirFactory reservoirFactory,
+      MemoryMode memoryMode,
+      @Nullable AtomicSlab slab) {
     super(instrumentDescriptor);
 
     this.reservoirFactory = reservoirFactory;
     this.memoryMode = memoryMode;
+    this.slab = slab;
   }
 
   @Override
   public AggregatorHandle<DoublePointData> createHandle() {
-    return new Handle(reservoirFactory, memoryMode);
+    return new Handle(
+        reservoirFactory,
+        memoryMode,
+        slab == null ? AdderUtil.createDoubleAdder() : slab.newDoubleAdder());
   }
 
   @Override
@@ -107,13 +130,14 @@ public final class DoubleSumAggregator
   }
 
   static final class Handle extends AggregatorHandle<DoublePointData> {
-    private final DoubleAdder current = AdderUtil.createDoubleAdder();
+    private final DoubleAdder current;
 
     // Only used if memoryMode == MemoryMode.REUSABLE_DATA
     @Nullable private final MutableDoublePointData reusablePoint;
 
-    Handle(ExemplarReservoirFactory reservoirFactory, MemoryMode memoryMode) {
+    Handle(ExemplarReservoirFactory reservoirFactory, MemoryMode memoryMode, DoubleAdder current) {
       super(reservoirFactory);
+      this.current = current;
       reusablePoint = memoryMode == MemoryMode.REUSABLE_DATA ? new MutableDoublePointData() : null;
     }
 
@@ -143,5 +167,12 @@ public final class DoubleSumAggregator
     protected void doRecordDouble(double value) {
       current.add(value);
     }
+
+    @Override
+    public void release() {
+      if (current instanceof AtomicSlab.Slot) {
+        ((AtomicSlab.Slot) current).release();
+      }
+    }
   }
 }
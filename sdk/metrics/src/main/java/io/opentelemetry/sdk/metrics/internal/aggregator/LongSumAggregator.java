@@ -13,6 +13,7 @@ import io.opentelemetry.sdk.metrics.data.LongExemplarData;
 import io.opentelemetry.sdk.metrics.data.LongPointData;
 import io.opentelemetry.sdk.metrics.data.MetricData;
 import io.opentelemetry.sdk.metrics.internal.concurrent.AdderUtil;
+import io.opentelemetry.sdk.metrics.internal.concurrent.AtomicSlab;
 import io.opentelemetry.sdk.metrics.internal.concurrent.LongAdder;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableLongPointData;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableMetricData;
@@ -37,19 +38,36 @@ public final class LongSumAggregator
 
   private final ExemplarReservoirFactory reservoirFactory;
   private final MemoryMode memoryMode;
+  @Nullable private final AtomicSlab slab;
 
   public LongSumAggregator(
       InstrumentDescriptor instrumentDescriptor,
       ExemplarReservoirFactory reservoirFactory,
       MemoryMode memoryMode) {
+    this(instrumentDescriptor, reservoirFactory, memoryMode, /* slab= */ null);
+  }
+
+  /**
+   * Constructs a sum aggregator which keeps the sum of each stream in a slot of {@code slab}, or in
+   * its own {@link LongAdder} if {@code slab} is {@code null}.
+   */
+  public LongSumAggregator(
+      InstrumentDescriptor instrumentDescriptor,
+      ExemplarReservoirFactory reservoirFactory,
+      MemoryMode memoryMode,
+      @Nullable AtomicSlab slab) {
     super(instrumentDescriptor);
     this.reservoirFactory = reservoirFactory;
     this.memoryMode = memoryMode;
+    this.slab = slab;
   }
 
   @Override
   public AggregatorHandle<LongPointData> createHandle() {
-    return new Handle(reservoirFactory, memoryMode);
+    return new Handle(
+        reservoirFactory,
+        memoryMode,
+        slab == null ? AdderUtil.createLongAdder() : slab.newLongAdder());
   }
 
   @Override
@@ -100,13 +118,14 @@ public final class LongSumAggregator
   }
 
   static final class Handle extends AggregatorHandle<LongPointData> {
-    private final LongAdder current = AdderUtil.createLongAdder();
+    private final LongAdder current;
 
     // Only used if memoryMode == MemoryMode.REUSABLE_DATA
     @Nullable private final MutableLongPointData reusablePointData;
 
-    Handle(ExemplarReservoirFactory reservoirFactory, MemoryMode memoryMode) {
+    Handle(ExemplarReservoirFactory reservoirFactory, MemoryMode memoryMode, LongAdder current) {
       super(reservoirFactory);
+      this.current = current;
       reusablePointData =
           memoryMode == MemoryMode.REUSABLE_DATA ? new MutableLongPointData() : null;
     }
@@ -137,5 +156,12 @@ public final class LongSumAggregator
     public void doRecordLong(long value) {
       current.add(value);
     }
+
+    @Override
+    public void release() {
+      if (current instanceof AtomicSlab.Slot) {
+        ((AtomicSlab.Slot) current).release();
+      }
+    }
   }
 }
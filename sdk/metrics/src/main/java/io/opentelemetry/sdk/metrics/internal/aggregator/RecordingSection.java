@@ -0,0 +1,51 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.aggregator;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lets recording threads update a handle's state concurrently in shared sections, while an
+ * exclusive section, such as a collection, sees no recording half done. Unlike a read-write lock,
+ * entering a shared section is a single atomic add when no exclusive section is in progress.
+ */
+final class RecordingSection {
+
+  // Recording threads add 2 while recording. An exclusive section adds 1 and waits for the
+  // value to drop to 1, and recording threads seeing an odd value back off until it is released.
+  private final AtomicInteger state = new AtomicInteger();
+
+  void acquireShared() {
+    while (state.addAndGet(2) % 2 != 0) {
+      // An exclusive section is in progress, back off until it is released.
+      state.addAndGet(-2);
+      while (state.get() % 2 != 0) {
+        Thread.yield();
+      }
+    }
+  }
+
+  void releaseShared() {
+    state.addAndGet(-2);
+  }
+
+  void acquireExclusive() {
+    int current;
+    do {
+      current = state.get();
+      if (current % 2 != 0) {
+        Thread.yield();
+      }
+    } while (current % 2 != 0 || !state.compareAndSet(current, current + 1));
+    while (state.get() != 1) {
+      Thread.yield();
+    }
+  }
+
+  void releaseExclusive() {
+    state.addAndGet(-1);
+  }
+}
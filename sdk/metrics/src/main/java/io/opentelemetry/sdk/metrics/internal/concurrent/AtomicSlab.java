@@ -0,0 +1,214 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.concurrent;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A growable slab of atomically updated 64-bit values, handing out slots as {@link LongAdder}s and
+ * {@link DoubleAdder}s.
+ *
+ * <p>Values are packed into chunks of {@link AtomicLongArray}, which the garbage collector doesn't
+ * need to scan, instead of living in an adder object per value, along with the cells it grows under
+ * contention. This trades contention handling for footprint: threads updating the same slot, or
+ * neighbouring slots on the same cache line, contend with each other, so slabs suit many values
+ * each updated infrequently, like the series of a high-cardinality sum.
+ *
+ * <p>Slots must be {@linkplain Slot#release() released} once no longer used, so that they can be
+ * handed out again. The lowest released slot is handed out first, so that the last chunks empty
+ * out as values are released, and chunks left empty at the end of the slab are freed.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class AtomicSlab {
+
+  private static final int CHUNK_BITS = 10;
+  private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+  private final Object lock = new Object();
+  // Guarded by lock
+  private AtomicLongArray[] chunks = new AtomicLongArray[0];
+  // The number of slots handed out of each chunk, guarded by lock
+  private int[] chunkSlots = new int[0];
+  private int nextIndex;
+  private final BitSet freeIndexes = new BitSet();
+  private int freeCount;
+  // No index below this one is free
+  private int lowestFreeIndex;
+
+  /** Returns a {@link LongAdder} backed by a newly allocated slot, starting at {@code 0}. */
+  public LongAdder newLongAdder() {
+    synchronized (lock) {
+      int index = allocate();
+      return new LongSlot(this, chunks[index >>> CHUNK_BITS], index);
+    }
+  }
+
+  /** Returns a {@link DoubleAdder} backed by a newly allocated slot, starting at {@code 0}. */
+  public DoubleAdder newDoubleAdder() {
+    synchronized (lock) {
+      int index = allocate();
+      return new DoubleSlot(this, chunks[index >>> CHUNK_BITS], index);
+    }
+  }
+
+  /** Returns the number of slots currently allocated. */
+  public int size() {
+    synchronized (lock) {
+      return nextIndex - freeCount;
+    }
+  }
+
+  // Visible for testing
+  int chunkCount() {
+    synchronized (lock) {
+      return chunks.length;
+    }
+  }
+
+  // Guarded by lock
+  private int allocate() {
+    int index;
+    if (freeCount > 0) {
+      index = freeIndexes.nextSetBit(lowestFreeIndex);
+      freeIndexes.clear(index);
+      freeCount--;
+      lowestFreeIndex = index + 1;
+    } else {
+      index = nextIndex++;
+      if ((index >>> CHUNK_BITS) == chunks.length) {
+        chunks = Arrays.copyOf(chunks, chunks.length + 1);
+        chunks[chunks.length - 1] = new AtomicLongArray(CHUNK_SIZE);
+        chunkSlots = Arrays.copyOf(chunkSlots, chunkSlots.length + 1);
+      }
+    }
+    chunkSlots[index >>> CHUNK_BITS]++;
+    return index;
+  }
+
+  private void free(AtomicLongArray chunk, int index) {
+    chunk.set(index & (CHUNK_SIZE - 1), 0);
+    synchronized (lock) {
+      freeIndexes.set(index);
+      freeCount++;
+      lowestFreeIndex = Math.min(lowestFreeIndex, index);
+      int chunkIndex = index >>> CHUNK_BITS;
+      if (--chunkSlots[chunkIndex] == 0 && chunkIndex == chunks.length - 1) {
+        freeTrailingChunks();
+      }
+    }
+  }
+
+  // Guarded by lock
+  private void freeTrailingChunks() {
+    int chunkCount = chunks.length;
+    while (chunkCount > 0 && chunkSlots[chunkCount - 1] == 0) {
+      chunkCount--;
+    }
+    // Every slot of the freed chunks is free
+    int end = chunkCount << CHUNK_BITS;
+    freeIndexes.clear(end, nextIndex);
+    freeCount -= nextIndex - end;
+    nextIndex = end;
+    chunks = Arrays.copyOf(chunks, chunkCount);
+    chunkSlots = Arrays.copyOf(chunkSlots, chunkCount);
+  }
+
+  /** A slot of an {@link AtomicSlab}. */
+  public abstract static class Slot {
+    private final AtomicSlab slab;
+    final AtomicLongArray chunk;
+    final int offset;
+    private final int index;
+
+    private Slot(AtomicSlab slab, AtomicLongArray chunk, int index) {
+      this.slab = slab;
+      this.chunk = chunk;
+      this.offset = index & (CHUNK_SIZE - 1);
+      this.index = index;
+    }
+
+    /**
+     * Returns the slot to its slab. The slot must no longer be used, as it may be handed out again.
+     */
+    public void release() {
+      slab.free(chunk, index);
+    }
+  }
+
+  private static final class LongSlot extends Slot implements LongAdder {
+
+    private LongSlot(AtomicSlab slab, AtomicLongArray chunk, int index) {
+      super(slab, chunk, index);
+    }
+
+    @Override
+    public void add(long x) {
+      chunk.addAndGet(offset, x);
+    }
+
+    @Override
+    public long sum() {
+      return chunk.get(offset);
+    }
+
+    @Override
+    public void reset() {
+      chunk.set(offset, 0);
+    }
+
+    @Override
+    public long sumThenReset() {
+      return chunk.getAndSet(offset, 0);
+    }
+
+    @Override
+    public String toString() {
+      return Long.toString(sum());
+    }
+  }
+
+  private static final class DoubleSlot extends Slot implements DoubleAdder {
+
+    private DoubleSlot(AtomicSlab slab, AtomicLongArray chunk, int index) {
+      super(slab, chunk, index);
+    }
+
+    @Override
+    public void add(double x) {
+      while (true) {
+        long currentLongBits = chunk.get(offset);
+        double nextDouble = Double.longBitsToDouble(currentLongBits) + x;
+        if (chunk.compareAndSet(offset, currentLongBits, Double.doubleToLongBits(nextDouble))) {
+          return;
+        }
+      }
+    }
+
+    @Override
+    public double sum() {
+      return Double.longBitsToDouble(chunk.get(offset));
+    }
+
+    @Override
+    public void reset() {
+      chunk.set(offset, 0);
+    }
+
+    @Override
+    public double sumThenReset() {
+      return Double.longBitsToDouble(chunk.getAndSet(offset, 0));
+    }
+
+    @Override
+    public String toString() {
+      return Double.toString(sum());
+    }
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.data;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.sdk.metrics.data.LongExemplarData;
+
+/**
+ * A mutable {@link LongExemplarData}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ *
+ * <p>This class is not thread-safe.
+ */
+public final class MutableLongExemplarData implements LongExemplarData {
+
+  private Attributes filteredAttributes = Attributes.empty();
+  private long epochNanos;
+  private SpanContext spanContext = SpanContext.getInvalid();
+  private long value;
+
+  @Override
+  public Attributes getFilteredAttributes() {
+    return filteredAttributes;
+  }
+
+  @Override
+  public long getEpochNanos() {
+    return epochNanos;
+  }
+
+  @Override
+  public SpanContext getSpanContext() {
+    return spanContext;
+  }
+
+  @Override
+  public long getValue() {
+    return value;
+  }
+
+  /** Sets all {@link MutableLongExemplarData} values. */
+  public MutableLongExemplarData set(
+      Attributes filteredAttributes, long epochNanos, SpanContext spanContext, long value) {
+    this.filteredAttributes = filteredAttributes;
+    this.epochNanos = epochNanos;
+    this.spanContext = spanContext;
+    this.value = value;
+    return this;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof LongExemplarData)) {
+      return false;
+    }
+    LongExemplarData exemplar = (LongExemplarData) o;
+    return filteredAttributes.equals(exemplar.getFilteredAttributes())
+        && epochNanos == exemplar.getEpochNanos()
+        && spanContext.equals(exemplar.getSpanContext())
+        && value == exemplar.getValue();
+  }
+
+  @Override
+  public int hashCode() {
+    int hashcode = 1;
+    hashcode *= 1000003;
+    hashcode ^= filteredAttributes.hashCode();
+    hashcode *= 1000003;
+    hashcode ^= (int) ((epochNanos >>> 32) ^ epochNanos);
+    hashcode *= 1000003;
+    hashcode ^= spanContext.hashCode();
+    hashcode *= 1000003;
+    hashcode ^= (int) ((value >>> 32) ^ value);
+    return hashcode;
+  }
+
+  @Override
+  public String toString() {
+    return "MutableLongExemplarData{"
+        + "filteredAttributes="
+        + filteredAttributes
+        + ", epochNanos="
+        + epochNanos
+        + ", spanContext="
+        + spanContext
+        + ", value="
+        + value
+        + '}';
+  }
+}
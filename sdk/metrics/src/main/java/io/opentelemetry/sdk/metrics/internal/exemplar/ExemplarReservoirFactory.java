@@ -6,6 +6,7 @@
 package io.opentelemetry.sdk.metrics.internal.exemplar;
 
 import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import java.util.List;
 import java.util.Random;
 import java.util.function.Supplier;
@@ -63,15 +64,28 @@ public interface ExemplarReservoirFactory {
    */
   static ExemplarReservoirFactory fixedSizeReservoir(
       Clock clock, int size, Supplier<Random> randomSupplier) {
+    return fixedSizeReservoir(clock, size, randomSupplier, MemoryMode.IMMUTABLE_DATA);
+  }
+
+  /**
+   * A reservoir with fixed size that stores the given number of exemplars.
+   *
+   * @param clock The clock to use when annotating measurements with time.
+   * @param size The maximum number of exemplars to preserve.
+   * @param randomSupplier The random number generator to use for sampling.
+   * @param memoryMode With {@link MemoryMode#REUSABLE_DATA}, collected exemplars are reused.
+   */
+  static ExemplarReservoirFactory fixedSizeReservoir(
+      Clock clock, int size, Supplier<Random> randomSupplier, MemoryMode memoryMode) {
     return new ExemplarReservoirFactory() {
       @Override
       public DoubleExemplarReservoir createDoubleExemplarReservoir() {
-        return RandomFixedSizeExemplarReservoir.create(clock, size, randomSupplier);
+        return RandomFixedSizeExemplarReservoir.create(clock, size, randomSupplier, memoryMode);
       }
 
       @Override
       public LongExemplarReservoir createLongExemplarReservoir() {
-        return RandomFixedSizeExemplarReservoir.create(clock, size, randomSupplier);
+        return RandomFixedSizeExemplarReservoir.create(clock, size, randomSupplier, memoryMode);
       }
     };
   }
@@ -84,15 +98,28 @@ public interface ExemplarReservoirFactory {
    *     lowest to highest.
    */
   static ExemplarReservoirFactory histogramBucketReservoir(Clock clock, List<Double> boundaries) {
+    return histogramBucketReservoir(clock, boundaries, MemoryMode.IMMUTABLE_DATA);
+  }
+
+  /**
+   * A Reservoir sampler that preserves the latest seen measurement per-histogram bucket.
+   *
+   * @param clock The clock to use when annotating measurements with time.
+   * @param boundaries A list of (inclusive) upper bounds for the histogram. Should be in order from
+   *     lowest to highest.
+   * @param memoryMode With {@link MemoryMode#REUSABLE_DATA}, collected exemplars are reused.
+   */
+  static ExemplarReservoirFactory histogramBucketReservoir(
+      Clock clock, List<Double> boundaries, MemoryMode memoryMode) {
     return new ExemplarReservoirFactory() {
       @Override
       public DoubleExemplarReservoir createDoubleExemplarReservoir() {
-        return new HistogramExemplarReservoir(clock, boundaries);
+        return new HistogramExemplarReservoir(clock, boundaries, memoryMode);
       }
 
       @Override
       public LongExemplarReservoir createLongExemplarReservoir() {
-        return new HistogramExemplarReservoir(clock, boundaries);
+        return new HistogramExemplarReservoir(clock, boundaries, memoryMode);
       }
     };
   }
@@ -8,6 +8,7 @@ package io.opentelemetry.sdk.metrics.internal.exemplar;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
 import io.opentelemetry.sdk.metrics.data.ExemplarData;
 import io.opentelemetry.sdk.metrics.data.LongExemplarData;
@@ -24,14 +25,30 @@ class FixedSizeExemplarReservoir implements DoubleExemplarReservoir, LongExempla
   private final ReservoirCellSelector reservoirCellSelector;
   private final int size;
   private final Clock clock;
+  private final MemoryMode memoryMode;
   private volatile boolean hasMeasurements = false;
 
+  // Used only when MemoryMode = REUSABLE_DATA, lazily initialized on first collection. Holds
+  // either double or long exemplars.
+  @Nullable private List<ExemplarData> reusableResults;
+  @Nullable private List<ExemplarData> unmodifiableReusableResults;
+
   /** Instantiates an exemplar reservoir of fixed size. */
   FixedSizeExemplarReservoir(Clock clock, int size, ReservoirCellSelector reservoirCellSelector) {
+    this(clock, size, reservoirCellSelector, MemoryMode.IMMUTABLE_DATA);
+  }
+
+  /**
+   * Instantiates an exemplar reservoir of fixed size. With {@link MemoryMode#REUSABLE_DATA}, the
+   * collected list and exemplars are reused, and overwritten by the next collection.
+   */
+  FixedSizeExemplarReservoir(
+      Clock clock, int size, ReservoirCellSelector reservoirCellSelector, MemoryMode memoryMode) {
     this.storage = null; // lazily initialize to avoid allocations
     this.size = size;
     this.clock = clock;
     this.reservoirCellSelector = reservoirCellSelector;
+    this.memoryMode = memoryMode;
   }
 
   @Override
@@ -42,7 +59,7 @@ class FixedSizeExemplarReservoir implements DoubleExemplarReservoir, LongExempla
     int bucket = reservoirCellSelector.reservoirCellIndexFor(storage, value, attributes, context);
     if (bucket != -1) {
       this.storage[bucket].recordLongMeasurement(value, attributes, context);
-      this.hasMeasurements = true;
+      markHasMeasurements();
     }
   }
 
@@ -64,26 +81,50 @@ class FixedSizeExemplarReservoir implements DoubleExemplarReservoir, LongExempla
     int bucket = reservoirCellSelector.reservoirCellIndexFor(storage, value, attributes, context);
     if (bucket != -1) {
       this.storage[bucket].recordDoubleMeasurement(value, attributes, context);
-      this.hasMeasurements = true;
+      markHasMeasurements();
+    }
+  }
+
+  private void markHasMeasurements() {
+    // Only write when needed, to avoid invalidating the cache line for every measurement
+    if (!hasMeasurements) {
+      hasMeasurements = true;
     }
   }
 
   private ReservoirCell[] initStorage() {
     ReservoirCell[] storage = new ReservoirCell[this.size];
     for (int i = 0; i < size; ++i) {
-      storage[i] = new ReservoirCell(this.clock);
+      storage[i] = new ReservoirCell(this.clock, memoryMode == MemoryMode.REUSABLE_DATA);
     }
     return storage;
   }
 
+  @SuppressWarnings("unchecked")
   public <T extends ExemplarData> List<T> doCollectAndReset(
       Attributes pointAttributes, BiFunction<ReservoirCell, Attributes, T> mapAndResetCell) {
     if (!hasMeasurements || storage == null) {
       return Collections.emptyList();
     }
+    List<ExemplarData> results;
+    List<ExemplarData> unmodifiableResults;
+    if (memoryMode == MemoryMode.REUSABLE_DATA) {
+      results = reusableResults;
+      unmodifiableResults = unmodifiableReusableResults;
+      if (results == null || unmodifiableResults == null) {
+        results = new ArrayList<>(size);
+        unmodifiableResults = Collections.unmodifiableList(results);
+        reusableResults = results;
+        unmodifiableReusableResults = unmodifiableResults;
+      } else {
+        results.clear();
+      }
+    } else {
+      results = new ArrayList<>();
+      unmodifiableResults = Collections.unmodifiableList(results);
+    }
     // Note: we are collecting exemplars from buckets piecemeal, but we
     // could still be sampling exemplars during this process.
-    List<T> results = new ArrayList<>();
     for (ReservoirCell reservoirCell : this.storage) {
       T result = mapAndResetCell.apply(reservoirCell, pointAttributes);
       if (result != null) {
@@ -92,6 +133,7 @@ class FixedSizeExemplarReservoir implements DoubleExemplarReservoir, LongExempla
     }
     reservoirCellSelector.reset();
     this.hasMeasurements = false;
-    return Collections.unmodifiableList(results);
+    // The reservoir collects either doubles or longs, so all results are T
+    return (List<T>) unmodifiableResults;
   }
 }
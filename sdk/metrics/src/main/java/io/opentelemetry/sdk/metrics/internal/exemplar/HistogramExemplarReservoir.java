@@ -8,6 +8,7 @@ package io.opentelemetry.sdk.metrics.internal.exemplar;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.metrics.internal.aggregator.ExplicitBucketHistogramUtils;
 import java.util.List;
 
@@ -15,7 +16,11 @@ import java.util.List;
 class HistogramExemplarReservoir extends FixedSizeExemplarReservoir {
 
   HistogramExemplarReservoir(Clock clock, List<Double> boundaries) {
-    super(clock, boundaries.size() + 1, new HistogramCellSelector(boundaries));
+    this(clock, boundaries, MemoryMode.IMMUTABLE_DATA);
+  }
+
+  HistogramExemplarReservoir(Clock clock, List<Double> boundaries, MemoryMode memoryMode) {
+    super(clock, boundaries.size() + 1, new HistogramCellSelector(boundaries), memoryMode);
   }
 
   @Override
@@ -8,6 +8,7 @@ package io.opentelemetry.sdk.metrics.internal.exemplar;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.metrics.internal.concurrent.AdderUtil;
 import io.opentelemetry.sdk.metrics.internal.concurrent.LongAdder;
 import java.util.Random;
@@ -24,13 +25,19 @@ import java.util.function.Supplier;
  */
 class RandomFixedSizeExemplarReservoir extends FixedSizeExemplarReservoir {
 
-  private RandomFixedSizeExemplarReservoir(Clock clock, int size, Supplier<Random> randomSupplier) {
-    super(clock, size, new RandomCellSelector(randomSupplier));
+  private RandomFixedSizeExemplarReservoir(
+      Clock clock, int size, Supplier<Random> randomSupplier, MemoryMode memoryMode) {
+    super(clock, size, new RandomCellSelector(randomSupplier), memoryMode);
   }
 
   static RandomFixedSizeExemplarReservoir create(
       Clock clock, int size, Supplier<Random> randomSupplier) {
-    return new RandomFixedSizeExemplarReservoir(clock, size, randomSupplier);
+    return create(clock, size, randomSupplier, MemoryMode.IMMUTABLE_DATA);
+  }
+
+  static RandomFixedSizeExemplarReservoir create(
+      Clock clock, int size, Supplier<Random> randomSupplier, MemoryMode memoryMode) {
+    return new RandomFixedSizeExemplarReservoir(clock, size, randomSupplier, memoryMode);
   }
 
   static class RandomCellSelector implements ReservoirCellSelector {
@@ -16,20 +16,34 @@ import io.opentelemetry.sdk.metrics.data.ExemplarData;
 import io.opentelemetry.sdk.metrics.data.LongExemplarData;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableDoubleExemplarData;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableLongExemplarData;
+import io.opentelemetry.sdk.metrics.internal.data.MutableDoubleExemplarData;
+import io.opentelemetry.sdk.metrics.internal.data.MutableLongExemplarData;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import javax.annotation.Nullable;
 
 /**
  * A Reservoir cell pre-allocated memories for Exemplar data.
  *
  * <p>We only allocate new objects during collection. This class should NOT cause allocations during
- * sampling or within the synchronous metric hot-path.
+ * sampling or within the synchronous metric hot-path. When exemplars are reused, collection doesn't
+ * allocate either, beyond filtering exemplar attributes.
  *
  * <p>Allocations are acceptable in the {@link #getAndResetDouble(Attributes)} and {@link
  * #getAndResetLong(Attributes)} collection methods.
+ *
+ * <p>The cell is owned by one thread at a time without a monitor: the owner moves {@code state}
+ * from even to odd with a compare-and-set, and back to even when done. A measurement offered while
+ * another thread owns the cell is dropped, as it would be by losing the sampling race.
  */
 class ReservoirCell {
+  private static final AtomicIntegerFieldUpdater<ReservoirCell> STATE =
+      AtomicIntegerFieldUpdater.newUpdater(ReservoirCell.class, "state");
+
   private final Clock clock;
+  private volatile int state;
+
+  // Guarded by state
   @Nullable private Attributes attributes;
   private SpanContext spanContext = SpanContext.getInvalid();
   private long recordTime;
@@ -38,8 +52,19 @@ class ReservoirCell {
   private long longValue;
   private double doubleValue;
 
+  // When reusing exemplars, collection returns the same exemplar each time instead of a new one,
+  // overwritten by the next collection. Allocated on first collection, only one type is used.
+  private final boolean reuseExemplars;
+  @Nullable private MutableDoubleExemplarData reusableDoubleExemplar;
+  @Nullable private MutableLongExemplarData reusableLongExemplar;
+
   ReservoirCell(Clock clock) {
+    this(clock, /* reuseExemplars= */ false);
+  }
+
+  ReservoirCell(Clock clock, boolean reuseExemplars) {
     this.clock = clock;
+    this.reuseExemplars = reuseExemplars;
   }
 
   /**
@@ -49,9 +74,14 @@ class ReservoirCell {
    * #recordDoubleMeasurement(double, Attributes, Context)} and {@link
    * #getAndResetDouble(Attributes)} must not be used when a cell is recording longs.
    */
-  synchronized void recordLongMeasurement(long value, Attributes attributes, Context context) {
+  void recordLongMeasurement(long value, Attributes attributes, Context context) {
+    int current = state;
+    if (!tryAcquire(current)) {
+      return;
+    }
     this.longValue = value;
     offerMeasurement(attributes, context);
+    state = current + 2;
   }
 
   /**
@@ -61,9 +91,14 @@ class ReservoirCell {
    * #recordLongMeasurement(long, Attributes, Context)} and {@link #getAndResetLong(Attributes)}
    * must not be used when a cell is recording longs.
    */
-  synchronized void recordDoubleMeasurement(double value, Attributes attributes, Context context) {
+  void recordDoubleMeasurement(double value, Attributes attributes, Context context) {
+    int current = state;
+    if (!tryAcquire(current)) {
+      return;
+    }
     this.doubleValue = value;
     offerMeasurement(attributes, context);
+    state = current + 2;
   }
 
   private void offerMeasurement(Attributes attributes, Context context) {
@@ -82,16 +117,32 @@ class ReservoirCell {
    * <p>Must be used in tandem with {@link #recordLongMeasurement(long, Attributes, Context)}.
    */
   @Nullable
-  synchronized LongExemplarData getAndResetLong(Attributes pointAttributes) {
-    Attributes attributes = this.attributes;
-    if (attributes == null) {
-      return null;
+  LongExemplarData getAndResetLong(Attributes pointAttributes) {
+    int current = acquire();
+    try {
+      Attributes attributes = this.attributes;
+      if (attributes == null) {
+        return null;
+      }
+      Attributes filteredAttributes = filtered(attributes, pointAttributes);
+      LongExemplarData result;
+      if (reuseExemplars) {
+        MutableLongExemplarData exemplar = reusableLongExemplar;
+        if (exemplar == null) {
+          exemplar = new MutableLongExemplarData();
+          reusableLongExemplar = exemplar;
+        }
+        result = exemplar.set(filteredAttributes, recordTime, spanContext, longValue);
+      } else {
+        result =
+            ImmutableLongExemplarData.create(
+                filteredAttributes, recordTime, spanContext, longValue);
+      }
+      doReset();
+      return result;
+    } finally {
+      state = current + 2;
     }
-    LongExemplarData result =
-        ImmutableLongExemplarData.create(
-            filtered(attributes, pointAttributes), recordTime, spanContext, longValue);
-    reset();
-    return result;
   }
 
   /**
@@ -100,19 +151,41 @@ class ReservoirCell {
    * <p>Must be used in tandem with {@link #recordDoubleMeasurement(double, Attributes, Context)}.
    */
   @Nullable
-  synchronized DoubleExemplarData getAndResetDouble(Attributes pointAttributes) {
-    Attributes attributes = this.attributes;
-    if (attributes == null) {
-      return null;
+  DoubleExemplarData getAndResetDouble(Attributes pointAttributes) {
+    int current = acquire();
+    try {
+      Attributes attributes = this.attributes;
+      if (attributes == null) {
+        return null;
+      }
+      Attributes filteredAttributes = filtered(attributes, pointAttributes);
+      DoubleExemplarData result;
+      if (reuseExemplars) {
+        MutableDoubleExemplarData exemplar = reusableDoubleExemplar;
+        if (exemplar == null) {
+          exemplar = new MutableDoubleExemplarData();
+          reusableDoubleExemplar = exemplar;
+        }
+        result = exemplar.set(filteredAttributes, recordTime, spanContext, doubleValue);
+      } else {
+        result =
+            ImmutableDoubleExemplarData.create(
+                filteredAttributes, recordTime, spanContext, doubleValue);
+      }
+      doReset();
+      return result;
+    } finally {
+      state = current + 2;
     }
-    DoubleExemplarData result =
-        ImmutableDoubleExemplarData.create(
-            filtered(attributes, pointAttributes), recordTime, spanContext, doubleValue);
-    reset();
-    return result;
   }
 
-  synchronized void reset() {
+  void reset() {
+    int current = acquire();
+    doReset();
+    state = current + 2;
+  }
+
+  private void doReset() {
     this.attributes = null;
     this.longValue = 0;
     this.doubleValue = 0;
@@ -120,6 +193,21 @@ class ReservoirCell {
     this.recordTime = 0;
   }
 
+  private boolean tryAcquire(int current) {
+    return (current & 1) == 0 && STATE.compareAndSet(this, current, current + 1);
+  }
+
+  /** Waits for a recording in progress, if any, and takes ownership of the cell. */
+  private int acquire() {
+    while (true) {
+      int current = state;
+      if (tryAcquire(current)) {
+        return current;
+      }
+      Thread.yield();
+    }
+  }
+
   /** Returns filtered attributes for exemplars. */
   private static Attributes filtered(Attributes original, Attributes metricPoint) {
     if (metricPoint.isEmpty()) {
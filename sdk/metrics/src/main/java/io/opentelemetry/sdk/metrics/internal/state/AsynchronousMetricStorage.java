@@ -27,6 +27,7 @@ import io.opentelemetry.sdk.metrics.internal.descriptor.MetricDescriptor;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
 import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
 import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
+import io.opentelemetry.sdk.metrics.internal.view.ProcessedAttributesCache;
 import io.opentelemetry.sdk.metrics.internal.view.RegisteredView;
 import io.opentelemetry.sdk.resources.Resource;
 import java.util.ArrayList;
@@ -38,6 +39,7 @@ import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * Stores aggregated {@link MetricData} for asynchronous instruments.
@@ -54,6 +56,8 @@ public final class AsynchronousMetricStorage<T extends PointData> implements Met
   private final AggregationTemporality aggregationTemporality;
   private final Aggregator<T> aggregator;
   private final AttributesProcessor attributesProcessor;
+  // Null if attributesProcessor is a noop or uses the context
+  @Nullable private final ProcessedAttributesCache processedAttributesCache;
   private final MemoryMode memoryMode;
 
   /**
@@ -103,6 +107,8 @@ public final class AsynchronousMetricStorage<T extends PointData> implements Met
     this.memoryMode = registeredReader.getReader().getMemoryMode();
     this.aggregator = aggregator;
     this.attributesProcessor = attributesProcessor;
+    this.processedAttributesCache =
+        ProcessedAttributesCache.create(attributesProcessor, maxCardinality);
     this.maxCardinality = maxCardinality - 1;
     this.enabled = enabled;
     this.reusablePointsPool = new ObjectPool<>(aggregator::createReusablePoint);
@@ -181,6 +187,10 @@ public final class AsynchronousMetricStorage<T extends PointData> implements Met
       return MetricStorage.CARDINALITY_OVERFLOW;
     }
 
+    ProcessedAttributesCache processedAttributesCache = this.processedAttributesCache;
+    if (processedAttributesCache != null) {
+      return processedAttributesCache.process(attributes, Context.current());
+    }
     Context context = Context.current();
     attributes = attributesProcessor.process(attributes, context);
     return attributes;
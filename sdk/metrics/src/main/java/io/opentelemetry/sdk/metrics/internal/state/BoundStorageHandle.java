@@ -0,0 +1,26 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.context.Context;
+
+/**
+ * Records measurements for a fixed set of {@link Attributes} into a {@link WriteableMetricStorage}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ *
+ * @see WriteableMetricStorage#bind(Attributes)
+ */
+public interface BoundStorageHandle {
+
+  /** Records a measurement with the bound attributes. */
+  void recordLong(long value, Context context);
+
+  /** Records a measurement with the bound attributes. */
+  void recordDouble(double value, Context context);
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import javax.annotation.Nullable;
+
+/**
+ * Invokes the callbacks of asynchronous instruments concurrently on an executor, each within a time
+ * budget.
+ *
+ * <p>Callbacks buffer their measurements to a {@link CallbackRecording}, which the collecting
+ * thread records to storages once the callback completes. A callback which doesn't complete within
+ * the timeout is left to complete in the background while the measurements of its last completed
+ * invocation are recorded instead, and is not invoked again until it completes. The duration of
+ * each invocation is recorded to the {@code otel.sdk.metric.callback.duration} histogram, with
+ * {@code timed_out} set if the collection gave up waiting for it, which may be due to callbacks
+ * queued ahead of it on the executor.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class CallbackInvoker {
+
+  private static final AttributeKey<Boolean> TIMED_OUT_KEY = AttributeKey.booleanKey("timed_out");
+  private static final Attributes TIMED_OUT = Attributes.of(TIMED_OUT_KEY, true);
+  private static final Attributes COMPLETED = Attributes.of(TIMED_OUT_KEY, false);
+
+  private final ExecutorService executor;
+  private final long timeoutNanos;
+  private final MeterProvider meterProvider;
+
+  // Created lazily, as the invoker is usually created along with the meter provider it records to
+  @Nullable private volatile DoubleHistogram callbackDuration;
+
+  private CallbackInvoker(
+      ExecutorService executor, long timeoutNanos, MeterProvider meterProvider) {
+    this.executor = executor;
+    this.timeoutNanos = timeoutNanos;
+    this.meterProvider = meterProvider;
+  }
+
+  /**
+   * Create a {@link CallbackInvoker}.
+   *
+   * @param executor the executor to invoke callbacks on
+   * @param timeout the time each collection waits for callbacks to complete
+   * @param meterProvider the meter provider to record callback durations to
+   */
+  public static CallbackInvoker create(
+      ExecutorService executor, Duration timeout, MeterProvider meterProvider) {
+    return new CallbackInvoker(executor, timeout.toNanos(), meterProvider);
+  }
+
+  /**
+   * Invokes {@code callbackRegistrations} for {@code reader} and records their measurements, in the
+   * order of {@code callbackRegistrations}. Returns once every callback has completed or timed out.
+   */
+  public void invokeCallbacks(
+      List<CallbackRegistration> callbackRegistrations,
+      RegisteredReader reader,
+      long startEpochNanos,
+      long epochNanos) {
+    long deadlineNanos = System.nanoTime() + timeoutNanos;
+    List<Future<CallbackRecording>> invocations = new ArrayList<>(callbackRegistrations.size());
+    for (CallbackRegistration callbackRegistration : callbackRegistrations) {
+      invocations.add(
+          callbackRegistration.startInvocation(this, reader, startEpochNanos, epochNanos));
+    }
+    for (int i = 0; i < callbackRegistrations.size(); i++) {
+      callbackRegistrations
+          .get(i)
+          .completeInvocation(
+              invocations.get(i), deadlineNanos, reader, startEpochNanos, epochNanos);
+    }
+  }
+
+  ExecutorService getExecutor() {
+    return executor;
+  }
+
+  void recordDuration(long durationNanos, boolean timedOut) {
+    DoubleHistogram callbackDuration = this.callbackDuration;
+    if (callbackDuration == null) {
+      callbackDuration =
+          meterProvider
+              .meterBuilder("io.opentelemetry.sdk.metrics")
+              .build()
+              .histogramBuilder("otel.sdk.metric.callback.duration")
+              .setDescription("The duration of asynchronous instrument callbacks.")
+              .setUnit("s")
+              .build();
+      this.callbackDuration = callbackDuration;
+    }
+    callbackDuration.record(durationNanos / 1_000_000_000.0, timedOut ? TIMED_OUT : COMPLETED);
+  }
+
+  @Override
+  public String toString() {
+    return "CallbackInvoker{executor=" + executor + ", timeoutNanos=" + timeoutNanos + "}";
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import io.opentelemetry.api.common.Attributes;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * Measurements recorded by one invocation of a callback run on a {@link CallbackInvoker}.
+ *
+ * <p>While a callback runs on an executor thread, {@link SdkObservableMeasurement} buffers its
+ * measurements here instead of recording them to storages, which are not thread-safe. The
+ * collecting thread replays them to the storages of the collecting reader once the callback
+ * completes, and replays them again to stand in for later invocations that time out.
+ */
+final class CallbackRecording {
+
+  private static final ThreadLocal<CallbackRecording> active = new ThreadLocal<>();
+
+  private final List<Measurement> measurements = new ArrayList<>();
+
+  /** Returns the recording measurements on the current thread are buffered to, if any. */
+  @Nullable
+  static CallbackRecording active() {
+    return active.get();
+  }
+
+  /** Buffers measurements on the current thread to this recording until {@link #stop()}. */
+  void start() {
+    active.set(this);
+  }
+
+  void stop() {
+    active.remove();
+  }
+
+  void add(SdkObservableMeasurement measurement, Attributes attributes, long value) {
+    measurements.add(new Measurement(measurement, attributes, value, 0, /* isDouble= */ false));
+  }
+
+  void add(SdkObservableMeasurement measurement, Attributes attributes, double value) {
+    measurements.add(new Measurement(measurement, attributes, 0, value, /* isDouble= */ true));
+  }
+
+  /**
+   * Records the buffered measurements to their {@link SdkObservableMeasurement}, whose active
+   * reader must be set.
+   */
+  void replay() {
+    for (Measurement measurement : measurements) {
+      if (measurement.isDouble) {
+        measurement.measurement.record(measurement.doubleValue, measurement.attributes);
+      } else {
+        measurement.measurement.record(measurement.longValue, measurement.attributes);
+      }
+    }
+  }
+
+  private static final class Measurement {
+    private final SdkObservableMeasurement measurement;
+    private final Attributes attributes;
+    private final long longValue;
+    private final double doubleValue;
+    private final boolean isDouble;
+
+    private Measurement(
+        SdkObservableMeasurement measurement,
+        Attributes attributes,
+        long longValue,
+        double doubleValue,
+        boolean isDouble) {
+      this.measurement = measurement;
+      this.attributes = attributes;
+      this.longValue = longValue;
+      this.doubleValue = doubleValue;
+      this.isDouble = isDouble;
+    }
+  }
+}
@@ -12,8 +12,16 @@ import io.opentelemetry.sdk.internal.ThrottlingLogger;
 import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
 import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * A registered callback.
@@ -30,6 +38,14 @@ public final class CallbackRegistration {
   private final List<InstrumentDescriptor> instrumentDescriptors;
   private final boolean hasStorages;
 
+  // Only used when callbacks run on a CallbackInvoker, guarded by the collect lock of the meter the
+  // callback is registered to
+  @Nullable private Future<CallbackRecording> inFlight;
+  // Set by whichever comes first of the in flight invocation completing and the collection giving
+  // up waiting for it
+  @Nullable private AtomicBoolean inFlightSettled;
+  @Nullable private CallbackRecording lastRecording;
+
   private CallbackRegistration(
       List<SdkObservableMeasurement> observableMeasurements, Runnable callback) {
     this.observableMeasurements = observableMeasurements;
@@ -90,4 +106,140 @@ public final class CallbackRegistration {
       observableMeasurements.forEach(SdkObservableMeasurement::unsetActiveReader);
     }
   }
+
+  /**
+   * Starts invoking the callback on the {@code invoker}'s executor, buffering its measurements to a
+   * {@link CallbackRecording}. Returns {@code null} if no storages are registered, if the previous
+   * invocation is still running, or if the executor rejects the invocation, which is then run on
+   * the calling thread. Must be followed by {@link #completeInvocation(Future, long,
+   * RegisteredReader, long, long)}.
+   */
+  @Nullable
+  Future<CallbackRecording> startInvocation(
+      CallbackInvoker invoker, RegisteredReader reader, long startEpochNanos, long epochNanos) {
+    if (!hasStorages) {
+      return null;
+    }
+    Future<CallbackRecording> previous = inFlight;
+    if (previous != null && !previous.isDone()) {
+      // Never run the same callback concurrently, the last recording stands in for this one
+      return null;
+    }
+    ExecutorService executor = invoker.getExecutor();
+    AtomicBoolean settled = new AtomicBoolean();
+    try {
+      inFlight =
+          executor.submit(
+              () -> {
+                CallbackRecording recording = new CallbackRecording();
+                long start = System.nanoTime();
+                recording.start();
+                try {
+                  callback.run();
+                } catch (Throwable e) {
+                  propagateIfFatal(e);
+                  throttlingLogger.log(
+                      Level.WARNING,
+                      "An exception occurred invoking callback for " + this + ".",
+                      e);
+                } finally {
+                  recording.stop();
+                  // Timed out if the collection already gave up waiting for this invocation
+                  boolean timedOut = !settled.compareAndSet(false, true);
+                  invoker.recordDuration(System.nanoTime() - start, timedOut);
+                }
+                return recording;
+              });
+      inFlightSettled = settled;
+      return inFlight;
+    } catch (RejectedExecutionException e) {
+      inFlight = null;
+      lastRecording = null;
+      invokeCallback(reader, startEpochNanos, epochNanos);
+      return null;
+    }
+  }
+
+  /**
+   * Waits until {@code deadlineNanos}, as per {@link System#nanoTime()}, for an invocation started
+   * by {@link #startInvocation(CallbackInvoker, RegisteredReader, long, long)} and records its
+   * measurements to the storages of {@code reader}. If the invocation didn't complete in time, the
+   * measurements of the last completed invocation are recorded instead and the late invocation is
+   * left to complete in the background.
+   */
+  void completeInvocation(
+      @Nullable Future<CallbackRecording> invocation,
+      long deadlineNanos,
+      RegisteredReader reader,
+      long startEpochNanos,
+      long epochNanos) {
+    Future<CallbackRecording> pending = inFlight;
+    if (pending == null) {
+      // Run on the calling thread or no storages to record to
+      return;
+    }
+    if (invocation == null) {
+      if (pending.isDone()) {
+        // A late invocation completed since, and is more recent than the last recording
+        updateLastRecording(pending);
+      }
+    } else {
+      AtomicBoolean settled = inFlightSettled;
+      boolean interrupted = false;
+      boolean completing = false;
+      while (true) {
+        try {
+          lastRecording =
+              completing
+                  ? invocation.get()
+                  : invocation.get(
+                      Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+          break;
+        } catch (InterruptedException e) {
+          interrupted = true;
+        } catch (ExecutionException e) {
+          // Exceptions are handled within the invocation
+          break;
+        } catch (TimeoutException e) {
+          if (settled != null && !settled.compareAndSet(false, true)) {
+            // The callback completed as time ran out, and is only returning its recording
+            completing = true;
+            continue;
+          }
+          throttlingLogger.log(
+              Level.WARNING,
+              "Callback for "
+                  + this
+                  + " did not complete in time, recording the last observed values instead.");
+          break;
+        }
+      }
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    CallbackRecording recording = lastRecording;
+    if (recording == null) {
+      return;
+    }
+    observableMeasurements.forEach(
+        observableMeasurement ->
+            observableMeasurement.setActiveReader(reader, startEpochNanos, epochNanos));
+    try {
+      recording.replay();
+    } finally {
+      observableMeasurements.forEach(SdkObservableMeasurement::unsetActiveReader);
+    }
+  }
+
+  private void updateLastRecording(Future<CallbackRecording> done) {
+    try {
+      lastRecording = done.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      // Exceptions are handled within the invocation
+    }
+  }
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import io.opentelemetry.api.common.Attributes;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import javax.annotation.Nullable;
+
+/**
+ * A concurrent hash map keyed by {@link Attributes}, using open addressing with linear probing.
+ *
+ * <p>Keys and values are stored next to each other in a single array, along with the hash of each
+ * key, so unlike {@link java.util.concurrent.ConcurrentHashMap} no node is allocated per mapping
+ * and a lookup usually touches a single cache line. The cached hash lets lookups skip {@link
+ * Attributes#equals(Object)} for colliding keys, and the key is compared by identity first, as
+ * recordings often reuse the same {@link Attributes} instance.
+ *
+ * <p>Lookups don't lock. Insertions and removals lock the map, which is acceptable as they only
+ * happen when a new series is recorded or when a collection trims the map. The table is never more
+ * than half full, so probe sequences stay short.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ *
+ * @param <V> The map value type
+ */
+public final class ConcurrentAttributesMap<V> {
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private final Object lock = new Object();
+  private volatile Table table;
+  private volatile int size;
+
+  /** Creates a {@link ConcurrentAttributesMap} with a default initial capacity. */
+  public ConcurrentAttributesMap() {
+    this.table = new Table(DEFAULT_CAPACITY);
+  }
+
+  /** Returns the value mapped to {@code key}, or {@code null} if there is none. */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  public V get(Attributes key) {
+    int hash = spread(key.hashCode());
+    Table table = this.table;
+    int mask = table.mask;
+    for (int i = hash & mask; ; i = (i + 1) & mask) {
+      Object candidate = table.slots.get(i << 1);
+      if (candidate == null) {
+        return null;
+      }
+      if (candidate == key || (table.hashes[i] == hash && candidate.equals(key))) {
+        return (V) table.slots.get((i << 1) + 1);
+      }
+    }
+  }
+
+  /**
+   * Maps {@code key} to {@code value} unless {@code key} is already mapped.
+   *
+   * @return the value {@code key} was already mapped to, or {@code null} if {@code value} was added
+   */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  public V putIfAbsent(Attributes key, V value) {
+    int hash = spread(key.hashCode());
+    synchronized (lock) {
+      Table table = this.table;
+      int index = indexOf(table, key, hash);
+      if (table.slots.get(index << 1) != null) {
+        return (V) table.slots.get((index << 1) + 1);
+      }
+      int size = this.size;
+      if ((size + 1) * 2 > table.capacity()) {
+        table = table.copy(table.capacity() * 2, null);
+        this.table = table;
+        index = indexOf(table, key, hash);
+      }
+      table.set(index, key, hash, value);
+      this.size = size + 1;
+      return null;
+    }
+  }
+
+  /**
+   * Removes all mappings matching {@code filter}. Lookups running concurrently may still return a
+   * removed value.
+   */
+  public void removeIf(BiPredicate<Attributes, ? super V> filter) {
+    synchronized (lock) {
+      Table table = this.table;
+      Table retained = table.copy(table.capacity(), filter);
+      this.table = retained;
+      size = retained.count;
+    }
+  }
+
+  /**
+   * Performs {@code action} for each mapping. Like {@link
+   * java.util.concurrent.ConcurrentHashMap#forEach(BiConsumer)}, mappings added or removed while
+   * iterating may or may not be visited.
+   */
+  @SuppressWarnings("unchecked")
+  public void forEach(BiConsumer<Attributes, ? super V> action) {
+    Table table = this.table;
+    for (int i = 0; i < table.capacity(); i++) {
+      Object key = table.slots.get(i << 1);
+      if (key != null) {
+        action.accept((Attributes) key, (V) table.slots.get((i << 1) + 1));
+      }
+    }
+  }
+
+  /** Returns the number of mappings. */
+  public int size() {
+    return size;
+  }
+
+  /** Returns the slot {@code key} is mapped in, or the empty slot it would be added to. */
+  private static int indexOf(Table table, Attributes key, int hash) {
+    int mask = table.mask;
+    for (int i = hash & mask; ; i = (i + 1) & mask) {
+      Object candidate = table.slots.get(i << 1);
+      if (candidate == null
+          || candidate == key
+          || (table.hashes[i] == hash && candidate.equals(key))) {
+        return i;
+      }
+    }
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  private static final class Table {
+    // Key of slot i at index 2i, value at index 2i + 1. A slot is empty while its key is null. The
+    // hash and value are written before the key, so a reader which sees the key sees both.
+    private final AtomicReferenceArray<Object> slots;
+    private final int[] hashes;
+    private final int mask;
+    // Only maintained for tables built by copy()
+    private int count;
+
+    private Table(int capacity) {
+      this.slots = new AtomicReferenceArray<>(capacity * 2);
+      this.hashes = new int[capacity];
+      this.mask = capacity - 1;
+    }
+
+    private int capacity() {
+      return hashes.length;
+    }
+
+    private void set(int index, Attributes key, int hash, Object value) {
+      hashes[index] = hash;
+      slots.set((index << 1) + 1, value);
+      slots.set(index << 1, key);
+    }
+
+    /** Returns a copy with {@code capacity} slots, without mappings matching {@code filter}. */
+    @SuppressWarnings("unchecked")
+    private <V> Table copy(int capacity, @Nullable BiPredicate<Attributes, ? super V> filter) {
+      Table copy = new Table(capacity);
+      for (int i = 0; i < capacity(); i++) {
+        Attributes key = (Attributes) slots.get(i << 1);
+        if (key == null) {
+          continue;
+        }
+        V value = (V) slots.get((i << 1) + 1);
+        if (filter != null && filter.test(key, value)) {
+          continue;
+        }
+        int index = indexOf(copy, key, hashes[i]);
+        copy.set(index, key, hashes[i], value);
+        copy.count++;
+      }
+      return copy;
+    }
+  }
+}
@@ -7,6 +7,7 @@ package io.opentelemetry.sdk.metrics.internal.state;
 
 import static io.opentelemetry.sdk.common.export.MemoryMode.IMMUTABLE_DATA;
 import static io.opentelemetry.sdk.common.export.MemoryMode.REUSABLE_DATA;
+import static io.opentelemetry.sdk.metrics.data.AggregationTemporality.CUMULATIVE;
 import static io.opentelemetry.sdk.metrics.data.AggregationTemporality.DELTA;
 
 import io.opentelemetry.api.common.Attributes;
@@ -23,16 +24,19 @@ import io.opentelemetry.sdk.metrics.internal.aggregator.EmptyMetricData;
 import io.opentelemetry.sdk.metrics.internal.descriptor.MetricDescriptor;
 import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
 import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
+import io.opentelemetry.sdk.metrics.internal.view.ProcessedAttributesCache;
 import io.opentelemetry.sdk.resources.Resource;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * Stores aggregated {@link MetricData} for synchronous instruments.
@@ -51,8 +55,11 @@ public final class DefaultSynchronousMetricStorage<T extends PointData>
   private final MetricDescriptor metricDescriptor;
   private final AggregationTemporality aggregationTemporality;
   private final Aggregator<T> aggregator;
-  private volatile AggregatorHolder<T> aggregatorHolder = new AggregatorHolder<>();
+  private final int recordingStripes;
+  private volatile AggregatorHolder<T> aggregatorHolder;
   private final AttributesProcessor attributesProcessor;
+  // Null if attributesProcessor is a noop or uses the context
+  @Nullable private final ProcessedAttributesCache processedAttributesCache;
 
   private final MemoryMode memoryMode;
 
@@ -61,8 +68,8 @@ public final class DefaultSynchronousMetricStorage<T extends PointData>
 
   // Only populated if memoryMode == REUSABLE_DATA and
   // aggregationTemporality is DELTA
-  private volatile ConcurrentHashMap<Attributes, AggregatorHandle<T>>
-      previousCollectionAggregatorHandles = new ConcurrentHashMap<>();
+  private volatile ConcurrentAttributesMap<AggregatorHandle<T>>
+      previousCollectionAggregatorHandles = new ConcurrentAttributesMap<>();
 
   /**
    * This field is set to 1 less than the actual intended cardinality limit, allowing the last slot
@@ -73,8 +80,20 @@ public final class DefaultSynchronousMetricStorage<T extends PointData>
   private final ConcurrentLinkedQueue<AggregatorHandle<T>> aggregatorHandlePool =
       new ConcurrentLinkedQueue<>();
 
+  // Number of idle collections after which a series is evicted, 0 if series are not evicted. Only
+  // set for CUMULATIVE aggregationTemporality.
+  private final int maxSeriesIdleCollections;
+  // Set once a series has been evicted, after which new series start at the last collection
+  private volatile boolean seriesEvicted;
+  // Only populated during collect() if maxSeriesIdleCollections > 0
+  private final ArrayList<AggregatorHandle<T>> evictedHandles = new ArrayList<>();
+
   private volatile boolean enabled;
 
+  // The bits of the DELTA readers collecting this storage through a SharedSynchronousMetricStorage,
+  // registered before measurements are recorded
+  private int sharingDeltaReaders;
+
   DefaultSynchronousMetricStorage(
       RegisteredReader registeredReader,
       MetricDescriptor metricDescriptor,
@@ -82,6 +101,44 @@ public final class DefaultSynchronousMetricStorage<T extends PointData>
       AttributesProcessor attributesProcessor,
       int maxCardinality,
       boolean enabled) {
+    this(
+        registeredReader,
+        metricDescriptor,
+        aggregator,
+        attributesProcessor,
+        maxCardinality,
+        enabled,
+        /* recordingStripes= */ 1);
+  }
+
+  DefaultSynchronousMetricStorage(
+      RegisteredReader registeredReader,
+      MetricDescriptor metricDescriptor,
+      Aggregator<T> aggregator,
+      AttributesProcessor attributesProcessor,
+      int maxCardinality,
+      boolean enabled,
+      int recordingStripes) {
+    this(
+        registeredReader,
+        metricDescriptor,
+        aggregator,
+        attributesProcessor,
+        maxCardinality,
+        enabled,
+        recordingStripes,
+        /* maxSeriesIdleCollections= */ 0);
+  }
+
+  DefaultSynchronousMetricStorage(
+      RegisteredReader registeredReader,
+      MetricDescriptor metricDescriptor,
+      Aggregator<T> aggregator,
+      AttributesProcessor attributesProcessor,
+      int maxCardinality,
+      boolean enabled,
+      int recordingStripes,
+      int maxSeriesIdleCollections) {
     this.registeredReader = registeredReader;
     this.metricDescriptor = metricDescriptor;
     this.aggregationTemporality =
@@ -90,9 +147,46 @@ public final class DefaultSynchronousMetricStorage<T extends PointData>
             .getAggregationTemporality(metricDescriptor.getSourceInstrument().getType());
     this.aggregator = aggregator;
     this.attributesProcessor = attributesProcessor;
+    this.processedAttributesCache =
+        ProcessedAttributesCache.create(attributesProcessor, maxCardinality);
     this.maxCardinality = maxCardinality - 1;
     this.memoryMode = registeredReader.getReader().getMemoryMode();
     this.enabled = enabled;
+    this.recordingStripes = recordingStripes;
+    this.maxSeriesIdleCollections =
+        aggregationTemporality == CUMULATIVE ? maxSeriesIdleCollections : 0;
+    this.aggregatorHolder =
+        new AggregatorHolder<>(new ConcurrentAttributesMap<>(), recordingStripes);
+  }
+
+  Aggregator<T> getAggregator() {
+    return aggregator;
+  }
+
+  /**
+   * Registers a DELTA reader collecting this storage through a {@link
+   * SharedSynchronousMetricStorage}, returning the reader's bit for {@link
+   * #takeRecordedSinceCollect(int)}, or {@code 0} if no more readers can be tracked.
+   */
+  int registerSharingDeltaReader() {
+    int reader = Integer.lowestOneBit(~sharingDeltaReaders);
+    sharingDeltaReaders |= reader;
+    return reader;
+  }
+
+  /**
+   * Returns the attributes of the series with values recorded since the reader whose bit is {@code
+   * reader} last called this method.
+   */
+  Set<Attributes> takeRecordedSinceCollect(int reader) {
+    Set<Attributes> recorded = new HashSet<>();
+    aggregatorHolder.aggregatorHandles.forEach(
+        (attributes, handle) -> {
+          if (handle.checkRecordedSinceCollect(reader)) {
+            recorded.add(attributes);
+          }
+        });
+    return recorded;
   }
 
   // Visible for testing
@@ -121,13 +215,7 @@ public final class DefaultSynchronousMetricStorage<T extends PointData>
       return;
     }
     if (Double.isNaN(value)) {
-      logger.log(
-          Level.FINE,
-          "Instrument "
-              + metricDescriptor.getSourceInstrument().getName()
-              + " has recorded measurement Not-a-Number (NaN) value with attributes "
-              + attributes
-              + ". Dropping measurement.");
+      logNaN(attributes);
       return;
     }
     AggregatorHolder<T> aggregatorHolder = getHolderForRecord();
@@ -140,6 +228,27 @@ public final class DefaultSynchronousMetricStorage<T extends PointData>
     }
   }
 
+  private void logNaN(Attributes attributes) {
+    logger.log(
+        Level.FINE,
+        "Instrument "
+            + metricDescriptor.getSourceInstrument().getName()
+            + " has recorded measurement Not-a-Number (NaN) value with attributes "
+            + attributes
+            + ". Dropping measurement.");
+  }
+
+  @Override
+  public BoundStorageHandle bind(Attributes attributes) {
+    Objects.requireNonNull(attributes, "attributes");
+    if (attributesProcessor.usesContext()) {
+      // The processed attributes depend on the context of each measurement, so the handle can't
+      // be resolved ahead of time.
+      return SynchronousMetricStorage.super.bind(attributes);
+    }
+    return new BoundHandle(attributes, attributesProcessor.process(attributes, Context.root()));
+  }
+
   @Override
   public void setEnabled(boolean enabled) {
     this.enabled = enabled;
@@ -157,17 +266,21 @@ public final class DefaultSynchronousMetricStorage<T extends PointData>
    * Record operations increment recordInProgress by 2. Callers MUST call {@link
    * #releaseHolderForRecord(AggregatorHolder)} when record operation completes to signal to that
    * its safe to proceed with Collect operations.
+   *
+   * <p>When recording is striped, recordsInProgress is tracked per stripe and the calling thread
+   * only touches the stripe it maps to.
    */
   private AggregatorHolder<T> getHolderForRecord() {
     do {
       AggregatorHolder<T> aggregatorHolder = this.aggregatorHolder;
-      int recordsInProgress = aggregatorHolder.activeRecordingThreads.addAndGet(2);
+      int stripe = aggregatorHolder.currentThreadStripe();
+      int recordsInProgress = aggregatorHolder.activeRecordingThreads.addAndGet(stripe, 2);
       if (recordsInProgress % 2 == 0) {
         return aggregatorHolder;
       } else {
         // Collect is in progress, decrement recordsInProgress to allow collect to proceed and
         // re-read aggregatorHolder
-        aggregatorHolder.activeRecordingThreads.addAndGet(-2);
+        aggregatorHolder.activeRecordingThreads.addAndGet(stripe, -2);
       }
     } while (true);
   }
@@ -177,15 +290,24 @@ public final class DefaultSynchronousMetricStorage<T extends PointData>
    * that recording is complete, and it is safe to collect.
    */
   private void releaseHolderForRecord(AggregatorHolder<T> aggregatorHolder) {
-    aggregatorHolder.activeRecordingThreads.addAndGet(-2);
+    aggregatorHolder.activeRecordingThreads.addAndGet(aggregatorHolder.currentThreadStripe(), -2);
   }
 
   private AggregatorHandle<T> getAggregatorHandle(
-      ConcurrentHashMap<Attributes, AggregatorHandle<T>> aggregatorHandles,
+      ConcurrentAttributesMap<AggregatorHandle<T>> aggregatorHandles,
       Attributes attributes,
       Context context) {
     Objects.requireNonNull(attributes, "attributes");
-    attributes = attributesProcessor.process(attributes, context);
+    ProcessedAttributesCache processedAttributesCache = this.processedAttributesCache;
+    attributes =
+        processedAttributesCache != null
+            ? processedAttributesCache.process(attributes, context)
+            : attributesProcessor.process(attributes, context);
+    return getOrCreateAggregatorHandle(aggregatorHandles, attributes);
+  }
+
+  private AggregatorHandle<T> getOrCreateAggregatorHandle(
+      ConcurrentAttributesMap<AggregatorHandle<T>> aggregatorHandles, Attributes attributes) {
     AggregatorHandle<T> handle = aggregatorHandles.get(attributes);
     if (handle != null) {
       return handle;
@@ -210,8 +332,24 @@ public final class DefaultSynchronousMetricStorage<T extends PointData>
     if (newHandle == null) {
       newHandle = aggregator.createHandle();
     }
+    if (sharingDeltaReaders != 0) {
+      newHandle.trackCollections(sharingDeltaReaders);
+    }
+    if (maxSeriesIdleCollections > 0) {
+      newHandle.trackIdle();
+      if (seriesEvicted) {
+        // The series may be one whose accumulated values were dropped when it was evicted, so it
+        // starts over from the last collection
+        newHandle.setSeriesStartEpochNanos(registeredReader.getLastCollectEpochNanos());
+      }
+    }
     handle = aggregatorHandles.putIfAbsent(attributes, newHandle);
-    return handle != null ? handle : newHandle;
+    if (handle != null) {
+      // Another thread created the handle first
+      newHandle.release();
+      return handle;
+    }
+    return newHandle;
   }
 
   @Override
@@ -226,25 +364,23 @@ public final class DefaultSynchronousMetricStorage<T extends PointData>
             ? registeredReader.getLastCollectEpochNanos()
             : startEpochNanos;
 
-    ConcurrentHashMap<Attributes, AggregatorHandle<T>> aggregatorHandles;
+    ConcurrentAttributesMap<AggregatorHandle<T>> aggregatorHandles;
     if (reset) {
       AggregatorHolder<T> holder = this.aggregatorHolder;
       this.aggregatorHolder =
-          (memoryMode == REUSABLE_DATA)
-              ? new AggregatorHolder<>(previousCollectionAggregatorHandles)
-              : new AggregatorHolder<>();
-
-      // Increment recordsInProgress by 1, which produces an odd number acting as a signal that
-      // record operations should re-read the volatile this.aggregatorHolder.
-      // Repeatedly grab recordsInProgress until it is <= 1, which signals all active record
-      // operations are complete.
-      int recordsInProgress = holder.activeRecordingThreads.addAndGet(1);
-      while (recordsInProgress > 1) {
-        recordsInProgress = holder.activeRecordingThreads.get();
-      }
+          new AggregatorHolder<>(
+              (memoryMode == REUSABLE_DATA)
+                  ? previousCollectionAggregatorHandles
+                  : new ConcurrentAttributesMap<>(),
+              recordingStripes);
+
+      awaitRecordsInProgress(holder);
       aggregatorHandles = holder.aggregatorHandles;
     } else {
       aggregatorHandles = this.aggregatorHolder.aggregatorHandles;
+      if (maxSeriesIdleCollections > 0) {
+        evictIdleSeries(aggregatorHandles);
+      }
     }
 
     List<T> points;
@@ -271,11 +407,13 @@ public final class DefaultSynchronousMetricStorage<T extends PointData>
     // if the user chooses to increase the maxCardinality.
     if (memoryMode == REUSABLE_DATA && reset) {
       if (aggregatorHandles.size() >= maxCardinality) {
-        aggregatorHandles.forEach(
-            (attribute, handle) -> {
-              if (!handle.hasRecordedValues()) {
-                aggregatorHandles.remove(attribute);
+        aggregatorHandles.removeIf(
+            (attributes, handle) -> {
+              if (handle.hasRecordedValues()) {
+                return false;
               }
+              handle.release();
+              return true;
             });
       }
     }
@@ -284,9 +422,18 @@ public final class DefaultSynchronousMetricStorage<T extends PointData>
     aggregatorHandles.forEach(
         (attributes, handle) -> {
           if (!handle.hasRecordedValues()) {
+            if (reset && memoryMode == IMMUTABLE_DATA) {
+              // The handle is discarded along with the map
+              handle.release();
+            }
             return;
           }
-          T point = handle.aggregateThenMaybeReset(start, epochNanos, attributes, reset);
+          T point =
+              handle.aggregateThenMaybeReset(
+                  Math.max(start, handle.getSeriesStartEpochNanos()),
+                  epochNanos,
+                  attributes,
+                  reset);
 
           if (reset && memoryMode == IMMUTABLE_DATA) {
             // Return the aggregator to the pool.
@@ -306,7 +453,10 @@ public final class DefaultSynchronousMetricStorage<T extends PointData>
     // created during collection.
     int toDelete = aggregatorHandlePool.size() - (maxCardinality + 1);
     for (int i = 0; i < toDelete; i++) {
-      aggregatorHandlePool.poll();
+      AggregatorHandle<T> handle = aggregatorHandlePool.poll();
+      if (handle != null) {
+        handle.release();
+      }
     }
 
     if (reset && memoryMode == REUSABLE_DATA) {
@@ -321,13 +471,149 @@ public final class DefaultSynchronousMetricStorage<T extends PointData>
         resource, instrumentationScopeInfo, metricDescriptor, points, aggregationTemporality);
   }
 
+  /**
+   * Marks every stripe of {@code holder} and waits for the record operations in progress against
+   * it to complete. Recording pauses until {@link #aggregatorHolder} is replaced, if it is still
+   * {@code holder}.
+   */
+  private static void awaitRecordsInProgress(AggregatorHolder<?> holder) {
+    // Increment recordsInProgress by 1, which produces an odd number acting as a signal that
+    // record operations should re-read the volatile this.aggregatorHolder.
+    // Repeatedly grab recordsInProgress until it is <= 1, which signals all active record
+    // operations are complete. With striped recording, every stripe is marked before waiting on
+    // any of them so that recorders on all stripes move to the new holder as early as possible.
+    AtomicIntegerArray activeRecordingThreads = holder.activeRecordingThreads;
+    for (int i = 0; i < activeRecordingThreads.length(); i += holder.stripeStride) {
+      activeRecordingThreads.addAndGet(i, 1);
+    }
+    for (int i = 0; i < activeRecordingThreads.length(); i += holder.stripeStride) {
+      int recordsInProgress = activeRecordingThreads.get(i);
+      while (recordsInProgress > 1) {
+        recordsInProgress = activeRecordingThreads.get(i);
+      }
+    }
+  }
+
+  /**
+   * Removes the series of a CUMULATIVE storage which have had no measurements recorded for {@link
+   * #maxSeriesIdleCollections} collections.
+   *
+   * <p>Recording threads may look up a handle just before it is removed, and {@link BoundHandle}s
+   * cache handles, so recording is paused while idle handles are removed: the holder is marked and
+   * in-flight recordings are awaited, the handles still idle are removed, and a new holder sharing
+   * the same map is published, which makes recorders re-resolve their handles. No measurement can
+   * then land in a removed handle, while a recorder recreating a series only does so once its
+   * previous handle is gone. The pause only covers removing the handles found idle beforehand.
+   */
+  private void evictIdleSeries(ConcurrentAttributesMap<AggregatorHandle<T>> aggregatorHandles) {
+    aggregatorHandles.forEach(
+        (attributes, handle) -> {
+          if (handle.checkIdle() >= maxSeriesIdleCollections) {
+            evictedHandles.add(handle);
+          }
+        });
+    if (evictedHandles.isEmpty()) {
+      return;
+    }
+    seriesEvicted = true;
+
+    AggregatorHolder<T> holder = this.aggregatorHolder;
+    awaitRecordsInProgress(holder);
+    // Handles recorded to since they were checked are kept
+    aggregatorHandles.removeIf(
+        (attributes, handle) ->
+            handle.getIdleCollections() >= maxSeriesIdleCollections
+                && !handle.isRecordedSinceCheck());
+    this.aggregatorHolder = new AggregatorHolder<>(aggregatorHandles, recordingStripes);
+
+    for (AggregatorHandle<T> handle : evictedHandles) {
+      if (!handle.isRecordedSinceCheck()) {
+        handle.release();
+      }
+    }
+    evictedHandles.clear();
+  }
+
   @Override
   public MetricDescriptor getMetricDescriptor() {
     return metricDescriptor;
   }
 
+  /**
+   * A {@link BoundStorageHandle} which caches the {@link AggregatorHandle} resolved for the bound
+   * attributes, skipping attribute processing and map lookups for as long as the {@link
+   * AggregatorHolder} it was resolved against is current. When collection replaces the holder (i.e.
+   * DELTA temporality), the handle is resolved again on the next recording.
+   */
+  private final class BoundHandle implements BoundStorageHandle {
+    private final Attributes attributes;
+    private final Attributes processedAttributes;
+    @Nullable private volatile ResolvedHandle<T> resolvedHandle;
+
+    private BoundHandle(Attributes attributes, Attributes processedAttributes) {
+      this.attributes = attributes;
+      this.processedAttributes = processedAttributes;
+    }
+
+    @Override
+    public void recordLong(long value, Context context) {
+      if (!enabled) {
+        return;
+      }
+      AggregatorHolder<T> aggregatorHolder = getHolderForRecord();
+      try {
+        resolve(aggregatorHolder).recordLong(value, attributes, context);
+      } finally {
+        releaseHolderForRecord(aggregatorHolder);
+      }
+    }
+
+    @Override
+    public void recordDouble(double value, Context context) {
+      if (!enabled) {
+        return;
+      }
+      if (Double.isNaN(value)) {
+        logNaN(attributes);
+        return;
+      }
+      AggregatorHolder<T> aggregatorHolder = getHolderForRecord();
+      try {
+        resolve(aggregatorHolder).recordDouble(value, attributes, context);
+      } finally {
+        releaseHolderForRecord(aggregatorHolder);
+      }
+    }
+
+    private AggregatorHandle<T> resolve(AggregatorHolder<T> aggregatorHolder) {
+      ResolvedHandle<T> resolvedHandle = this.resolvedHandle;
+      if (resolvedHandle != null && resolvedHandle.aggregatorHolder == aggregatorHolder) {
+        return resolvedHandle.aggregatorHandle;
+      }
+      AggregatorHandle<T> aggregatorHandle =
+          getOrCreateAggregatorHandle(aggregatorHolder.aggregatorHandles, processedAttributes);
+      this.resolvedHandle = new ResolvedHandle<>(aggregatorHolder, aggregatorHandle);
+      return aggregatorHandle;
+    }
+  }
+
+  private static final class ResolvedHandle<T extends PointData> {
+    private final AggregatorHolder<T> aggregatorHolder;
+    private final AggregatorHandle<T> aggregatorHandle;
+
+    private ResolvedHandle(
+        AggregatorHolder<T> aggregatorHolder, AggregatorHandle<T> aggregatorHandle) {
+      this.aggregatorHolder = aggregatorHolder;
+      this.aggregatorHandle = aggregatorHandle;
+    }
+  }
+
   private static class AggregatorHolder<T extends PointData> {
-    private final ConcurrentHashMap<Attributes, AggregatorHandle<T>> aggregatorHandles;
+    // Number of int slots between two stripes, so that each stripe of activeRecordingThreads lives
+    // on its own 64 byte cache line and recording threads on different stripes don't contend.
+    private static final int STRIPE_PADDING = 16;
+
+    private final ConcurrentAttributesMap<AggregatorHandle<T>> aggregatorHandles;
     // Recording threads grab the current interval (AggregatorHolder) and atomically increment
     // this by 2 before recording against it (and then decrement by two when done).
     //
@@ -342,14 +628,36 @@ public final class DefaultSynchronousMetricStorage<T extends PointData>
     // (AggregatorHolder), and so if a recording thread encounters an odd value,
     // all it needs to do is release the "read lock" it just obtained (decrementing by 2),
     // and then grab and record against the new current interval (AggregatorHolder).
-    private final AtomicInteger activeRecordingThreads = new AtomicInteger(0);
-
-    private AggregatorHolder() {
-      aggregatorHandles = new ConcurrentHashMap<>();
+    //
+    // With striped recording the counter is split into several stripes, each on its own cache
+    // line. Recording threads only touch the stripe selected by their thread id, and the collector
+    // "locks" every stripe.
+    private final AtomicIntegerArray activeRecordingThreads;
+    private final int stripeStride;
+    private final int stripeMask;
+
+    private AggregatorHolder(
+        ConcurrentAttributesMap<AggregatorHandle<T>> aggregatorHandles, int stripes) {
+      this.aggregatorHandles = aggregatorHandles;
+      if (stripes <= 1) {
+        this.activeRecordingThreads = new AtomicIntegerArray(1);
+        this.stripeStride = 1;
+        this.stripeMask = 0;
+      } else {
+        // Round up to a power of two so the stripe can be selected with a mask
+        int stripeCount = Integer.highestOneBit(stripes - 1) << 1;
+        this.activeRecordingThreads = new AtomicIntegerArray(stripeCount * STRIPE_PADDING);
+        this.stripeStride = STRIPE_PADDING;
+        this.stripeMask = stripeCount - 1;
+      }
     }
 
-    private AggregatorHolder(ConcurrentHashMap<Attributes, AggregatorHandle<T>> aggregatorHandles) {
-      this.aggregatorHandles = aggregatorHandles;
+    /** Returns the index in {@link #activeRecordingThreads} used by the current thread. */
+    private int currentThreadStripe() {
+      if (stripeMask == 0) {
+        return 0;
+      }
+      return ((int) Thread.currentThread().getId() & stripeMask) * stripeStride;
     }
   }
 }
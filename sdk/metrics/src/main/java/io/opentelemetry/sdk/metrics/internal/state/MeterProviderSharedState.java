@@ -24,8 +24,39 @@ public abstract class MeterProviderSharedState {
 
   public static MeterProviderSharedState create(
       Clock clock, Resource resource, ExemplarFilter exemplarFilter, long startEpochNanos) {
+    return create(clock, resource, exemplarFilter, startEpochNanos, /* recordingStripes= */ 1);
+  }
+
+  public static MeterProviderSharedState create(
+      Clock clock,
+      Resource resource,
+      ExemplarFilter exemplarFilter,
+      long startEpochNanos,
+      int recordingStripes) {
+    return create(
+        clock,
+        resource,
+        exemplarFilter,
+        startEpochNanos,
+        recordingStripes,
+        /* storageSharedAcrossReaders= */ false);
+  }
+
+  public static MeterProviderSharedState create(
+      Clock clock,
+      Resource resource,
+      ExemplarFilter exemplarFilter,
+      long startEpochNanos,
+      int recordingStripes,
+      boolean storageSharedAcrossReaders) {
     MeterProviderSharedState sharedState =
-        new AutoValue_MeterProviderSharedState(clock, resource, startEpochNanos, exemplarFilter);
+        new AutoValue_MeterProviderSharedState(
+            clock,
+            resource,
+            startEpochNanos,
+            exemplarFilter,
+            recordingStripes,
+            storageSharedAcrossReaders);
     return sharedState;
   }
 
@@ -42,4 +73,16 @@ public abstract class MeterProviderSharedState {
 
   /** Returns the {@link ExemplarFilter} for remembering synchronous measurements. */
   public abstract ExemplarFilter getExemplarFilter();
+
+  /**
+   * Returns the number of stripes synchronous storages use to track in-progress recordings. A value
+   * of {@code 1} means recordings are tracked with a single shared counter.
+   */
+  public abstract int getRecordingStripes();
+
+  /**
+   * Returns {@code true} if readers with the same view of a synchronous instrument share a single
+   * storage where possible, see {@link SharedSynchronousMetricStorage}.
+   */
+  public abstract boolean isStorageSharedAcrossReaders();
 }
@@ -7,24 +7,23 @@ package io.opentelemetry.sdk.metrics.internal.state;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import javax.annotation.Nullable;
 
 /**
- * A bucket-based hash map with an internal re-usable map entry objects pool.
+ * An open-addressing hash map which doesn't allocate on put or remove, other than when growing.
  *
  * <p>The goal of this map is to minimize memory allocation, leading to reduced time spent in
  * garbage collection.
  *
- * <p>This map avoids allocating a new map entry on each put operation by maintaining a pool of
- * reusable (mutable) map entries and borrowing a map entry object from the pool to hold the given
- * key-value of the put operation. The borrowed object is returned to the pool when the map entry
- * key is removed from the map.
+ * <p>Keys and values are stored next to each other in a single array, using linear probing, along
+ * with the hash of each key. Unlike {@link java.util.HashMap}, no entry object is allocated per
+ * mapping, and removals shift the following entries back rather than leaving tombstones, so the map
+ * can be cleared and refilled indefinitely without allocating.
  *
  * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
  * at any time.
@@ -34,33 +33,33 @@ import javax.annotation.Nullable;
  * @param <K> The map key type
  * @param <V> The map value type
  */
-@SuppressWarnings("ForLoopReplaceableByForEach")
 public final class PooledHashMap<K, V> implements Map<K, V> {
   private static final int DEFAULT_CAPACITY = 16;
-  private static final float LOAD_FACTOR = 0.75f;
 
-  private ArrayList<Entry<K, V>>[] table;
-  private final ObjectPool<Entry<K, V>> entryPool;
+  // Key of slot i at index 2i, value at index 2i + 1. A slot is empty while its key is null.
+  private Object[] slots;
+  private int[] hashes;
+  private int mask;
   private int size;
 
   /**
-   * Creates a {@link PooledHashMap} with {@code capacity} buckets.
+   * Creates a {@link PooledHashMap} with room for {@code capacity} slots.
    *
-   * <p>The hashmap contains an array of buckets, each is an array-list of items. The number of
-   * buckets expands over time to avoid having too many items in one bucket, otherwise accessing an
-   * item by key won't be a constant time complexity.
+   * <p>The number of slots is rounded up to a power of two, and doubles whenever the map becomes
+   * more than half full, so that probe sequences stay short.
    *
-   * @param capacity The initial number of buckets to start with
+   * @param capacity The initial number of slots to start with
    */
-  @SuppressWarnings({"unchecked"})
   public PooledHashMap(int capacity) {
-    this.table = (ArrayList<Entry<K, V>>[]) new ArrayList<?>[capacity];
-    this.entryPool = new ObjectPool<>(Entry::new);
+    int slotCount = Math.max(2, Integer.highestOneBit(Math.max(1, capacity) - 1) << 1);
+    this.slots = new Object[slotCount * 2];
+    this.hashes = new int[slotCount];
+    this.mask = slotCount - 1;
     this.size = 0;
   }
 
   /**
-   * Creates a new {@link PooledHashMap} with a default amount of buckets (capacity).
+   * Creates a new {@link PooledHashMap} with a default amount of slots (capacity).
    *
    * @see PooledHashMap#PooledHashMap(int)
    */
@@ -71,8 +70,6 @@ public final class PooledHashMap<K, V> implements Map<K, V> {
   /**
    * Add a key, value pair to the map.
    *
-   * <p>Internally it uses a MapEntry from a pool of entries, to store this mapping
-   *
    * @param key key with which the specified value is to be associated
    * @param value value to be associated with the specified key
    * @return Null if the was no previous mapping for this key, or the value of the previous mapping
@@ -80,53 +77,36 @@ public final class PooledHashMap<K, V> implements Map<K, V> {
    */
   @Override
   @Nullable
+  @SuppressWarnings("unchecked")
   public V put(K key, V value) {
     requireNonNull(key, "This map does not support null keys");
     requireNonNull(value, "This map does not support null values");
-    if (size > LOAD_FACTOR * table.length) {
-      rehash();
+    int hash = spread(key.hashCode());
+    int index = indexOf(key, hash);
+    if (slots[index << 1] != null) {
+      V oldValue = (V) slots[(index << 1) + 1];
+      slots[(index << 1) + 1] = value;
+      return oldValue;
     }
-
-    int bucket = getBucket(key);
-    ArrayList<Entry<K, V>> entries = table[bucket];
-    if (entries == null) {
-      entries = new ArrayList<>();
-      table[bucket] = entries;
-    } else {
-      // Don't optimize to enhanced for-loop since implicit iterator used allocated memory in O(n)
-      for (int i = 0; i < entries.size(); i++) {
-        Entry<K, V> entry = entries.get(i);
-        if (Objects.equals(entry.key, key)) {
-          V oldValue = entry.value;
-          entry.value = value;
-          return oldValue;
-        }
-      }
+    if ((size + 1) * 2 > hashes.length) {
+      rehash();
+      index = indexOf(key, hash);
     }
-    Entry<K, V> entry = entryPool.borrowObject();
-    entry.key = key;
-    entry.value = value;
-    entries.add(entry);
+    set(index, key, hash, value);
     size++;
     return null;
   }
 
-  @SuppressWarnings({"unchecked"})
   private void rehash() {
-    ArrayList<Entry<K, V>>[] oldTable = table;
-    table = (ArrayList<Entry<K, V>>[]) new ArrayList<?>[2 * oldTable.length];
-
-    // put() to new table below will reset size back to correct number
-    size = 0;
-
-    for (int i = 0; i < oldTable.length; i++) {
-      ArrayList<Entry<K, V>> bucket = oldTable[i];
-      if (bucket != null) {
-        for (Entry<K, V> entry : bucket) {
-          put(requireNonNull(entry.key), requireNonNull(entry.value));
-          entryPool.returnObject(entry);
-        }
-        bucket.clear();
+    Object[] oldSlots = slots;
+    int[] oldHashes = hashes;
+    slots = new Object[oldSlots.length * 2];
+    hashes = new int[oldHashes.length * 2];
+    mask = hashes.length - 1;
+    for (int i = 0; i < oldHashes.length; i++) {
+      Object key = oldSlots[i << 1];
+      if (key != null) {
+        set(indexOf(key, oldHashes[i]), key, oldHashes[i], oldSlots[(i << 1) + 1]);
       }
     }
   }
@@ -143,17 +123,8 @@ public final class PooledHashMap<K, V> implements Map<K, V> {
   public V get(Object key) {
     requireNonNull(key, "This map does not support null keys");
 
-    int bucket = getBucket((K) key);
-    ArrayList<Entry<K, V>> entries = table[bucket];
-    if (entries != null) {
-      for (int i = 0; i < entries.size(); i++) {
-        Entry<K, V> entry = entries.get(i);
-        if (Objects.equals(entry.key, key)) {
-          return entry.value;
-        }
-      }
-    }
-    return null;
+    int index = indexOf(key, spread(key.hashCode()));
+    return slots[index << 1] == null ? null : (V) slots[(index << 1) + 1];
   }
 
   /**
@@ -168,21 +139,26 @@ public final class PooledHashMap<K, V> implements Map<K, V> {
   public V remove(Object key) {
     requireNonNull(key, "This map does not support null keys");
 
-    int bucket = getBucket((K) key);
-    ArrayList<Entry<K, V>> entries = table[bucket];
-    if (entries != null) {
-      for (int i = 0; i < entries.size(); i++) {
-        Entry<K, V> entry = entries.get(i);
-        if (Objects.equals(entry.key, key)) {
-          V oldValue = entry.value;
-          entries.remove(i);
-          entryPool.returnObject(entry);
-          size--;
-          return oldValue;
-        }
+    int index = indexOf(key, spread(key.hashCode()));
+    if (slots[index << 1] == null) {
+      return null;
+    }
+    V oldValue = (V) slots[(index << 1) + 1];
+    size--;
+
+    // Shift back the following entries of the probe sequence which may no longer be reachable
+    // from their home slot with index emptied
+    int empty = index;
+    for (int i = (index + 1) & mask; slots[i << 1] != null; i = (i + 1) & mask) {
+      int home = hashes[i] & mask;
+      if (((i - home) & mask) >= ((i - empty) & mask)) {
+        set(empty, slots[i << 1], hashes[i], slots[(i << 1) + 1]);
+        empty = i;
       }
     }
-    return null;
+    slots[empty << 1] = null;
+    slots[(empty << 1) + 1] = null;
+    return oldValue;
   }
 
   @Override
@@ -209,34 +185,41 @@ public final class PooledHashMap<K, V> implements Map<K, V> {
 
   @Override
   public void clear() {
-    for (int i = 0; i < table.length; i++) {
-      ArrayList<Entry<K, V>> bucket = table[i];
-      if (bucket != null) {
-        for (int j = 0; j < bucket.size(); j++) {
-          Entry<K, V> entry = bucket.get(j);
-          entryPool.returnObject(entry);
-        }
-        bucket.clear();
-      }
+    if (size > 0) {
+      Arrays.fill(slots, null);
+      size = 0;
     }
-    size = 0;
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public void forEach(BiConsumer<? super K, ? super V> action) {
-    for (int j = 0; j < table.length; j++) {
-      ArrayList<Entry<K, V>> bucket = table[j];
-      if (bucket != null) {
-        for (int i = 0; i < bucket.size(); i++) {
-          Entry<K, V> entry = bucket.get(i);
-          action.accept(entry.key, entry.value);
-        }
+    for (int i = 0; i < hashes.length; i++) {
+      Object key = slots[i << 1];
+      if (key != null) {
+        action.accept((K) key, (V) slots[(i << 1) + 1]);
+      }
+    }
+  }
+
+  /** Returns the slot {@code key} is mapped in, or the empty slot it would be added to. */
+  private int indexOf(Object key, int hash) {
+    for (int i = hash & mask; ; i = (i + 1) & mask) {
+      Object candidate = slots[i << 1];
+      if (candidate == null || (hashes[i] == hash && candidate.equals(key))) {
+        return i;
       }
     }
   }
 
-  private int getBucket(K key) {
-    return Math.abs(key.hashCode() % table.length);
+  private void set(int index, Object key, int hash, @Nullable Object value) {
+    slots[index << 1] = key;
+    slots[(index << 1) + 1] = value;
+    hashes[index] = hash;
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
   }
 
   @Override
@@ -258,10 +241,4 @@ public final class PooledHashMap<K, V> implements Map<K, V> {
   public Set<K> keySet() {
     throw new UnsupportedOperationException();
   }
-
-  private static class Entry<K, V> {
-    @Nullable K key;
-
-    @Nullable V value;
-  }
 }
@@ -102,6 +102,11 @@ public final class SdkObservableMeasurement
 
   @Override
   public void record(long value, Attributes attributes) {
+    CallbackRecording recording = CallbackRecording.active();
+    if (recording != null) {
+      recording.add(this, attributes, value);
+      return;
+    }
     RegisteredReader activeReader = this.activeReader;
     if (activeReader == null) {
       logNoActiveReader();
@@ -122,6 +127,11 @@ public final class SdkObservableMeasurement
 
   @Override
   public void record(double value, Attributes attributes) {
+    CallbackRecording recording = CallbackRecording.active();
+    if (recording != null) {
+      recording.add(this, attributes, value);
+      return;
+    }
     RegisteredReader activeReader = this.activeReader;
     if (activeReader == null) {
       logNoActiveReader();
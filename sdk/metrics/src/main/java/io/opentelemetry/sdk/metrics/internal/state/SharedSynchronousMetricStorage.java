@@ -0,0 +1,238 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.DoublePointData;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.data.PointData;
+import io.opentelemetry.sdk.metrics.internal.aggregator.Aggregator;
+import io.opentelemetry.sdk.metrics.internal.aggregator.DoubleSumAggregator;
+import io.opentelemetry.sdk.metrics.internal.aggregator.EmptyMetricData;
+import io.opentelemetry.sdk.metrics.internal.aggregator.LongSumAggregator;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableDoublePointData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableLongPointData;
+import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
+import io.opentelemetry.sdk.metrics.internal.descriptor.MetricDescriptor;
+import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
+import io.opentelemetry.sdk.metrics.internal.view.RegisteredView;
+import io.opentelemetry.sdk.resources.Resource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * A reader's view of a {@link DefaultSynchronousMetricStorage} which aggregates measurements with
+ * {@link AggregationTemporality#CUMULATIVE} temporality once for several readers.
+ *
+ * <p>Readers with {@link AggregationTemporality#CUMULATIVE} temporality collect the shared storage
+ * directly. Readers with {@link AggregationTemporality#DELTA} temporality subtract the points they
+ * collected last from the shared cumulative points instead of aggregating into a storage of their
+ * own, which is only supported for sums. Series without measurements since the reader's last
+ * collection are omitted, like in a delta storage, while series with measurements are reported
+ * even if their sum didn't change.
+ *
+ * <p>Collecting the shared storage resets its exemplar reservoirs, so each reader sees exemplars
+ * offered since the last collection by any reader.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class SharedSynchronousMetricStorage implements SynchronousMetricStorage {
+
+  private final DefaultSynchronousMetricStorage<?> storage;
+  private final RegisteredReader registeredReader;
+  private final boolean delta;
+  // The reader's bit for tracking the series recorded to since its last collection, 0 if CUMULATIVE
+  private final int readerBit;
+  // Only used for DELTA readers, which are collected under the meter's collect lock
+  private Map<Attributes, PointData> lastPoints = Collections.emptyMap();
+
+  private SharedSynchronousMetricStorage(
+      DefaultSynchronousMetricStorage<?> storage,
+      RegisteredReader registeredReader,
+      boolean delta,
+      int readerBit) {
+    this.storage = storage;
+    this.registeredReader = registeredReader;
+    this.delta = delta;
+    this.readerBit = readerBit;
+  }
+
+  /**
+   * Returns {@code true} if the storage for {@code registeredView} of {@code registeredReader} may
+   * be shared with other readers. Readers reusing their data, and views evicting idle series, which
+   * counts collections, require a storage of their own.
+   */
+  public static boolean isShareable(
+      RegisteredReader registeredReader, RegisteredView registeredView) {
+    return registeredReader.getReader().getMemoryMode() == MemoryMode.IMMUTABLE_DATA
+        && registeredView.getMaxSeriesIdleCollections() == 0;
+  }
+
+  /**
+   * Returns a view of {@code storage}, which must have been {@linkplain
+   * SynchronousMetricStorage#create created} for a reader with {@link
+   * AggregationTemporality#CUMULATIVE} temporality, for {@code registeredReader}, or {@code null}
+   * if {@code registeredReader} can't share it and needs a storage of its own.
+   */
+  @Nullable
+  public static SharedSynchronousMetricStorage create(
+      SynchronousMetricStorage storage,
+      RegisteredReader registeredReader,
+      InstrumentDescriptor instrumentDescriptor) {
+    if (!(storage instanceof DefaultSynchronousMetricStorage)) {
+      return null;
+    }
+    DefaultSynchronousMetricStorage<?> sharedStorage = (DefaultSynchronousMetricStorage<?>) storage;
+    boolean delta =
+        registeredReader.getReader().getAggregationTemporality(instrumentDescriptor.getType())
+            == AggregationTemporality.DELTA;
+    Aggregator<?> aggregator = sharedStorage.getAggregator();
+    if (delta
+        && !(aggregator instanceof LongSumAggregator)
+        && !(aggregator instanceof DoubleSumAggregator)) {
+      return null;
+    }
+    int readerBit = 0;
+    if (delta) {
+      readerBit = sharedStorage.registerSharingDeltaReader();
+      if (readerBit == 0) {
+        return null;
+      }
+    }
+    return new SharedSynchronousMetricStorage(sharedStorage, registeredReader, delta, readerBit);
+  }
+
+  /** Returns the shared storage measurements are recorded to. */
+  public SynchronousMetricStorage getSharedStorage() {
+    return storage;
+  }
+
+  @Override
+  public void recordLong(long value, Attributes attributes, Context context) {
+    storage.recordLong(value, attributes, context);
+  }
+
+  @Override
+  public void recordDouble(double value, Attributes attributes, Context context) {
+    storage.recordDouble(value, attributes, context);
+  }
+
+  @Override
+  public BoundStorageHandle bind(Attributes attributes) {
+    return storage.bind(attributes);
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return storage.isEnabled();
+  }
+
+  @Override
+  public void setEnabled(boolean enabled) {
+    storage.setEnabled(enabled);
+  }
+
+  @Override
+  public MetricDescriptor getMetricDescriptor() {
+    return storage.getMetricDescriptor();
+  }
+
+  @Override
+  public MetricData collect(
+      Resource resource,
+      InstrumentationScopeInfo instrumentationScopeInfo,
+      long startEpochNanos,
+      long epochNanos) {
+    if (!delta) {
+      return storage.collect(resource, instrumentationScopeInfo, startEpochNanos, epochNanos);
+    }
+    // Taken before collecting, so values recorded in between are reported again next collection
+    Set<Attributes> recorded = storage.takeRecordedSinceCollect(readerBit);
+    MetricData cumulative =
+        storage.collect(resource, instrumentationScopeInfo, startEpochNanos, epochNanos);
+    if (!storage.isEnabled()) {
+      return cumulative;
+    }
+    long start = registeredReader.getLastCollectEpochNanos();
+    Map<Attributes, PointData> currentPoints = new HashMap<>();
+    List<PointData> deltaPoints = new ArrayList<>();
+    for (PointData point : cumulative.getData().getPoints()) {
+      currentPoints.put(point.getAttributes(), point);
+      PointData deltaPoint =
+          diff(
+              lastPoints.get(point.getAttributes()),
+              point,
+              start,
+              recorded.contains(point.getAttributes()));
+      if (deltaPoint != null) {
+        deltaPoints.add(deltaPoint);
+      }
+    }
+    lastPoints = currentPoints;
+
+    if (deltaPoints.isEmpty()) {
+      return EmptyMetricData.getInstance();
+    }
+    @SuppressWarnings("unchecked")
+    Aggregator<PointData> aggregator = (Aggregator<PointData>) storage.getAggregator();
+    return aggregator.toMetricData(
+        resource,
+        instrumentationScopeInfo,
+        storage.getMetricDescriptor(),
+        deltaPoints,
+        AggregationTemporality.DELTA);
+  }
+
+  /**
+   * Returns the change from {@code last} to {@code current} starting at {@code start}, or {@code
+   * null} if nothing was {@code recorded} to the series and its sum didn't change.
+   */
+  @Nullable
+  private static PointData diff(
+      @Nullable PointData last, PointData current, long start, boolean recorded) {
+    if (current instanceof LongPointData) {
+      LongPointData currentLong = (LongPointData) current;
+      long value = currentLong.getValue();
+      if (last != null) {
+        value -= ((LongPointData) last).getValue();
+        if (value == 0 && !recorded) {
+          return null;
+        }
+      }
+      return ImmutableLongPointData.create(
+          start,
+          current.getEpochNanos(),
+          current.getAttributes(),
+          value,
+          currentLong.getExemplars());
+    }
+    DoublePointData currentDouble = (DoublePointData) current;
+    double value = currentDouble.getValue();
+    if (last != null) {
+      value -= ((DoublePointData) last).getValue();
+      if (value == 0 && !recorded) {
+        return null;
+      }
+    }
+    return ImmutableDoublePointData.create(
+        start,
+        current.getEpochNanos(),
+        current.getAttributes(),
+        value,
+        currentDouble.getExemplars());
+  }
+}
@@ -32,6 +32,9 @@ public interface SynchronousMetricStorage extends MetricStorage, WriteableMetric
   /**
    * Constructs metric storage for a given synchronous instrument and view.
    *
+   * <p>{@code recordingStripes} controls how many stripes the storage uses to track in-progress
+   * recordings, see {@link MeterProviderSharedState#getRecordingStripes()}.
+   *
    * @return The storage, or {@link EmptyMetricStorage#empty()} if the instrument should not be
    *     recorded.
    */
@@ -40,7 +43,8 @@ public interface SynchronousMetricStorage extends MetricStorage, WriteableMetric
       RegisteredView registeredView,
       InstrumentDescriptor instrumentDescriptor,
       ExemplarFilter exemplarFilter,
-      boolean enabled) {
+      boolean enabled,
+      int recordingStripes) {
     View view = registeredView.getView();
     MetricDescriptor metricDescriptor =
         MetricDescriptor.create(view, registeredView.getViewSourceInfo(), instrumentDescriptor);
@@ -58,6 +62,8 @@ public interface SynchronousMetricStorage extends MetricStorage, WriteableMetric
         aggregator,
         registeredView.getViewAttributesProcessor(),
         registeredView.getCardinalityLimit(),
-        enabled);
+        enabled,
+        recordingStripes,
+        registeredView.getMaxSeriesIdleCollections());
   }
 }
@@ -28,4 +28,26 @@ public interface WriteableMetricStorage {
    * otherwise (i.e. noop / empty metric storage is installed).
    */
   boolean isEnabled();
+
+  /**
+   * Returns a {@link BoundStorageHandle} which records measurements with the given {@code
+   * attributes}.
+   *
+   * <p>The default implementation simply delegates to {@link #recordLong(long, Attributes,
+   * Context)} and {@link #recordDouble(double, Attributes, Context)}. Implementations may override
+   * to resolve the state associated with the attributes ahead of time.
+   */
+  default BoundStorageHandle bind(Attributes attributes) {
+    return new BoundStorageHandle() {
+      @Override
+      public void recordLong(long value, Context context) {
+        WriteableMetricStorage.this.recordLong(value, attributes, context);
+      }
+
+      @Override
+      public void recordDouble(double value, Context context) {
+        WriteableMetricStorage.this.recordDouble(value, attributes, context);
+      }
+    };
+  }
 }
@@ -32,14 +32,17 @@ public final class Base2ExponentialHistogramAggregation implements Aggregation,
   private static final int DEFAULT_MAX_SCALE = 20;
 
   private static final Aggregation DEFAULT =
-      new Base2ExponentialHistogramAggregation(DEFAULT_MAX_BUCKETS, DEFAULT_MAX_SCALE);
+      new Base2ExponentialHistogramAggregation(DEFAULT_MAX_BUCKETS, DEFAULT_MAX_SCALE, false);
 
   private final int maxBuckets;
   private final int maxScale;
+  private final boolean threadBuffered;
 
-  private Base2ExponentialHistogramAggregation(int maxBuckets, int maxScale) {
+  private Base2ExponentialHistogramAggregation(
+      int maxBuckets, int maxScale, boolean threadBuffered) {
     this.maxBuckets = maxBuckets;
     this.maxScale = maxScale;
+    this.threadBuffered = threadBuffered;
   }
 
   public static Aggregation getDefault() {
@@ -58,9 +61,22 @@ public final class Base2ExponentialHistogramAggregation implements Aggregation,
    * @return the aggregation
    */
   public static Aggregation create(int maxBuckets, int maxScale) {
+    return create(maxBuckets, maxScale, /* threadBuffered= */ false);
+  }
+
+  /**
+   * Aggregations measurements into an {@link MetricDataType#EXPONENTIAL_HISTOGRAM}, as {@link
+   * #create(int, int)}.
+   *
+   * @param threadBuffered if {@code true}, each recording thread records into its own buckets,
+   *     which are merged on collection. Recording threads then don't contend with each other, at
+   *     the cost of memory for buckets per thread and stream.
+   * @return the aggregation
+   */
+  public static Aggregation create(int maxBuckets, int maxScale, boolean threadBuffered) {
     checkArgument(maxBuckets >= 2, "maxBuckets must be >= 2");
     checkArgument(maxScale <= 20 && maxScale >= -10, "maxScale must be -10 <= x <= 20");
-    return new Base2ExponentialHistogramAggregation(maxBuckets, maxScale);
+    return new Base2ExponentialHistogramAggregation(maxBuckets, maxScale, threadBuffered);
   }
 
   @Override
@@ -76,10 +92,12 @@ public final class Base2ExponentialHistogramAggregation implements Aggregation,
                 ExemplarReservoirFactory.fixedSizeReservoir(
                     Clock.getDefault(),
                     Runtime.getRuntime().availableProcessors(),
-                    RandomSupplier.platformDefault())),
+                    RandomSupplier.platformDefault(),
+                    memoryMode)),
             maxBuckets,
             maxScale,
-            memoryMode);
+            memoryMode,
+            threadBuffered);
   }
 
   @Override
@@ -99,6 +117,7 @@ public final class Base2ExponentialHistogramAggregation implements Aggregation,
         + maxBuckets
         + ",maxScale="
         + maxScale
+        + (threadBuffered ? ",threadBuffered=true" : "")
         + "}";
   }
 }
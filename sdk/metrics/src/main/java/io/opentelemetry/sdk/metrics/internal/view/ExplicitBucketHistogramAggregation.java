@@ -59,7 +59,7 @@ public final class ExplicitBucketHistogramAggregation implements Aggregation, Ag
             ExemplarReservoirFactory.filtered(
                 exemplarFilter,
                 ExemplarReservoirFactory.histogramBucketReservoir(
-                    Clock.getDefault(), bucketBoundaries)),
+                    Clock.getDefault(), bucketBoundaries, memoryMode)),
             memoryMode);
   }
 
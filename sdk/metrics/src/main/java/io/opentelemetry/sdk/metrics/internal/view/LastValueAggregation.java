@@ -48,7 +48,8 @@ public final class LastValueAggregation implements Aggregation, AggregatorFactor
             ExemplarReservoirFactory.fixedSizeReservoir(
                 Clock.getDefault(),
                 Runtime.getRuntime().availableProcessors(),
-                RandomSupplier.platformDefault()));
+                RandomSupplier.platformDefault(),
+                memoryMode));
 
     switch (instrumentDescriptor.getValueType()) {
       case LONG:
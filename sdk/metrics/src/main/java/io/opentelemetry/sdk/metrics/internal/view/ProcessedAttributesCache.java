@@ -0,0 +1,82 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.view;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.context.Context;
+import javax.annotation.Nullable;
+
+/**
+ * A bounded cache of the {@link Attributes} an {@link AttributesProcessor} produces for recently
+ * processed incoming {@link Attributes}.
+ *
+ * <p>Filtering attributes with a view builds new {@link Attributes} for every measurement, before
+ * the series is even looked up. Measurements usually repeat a small number of attribute sets, often
+ * the very same instances, so this cache maps each incoming set to its processed set instead. The
+ * cache is direct-mapped on the hash of the incoming attributes: a lookup compares at most one
+ * entry, by identity first, and a miss replaces that entry. Entries are immutable and published
+ * without synchronization, as racing threads can only lose an entry, never observe a partial one.
+ *
+ * <p>Only processors which don't use the {@link Context} can be cached.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class ProcessedAttributesCache {
+
+  private static final int MAX_SIZE = 4096;
+
+  private final AttributesProcessor processor;
+  private final Entry[] entries;
+  private final int mask;
+
+  private ProcessedAttributesCache(AttributesProcessor processor, int size) {
+    this.processor = processor;
+    this.entries = new Entry[size];
+    this.mask = size - 1;
+  }
+
+  /**
+   * Returns a cache for {@code processor} sized for {@code maxCardinality} distinct attribute sets,
+   * or {@code null} if {@code processor} doesn't benefit from caching or can't be cached.
+   */
+  @Nullable
+  public static ProcessedAttributesCache create(
+      AttributesProcessor processor, int maxCardinality) {
+    if (processor == AttributesProcessor.noop() || processor.usesContext()) {
+      return null;
+    }
+    int size = Math.min(MAX_SIZE, Integer.highestOneBit(Math.max(1, maxCardinality - 1)) << 1);
+    return new ProcessedAttributesCache(processor, size);
+  }
+
+  /** Returns {@code incoming} processed by the cached {@link AttributesProcessor}. */
+  public Attributes process(Attributes incoming, Context context) {
+    int hash = incoming.hashCode();
+    int index = (hash ^ (hash >>> 16)) & mask;
+    Entry entry = entries[index];
+    if (entry != null
+        && (entry.incoming == incoming
+            || (entry.hash == hash && entry.incoming.equals(incoming)))) {
+      return entry.processed;
+    }
+    Attributes processed = processor.process(incoming, context);
+    entries[index] = new Entry(incoming, hash, processed);
+    return processed;
+  }
+
+  private static final class Entry {
+    private final Attributes incoming;
+    private final int hash;
+    private final Attributes processed;
+
+    private Entry(Attributes incoming, int hash, Attributes processed) {
+      this.incoming = incoming;
+      this.hash = hash;
+      this.processed = processed;
+    }
+  }
+}
@@ -27,8 +27,29 @@ public abstract class RegisteredView {
       AttributesProcessor viewAttributesProcessor,
       int cardinalityLimit,
       SourceInfo viewSourceInfo) {
+    return create(
+        selector,
+        view,
+        viewAttributesProcessor,
+        cardinalityLimit,
+        /* maxSeriesIdleCollections= */ 0,
+        viewSourceInfo);
+  }
+
+  public static RegisteredView create(
+      InstrumentSelector selector,
+      View view,
+      AttributesProcessor viewAttributesProcessor,
+      int cardinalityLimit,
+      int maxSeriesIdleCollections,
+      SourceInfo viewSourceInfo) {
     return new AutoValue_RegisteredView(
-        selector, view, viewAttributesProcessor, cardinalityLimit, viewSourceInfo);
+        selector,
+        view,
+        viewAttributesProcessor,
+        cardinalityLimit,
+        maxSeriesIdleCollections,
+        viewSourceInfo);
   }
 
   RegisteredView() {}
@@ -45,6 +66,12 @@ public abstract class RegisteredView {
   /** The view's cardinality limit. */
   public abstract int getCardinalityLimit();
 
+  /**
+   * The number of idle collections after which the view's cumulative series are evicted, or {@code
+   * 0} if they are never evicted.
+   */
+  public abstract int getMaxSeriesIdleCollections();
+
   /** The {@link SourceInfo} from where the view was registered. */
   public abstract SourceInfo getViewSourceInfo();
 
@@ -14,6 +14,7 @@ import io.opentelemetry.sdk.metrics.internal.aggregator.Aggregator;
 import io.opentelemetry.sdk.metrics.internal.aggregator.AggregatorFactory;
 import io.opentelemetry.sdk.metrics.internal.aggregator.DoubleSumAggregator;
 import io.opentelemetry.sdk.metrics.internal.aggregator.LongSumAggregator;
+import io.opentelemetry.sdk.metrics.internal.concurrent.AtomicSlab;
 import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarReservoirFactory;
@@ -25,13 +26,28 @@ import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarReservoirFactory;
  * at any time.
  */
 public final class SumAggregation implements Aggregation, AggregatorFactory {
-  private static final SumAggregation INSTANCE = new SumAggregation();
+  private static final SumAggregation INSTANCE = new SumAggregation(/* slab= */ false);
+  private static final SumAggregation SLAB_INSTANCE = new SumAggregation(/* slab= */ true);
+
+  private final boolean slab;
 
   public static Aggregation getInstance() {
     return INSTANCE;
   }
 
-  private SumAggregation() {}
+  /**
+   * Returns a sum aggregation which keeps the sums of all series of a metric in a shared {@link
+   * AtomicSlab} instead of an adder per series, reducing the heap footprint and garbage collection
+   * work of metrics with many series, at the cost of more contention between threads recording to
+   * the same series.
+   */
+  public static Aggregation getSlabInstance() {
+    return SLAB_INSTANCE;
+  }
+
+  private SumAggregation(boolean slab) {
+    this.slab = slab;
+  }
 
   @Override
   @SuppressWarnings("unchecked")
@@ -45,14 +61,17 @@ public final class SumAggregation implements Aggregation, AggregatorFactory {
             ExemplarReservoirFactory.fixedSizeReservoir(
                 Clock.getDefault(),
                 Runtime.getRuntime().availableProcessors(),
-                RandomSupplier.platformDefault()));
+                RandomSupplier.platformDefault(),
+                memoryMode));
     switch (instrumentDescriptor.getValueType()) {
       case LONG:
         return (Aggregator<T>)
-            new LongSumAggregator(instrumentDescriptor, reservoirFactory, memoryMode);
+            new LongSumAggregator(
+                instrumentDescriptor, reservoirFactory, memoryMode, slab ? new AtomicSlab() : null);
       case DOUBLE:
         return (Aggregator<T>)
-            new DoubleSumAggregator(instrumentDescriptor, reservoirFactory, memoryMode);
+            new DoubleSumAggregator(
+                instrumentDescriptor, reservoirFactory, memoryMode, slab ? new AtomicSlab() : null);
     }
     throw new IllegalArgumentException("Invalid instrument value type");
   }
@@ -73,6 +92,6 @@ public final class SumAggregation implements Aggregation, AggregatorFactory {
 
   @Override
   public String toString() {
-    return "SumAggregation";
+    return slab ? "SumAggregation{slab}" : "SumAggregation";
   }
 }
@@ -39,8 +39,11 @@ import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
 import io.opentelemetry.sdk.testing.time.TestClock;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -914,6 +917,179 @@ class SdkMeterProviderTest {
                                             .hasValue(1))));
   }
 
+  @Test
+  void sdkMeterProvider_sharesStorageAcrossReaders() {
+    InMemoryMetricReader cumulativeReader = InMemoryMetricReader.create();
+    InMemoryMetricReader deltaReader = InMemoryMetricReader.createDelta();
+    SdkMeterProviderBuilder builder =
+        sdkMeterProviderBuilder
+            .registerMetricReader(cumulativeReader)
+            .registerMetricReader(deltaReader);
+    SdkMeterProviderUtil.setStorageSharedAcrossReaders(builder, true);
+    Meter sdkMeter = builder.build().get(SdkMeterProviderTest.class.getName());
+    LongCounter counter = sdkMeter.counterBuilder("testSum").build();
+    long startTime = testClock.now();
+    Attributes attributes = Attributes.builder().put("key", "value").build();
+
+    counter.add(2L);
+    counter.add(1L, attributes);
+    testClock.advance(Duration.ofSeconds(1));
+
+    assertThat(deltaReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasName("testSum")
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.isDelta()
+                                .hasPointsSatisfying(
+                                    point ->
+                                        point
+                                            .hasStartEpochNanos(startTime)
+                                            .hasEpochNanos(testClock.now())
+                                            .hasValue(2)
+                                            .hasAttributes(Attributes.empty()),
+                                    point ->
+                                        point
+                                            .hasStartEpochNanos(startTime)
+                                            .hasEpochNanos(testClock.now())
+                                            .hasValue(1)
+                                            .hasAttributes(attributes))));
+    long deltaReaderTimeOne = testClock.now();
+
+    counter.add(3L, attributes);
+    testClock.advance(Duration.ofSeconds(1));
+
+    // The cumulative reader sees every measurement, although the delta reader collected before
+    assertThat(cumulativeReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasName("testSum")
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.isCumulative()
+                                .hasPointsSatisfying(
+                                    point ->
+                                        point
+                                            .hasStartEpochNanos(startTime)
+                                            .hasEpochNanos(testClock.now())
+                                            .hasValue(2)
+                                            .hasAttributes(Attributes.empty()),
+                                    point ->
+                                        point
+                                            .hasStartEpochNanos(startTime)
+                                            .hasEpochNanos(testClock.now())
+                                            .hasValue(4)
+                                            .hasAttributes(attributes))));
+
+    // The delta reader only sees the series recorded to since its last collect
+    assertThat(deltaReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasName("testSum")
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.isDelta()
+                                .hasPointsSatisfying(
+                                    point ->
+                                        point
+                                            .hasStartEpochNanos(deltaReaderTimeOne)
+                                            .hasEpochNanos(testClock.now())
+                                            .hasValue(3)
+                                            .hasAttributes(attributes))));
+    assertThat(deltaReader.collectAllMetrics()).isEmpty();
+  }
+
+  @Test
+  void sdkMeterProvider_sharesStorageAcrossReaders_ReportsZeroDeltas() {
+    InMemoryMetricReader cumulativeReader = InMemoryMetricReader.create();
+    InMemoryMetricReader deltaReader = InMemoryMetricReader.createDelta();
+    SdkMeterProviderBuilder builder =
+        sdkMeterProviderBuilder
+            .registerMetricReader(cumulativeReader)
+            .registerMetricReader(deltaReader);
+    SdkMeterProviderUtil.setStorageSharedAcrossReaders(builder, true);
+    Meter sdkMeter = builder.build().get(SdkMeterProviderTest.class.getName());
+    LongUpDownCounter upDownCounter = sdkMeter.upDownCounterBuilder("testUpDownSum").build();
+    LongCounter counter = sdkMeter.counterBuilder("testSum").build();
+
+    upDownCounter.add(1);
+    counter.add(1);
+    assertThat(deltaReader.collectAllMetrics()).hasSize(2);
+
+    // Series recorded to since the last collect are reported even if their sum didn't change, as
+    // with a storage of the delta reader's own
+    upDownCounter.add(2);
+    upDownCounter.add(-2);
+    counter.add(0);
+    assertThat(deltaReader.collectAllMetrics())
+        .satisfiesExactlyInAnyOrder(
+            metric ->
+                assertThat(metric)
+                    .hasName("testUpDownSum")
+                    .hasLongSumSatisfying(
+                        sum -> sum.isDelta().hasPointsSatisfying(point -> point.hasValue(0))),
+            metric ->
+                assertThat(metric)
+                    .hasName("testSum")
+                    .hasLongSumSatisfying(
+                        sum -> sum.isDelta().hasPointsSatisfying(point -> point.hasValue(0))));
+
+    // Collecting with another reader doesn't affect which series the delta reader reports
+    counter.add(0);
+    assertThat(cumulativeReader.collectAllMetrics()).hasSize(2);
+    assertThat(deltaReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasName("testSum")
+                    .hasLongSumSatisfying(
+                        sum -> sum.isDelta().hasPointsSatisfying(point -> point.hasValue(0))));
+    assertThat(deltaReader.collectAllMetrics()).isEmpty();
+  }
+
+  @Test
+  void sdkMeterProvider_sharesStorageAcrossReaders_DeltaHistogramNotShared() {
+    InMemoryMetricReader cumulativeReader = InMemoryMetricReader.create();
+    InMemoryMetricReader deltaReader = InMemoryMetricReader.createDelta();
+    SdkMeterProviderBuilder builder =
+        sdkMeterProviderBuilder
+            .registerMetricReader(cumulativeReader)
+            .registerMetricReader(deltaReader);
+    SdkMeterProviderUtil.setStorageSharedAcrossReaders(builder, true);
+    Meter sdkMeter = builder.build().get(SdkMeterProviderTest.class.getName());
+    LongHistogram histogram = sdkMeter.histogramBuilder("testHistogram").ofLongs().build();
+
+    histogram.record(10);
+    assertThat(deltaReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasHistogramSatisfying(
+                        hist -> hist.isDelta().hasPointsSatisfying(point -> point.hasCount(1))));
+
+    histogram.record(20);
+    assertThat(deltaReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasHistogramSatisfying(
+                        hist ->
+                            hist.isDelta()
+                                .hasPointsSatisfying(point -> point.hasCount(1).hasSum(20))));
+    assertThat(cumulativeReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasHistogramSatisfying(
+                        hist ->
+                            hist.isCumulative()
+                                .hasPointsSatisfying(point -> point.hasCount(2).hasSum(30))));
+  }
+
   @Test
   void collectAll_DropAggregator() {
     InMemoryMetricReader collector = InMemoryMetricReader.create();
@@ -1061,6 +1237,89 @@ class SdkMeterProviderTest {
     Assertions.assertThat(sdkMeter.isMeterEnabled()).isEqualTo(!isEnabled);
   }
 
+  @Test
+  void collectionExecutor_CollectsInOrder() {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      InMemoryMetricReader reader = InMemoryMetricReader.create();
+      SdkMeterProvider meterProvider =
+          SdkMeterProviderUtil.setCollectionExecutor(
+                  SdkMeterProvider.builder().registerMetricReader(reader), executor)
+              .build();
+      for (int i = 0; i < 300; i++) {
+        meterProvider.get("meter" + i % 30).counterBuilder("counter" + i).build().add(i);
+      }
+
+      Collection<MetricData> metrics = reader.collectAllMetrics();
+      assertThat(metrics)
+          .hasSize(300)
+          .allSatisfy(
+              metric ->
+                  assertThat(metric)
+                      .hasLongSumSatisfying(
+                          sum ->
+                              sum.hasPointsSatisfying(
+                                  point ->
+                                      point.hasValue(
+                                          Long.parseLong(
+                                              metric.getName().substring("counter".length()))))));
+      // Results are reassembled in the order of the meters, which doesn't change
+      List<String> names = new ArrayList<>();
+      metrics.forEach(metric -> names.add(metric.getName()));
+      List<String> namesAgain = new ArrayList<>();
+      reader.collectAllMetrics().forEach(metric -> namesAgain.add(metric.getName()));
+      assertThat(namesAgain).isEqualTo(names);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void collectionExecutor_CollectsMetersOnExecutor() {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      InMemoryMetricReader reader = InMemoryMetricReader.create();
+      SdkMeterProvider meterProvider =
+          SdkMeterProviderUtil.setCollectionExecutor(
+                  SdkMeterProvider.builder().registerMetricReader(reader), executor)
+              .build();
+      Set<Thread> collectingThreads = ConcurrentHashMap.newKeySet();
+      for (int i = 0; i < 10; i++) {
+        meterProvider
+            .get("meter" + i)
+            .gaugeBuilder("gauge")
+            .buildWithCallback(
+                measurement -> {
+                  collectingThreads.add(Thread.currentThread());
+                  measurement.record(1);
+                });
+      }
+
+      assertThat(reader.collectAllMetrics()).hasSize(10);
+      // The first meter is collected on the calling thread, the others on the executor
+      assertThat(collectingThreads).contains(Thread.currentThread()).hasSizeGreaterThan(1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void collectionExecutor_Rejected() {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    executor.shutdown();
+    InMemoryMetricReader reader = InMemoryMetricReader.create();
+    SdkMeterProvider meterProvider =
+        SdkMeterProviderUtil.setCollectionExecutor(
+                SdkMeterProvider.builder().registerMetricReader(reader), executor)
+            .build();
+    for (int i = 0; i < 300; i++) {
+      meterProvider.get("meter" + i % 30).counterBuilder("counter" + i).build().add(1);
+    }
+
+    // Meters the executor rejects are collected on the calling thread
+    assertThat(reader.collectAllMetrics()).hasSize(300);
+  }
+
   private static void registerViewForAllTypes(
       SdkMeterProviderBuilder meterProviderBuilder, Aggregation aggregation) {
     for (InstrumentType instrumentType : InstrumentType.values()) {
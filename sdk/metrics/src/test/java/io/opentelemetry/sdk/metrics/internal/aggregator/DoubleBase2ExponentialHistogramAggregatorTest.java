@@ -23,6 +23,7 @@ import io.opentelemetry.sdk.metrics.data.MetricData;
 import io.opentelemetry.sdk.metrics.data.MetricDataType;
 import io.opentelemetry.sdk.metrics.internal.data.EmptyExponentialHistogramBuckets;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableDoubleExemplarData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableExponentialHistogramBuckets;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableExponentialHistogramPointData;
 import io.opentelemetry.sdk.metrics.internal.data.MutableExponentialHistogramBuckets;
 import io.opentelemetry.sdk.metrics.internal.data.MutableExponentialHistogramPointData;
@@ -36,6 +37,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -481,6 +485,256 @@ class DoubleBase2ExponentialHistogramAggregatorTest {
         .isEqualTo(numberOfUpdates);
   }
 
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void testMultithreadedUpdates_rescaleAndReset(MemoryMode memoryMode)
+      throws InterruptedException {
+    initialize(memoryMode);
+
+    AggregatorHandle<ExponentialHistogramPointData> aggregatorHandle = aggregator.createHandle();
+    int numberOfThreads = 8;
+    int numberOfUpdates = 10000;
+    List<ExponentialHistogramPointData> points = Collections.synchronizedList(new ArrayList<>());
+    ThreadPoolExecutor executor =
+        (ThreadPoolExecutor) Executors.newFixedThreadPool(numberOfThreads + 1);
+    CountDownLatch recorded = new CountDownLatch(numberOfThreads);
+
+    List<Callable<Object>> tasks = new ArrayList<>();
+    for (int i = 0; i < numberOfThreads; i++) {
+      // Each thread records values spanning a wider range, forcing rescales while others record.
+      double max = Math.pow(10, i + 1);
+      tasks.add(
+          Executors.callable(
+              () -> {
+                for (int j = 0; j < numberOfUpdates; j++) {
+                  double value = max * (j % 2 == 0 ? 1 : -1) / (1 + j % 100);
+                  aggregatorHandle.recordDouble(value, Attributes.empty(), Context.current());
+                }
+                recorded.countDown();
+              }));
+    }
+    tasks.add(
+        Executors.callable(
+            () -> {
+              while (recorded.getCount() > 0) {
+                collect(aggregatorHandle, points);
+              }
+            }));
+    executor.invokeAll(tasks);
+    collect(aggregatorHandle, points);
+
+    long totalCount = 0;
+    double min = Double.MAX_VALUE;
+    double max = -Double.MAX_VALUE;
+    for (ExponentialHistogramPointData point : points) {
+      assertThat(point.getPositiveBuckets().getScale()).isEqualTo(point.getScale());
+      assertThat(point.getNegativeBuckets().getScale()).isEqualTo(point.getScale());
+      assertThat(point.getPositiveBuckets().getBucketCounts().size()).isLessThanOrEqualTo(160);
+      assertThat(point.getNegativeBuckets().getBucketCounts().size()).isLessThanOrEqualTo(160);
+      assertThat(point.getCount())
+          .isEqualTo(
+              point.getZeroCount()
+                  + point.getPositiveBuckets().getTotalCount()
+                  + point.getNegativeBuckets().getTotalCount());
+      totalCount += point.getCount();
+      if (point.getCount() > 0) {
+        min = Math.min(min, point.getMin());
+        max = Math.max(max, point.getMax());
+      }
+    }
+    assertThat(totalCount).isEqualTo((long) numberOfThreads * numberOfUpdates);
+    assertThat(min).isEqualTo(-Math.pow(10, numberOfThreads) / 2);
+    assertThat(max).isEqualTo(Math.pow(10, numberOfThreads));
+  }
+
+  private static void collect(
+      AggregatorHandle<ExponentialHistogramPointData> aggregatorHandle,
+      List<ExponentialHistogramPointData> points) {
+    ExponentialHistogramPointData point =
+        aggregatorHandle.aggregateThenMaybeReset(0, 1, Attributes.empty(), /* reset= */ true);
+    // Reusable points are overwritten by the next collection, so keep a copy.
+    points.add(
+        ImmutableExponentialHistogramPointData.create(
+            point.getScale(),
+            point.getSum(),
+            point.getZeroCount(),
+            point.hasMin(),
+            point.getMin(),
+            point.hasMax(),
+            point.getMax(),
+            copy(point.getPositiveBuckets()),
+            copy(point.getNegativeBuckets()),
+            0,
+            1,
+            Attributes.empty(),
+            Collections.emptyList()));
+  }
+
+  private static ExponentialHistogramBuckets copy(ExponentialHistogramBuckets buckets) {
+    return ImmutableExponentialHistogramBuckets.create(
+        buckets.getScale(), buckets.getOffset(), new ArrayList<>(buckets.getBucketCounts()));
+  }
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void threadBuffered_MultithreadedUpdates(MemoryMode memoryMode) throws InterruptedException {
+    DoubleBase2ExponentialHistogramAggregator threadBuffered =
+        new DoubleBase2ExponentialHistogramAggregator(
+            ExemplarReservoirFactory.noSamples(), 160, 20, memoryMode, /* threadBuffered= */ true);
+    AggregatorHandle<ExponentialHistogramPointData> aggregatorHandle =
+        threadBuffered.createHandle();
+    assertThat(aggregatorHandle)
+        .isInstanceOf(DoubleBase2ExponentialHistogramAggregator.ThreadBufferedHandle.class);
+    ImmutableList<Double> updates = ImmutableList.of(0D, 0.1D, -0.1D, 1D, -1D, 100D);
+    int numberOfUpdates = 10000;
+    ThreadPoolExecutor executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(updates.size());
+
+    executor.invokeAll(
+        updates.stream()
+            .map(
+                v ->
+                    Executors.callable(
+                        () -> {
+                          for (int j = 0; j < numberOfUpdates; j++) {
+                            aggregatorHandle.recordDouble(v, Attributes.empty(), Context.current());
+                            if (ThreadLocalRandom.current().nextInt(10) == 0) {
+                              aggregatorHandle.aggregateThenMaybeReset(
+                                  0, 1, Attributes.empty(), /* reset= */ false);
+                            }
+                          }
+                        }))
+            .collect(Collectors.toList()));
+    executor.shutdown();
+
+    // Each thread's buffer is merged into the same point as a single buffer would have recorded.
+    AggregatorHandle<ExponentialHistogramPointData> expectedHandle = newHandle(memoryMode);
+    for (double v : updates) {
+      for (int j = 0; j < numberOfUpdates; j++) {
+        expectedHandle.recordDouble(v, Attributes.empty(), Context.current());
+      }
+    }
+    assertSamePoint(
+        aggregatorHandle.aggregateThenMaybeReset(0, 1, Attributes.empty(), /* reset= */ false),
+        expectedHandle.aggregateThenMaybeReset(0, 1, Attributes.empty(), /* reset= */ false));
+  }
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void threadBuffered_MergesDifferentScales(MemoryMode memoryMode) throws InterruptedException {
+    AggregatorHandle<ExponentialHistogramPointData> aggregatorHandle =
+        new DoubleBase2ExponentialHistogramAggregator(
+                ExemplarReservoirFactory.noSamples(),
+                160,
+                20,
+                memoryMode,
+                /* threadBuffered= */ true)
+            .createHandle();
+    AggregatorHandle<ExponentialHistogramPointData> expectedHandle = newHandle(memoryMode);
+    for (int collection = 0; collection < 2; collection++) {
+      // One thread stays at a high scale, the other downscales to fit a wide range. Both threads
+      // terminate, so the second collection also covers their buffers being retired.
+      Thread narrow =
+          new Thread(
+              () -> {
+                for (int i = 0; i < 1000; i++) {
+                  aggregatorHandle.recordDouble(
+                      1 + i / 1000.0, Attributes.empty(), Context.current());
+                }
+              });
+      Thread wide =
+          new Thread(
+              () -> {
+                for (int i = 1; i <= 1000; i++) {
+                  aggregatorHandle.recordDouble(-i * 1e6, Attributes.empty(), Context.current());
+                }
+              });
+      narrow.start();
+      wide.start();
+      narrow.join();
+      wide.join();
+      for (int i = 0; i < 1000; i++) {
+        expectedHandle.recordDouble(1 + i / 1000.0, Attributes.empty(), Context.current());
+      }
+      for (int i = 1; i <= 1000; i++) {
+        expectedHandle.recordDouble(-i * 1e6, Attributes.empty(), Context.current());
+      }
+
+      assertSamePoint(
+          aggregatorHandle.aggregateThenMaybeReset(0, 1, Attributes.empty(), /* reset= */ false),
+          expectedHandle.aggregateThenMaybeReset(0, 1, Attributes.empty(), /* reset= */ false));
+    }
+
+    ExponentialHistogramPointData point =
+        aggregatorHandle.aggregateThenMaybeReset(0, 1, Attributes.empty(), /* reset= */ true);
+    assertThat(point.getCount()).isEqualTo(4000);
+    point = aggregatorHandle.aggregateThenMaybeReset(0, 1, Attributes.empty(), /* reset= */ true);
+    assertThat(point.getCount()).isEqualTo(0);
+    assertThat(point.getScale()).isEqualTo(MAX_SCALE);
+  }
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void threadBuffered_ReleaseDropsBuffers(MemoryMode memoryMode) throws Exception {
+    AggregatorHandle<ExponentialHistogramPointData> aggregatorHandle =
+        new DoubleBase2ExponentialHistogramAggregator(
+                ExemplarReservoirFactory.noSamples(),
+                160,
+                20,
+                memoryMode,
+                /* threadBuffered= */ true)
+            .createHandle();
+    // The pool's thread stays alive, keeping its ThreadLocal entry for the handle.
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      executor
+          .submit(() -> aggregatorHandle.recordDouble(1, Attributes.empty(), Context.current()))
+          .get();
+      aggregatorHandle.recordDouble(2, Attributes.empty(), Context.current());
+      assertThat(
+              aggregatorHandle
+                  .aggregateThenMaybeReset(0, 1, Attributes.empty(), /* reset= */ false)
+                  .getCount())
+          .isEqualTo(2);
+
+      aggregatorHandle.release();
+
+      // Neither buffer is held by the handle anymore.
+      assertThat(
+              aggregatorHandle
+                  .aggregateThenMaybeReset(0, 1, Attributes.empty(), /* reset= */ false)
+                  .getCount())
+          .isEqualTo(0);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static AggregatorHandle<ExponentialHistogramPointData> newHandle(MemoryMode memoryMode) {
+    return new DoubleBase2ExponentialHistogramAggregator(
+            ExemplarReservoirFactory.noSamples(), 160, 20, memoryMode)
+        .createHandle();
+  }
+
+  private static void assertSamePoint(
+      ExponentialHistogramPointData actual, ExponentialHistogramPointData expected) {
+    assertThat(actual.getScale()).isEqualTo(expected.getScale());
+    assertThat(actual.getSum()).isCloseTo(expected.getSum(), Offset.offset(0.0001));
+    assertThat(actual.getCount()).isEqualTo(expected.getCount());
+    assertThat(actual.getZeroCount()).isEqualTo(expected.getZeroCount());
+    assertThat(actual.getMin()).isEqualTo(expected.getMin());
+    assertThat(actual.getMax()).isEqualTo(expected.getMax());
+    assertSameBuckets(actual.getPositiveBuckets(), expected.getPositiveBuckets());
+    assertSameBuckets(actual.getNegativeBuckets(), expected.getNegativeBuckets());
+  }
+
+  private static void assertSameBuckets(
+      ExponentialHistogramBuckets actual, ExponentialHistogramBuckets expected) {
+    assertThat(actual.getScale()).isEqualTo(expected.getScale());
+    assertThat(actual.getTotalCount()).isEqualTo(expected.getTotalCount());
+    assertThat(actual.getOffset()).isEqualTo(expected.getOffset());
+    assertThat(actual.getBucketCounts()).isEqualTo(expected.getBucketCounts());
+  }
+
   @Test
   public void verifyMutableDataUsedInReusableDataMemoryMode() {
     initialize(MemoryMode.REUSABLE_DATA);
@@ -63,6 +63,49 @@ class DoubleBase2ExponentialHistogramBucketsTest {
     assertThatThrownBy(() -> b.downscale(-1)).isInstanceOf(IllegalStateException.class);
   }
 
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void merge_DifferentScales(MemoryMode memoryMode) {
+    DoubleBase2ExponentialHistogramBuckets a = newBuckets(memoryMode);
+    a.downscale(20);
+    a.record(1);
+    a.record(2);
+    DoubleBase2ExponentialHistogramBuckets b = newBuckets(memoryMode);
+    b.downscale(19);
+    b.record(4);
+    b.record(8);
+
+    assertThat(a.getScaleReduction(b)).isEqualTo(0);
+    a.merge(b);
+    assertThat(a.getScale()).isEqualTo(0);
+    assertThat(a.getTotalCount()).isEqualTo(4);
+    assertThat(a.getBucketCounts()).isEqualTo(Arrays.asList(1L, 1L, 1L, 1L));
+    assertThat(a.getOffset()).isEqualTo(-1);
+    // The merged buckets are unchanged.
+    assertThat(b.getScale()).isEqualTo(1);
+    assertThat(b.getTotalCount()).isEqualTo(2);
+  }
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void merge_RequiresDownscale(MemoryMode memoryMode) {
+    DoubleBase2ExponentialHistogramBuckets a =
+        new DoubleBase2ExponentialHistogramBuckets(0, 4, memoryMode);
+    a.record(1);
+    DoubleBase2ExponentialHistogramBuckets b =
+        new DoubleBase2ExponentialHistogramBuckets(0, 4, memoryMode);
+    b.record(1024);
+
+    int scaleReduction = a.getScaleReduction(b);
+    assertThat(scaleReduction).isEqualTo(2);
+    a.downscale(scaleReduction);
+    a.merge(b);
+    assertThat(a.getScale()).isEqualTo(-2);
+    assertThat(a.getTotalCount()).isEqualTo(2);
+    assertThat(a.getBucketCounts()).isEqualTo(Arrays.asList(1L, 0L, 0L, 1L));
+    assertThat(a.getOffset()).isEqualTo(-1);
+  }
+
   @ParameterizedTest
   @EnumSource(MemoryMode.class)
   void equalsAndHashCode(MemoryMode memoryMode) {
@@ -28,18 +28,23 @@ import io.opentelemetry.sdk.metrics.internal.exemplar.DoubleExemplarReservoir;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarReservoirFactory;
 import io.opentelemetry.sdk.metrics.internal.exemplar.LongExemplarReservoir;
 import io.opentelemetry.sdk.resources.Resource;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.DoubleStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -311,6 +316,66 @@ class DoubleExplicitBucketHistogramAggregatorTest {
                 Arrays.asList(50000L, 50000L, 0L, 0L)));
   }
 
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void testRecordWhileCollect(boolean reset) throws Exception {
+    init(MemoryMode.IMMUTABLE_DATA);
+    AggregatorHandle<HistogramPointData> aggregatorHandle = aggregator.createHandle();
+    int numberOfThreads = 4;
+    int numberOfUpdates = 20000;
+    ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+    AtomicBoolean recording = new AtomicBoolean(true);
+    List<HistogramPointData> points = new ArrayList<>();
+    try {
+      List<Future<?>> recorders = new ArrayList<>();
+      for (int i = 0; i < numberOfThreads; i++) {
+        recorders.add(
+            executor.submit(
+                () -> {
+                  for (int j = 0; j < numberOfUpdates; j++) {
+                    aggregatorHandle.recordLong(1 + j % 9, Attributes.empty(), Context.current());
+                  }
+                }));
+      }
+      Thread collector =
+          new Thread(
+              () -> {
+                while (recording.get()) {
+                  points.add(
+                      aggregatorHandle.aggregateThenMaybeReset(0, 1, Attributes.empty(), reset));
+                }
+              });
+      collector.start();
+      for (Future<?> recorder : recorders) {
+        recorder.get();
+      }
+      recording.set(false);
+      collector.join();
+    } finally {
+      executor.shutdown();
+    }
+    points.add(aggregatorHandle.aggregateThenMaybeReset(0, 1, Attributes.empty(), reset));
+
+    // Every collected point holds whole recordings of values between 1 and 9
+    assertThat(points)
+        .allSatisfy(
+            point -> {
+              long bucketCount = point.getCounts().stream().mapToLong(Long::longValue).sum();
+              assertThat(point.getCount()).isEqualTo(bucketCount);
+              assertThat(point.getSum())
+                  .isBetween((double) point.getCount(), 9d * point.getCount());
+              if (point.getCount() > 0) {
+                assertThat(point.getMin()).isBetween(1d, 9d);
+                assertThat(point.getMax()).isBetween(point.getMin(), 9d);
+              }
+            });
+    long totalCount =
+        reset
+            ? points.stream().mapToLong(HistogramPointData::getCount).sum()
+            : points.get(points.size() - 1).getCount();
+    assertThat(totalCount).isEqualTo((long) numberOfThreads * numberOfUpdates);
+  }
+
   @Test
   void testReusableDataMemoryMode() {
     init(MemoryMode.REUSABLE_DATA);
@@ -21,6 +21,7 @@ import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
 import io.opentelemetry.sdk.metrics.data.LongExemplarData;
 import io.opentelemetry.sdk.metrics.data.LongPointData;
 import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.internal.concurrent.AtomicSlab;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableLongExemplarData;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableLongPointData;
 import io.opentelemetry.sdk.metrics.internal.data.MutableLongPointData;
@@ -86,6 +87,46 @@ class LongSumAggregatorTest {
     assertThat(aggregator.createHandle()).isInstanceOf(LongSumAggregator.Handle.class);
   }
 
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void slab(MemoryMode memoryMode) {
+    AtomicSlab slab = new AtomicSlab();
+    LongSumAggregator slabAggregator =
+        new LongSumAggregator(
+            InstrumentDescriptor.create(
+                "instrument_name",
+                "instrument_description",
+                "instrument_unit",
+                InstrumentType.COUNTER,
+                InstrumentValueType.LONG,
+                Advice.empty()),
+            ExemplarReservoirFactory.noSamples(),
+            memoryMode,
+            slab);
+    AggregatorHandle<LongPointData> first = slabAggregator.createHandle();
+    AggregatorHandle<LongPointData> second = slabAggregator.createHandle();
+    assertThat(slab.size()).isEqualTo(2);
+
+    first.recordLong(12, Attributes.empty(), Context.current());
+    second.recordLong(5, Attributes.empty(), Context.current());
+    first.recordLong(3, Attributes.empty(), Context.current());
+    assertThat(first.aggregateThenMaybeReset(0, 1, Attributes.empty(), /* reset= */ false))
+        .hasValue(15);
+    assertThat(second.aggregateThenMaybeReset(0, 1, Attributes.empty(), /* reset= */ true))
+        .hasValue(5);
+    assertThat(second.aggregateThenMaybeReset(0, 1, Attributes.empty(), /* reset= */ true))
+        .hasValue(0);
+
+    // A released slot is handed out again, starting from 0
+    first.release();
+    assertThat(slab.size()).isEqualTo(1);
+    AggregatorHandle<LongPointData> third = slabAggregator.createHandle();
+    assertThat(slab.size()).isEqualTo(2);
+    third.recordLong(1, Attributes.empty(), Context.current());
+    assertThat(third.aggregateThenMaybeReset(0, 1, Attributes.empty(), /* reset= */ true))
+        .hasValue(1);
+  }
+
   @ParameterizedTest
   @EnumSource(MemoryMode.class)
   void multipleRecords(MemoryMode memoryMode) {
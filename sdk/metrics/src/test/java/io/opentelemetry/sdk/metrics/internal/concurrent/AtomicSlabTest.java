@@ -0,0 +1,87 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AtomicSlabTest {
+
+  @Test
+  void growsAndReusesSlots() {
+    AtomicSlab slab = new AtomicSlab();
+    List<LongAdder> adders = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      LongAdder adder = slab.newLongAdder();
+      adder.add(i);
+      adders.add(adder);
+    }
+    assertThat(slab.size()).isEqualTo(5000);
+    for (int i = 0; i < 5000; i++) {
+      assertThat(adders.get(i).sum()).isEqualTo(i);
+    }
+
+    for (int i = 0; i < 5000; i += 2) {
+      ((AtomicSlab.Slot) adders.get(i)).release();
+    }
+    assertThat(slab.size()).isEqualTo(2500);
+
+    // Released slots are reused and start from 0, without disturbing the other slots
+    for (int i = 0; i < 2500; i++) {
+      DoubleAdder adder = slab.newDoubleAdder();
+      assertThat(adder.sum()).isEqualTo(0);
+      adder.add(0.5);
+    }
+    assertThat(slab.size()).isEqualTo(5000);
+    for (int i = 1; i < 5000; i += 2) {
+      assertThat(adders.get(i).sum()).isEqualTo(i);
+    }
+  }
+
+  @Test
+  void freesTrailingChunks() {
+    AtomicSlab slab = new AtomicSlab();
+    List<LongAdder> adders = new ArrayList<>();
+    for (int i = 0; i < 3000; i++) {
+      adders.add(slab.newLongAdder());
+    }
+    assertThat(slab.chunkCount()).isEqualTo(3);
+
+    // Released slots are reused lowest first, leaving the last chunk empty
+    for (int i = 0; i < 3000; i += 2) {
+      ((AtomicSlab.Slot) adders.get(i)).release();
+    }
+    List<LongAdder> reused = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      reused.add(slab.newLongAdder());
+    }
+    for (int i = 1; i < 3000; i += 2) {
+      ((AtomicSlab.Slot) adders.get(i)).release();
+    }
+    assertThat(slab.size()).isEqualTo(1000);
+    assertThat(slab.chunkCount()).isEqualTo(2);
+
+    // A chunk which empties out in the middle of the slab is kept until the ones after it are freed
+    for (int i = 0; i < 512; i++) {
+      ((AtomicSlab.Slot) reused.get(i)).release();
+    }
+    assertThat(slab.chunkCount()).isEqualTo(2);
+    for (int i = 512; i < 1000; i++) {
+      ((AtomicSlab.Slot) reused.get(i)).release();
+    }
+    assertThat(slab.size()).isEqualTo(0);
+    assertThat(slab.chunkCount()).isEqualTo(0);
+
+    // The slab grows again from its first slot
+    LongAdder adder = slab.newLongAdder();
+    assertThat(adder.sum()).isEqualTo(0);
+    assertThat(slab.size()).isEqualTo(1);
+    assertThat(slab.chunkCount()).isEqualTo(1);
+  }
+}
@@ -22,6 +22,11 @@ class DoubleAdderTest {
     validateLongAdder(new AtomicLongDoubleAdder());
   }
 
+  @Test
+  void atomicSlabDoubleAdder() {
+    validateLongAdder(new AtomicSlab().newDoubleAdder());
+  }
+
   void validateLongAdder(DoubleAdder adder) {
     adder.add(5.2);
     adder.add(7.4);
@@ -21,6 +21,11 @@ class LongAdderTest {
     validateLongAdder(new AtomicLongLongAdder());
   }
 
+  @Test
+  void atomicSlabLongAdder() {
+    validateLongAdder(new AtomicSlab().newLongAdder());
+  }
+
   void validateLongAdder(LongAdder adder) {
     adder.add(5);
     adder.add(7);
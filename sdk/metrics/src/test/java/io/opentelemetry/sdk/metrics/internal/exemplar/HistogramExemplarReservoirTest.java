@@ -9,11 +9,19 @@ import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.asser
 
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableDoubleExemplarData;
 import io.opentelemetry.sdk.testing.time.TestClock;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.Test;
 
 class HistogramExemplarReservoirTest {
@@ -121,4 +129,67 @@ class HistogramExemplarReservoirTest {
               assertThat(exemplar.getFilteredAttributes()).isEmpty();
             });
   }
+
+  @Test
+  void reusableData_reusesExemplars() {
+    TestClock clock = TestClock.create();
+    HistogramExemplarReservoir reservoir =
+        new HistogramExemplarReservoir(
+            clock, Collections.singletonList(10d), MemoryMode.REUSABLE_DATA);
+    reservoir.offerDoubleMeasurement(1, Attributes.empty(), Context.root());
+    List<DoubleExemplarData> first = reservoir.collectAndResetDoubles(Attributes.empty());
+    assertThat(first)
+        .containsExactly(
+            ImmutableDoubleExemplarData.create(
+                Attributes.empty(), clock.now(), SpanContext.getInvalid(), 1));
+    DoubleExemplarData firstExemplar = first.get(0);
+
+    clock.advance(Duration.ofSeconds(1));
+    reservoir.offerDoubleMeasurement(2, Attributes.empty(), Context.root());
+    reservoir.offerDoubleMeasurement(11, Attributes.empty(), Context.root());
+    List<DoubleExemplarData> second = reservoir.collectAndResetDoubles(Attributes.empty());
+    assertThat(second).isSameAs(first);
+    assertThat(second)
+        .containsExactly(
+            ImmutableDoubleExemplarData.create(
+                Attributes.empty(), clock.now(), SpanContext.getInvalid(), 2),
+            ImmutableDoubleExemplarData.create(
+                Attributes.empty(), clock.now(), SpanContext.getInvalid(), 11));
+    assertThat(second.get(0)).isSameAs(firstExemplar);
+  }
+
+  @Test
+  void concurrentRecordAndCollect() throws InterruptedException {
+    TestClock clock = TestClock.create();
+    HistogramExemplarReservoir reservoir =
+        new HistogramExemplarReservoir(clock, Collections.emptyList());
+    AttributeKey<Long> valueKey = AttributeKey.longKey("value");
+    AtomicBoolean done = new AtomicBoolean();
+    CountDownLatch started = new CountDownLatch(4);
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      Thread thread =
+          new Thread(
+              () -> {
+                started.countDown();
+                for (long i = 0; !done.get(); i++) {
+                  reservoir.offerDoubleMeasurement(i, Attributes.of(valueKey, i), Context.root());
+                }
+              });
+      thread.start();
+      threads.add(thread);
+    }
+    started.await();
+    for (int i = 0; i < 1000; i++) {
+      // Value and attributes are always written together, a collection never sees a torn cell
+      for (DoubleExemplarData exemplar : reservoir.collectAndResetDoubles(Attributes.empty())) {
+        assertThat(exemplar.getFilteredAttributes().get(valueKey))
+            .isEqualTo((long) exemplar.getValue());
+      }
+    }
+    done.set(true);
+    for (Thread thread : threads) {
+      thread.join();
+    }
+  }
 }
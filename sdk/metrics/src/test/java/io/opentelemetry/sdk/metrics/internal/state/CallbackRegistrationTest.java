@@ -7,28 +7,40 @@ package io.opentelemetry.sdk.metrics.internal.state;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.util.concurrent.AtomicDouble;
 import io.github.netmikey.logunit.api.LogCapturer;
+import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.metrics.InstrumentType;
 import io.opentelemetry.sdk.metrics.InstrumentValueType;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.HistogramPointData;
 import io.opentelemetry.sdk.metrics.export.MetricReader;
 import io.opentelemetry.sdk.metrics.internal.descriptor.Advice;
 import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
 import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
 import io.opentelemetry.sdk.metrics.internal.view.ViewRegistry;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -44,6 +56,7 @@ import org.mockito.quality.Strictness;
 @ExtendWith(MockitoExtension.class)
 class CallbackRegistrationTest {
 
+  private static final AttributeKey<Boolean> TIMED_OUT = AttributeKey.booleanKey("timed_out");
   private static final InstrumentationScopeInfo INSTRUMENTATION_SCOPE_INFO =
       InstrumentationScopeInfo.create("meter");
   private static final InstrumentDescriptor LONG_INSTRUMENT =
@@ -259,4 +272,120 @@ class CallbackRegistrationTest {
 
     logs.assertContains("An exception occurred invoking callback");
   }
+
+  @Test
+  void invokeCallbacks_OnExecutor() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      CallbackInvoker invoker =
+          CallbackInvoker.create(executor, Duration.ofSeconds(10), MeterProvider.noop());
+      AtomicLong callbackThread = new AtomicLong();
+      CallbackRegistration doubleRegistration =
+          CallbackRegistration.create(
+              Collections.singletonList(measurement1),
+              () -> {
+                callbackThread.set(Thread.currentThread().getId());
+                measurement1.record(1.1, Attributes.builder().put("key", "val").build());
+              });
+      CallbackRegistration longRegistration =
+          CallbackRegistration.create(
+              Collections.singletonList(measurement2),
+              () -> measurement2.record(1, Attributes.builder().put("key", "val").build()));
+
+      invoker.invokeCallbacks(
+          Arrays.asList(doubleRegistration, longRegistration), registeredReader, 0, 1);
+
+      assertThat(callbackThread.get()).isNotEqualTo(Thread.currentThread().getId());
+      verify(storage1).setEpochInformation(0, 1);
+      verify(storage1).record(Attributes.builder().put("key", "val").build(), 1.1);
+      verify(storage2).record(Attributes.builder().put("key", "val").build(), 1);
+      verify(storage3).record(Attributes.builder().put("key", "val").build(), 1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void invokeCallbacks_TimeoutRecordsLastValues() {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      CallbackInvoker invoker =
+          CallbackInvoker.create(executor, Duration.ofMillis(50), MeterProvider.noop());
+      AtomicInteger invocations = new AtomicInteger();
+      CallbackRegistration callbackRegistration =
+          CallbackRegistration.create(
+              Collections.singletonList(measurement2),
+              () -> {
+                if (invocations.incrementAndGet() > 1) {
+                  try {
+                    release.await();
+                  } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                  }
+                }
+                measurement2.record(invocations.get(), Attributes.empty());
+              });
+
+      invoker.invokeCallbacks(
+          Collections.singletonList(callbackRegistration), registeredReader, 0, 1);
+      verify(storage2).record(Attributes.empty(), 1);
+
+      // The second invocation hangs, the values of the first are recorded instead
+      invoker.invokeCallbacks(
+          Collections.singletonList(callbackRegistration), registeredReader, 1, 2);
+      verify(storage2, times(2)).record(Attributes.empty(), 1);
+      logs.assertContains("did not complete in time");
+
+      // The hanging callback is not invoked again
+      invoker.invokeCallbacks(
+          Collections.singletonList(callbackRegistration), registeredReader, 2, 3);
+      verify(storage2, times(3)).record(Attributes.empty(), 1);
+      assertThat(invocations.get()).isEqualTo(2);
+    } finally {
+      release.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void invokeCallbacks_RecordsWhetherTimedOut() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    CountDownLatch release = new CountDownLatch(1);
+    InMemoryMetricReader metricReader = InMemoryMetricReader.create();
+    try (SdkMeterProvider meterProvider =
+        SdkMeterProvider.builder().registerMetricReader(metricReader).build()) {
+      CallbackInvoker invoker =
+          CallbackInvoker.create(executor, Duration.ofMillis(50), meterProvider);
+      CallbackRegistration completing =
+          CallbackRegistration.create(
+              Collections.singletonList(measurement1),
+              () -> measurement1.record(1.1, Attributes.empty()));
+      CallbackRegistration hanging =
+          CallbackRegistration.create(
+              Collections.singletonList(measurement2),
+              () -> {
+                try {
+                  release.await();
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+              });
+
+      invoker.invokeCallbacks(Collections.singletonList(completing), registeredReader, 0, 1);
+      // The completing callback is queued behind the hanging one, so it times out although it
+      // runs quickly once invoked
+      invoker.invokeCallbacks(Arrays.asList(hanging, completing), registeredReader, 1, 2);
+      release.countDown();
+      executor.submit(() -> {}).get();
+
+      assertThat(metricReader.collectAllMetrics())
+          .flatExtracting(metric -> metric.getHistogramData().getPoints())
+          .extracting(point -> point.getAttributes().get(TIMED_OUT), HistogramPointData::getCount)
+          .containsExactlyInAnyOrder(tuple(false, 1L), tuple(true, 2L));
+    } finally {
+      release.countDown();
+      executor.shutdownNow();
+    }
+  }
 }
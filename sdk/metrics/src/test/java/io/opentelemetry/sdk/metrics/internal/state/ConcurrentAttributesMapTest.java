@@ -0,0 +1,93 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentAttributesMapTest {
+
+  private static final AttributeKey<Long> KEY = AttributeKey.longKey("key");
+
+  private final ConcurrentAttributesMap<Long> map = new ConcurrentAttributesMap<>();
+
+  @Test
+  void putIfAbsentAndGet() {
+    assertThat(map.get(Attributes.of(KEY, 1L))).isNull();
+    assertThat(map.putIfAbsent(Attributes.of(KEY, 1L), 1L)).isNull();
+    assertThat(map.putIfAbsent(Attributes.of(KEY, 1L), 2L)).isEqualTo(1L);
+    assertThat(map.get(Attributes.of(KEY, 1L))).isEqualTo(1L);
+    assertThat(map.size()).isEqualTo(1);
+  }
+
+  @Test
+  void grows() {
+    for (long i = 0; i < 10_000; i++) {
+      assertThat(map.putIfAbsent(Attributes.of(KEY, i), i)).isNull();
+    }
+    assertThat(map.size()).isEqualTo(10_000);
+    for (long i = 0; i < 10_000; i++) {
+      assertThat(map.get(Attributes.of(KEY, i))).isEqualTo(i);
+    }
+  }
+
+  @Test
+  void removeIf() {
+    for (long i = 0; i < 100; i++) {
+      map.putIfAbsent(Attributes.of(KEY, i), i);
+    }
+    map.removeIf((attributes, value) -> value % 2 == 0);
+
+    assertThat(map.size()).isEqualTo(50);
+    Map<Attributes, Long> remaining = new HashMap<>();
+    map.forEach(remaining::put);
+    assertThat(remaining)
+        .hasSize(50)
+        .allSatisfy((attributes, value) -> assertThat(value % 2).isOne());
+    assertThat(map.get(Attributes.of(KEY, 2L))).isNull();
+    assertThat(map.get(Attributes.of(KEY, 3L))).isEqualTo(3L);
+  }
+
+  @Test
+  void concurrentPutIfAbsent() throws ExecutionException, InterruptedException {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int thread = 0; thread < 4; thread++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (long i = 0; i < 10_000; i++) {
+                    Attributes attributes = Attributes.of(KEY, i);
+                    Long value = map.get(attributes);
+                    if (value == null) {
+                      Long previous = map.putIfAbsent(attributes, i);
+                      value = previous == null ? i : previous;
+                    }
+                    assertThat(value).isEqualTo(i);
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertThat(map.size()).isEqualTo(10_000);
+  }
+}
@@ -73,4 +73,25 @@ class PooledHashMapTest {
 
     assertThat(actualMap).containsOnlyKeys("One", "Two").containsValues(1, 2);
   }
+
+  @Test
+  void removeKeepsCollidingKeysReachable() {
+    PooledHashMap<Integer, Integer> collidingMap = new PooledHashMap<>();
+    Map<Integer, Integer> expected = new HashMap<>();
+    // Multiples of the table size share a home slot and probe into each other
+    for (int i = 0; i < 8; i++) {
+      collidingMap.put(i * 1024, i);
+      expected.put(i * 1024, i);
+    }
+    collidingMap.remove(0);
+    expected.remove(0);
+    collidingMap.remove(3 * 1024);
+    expected.remove(3 * 1024);
+
+    Map<Integer, Integer> actualMap = new HashMap<>();
+    collidingMap.forEach(actualMap::put);
+    assertThat(actualMap).isEqualTo(expected);
+    expected.forEach((key, value) -> assertThat(collidingMap.get(key)).isEqualTo(value));
+    assertThat(collidingMap.size()).isEqualTo(6);
+  }
 }
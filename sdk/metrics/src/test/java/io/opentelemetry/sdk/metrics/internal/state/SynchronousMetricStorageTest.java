@@ -26,6 +26,7 @@ import io.opentelemetry.sdk.metrics.Aggregation;
 import io.opentelemetry.sdk.metrics.InstrumentType;
 import io.opentelemetry.sdk.metrics.InstrumentValueType;
 import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.DoublePointData;
 import io.opentelemetry.sdk.metrics.data.LongPointData;
 import io.opentelemetry.sdk.metrics.data.MetricData;
 import io.opentelemetry.sdk.metrics.data.PointData;
@@ -205,6 +206,127 @@ public class SynchronousMetricStorageTest {
                         point -> point.hasStartEpochNanos(0).hasEpochNanos(35).hasValue(8)));
   }
 
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void recordAndCollect_CumulativeEvictsIdleSeries(MemoryMode memoryMode) {
+    initialize(memoryMode);
+
+    DefaultSynchronousMetricStorage<?> storage =
+        new DefaultSynchronousMetricStorage<>(
+            cumulativeReader,
+            METRIC_DESCRIPTOR,
+            aggregator,
+            attributesProcessor,
+            CARDINALITY_LIMIT,
+            /* enabled= */ true,
+            /* recordingStripes= */ 1,
+            /* maxSeriesIdleCollections= */ 2);
+    Attributes active = Attributes.builder().put("key", "active").build();
+    Attributes idle = Attributes.builder().put("key", "idle").build();
+    BoundStorageHandle boundIdle = storage.bind(idle);
+
+    // Record to both series and collect at time 10
+    storage.recordDouble(3, active, Context.current());
+    boundIdle.recordDouble(1, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10))
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.hasPointsSatisfying(
+                    point -> point.hasStartEpochNanos(0).hasValue(3).hasAttributes(active),
+                    point -> point.hasStartEpochNanos(0).hasValue(1).hasAttributes(idle)));
+    cumulativeReader.setLastCollectEpochNanos(10);
+
+    // The idle series is still exported after one idle collection
+    storage.recordDouble(1, active, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 20))
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.hasPointsSatisfying(
+                    point -> point.hasStartEpochNanos(0).hasValue(4).hasAttributes(active),
+                    point -> point.hasStartEpochNanos(0).hasValue(1).hasAttributes(idle)));
+    cumulativeReader.setLastCollectEpochNanos(20);
+
+    // The idle series is evicted after two idle collections
+    storage.recordDouble(1, active, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 30))
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.hasPointsSatisfying(
+                    point -> point.hasStartEpochNanos(0).hasValue(5).hasAttributes(active)));
+    cumulativeReader.setLastCollectEpochNanos(30);
+
+    // Recording to the evicted series, even through a bound handle, starts it over
+    boundIdle.recordDouble(4, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 40))
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.hasPointsSatisfying(
+                    point -> point.hasStartEpochNanos(0).hasValue(5).hasAttributes(active),
+                    point -> point.hasStartEpochNanos(30).hasValue(4).hasAttributes(idle)));
+  }
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void recordAndCollect_CumulativeEvictionDoesNotLoseMeasurements(MemoryMode memoryMode) {
+    initialize(memoryMode);
+
+    DefaultSynchronousMetricStorage<?> storage =
+        new DefaultSynchronousMetricStorage<>(
+            cumulativeReader,
+            METRIC_DESCRIPTOR,
+            aggregator,
+            attributesProcessor,
+            CARDINALITY_LIMIT,
+            /* enabled= */ true,
+            /* recordingStripes= */ 1,
+            /* maxSeriesIdleCollections= */ 1);
+
+    // Record in bursts, so the series goes idle and is evicted while measurements race collection
+    List<Thread> threads = new ArrayList<>();
+    CountDownLatch latch = new CountDownLatch(4);
+    for (int i = 0; i < 4; i++) {
+      Thread thread =
+          new Thread(
+              () -> {
+                for (int j = 0; j < 1000; j++) {
+                  storage.recordDouble(1.0, Attributes.empty(), Context.current());
+                  if (j % 10 == 0) {
+                    Uninterruptibles.sleepUninterruptibly(Duration.ofMillis(2));
+                  }
+                }
+                latch.countDown();
+              });
+      threads.add(thread);
+    }
+    threads.forEach(Thread::start);
+
+    // Sum the increments of the series, starting over whenever it is evicted and restarted
+    double total = 0;
+    long previousStart = -1;
+    double previousValue = 0;
+    int extraCollects = 0;
+    for (long epoch = 1; latch.getCount() != 0 || extraCollects <= 1; epoch++) {
+      if (latch.getCount() == 0) {
+        extraCollects++;
+      }
+      MetricData metricData = storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, epoch);
+      cumulativeReader.setLastCollectEpochNanos(epoch);
+      if (metricData.isEmpty() || metricData.getDoubleSumData().getPoints().isEmpty()) {
+        previousStart = -1;
+        continue;
+      }
+      DoublePointData point = metricData.getDoubleSumData().getPoints().iterator().next();
+      if (point.getStartEpochNanos() != previousStart) {
+        previousValue = 0;
+      }
+      total += point.getValue() - previousValue;
+      previousStart = point.getStartEpochNanos();
+      previousValue = point.getValue();
+    }
+
+    assertThat(total).isEqualTo(4000.0);
+  }
+
   @Test
   void recordAndCollect_DeltaResets_ImmutableData() {
     initialize(IMMUTABLE_DATA);
@@ -860,6 +982,25 @@ public class SynchronousMetricStorageTest {
                   /* enabled= */ true),
               (BiConsumer<Double, AtomicDouble>)
                   (value, cumulativeCount) -> cumulativeCount.set(value)));
+
+      argumentsList.add(
+          Arguments.of(
+              // Delta, striped recording
+              new DefaultSynchronousMetricStorage<>(
+                  RegisteredReader.create(
+                      InMemoryMetricReader.builder()
+                          .setAggregationTemporalitySelector(unused -> AggregationTemporality.DELTA)
+                          .setMemoryMode(memoryMode)
+                          .build(),
+                      ViewRegistry.create()),
+                  METRIC_DESCRIPTOR,
+                  aggregator,
+                  AttributesProcessor.noop(),
+                  CARDINALITY_LIMIT,
+                  /* enabled= */ true,
+                  /* recordingStripes= */ 3),
+              (BiConsumer<Double, AtomicDouble>)
+                  (value, cumulativeCount) -> cumulativeCount.addAndGet(value)));
     }
 
     return argumentsList.stream();
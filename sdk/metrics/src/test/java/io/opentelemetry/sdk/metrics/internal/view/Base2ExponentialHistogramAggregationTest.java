@@ -22,6 +22,8 @@ import io.opentelemetry.sdk.metrics.internal.descriptor.Advice;
 import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class Base2ExponentialHistogramAggregationTest {
 
@@ -29,6 +31,11 @@ class Base2ExponentialHistogramAggregationTest {
   void goodConfig() {
     assertThat(Base2ExponentialHistogramAggregation.getDefault()).isNotNull();
     assertThat(Base2ExponentialHistogramAggregation.create(10, 20)).isNotNull();
+    assertThat(Base2ExponentialHistogramAggregation.create(10, 20))
+        .hasToString("Base2ExponentialHistogramAggregation{maxBuckets=10,maxScale=20}");
+    assertThat(Base2ExponentialHistogramAggregation.create(10, 20, /* threadBuffered= */ true))
+        .hasToString(
+            "Base2ExponentialHistogramAggregation{maxBuckets=10,maxScale=20,threadBuffered=true}");
   }
 
   @Test
@@ -42,11 +49,15 @@ class Base2ExponentialHistogramAggregationTest {
     assertThatThrownBy(() -> Base2ExponentialHistogramAggregation.create(2, -11))
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage("maxScale must be -10 <= x <= 20");
+    assertThatThrownBy(() -> Base2ExponentialHistogramAggregation.create(0, 20, true))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxBuckets must be >= 2");
   }
 
-  @Test
-  void minimumBucketsCanAccommodateMaxRange() {
-    Aggregation aggregation = Base2ExponentialHistogramAggregation.create(2, 20);
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void minimumBucketsCanAccommodateMaxRange(boolean threadBuffered) {
+    Aggregation aggregation = Base2ExponentialHistogramAggregation.create(2, 20, threadBuffered);
     Aggregator<ExponentialHistogramPointData> aggregator =
         ((AggregatorFactory) aggregation)
             .createAggregator(
@@ -0,0 +1,68 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.view;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.context.Context;
+import org.junit.jupiter.api.Test;
+
+class ProcessedAttributesCacheTest {
+
+  @Test
+  void create_NotCached() {
+    assertThat(ProcessedAttributesCache.create(AttributesProcessor.noop(), 2000)).isNull();
+    assertThat(
+            ProcessedAttributesCache.create(
+                AttributesProcessor.appendBaggageByKeyName(unused -> true), 2000))
+        .isNull();
+  }
+
+  @Test
+  void process_ReusesProcessedAttributes() {
+    AttributesProcessor processor = AttributesProcessor.filterByKeyName("keep"::equals);
+    ProcessedAttributesCache cache =
+        requireNonNull(ProcessedAttributesCache.create(processor, 2000));
+
+    Attributes incoming = Attributes.builder().put("keep", "a").put("drop", "b").build();
+    Attributes processed = cache.process(incoming, Context.root());
+    assertThat(processed).hasSize(1).containsEntry("keep", "a");
+    // The processor builds new attributes on every call
+    assertThat(processor.process(incoming, Context.root())).isNotSameAs(processed);
+
+    // Same instance, and an equal instance
+    assertThat(cache.process(incoming, Context.root())).isSameAs(processed);
+    assertThat(
+            cache.process(
+                Attributes.builder().put("keep", "a").put("drop", "b").build(), Context.root()))
+        .isSameAs(processed);
+
+    // Different attributes are processed
+    assertThat(
+            cache.process(
+                Attributes.builder().put("keep", "c").put("drop", "b").build(), Context.root()))
+        .hasSize(1)
+        .containsEntry("keep", "c");
+    assertThat(cache.process(incoming, Context.root())).isEqualTo(processed);
+  }
+
+  @Test
+  void process_Bounded() {
+    AttributesProcessor processor = AttributesProcessor.filterByKeyName("keep"::equals);
+    ProcessedAttributesCache cache =
+        requireNonNull(ProcessedAttributesCache.create(processor, 16));
+
+    for (int i = 0; i < 1000; i++) {
+      assertThat(
+              cache.process(
+                  Attributes.builder().put("keep", i).put("drop", i).build(), Context.root()))
+          .hasSize(1)
+          .containsEntry("keep", i);
+    }
+  }
+}
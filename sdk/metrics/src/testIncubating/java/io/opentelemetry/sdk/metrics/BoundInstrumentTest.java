@@ -0,0 +1,124 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.incubator.metrics.BoundDoubleHistogram;
+import io.opentelemetry.api.incubator.metrics.BoundLongCounter;
+import io.opentelemetry.api.incubator.metrics.ExtendedDoubleHistogram;
+import io.opentelemetry.api.incubator.metrics.ExtendedLongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class BoundInstrumentTest {
+
+  private static final Attributes ATTRIBUTES =
+      Attributes.of(AttributeKey.stringKey("key"), "value", AttributeKey.longKey("id"), 1L);
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void boundCounter_SurvivesDeltaCollection(MemoryMode memoryMode) {
+    InMemoryMetricReader reader =
+        InMemoryMetricReader.builder()
+            .setAggregationTemporalitySelector(unused -> AggregationTemporality.DELTA)
+            .setMemoryMode(memoryMode)
+            .build();
+    Meter meter = SdkMeterProvider.builder().registerMetricReader(reader).build().get("meter");
+    BoundLongCounter counter =
+        ((ExtendedLongCounter) meter.counterBuilder("counter").build()).bind(ATTRIBUTES);
+
+    counter.add(1);
+    counter.add(2);
+    assertThat(reader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.isDelta()
+                                .hasPointsSatisfying(
+                                    point -> point.hasValue(3).hasAttributes(ATTRIBUTES))));
+
+    counter.add(5);
+    counter.add(-1);
+    assertThat(reader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.isDelta()
+                                .hasPointsSatisfying(
+                                    point -> point.hasValue(5).hasAttributes(ATTRIBUTES))));
+  }
+
+  @Test
+  void boundCounter_SharesSeriesWithUnboundRecordings() {
+    InMemoryMetricReader reader = InMemoryMetricReader.create();
+    Meter meter = SdkMeterProvider.builder().registerMetricReader(reader).build().get("meter");
+    ExtendedLongCounter counter = (ExtendedLongCounter) meter.counterBuilder("counter").build();
+
+    counter.bind(ATTRIBUTES).add(1);
+    counter.add(2, ATTRIBUTES);
+
+    assertThat(reader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.isCumulative()
+                                .hasPointsSatisfying(
+                                    point -> point.hasValue(3).hasAttributes(ATTRIBUTES))));
+  }
+
+  @Test
+  void boundHistogram_RecordsToAllReaders() {
+    InMemoryMetricReader reader1 = InMemoryMetricReader.create();
+    InMemoryMetricReader reader2 = InMemoryMetricReader.createDelta();
+    Meter meter =
+        SdkMeterProvider.builder()
+            .registerMetricReader(reader1)
+            .registerMetricReader(reader2)
+            .registerView(
+                InstrumentSelector.builder().setName("histogram").build(),
+                View.builder().setAttributeFilter(key -> key.equals("key")).build())
+            .build()
+            .get("meter");
+    BoundDoubleHistogram histogram =
+        ((ExtendedDoubleHistogram) meter.histogramBuilder("histogram").build()).bind(ATTRIBUTES);
+
+    histogram.record(1.0);
+    histogram.record(10.0);
+    histogram.record(-1.0);
+
+    for (InMemoryMetricReader reader : Arrays.asList(reader1, reader2)) {
+      assertThat(reader.collectAllMetrics())
+          .satisfiesExactly(
+              metric ->
+                  assertThat(metric)
+                      .hasHistogramSatisfying(
+                          histogramData ->
+                              histogramData.hasPointsSatisfying(
+                                  point ->
+                                      point
+                                          .hasCount(2)
+                                          .hasSum(11.0)
+                                          .hasAttributes(
+                                              Attributes.of(
+                                                  AttributeKey.stringKey("key"), "value")))));
+    }
+  }
+}
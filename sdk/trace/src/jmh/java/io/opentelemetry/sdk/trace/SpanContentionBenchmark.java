@@ -0,0 +1,94 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.trace.internal.SdkTracerProviderUtil;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Records attributes and events to a single span from several threads, as when a span is enriched
+ * from several asynchronous stages, comparing {@link SdkSpan} with {@link LockFreeSdkSpan}.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SpanContentionBenchmark {
+
+  private static final AttributeKey<Long> KEY1 = AttributeKey.longKey("key1");
+  private static final AttributeKey<Long> KEY2 = AttributeKey.longKey("key2");
+
+  @Param({"false", "true"})
+  private boolean lockFreeSpans;
+
+  private SdkTracerProvider tracerProvider;
+  private Tracer tracer;
+  private Span span;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    SdkTracerProviderBuilder builder = SdkTracerProvider.builder();
+    SdkTracerProviderUtil.setLockFreeSpans(builder, lockFreeSpans);
+    tracerProvider = builder.build();
+    tracer = tracerProvider.get("benchmark");
+  }
+
+  // A fresh span per iteration keeps the event limit from turning every addEvent into a no-op.
+  @Setup(Level.Iteration)
+  public void startSpan() {
+    span = tracer.spanBuilder("contended").startSpan();
+  }
+
+  @TearDown(Level.Iteration)
+  public void endSpan() {
+    span.end();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void record_01Thread() {
+    doRecord();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void record_04Threads() {
+    doRecord();
+  }
+
+  @Benchmark
+  @Threads(16)
+  public void record_16Threads() {
+    doRecord();
+  }
+
+  private void doRecord() {
+    span.setAttribute(KEY1, 1L);
+    span.setAttribute(KEY2, 2L);
+    span.addEvent("event");
+  }
+}
@@ -5,12 +5,12 @@
 
 package io.opentelemetry.sdk.trace.export;
 
-import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static io.opentelemetry.api.common.AttributeKey.booleanKey;
 
 import io.opentelemetry.sdk.metrics.data.LongPointData;
 import io.opentelemetry.sdk.metrics.data.MetricData;
 import java.util.Collection;
-import java.util.OptionalLong;
+import java.util.Objects;
 
 public class BatchSpanProcessorMetrics {
   private final Collection<MetricData> allMetrics;
@@ -38,17 +38,15 @@ public class BatchSpanProcessorMetrics {
     return getMetric(true) / numThreads;
   }
 
+  // Sums the points of all shards.
   private long getMetric(boolean dropped) {
-    String labelValue = String.valueOf(dropped);
-    OptionalLong value =
-        allMetrics.stream()
-            .filter(metricData -> metricData.getName().equals("processedSpans"))
-            .filter(metricData -> !metricData.isEmpty())
-            .map(metricData -> metricData.getLongSumData().getPoints())
-            .flatMap(Collection::stream)
-            .filter(point -> labelValue.equals(point.getAttributes().get(stringKey("dropped"))))
-            .mapToLong(LongPointData::getValue)
-            .findFirst();
-    return value.isPresent() ? value.getAsLong() : 0;
+    return allMetrics.stream()
+        .filter(metricData -> metricData.getName().equals("processedSpans"))
+        .filter(metricData -> !metricData.isEmpty())
+        .map(metricData -> metricData.getLongSumData().getPoints())
+        .flatMap(Collection::stream)
+        .filter(point -> Objects.equals(point.getAttributes().get(booleanKey("dropped")), dropped))
+        .mapToLong(LongPointData::getValue)
+        .sum();
   }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.export;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.internal.RingBufferQueue;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.internal.SdkTracerProviderUtil;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the latency of ending spans on many threads with the default queue and with a {@link
+ * RingBufferQueue} of each {@link RingBufferQueue.WaitStrategy}. Sample time mode reports the
+ * latency percentiles, such as p99, next to the average.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class BatchSpanProcessorRingBufferBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+
+    @Param({"NONE", "BUSY_SPIN", "YIELD", "PARK"})
+    private String waitStrategy;
+
+    private BatchSpanProcessor processor;
+    private ReadableSpan span;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      BatchSpanProcessorBuilder builder =
+          BatchSpanProcessor.builder(new DelayingSpanExporter(0)).setMaxQueueSize(65_536);
+      if (!waitStrategy.equals("NONE")) {
+        SdkTracerProviderUtil.setRingBufferWaitStrategy(
+            builder, RingBufferQueue.WaitStrategy.valueOf(waitStrategy));
+      }
+      processor = builder.build();
+
+      Tracer tracer = SdkTracerProvider.builder().build().get("benchmarkTracer");
+      Span span = tracer.spanBuilder("span").startSpan();
+      span.end();
+      this.span = (ReadableSpan) span;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      processor.shutdown().join(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @Benchmark
+  @Threads(32)
+  public void onEnd(BenchmarkState benchmarkState) {
+    benchmarkState.processor.onEnd(benchmarkState.span);
+  }
+}
@@ -0,0 +1,830 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.internal.AttributeUtil;
+import io.opentelemetry.sdk.internal.AttributesMap;
+import io.opentelemetry.sdk.internal.ExceptionAttributeResolver;
+import io.opentelemetry.sdk.internal.InstrumentationScopeUtil;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.ExceptionEventData;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import io.opentelemetry.sdk.trace.internal.ExtendedSpanProcessor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Implementation for the {@link Span} class that records trace events without holding a lock.
+ *
+ * <p>Where {@link SdkSpan} guards its mutable state with a single monitor, this span publishes its
+ * name and status, its attributes, its events and its links as immutable nodes swapped in with a
+ * compare-and-set. Recording appends a node to the corresponding chain, so threads enriching the
+ * same span don't block each other, and virtual threads never pin their carrier while recording.
+ * The chains are resolved into the collections of a {@link SpanData} when it is requested.
+ *
+ * <p>Ending the span seals every chain. Afterwards, only the thread which ended the span may append
+ * to it, and only until {@link ExtendedSpanProcessor#onEnding(ReadWriteSpan)} returns. Each chain
+ * is read at a single point in time, so the attributes, events and links of a snapshot of a span
+ * which is still recording may be read at slightly different times. Snapshots of an ended span are
+ * always consistent.
+ */
+@ThreadSafe
+final class LockFreeSdkSpan implements RecordingSpan {
+
+  private static final Logger logger = Logger.getLogger(LockFreeSdkSpan.class.getName());
+
+  // Number of attributes appended to the chain after which it is collapsed into a single node.
+  private static final int ATTRIBUTE_COMPACTION_THRESHOLD = 32;
+
+  private static final AtomicReferenceFieldUpdater<LockFreeSdkSpan, Header> HEADER =
+      AtomicReferenceFieldUpdater.newUpdater(LockFreeSdkSpan.class, Header.class, "header");
+  private static final AtomicReferenceFieldUpdater<LockFreeSdkSpan, AttributeNode> ATTRIBUTES =
+      AtomicReferenceFieldUpdater.newUpdater(
+          LockFreeSdkSpan.class, AttributeNode.class, "attributes");
+  private static final AtomicReferenceFieldUpdater<LockFreeSdkSpan, ListNode> EVENTS =
+      AtomicReferenceFieldUpdater.newUpdater(LockFreeSdkSpan.class, ListNode.class, "events");
+  private static final AtomicReferenceFieldUpdater<LockFreeSdkSpan, ListNode> LINKS =
+      AtomicReferenceFieldUpdater.newUpdater(LockFreeSdkSpan.class, ListNode.class, "links");
+  private static final AtomicReferenceFieldUpdater<LockFreeSdkSpan, EndMark> END_MARK =
+      AtomicReferenceFieldUpdater.newUpdater(LockFreeSdkSpan.class, EndMark.class, "endMark");
+
+  // The config used when constructing this Span.
+  private final SpanLimits spanLimits;
+  // Contains the identifiers associated with this Span.
+  private final SpanContext context;
+  // The parent SpanContext of this span. Invalid if this is a root span.
+  private final SpanContext parentSpanContext;
+  // Handler called when the span starts and ends.
+  private final SpanProcessor spanProcessor;
+  // Resolves exception.* when an recordException is called
+  private final ExceptionAttributeResolver exceptionAttributeResolver;
+  // The kind of the span.
+  private final SpanKind kind;
+  // The clock used to get the time.
+  private final AnchoredClock clock;
+  // The resource associated with this span.
+  private final Resource resource;
+  // instrumentation scope of the named tracer which created this span
+  private final InstrumentationScopeInfo instrumentationScopeInfo;
+  // The start time of the span.
+  private final long startEpochNanos;
+  // Links set during span creation, which precede the links in the links chain.
+  private final List<LinkData> initialLinks;
+
+  // The displayed name and the status of the span.
+  private volatile Header header;
+
+  // Chain of recorded attributes.
+  private volatile AttributeNode attributes;
+
+  // The attributes last resolved, reused until another attribute is recorded.
+  @Nullable private volatile ResolvedAttributes resolvedAttributes;
+
+  // Chain of recorded events.
+  private volatile ListNode events;
+
+  // Chain of links recorded after span creation.
+  private volatile ListNode links;
+
+  // Set when end() is first called, null while the span is recording.
+  @Nullable private volatile EndMark endMark;
+
+  // Set once the span processors have been notified that the span is ending.
+  private volatile boolean ended;
+
+  private LockFreeSdkSpan(
+      SpanContext context,
+      String name,
+      InstrumentationScopeInfo instrumentationScopeInfo,
+      SpanKind kind,
+      SpanContext parentSpanContext,
+      SpanLimits spanLimits,
+      SpanProcessor spanProcessor,
+      ExceptionAttributeResolver exceptionAttributeResolver,
+      AnchoredClock clock,
+      Resource resource,
+      @Nullable AttributesMap attributes,
+      @Nullable List<LinkData> links,
+      int totalRecordedLinks,
+      long startEpochNanos) {
+    this.context = context;
+    this.instrumentationScopeInfo = instrumentationScopeInfo;
+    this.parentSpanContext = parentSpanContext;
+    this.initialLinks =
+        links == null ? Collections.emptyList() : Collections.unmodifiableList(links);
+    this.links = ListNode.empty(totalRecordedLinks);
+    this.header = new Header(name, StatusData.unset(), /* sealed= */ false);
+    this.kind = kind;
+    this.spanProcessor = spanProcessor;
+    this.exceptionAttributeResolver = exceptionAttributeResolver;
+    this.resource = resource;
+    this.clock = clock;
+    this.startEpochNanos = startEpochNanos;
+    this.attributes = AttributeNode.base(attributes);
+    this.events = ListNode.empty(0);
+    this.spanLimits = spanLimits;
+  }
+
+  /**
+   * Creates and starts a span with the given configuration.
+   *
+   * @param context supplies the trace_id and span_id for the newly started span.
+   * @param name the displayed name for the new span.
+   * @param kind the span kind.
+   * @param parentSpan the parent span, or {@link Span#getInvalid()} if this span is a root span.
+   * @param spanLimits limits applied to this span.
+   * @param spanProcessor handler called when the span starts and ends.
+   * @param tracerClock the tracer's clock
+   * @param resource the resource associated with this span.
+   * @param attributes the attributes set during span creation. The map MUST NOT be modified after
+   *     this call.
+   * @param links the links set during span creation, may be truncated. The list MUST NOT be
+   *     modified after this call.
+   * @return a new and started span.
+   */
+  static LockFreeSdkSpan startSpan(
+      SpanContext context,
+      String name,
+      InstrumentationScopeInfo instrumentationScopeInfo,
+      SpanKind kind,
+      Span parentSpan,
+      Context parentContext,
+      SpanLimits spanLimits,
+      SpanProcessor spanProcessor,
+      ExceptionAttributeResolver exceptionAttributeResolver,
+      Clock tracerClock,
+      Resource resource,
+      @Nullable AttributesMap attributes,
+      @Nullable List<LinkData> links,
+      int totalRecordedLinks,
+      long userStartEpochNanos) {
+    boolean createdAnchoredClock;
+    AnchoredClock clock;
+    if (parentSpan instanceof RecordingSpan) {
+      clock = ((RecordingSpan) parentSpan).getClock();
+      createdAnchoredClock = false;
+    } else {
+      clock = AnchoredClock.create(tracerClock);
+      createdAnchoredClock = true;
+    }
+
+    long startEpochNanos;
+    if (userStartEpochNanos != 0) {
+      startEpochNanos = userStartEpochNanos;
+    } else if (createdAnchoredClock) {
+      startEpochNanos = clock.startTime();
+    } else {
+      startEpochNanos = clock.now();
+    }
+
+    LockFreeSdkSpan span =
+        new LockFreeSdkSpan(
+            context,
+            name,
+            instrumentationScopeInfo,
+            kind,
+            parentSpan.getSpanContext(),
+            spanLimits,
+            spanProcessor,
+            exceptionAttributeResolver,
+            clock,
+            resource,
+            attributes,
+            links,
+            totalRecordedLinks,
+            startEpochNanos);
+    // Call onStart here instead of calling in the constructor to make sure the span is completely
+    // initialized.
+    if (spanProcessor.isStartRequired()) {
+      spanProcessor.onStart(parentContext, span);
+    }
+    return span;
+  }
+
+  @Override
+  public SpanData toSpanData() {
+    // Read the end state first: once the span has ended, none of the chains change anymore.
+    boolean ended = this.ended;
+    EndMark endMark = this.endMark;
+    Header header = this.header;
+    AttributeNode attributes = this.attributes;
+    ListNode events = this.events;
+    ListNode links = this.links;
+    return SpanWrapper.create(
+        this,
+        links.toList(initialLinks),
+        events.<EventData>toList(Collections.emptyList()),
+        toAttributes(resolvedAttributes(attributes)),
+        attributes.totalAddedValues,
+        events.total,
+        links.total,
+        header.status,
+        header.name,
+        endMark == null ? 0 : endMark.endEpochNanos,
+        ended);
+  }
+
+  @Override
+  @Nullable
+  public <T> T getAttribute(AttributeKey<T> key) {
+    return resolvedAttributes(attributes).get(key);
+  }
+
+  @Override
+  public Attributes getAttributes() {
+    return toAttributes(resolvedAttributes(attributes));
+  }
+
+  @Override
+  public boolean hasEnded() {
+    return ended;
+  }
+
+  @Override
+  public SpanContext getSpanContext() {
+    return context;
+  }
+
+  @Override
+  public SpanContext getParentSpanContext() {
+    return parentSpanContext;
+  }
+
+  @Override
+  public String getName() {
+    return header.name;
+  }
+
+  @Override
+  @Deprecated
+  public io.opentelemetry.sdk.common.InstrumentationLibraryInfo getInstrumentationLibraryInfo() {
+    return InstrumentationScopeUtil.toInstrumentationLibraryInfo(getInstrumentationScopeInfo());
+  }
+
+  @Override
+  public InstrumentationScopeInfo getInstrumentationScopeInfo() {
+    return instrumentationScopeInfo;
+  }
+
+  @Override
+  public long getLatencyNanos() {
+    EndMark endMark = this.endMark;
+    return (endMark == null ? clock.now() : endMark.endEpochNanos) - startEpochNanos;
+  }
+
+  @Override
+  public AnchoredClock getClock() {
+    return clock;
+  }
+
+  @Override
+  public <T> ReadWriteSpan setAttribute(AttributeKey<T> key, @Nullable T value) {
+    if (key == null || key.getKey().isEmpty() || value == null) {
+      return this;
+    }
+    while (true) {
+      AttributeNode head = attributes;
+      if (!isModifiableByCurrentThread(head.sealed)) {
+        logger.log(Level.FINE, "Calling setAttribute() on an ended Span.");
+        return this;
+      }
+      AttributeNode next = head.append(key, value);
+      if (ATTRIBUTES.compareAndSet(this, head, next)) {
+        if (next.appended >= ATTRIBUTE_COMPACTION_THRESHOLD) {
+          // Losing this race only means a later append collapses the chain instead.
+          ATTRIBUTES.compareAndSet(this, next, AttributeNode.collapse(resolve(next), next));
+        }
+        return this;
+      }
+    }
+  }
+
+  /**
+   * Returns whether the current thread may modify a chain. Sealed chains may only be modified by
+   * the thread on which {@link #end()} is called, and only while it invokes {@link
+   * ExtendedSpanProcessor#onEnding(ReadWriteSpan)}.
+   */
+  private boolean isModifiableByCurrentThread(boolean sealed) {
+    if (!sealed) {
+      return true;
+    }
+    EndMark endMark = this.endMark;
+    return !ended && endMark != null && endMark.spanEndingThread == Thread.currentThread();
+  }
+
+  @Override
+  public ReadWriteSpan addEvent(String name) {
+    if (name == null) {
+      return this;
+    }
+    addTimedEvent(EventData.create(clock.now(), name, Attributes.empty(), 0));
+    return this;
+  }
+
+  @Override
+  public ReadWriteSpan addEvent(String name, long timestamp, TimeUnit unit) {
+    if (name == null || unit == null) {
+      return this;
+    }
+    addTimedEvent(EventData.create(unit.toNanos(timestamp), name, Attributes.empty(), 0));
+    return this;
+  }
+
+  @Override
+  public ReadWriteSpan addEvent(String name, Attributes attributes) {
+    if (name == null) {
+      return this;
+    }
+    if (attributes == null) {
+      attributes = Attributes.empty();
+    }
+    int totalAttributeCount = attributes.size();
+    addTimedEvent(
+        EventData.create(
+            clock.now(),
+            name,
+            AttributeUtil.applyAttributesLimit(
+                attributes,
+                spanLimits.getMaxNumberOfAttributesPerEvent(),
+                spanLimits.getMaxAttributeValueLength()),
+            totalAttributeCount));
+    return this;
+  }
+
+  @Override
+  public ReadWriteSpan addEvent(String name, Attributes attributes, long timestamp, TimeUnit unit) {
+    if (name == null || unit == null) {
+      return this;
+    }
+    if (attributes == null) {
+      attributes = Attributes.empty();
+    }
+    int totalAttributeCount = attributes.size();
+    addTimedEvent(
+        EventData.create(
+            unit.toNanos(timestamp),
+            name,
+            AttributeUtil.applyAttributesLimit(
+                attributes,
+                spanLimits.getMaxNumberOfAttributesPerEvent(),
+                spanLimits.getMaxAttributeValueLength()),
+            totalAttributeCount));
+    return this;
+  }
+
+  private void addTimedEvent(EventData timedEvent) {
+    int maxEvents = spanLimits.getMaxNumberOfEvents();
+    while (true) {
+      ListNode head = events;
+      if (!isModifiableByCurrentThread(head.sealed)) {
+        logger.log(Level.FINE, "Calling addEvent() on an ended Span.");
+        return;
+      }
+      if (EVENTS.compareAndSet(this, head, head.append(timedEvent, maxEvents))) {
+        return;
+      }
+    }
+  }
+
+  @Override
+  public ReadWriteSpan setStatus(StatusCode statusCode, @Nullable String description) {
+    if (statusCode == null) {
+      return this;
+    }
+    while (true) {
+      Header head = header;
+      if (!isModifiableByCurrentThread(head.sealed)) {
+        logger.log(Level.FINE, "Calling setStatus() on an ended Span.");
+        return this;
+      }
+
+      // If current status is OK, ignore further attempts to change it
+      if (head.status.getStatusCode() == StatusCode.OK) {
+        logger.log(Level.FINE, "Calling setStatus() on a Span that is already set to OK.");
+        return this;
+      }
+
+      // Ignore attempts to set status to UNSET
+      if (statusCode == StatusCode.UNSET) {
+        logger.log(Level.FINE, "Ignoring call to setStatus() with status UNSET.");
+        return this;
+      }
+
+      // Ignore description when status is not ERROR
+      if (description != null && statusCode != StatusCode.ERROR) {
+        logger.log(Level.FINE, "Ignoring setStatus() description since status is not ERROR.");
+        description = null;
+      }
+
+      Header next = new Header(head.name, StatusData.create(statusCode, description), head.sealed);
+      if (HEADER.compareAndSet(this, head, next)) {
+        return this;
+      }
+    }
+  }
+
+  @Override
+  public ReadWriteSpan recordException(Throwable exception) {
+    recordException(exception, Attributes.empty());
+    return this;
+  }
+
+  @Override
+  public ReadWriteSpan recordException(Throwable exception, Attributes additionalAttributes) {
+    if (exception == null) {
+      return this;
+    }
+    if (additionalAttributes == null) {
+      additionalAttributes = Attributes.empty();
+    }
+
+    int maxAttributeLength = spanLimits.getMaxAttributeValueLength();
+    AttributesMap attributes =
+        AttributesMap.create(
+            spanLimits.getMaxNumberOfAttributes(), spanLimits.getMaxAttributeValueLength());
+
+    exceptionAttributeResolver.setExceptionAttributes(
+        attributes::putIfCapacity, exception, maxAttributeLength);
+
+    additionalAttributes.forEach(attributes::put);
+
+    addTimedEvent(
+        ExceptionEventData.create(
+            clock.now(), exception, attributes, attributes.getTotalAddedValues()));
+    return this;
+  }
+
+  @Override
+  public ReadWriteSpan updateName(String name) {
+    if (name == null) {
+      return this;
+    }
+    while (true) {
+      Header head = header;
+      if (!isModifiableByCurrentThread(head.sealed)) {
+        logger.log(Level.FINE, "Calling updateName() on an ended Span.");
+        return this;
+      }
+      if (HEADER.compareAndSet(this, head, new Header(name, head.status, head.sealed))) {
+        return this;
+      }
+    }
+  }
+
+  @Override
+  public Span addLink(SpanContext spanContext, Attributes attributes) {
+    if (spanContext == null || !spanContext.isValid()) {
+      return this;
+    }
+    if (attributes == null) {
+      attributes = Attributes.empty();
+    }
+    LinkData link =
+        LinkData.create(
+            spanContext,
+            AttributeUtil.applyAttributesLimit(
+                attributes,
+                spanLimits.getMaxNumberOfAttributesPerLink(),
+                spanLimits.getMaxAttributeValueLength()));
+    int maxLinks = spanLimits.getMaxNumberOfLinks() - initialLinks.size();
+    while (true) {
+      ListNode head = links;
+      if (!isModifiableByCurrentThread(head.sealed)) {
+        logger.log(Level.FINE, "Calling addLink() on an ended Span.");
+        return this;
+      }
+      if (LINKS.compareAndSet(this, head, head.append(link, maxLinks))) {
+        return this;
+      }
+    }
+  }
+
+  @Override
+  public void end() {
+    endInternal(clock.now());
+  }
+
+  @Override
+  public void end(long timestamp, TimeUnit unit) {
+    if (unit == null) {
+      unit = TimeUnit.NANOSECONDS;
+    }
+    endInternal(timestamp == 0 ? clock.now() : unit.toNanos(timestamp));
+  }
+
+  private void endInternal(long endEpochNanos) {
+    if (!END_MARK.compareAndSet(this, null, new EndMark(Thread.currentThread(), endEpochNanos))) {
+      logger.log(Level.FINE, "Calling end() on an ended or ending Span.");
+      return;
+    }
+    // Recordings that win the race against sealing happened before the span ended.
+    Header header;
+    do {
+      header = this.header;
+    } while (!HEADER.compareAndSet(this, header, header.seal()));
+    AttributeNode attributes;
+    do {
+      attributes = this.attributes;
+    } while (!ATTRIBUTES.compareAndSet(this, attributes, attributes.seal()));
+    ListNode events;
+    do {
+      events = this.events;
+    } while (!EVENTS.compareAndSet(this, events, events.seal()));
+    ListNode links;
+    do {
+      links = this.links;
+    } while (!LINKS.compareAndSet(this, links, links.seal()));
+
+    if (spanProcessor instanceof ExtendedSpanProcessor) {
+      ExtendedSpanProcessor extendedSpanProcessor = (ExtendedSpanProcessor) spanProcessor;
+      if (extendedSpanProcessor.isOnEndingRequired()) {
+        extendedSpanProcessor.onEnding(this);
+      }
+    }
+    ended = true;
+    if (spanProcessor.isEndRequired()) {
+      spanProcessor.onEnd(this);
+    }
+  }
+
+  @Override
+  public boolean isRecording() {
+    return !ended;
+  }
+
+  @Override
+  public Resource getResource() {
+    return resource;
+  }
+
+  @Override
+  public SpanKind getKind() {
+    return kind;
+  }
+
+  @Override
+  public long getStartEpochNanos() {
+    return startEpochNanos;
+  }
+
+  /**
+   * Returns the attributes of the chain ending in {@code head}, resolving them only if an attribute
+   * was recorded, or the chain sealed, since they were last resolved. The returned map is shared
+   * and must not be modified.
+   */
+  private AttributesMap resolvedAttributes(AttributeNode head) {
+    ResolvedAttributes resolved = this.resolvedAttributes;
+    if (resolved != null && resolved.head == head) {
+      return resolved.attributes;
+    }
+    AttributesMap attributes = resolve(head);
+    // Racing readers may each resolve the chain, the last one to finish is kept.
+    this.resolvedAttributes = new ResolvedAttributes(head, attributes);
+    return attributes;
+  }
+
+  /**
+   * Applies the attributes of the chain ending in {@code head} to a new {@link AttributesMap}, in
+   * the order they were recorded. The returned map is not shared and is never modified afterwards.
+   */
+  private AttributesMap resolve(AttributeNode head) {
+    AttributesMap resolved =
+        AttributesMap.create(
+            spanLimits.getMaxNumberOfAttributes(), spanLimits.getMaxAttributeValueLength());
+    AttributeNode[] appended = new AttributeNode[head.appended];
+    AttributesMap base = null;
+    for (AttributeNode node = head; node != null; node = node.previous) {
+      if (node.appended == 0) {
+        base = node.base;
+        break;
+      }
+      appended[node.appended - 1] = node;
+    }
+    if (base != null) {
+      base.forEach(resolved::put);
+    }
+    for (AttributeNode entry : appended) {
+      AttributeKey<?> key = entry.key;
+      if (key != null) {
+        resolved.put(key, entry.value);
+      }
+    }
+    return resolved;
+  }
+
+  private static Attributes toAttributes(AttributesMap attributes) {
+    return attributes.isEmpty() ? Attributes.empty() : attributes;
+  }
+
+  @Override
+  public String toString() {
+    Header header = this.header;
+    EndMark endMark = this.endMark;
+    return "LockFreeSdkSpan{traceId="
+        + context.getTraceId()
+        + ", spanId="
+        + context.getSpanId()
+        + ", parentSpanContext="
+        + parentSpanContext
+        + ", name="
+        + header.name
+        + ", kind="
+        + kind
+        + ", attributes="
+        + resolvedAttributes(attributes)
+        + ", status="
+        + header.status
+        + ", totalRecordedEvents="
+        + events.total
+        + ", totalRecordedLinks="
+        + links.total
+        + ", startEpochNanos="
+        + startEpochNanos
+        + ", endEpochNanos="
+        + (endMark == null ? 0 : endMark.endEpochNanos)
+        + "}";
+  }
+
+  /** The displayed name and status of the span. */
+  @Immutable
+  private static final class Header {
+    private final String name;
+    private final StatusData status;
+    private final boolean sealed;
+
+    private Header(String name, StatusData status, boolean sealed) {
+      this.name = name;
+      this.status = status;
+      this.sealed = sealed;
+    }
+
+    private Header seal() {
+      return new Header(name, status, /* sealed= */ true);
+    }
+  }
+
+  /**
+   * A node of the attributes chain. The chain starts with a base node, which holds the attributes
+   * collapsed into it, if any, followed by a node for every attribute recorded since.
+   */
+  @Immutable
+  private static final class AttributeNode {
+    @Nullable private final AttributeKey<?> key;
+    @Nullable private final Object value;
+    @Nullable private final AttributeNode previous;
+    // Never modified once the node is created.
+    @Nullable private final AttributesMap base;
+    // Number of attributes recorded, including those dropped for capacity limits.
+    private final int totalAddedValues;
+    // Number of nodes between this node and the base node.
+    private final int appended;
+    private final boolean sealed;
+
+    private AttributeNode(
+        @Nullable AttributeKey<?> key,
+        @Nullable Object value,
+        @Nullable AttributeNode previous,
+        @Nullable AttributesMap base,
+        int totalAddedValues,
+        int appended,
+        boolean sealed) {
+      this.key = key;
+      this.value = value;
+      this.previous = previous;
+      this.base = base;
+      this.totalAddedValues = totalAddedValues;
+      this.appended = appended;
+      this.sealed = sealed;
+    }
+
+    private static AttributeNode base(@Nullable AttributesMap attributes) {
+      return new AttributeNode(
+          null,
+          null,
+          null,
+          attributes,
+          attributes == null ? 0 : attributes.getTotalAddedValues(),
+          0,
+          /* sealed= */ false);
+    }
+
+    /** Returns a base node holding {@code resolved}, which was resolved from {@code head}. */
+    private static AttributeNode collapse(AttributesMap resolved, AttributeNode head) {
+      return new AttributeNode(null, null, null, resolved, head.totalAddedValues, 0, head.sealed);
+    }
+
+    private AttributeNode append(AttributeKey<?> key, Object value) {
+      return new AttributeNode(key, value, this, null, totalAddedValues + 1, appended + 1, sealed);
+    }
+
+    private AttributeNode seal() {
+      return new AttributeNode(
+          key, value, previous, base, totalAddedValues, appended, /* sealed= */ true);
+    }
+  }
+
+  /** The attributes resolved from the chain ending in {@code head}. */
+  @Immutable
+  private static final class ResolvedAttributes {
+    private final AttributeNode head;
+    private final AttributesMap attributes;
+
+    private ResolvedAttributes(AttributeNode head, AttributesMap attributes) {
+      this.head = head;
+      this.attributes = attributes;
+    }
+  }
+
+  /**
+   * A node of an events or links chain. Once {@code size} reaches the limit, further recordings
+   * replace the head with a copy which only increments {@code total}.
+   */
+  @Immutable
+  private static final class ListNode {
+    @Nullable private final Object item;
+    @Nullable private final ListNode previous;
+    // Number of items retained in the chain.
+    private final int size;
+    // Number of items recorded, including those dropped for limits.
+    private final int total;
+    private final boolean sealed;
+
+    private ListNode(
+        @Nullable Object item, @Nullable ListNode previous, int size, int total, boolean sealed) {
+      this.item = item;
+      this.previous = previous;
+      this.size = size;
+      this.total = total;
+      this.sealed = sealed;
+    }
+
+    private static ListNode empty(int total) {
+      return new ListNode(null, null, 0, total, /* sealed= */ false);
+    }
+
+    private ListNode append(Object item, int maxSize) {
+      if (size < maxSize) {
+        return new ListNode(item, this, size + 1, total + 1, sealed);
+      }
+      return new ListNode(this.item, previous, size, total + 1, sealed);
+    }
+
+    private ListNode seal() {
+      return new ListNode(item, previous, size, total, /* sealed= */ true);
+    }
+
+    /** Returns an immutable list of the items of {@code base} followed by those of the chain. */
+    @SuppressWarnings("unchecked")
+    private <T> List<T> toList(List<T> base) {
+      if (size == 0) {
+        return base;
+      }
+      Object[] items = new Object[size];
+      int i = size;
+      for (ListNode node = this; i > 0 && node != null; node = node.previous) {
+        items[--i] = node.item;
+      }
+      List<T> result = new ArrayList<>(base.size() + size);
+      result.addAll(base);
+      for (Object item : items) {
+        result.add((T) item);
+      }
+      return Collections.unmodifiableList(result);
+    }
+  }
+
+  /** The time and thread on which {@link #end()} was first called. */
+  @Immutable
+  private static final class EndMark {
+    private final Thread spanEndingThread;
+    private final long endEpochNanos;
+
+    private EndMark(Thread spanEndingThread, long endEpochNanos) {
+      this.spanEndingThread = spanEndingThread;
+      this.endEpochNanos = endEpochNanos;
+    }
+  }
+}
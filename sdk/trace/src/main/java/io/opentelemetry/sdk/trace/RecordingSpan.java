@@ -0,0 +1,25 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.sdk.resources.Resource;
+
+/**
+ * The SDK's recording {@link ReadWriteSpan} implementations, {@link SdkSpan} and {@link
+ * LockFreeSdkSpan}. Exposes the immutable state {@link SpanWrapper} reads from its delegate and the
+ * clock child spans inherit from their parent.
+ */
+interface RecordingSpan extends ReadWriteSpan {
+
+  /** Returns the {@link AnchoredClock} used by this span. */
+  AnchoredClock getClock();
+
+  /** Returns the {@link Resource} associated with this span. */
+  Resource getResource();
+
+  /** Returns the start time of this span. */
+  long getStartEpochNanos();
+}
@@ -25,6 +25,7 @@ import io.opentelemetry.sdk.trace.data.ExceptionEventData;
 import io.opentelemetry.sdk.trace.data.LinkData;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.data.StatusData;
+import io.opentelemetry.sdk.trace.internal.ExtendedSpanExporter;
 import io.opentelemetry.sdk.trace.internal.ExtendedSpanProcessor;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -35,9 +36,17 @@ import java.util.logging.Logger;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
-/** Implementation for the {@link Span} class that records trace events. */
+/**
+ * Implementation for the {@link Span} class that records trace events.
+ *
+ * <p>Once ended, a span is immutable, so it is also its own {@link SpanData}. This lets span
+ * processors hand ended spans to exporters which accept them without allocating a {@link
+ * #toSpanData()} snapshot, see {@link ExtendedSpanExporter}. The {@link SpanData} methods must not
+ * be relied on before the span has ended. When the span ends, a snapshot is taken once, which
+ * {@link #toSpanData()} returns and the {@link SpanData} methods read without locking.
+ */
 @ThreadSafe
-final class SdkSpan implements ReadWriteSpan {
+final class SdkSpan implements RecordingSpan, SpanData {
 
   private static final Logger logger = Logger.getLogger(SdkSpan.class.getName());
 
@@ -118,6 +127,9 @@ final class SdkSpan implements ReadWriteSpan {
   @Nullable
   private Thread spanEndingThread;
 
+  // Immutable snapshot of the span, set once it has ended.
+  @Nullable private volatile SpanData endedSpanData;
+
   private SdkSpan(
       SpanContext context,
       String name,
@@ -183,9 +195,9 @@ final class SdkSpan implements ReadWriteSpan {
       long userStartEpochNanos) {
     boolean createdAnchoredClock;
     AnchoredClock clock;
-    if (parentSpan instanceof SdkSpan) {
-      SdkSpan parentRecordEventsSpan = (SdkSpan) parentSpan;
-      clock = parentRecordEventsSpan.clock;
+    if (parentSpan instanceof RecordingSpan) {
+      RecordingSpan parentRecordEventsSpan = (RecordingSpan) parentSpan;
+      clock = parentRecordEventsSpan.getClock();
       createdAnchoredClock = false;
     } else {
       clock = AnchoredClock.create(tracerClock);
@@ -230,6 +242,10 @@ final class SdkSpan implements ReadWriteSpan {
 
   @Override
   public SpanData toSpanData() {
+    SpanData endedSpanData = this.endedSpanData;
+    if (endedSpanData != null) {
+      return endedSpanData;
+    }
     // Copy within synchronized context
     synchronized (lock) {
       return SpanWrapper.create(
@@ -250,6 +266,10 @@ final class SdkSpan implements ReadWriteSpan {
   @Override
   @Nullable
   public <T> T getAttribute(AttributeKey<T> key) {
+    SpanData endedSpanData = this.endedSpanData;
+    if (endedSpanData != null) {
+      return endedSpanData.getAttributes().get(key);
+    }
     synchronized (lock) {
       return attributes == null ? null : attributes.get(key);
     }
@@ -257,13 +277,97 @@ final class SdkSpan implements ReadWriteSpan {
 
   @Override
   public Attributes getAttributes() {
+    SpanData endedSpanData = this.endedSpanData;
+    if (endedSpanData != null) {
+      return endedSpanData.getAttributes();
+    }
+    synchronized (lock) {
+      return getImmutableAttributes();
+    }
+  }
+
+  @Override
+  public StatusData getStatus() {
+    SpanData endedSpanData = this.endedSpanData;
+    if (endedSpanData != null) {
+      return endedSpanData.getStatus();
+    }
+    synchronized (lock) {
+      return status;
+    }
+  }
+
+  @Override
+  public List<EventData> getEvents() {
+    SpanData endedSpanData = this.endedSpanData;
+    if (endedSpanData != null) {
+      return endedSpanData.getEvents();
+    }
+    synchronized (lock) {
+      return getImmutableTimedEvents();
+    }
+  }
+
+  @Override
+  public List<LinkData> getLinks() {
+    SpanData endedSpanData = this.endedSpanData;
+    if (endedSpanData != null) {
+      return endedSpanData.getLinks();
+    }
+    synchronized (lock) {
+      return getImmutableLinks();
+    }
+  }
+
+  @Override
+  public long getEndEpochNanos() {
+    SpanData endedSpanData = this.endedSpanData;
+    if (endedSpanData != null) {
+      return endedSpanData.getEndEpochNanos();
+    }
+    synchronized (lock) {
+      return endEpochNanos;
+    }
+  }
+
+  @Override
+  public int getTotalRecordedEvents() {
+    SpanData endedSpanData = this.endedSpanData;
+    if (endedSpanData != null) {
+      return endedSpanData.getTotalRecordedEvents();
+    }
+    synchronized (lock) {
+      return totalRecordedEvents;
+    }
+  }
+
+  @Override
+  public int getTotalRecordedLinks() {
+    SpanData endedSpanData = this.endedSpanData;
+    if (endedSpanData != null) {
+      return endedSpanData.getTotalRecordedLinks();
+    }
     synchronized (lock) {
-      return attributes == null ? Attributes.empty() : attributes.immutableCopy();
+      return totalRecordedLinks;
+    }
+  }
+
+  @Override
+  public int getTotalAttributeCount() {
+    SpanData endedSpanData = this.endedSpanData;
+    if (endedSpanData != null) {
+      return endedSpanData.getTotalAttributeCount();
+    }
+    synchronized (lock) {
+      return attributes == null ? 0 : attributes.getTotalAddedValues();
     }
   }
 
   @Override
   public boolean hasEnded() {
+    if (endedSpanData != null) {
+      return true;
+    }
     synchronized (lock) {
       return hasEnded == EndState.ENDED;
     }
@@ -286,6 +390,10 @@ final class SdkSpan implements ReadWriteSpan {
    */
   @Override
   public String getName() {
+    SpanData endedSpanData = this.endedSpanData;
+    if (endedSpanData != null) {
+      return endedSpanData.getName();
+    }
     synchronized (lock) {
       return name;
     }
@@ -310,13 +418,18 @@ final class SdkSpan implements ReadWriteSpan {
    */
   @Override
   public long getLatencyNanos() {
+    SpanData endedSpanData = this.endedSpanData;
+    if (endedSpanData != null) {
+      return endedSpanData.getEndEpochNanos() - startEpochNanos;
+    }
     synchronized (lock) {
       return (hasEnded == EndState.NOT_ENDED ? clock.now() : endEpochNanos) - startEpochNanos;
     }
   }
 
   /** Returns the {@link AnchoredClock} used by this {@link Span}. */
-  AnchoredClock getClock() {
+  @Override
+  public AnchoredClock getClock() {
     return clock;
   }
 
@@ -565,6 +678,7 @@ final class SdkSpan implements ReadWriteSpan {
     }
     synchronized (lock) {
       hasEnded = EndState.ENDED;
+      endedSpanData = toSpanData();
     }
     if (spanProcessor.isEndRequired()) {
       spanProcessor.onEnd(this);
@@ -573,12 +687,16 @@ final class SdkSpan implements ReadWriteSpan {
 
   @Override
   public boolean isRecording() {
+    if (endedSpanData != null) {
+      return false;
+    }
     synchronized (lock) {
       return hasEnded != EndState.ENDED;
     }
   }
 
-  Resource getResource() {
+  @Override
+  public Resource getResource() {
     return resource;
   }
 
@@ -587,7 +705,8 @@ final class SdkSpan implements ReadWriteSpan {
     return kind;
   }
 
-  long getStartEpochNanos() {
+  @Override
+  public long getStartEpochNanos() {
     return startEpochNanos;
   }
 
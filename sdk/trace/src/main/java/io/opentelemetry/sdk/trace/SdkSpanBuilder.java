@@ -217,6 +217,24 @@ class SdkSpanBuilder implements SpanBuilder {
     AttributesMap recordedAttributes = attributes;
     attributes = null;
 
+    if (tracerSharedState.isLockFreeSpans()) {
+      return LockFreeSdkSpan.startSpan(
+          spanContext,
+          spanName,
+          instrumentationScopeInfo,
+          spanKind,
+          parentSpan,
+          parentContext,
+          spanLimits,
+          tracerSharedState.getActiveSpanProcessor(),
+          tracerSharedState.getExceptionAttributesResolver(),
+          tracerSharedState.getClock(),
+          tracerSharedState.getResource(),
+          recordedAttributes,
+          currentLinks,
+          totalNumberOfLinksAdded,
+          startEpochNanos);
+    }
     return SdkSpan.startSpan(
         spanContext,
         spanName,
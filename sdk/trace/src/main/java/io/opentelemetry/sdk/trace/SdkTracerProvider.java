@@ -54,7 +54,8 @@ public final class SdkTracerProvider implements TracerProvider, Closeable {
       Sampler sampler,
       List<SpanProcessor> spanProcessors,
       ScopeConfigurator<TracerConfig> tracerConfigurator,
-      ExceptionAttributeResolver exceptionAttributeResolver) {
+      ExceptionAttributeResolver exceptionAttributeResolver,
+      boolean lockFreeSpans) {
     this.sharedState =
         new TracerSharedState(
             clock,
@@ -63,7 +64,8 @@ public final class SdkTracerProvider implements TracerProvider, Closeable {
             spanLimitsSupplier,
             sampler,
             spanProcessors,
-            exceptionAttributeResolver);
+            exceptionAttributeResolver,
+            lockFreeSpans);
     this.tracerSdkComponentRegistry =
         new ComponentRegistry<>(
             instrumentationScopeInfo ->
@@ -38,6 +38,7 @@ public final class SdkTracerProviderBuilder {
       TracerConfig.configuratorBuilder();
   private ExceptionAttributeResolver exceptionAttributeResolver =
       ExceptionAttributeResolver.getDefault();
+  private boolean lockFreeSpans = false;
 
   /**
    * Assign a {@link Clock}. {@link Clock} will be used each time a {@link Span} is started, ended
@@ -232,6 +233,20 @@ public final class SdkTracerProviderBuilder {
     return this;
   }
 
+  /**
+   * Sets whether recording spans are lock-free. By default, a span guards its attributes, events,
+   * links, status and end state with a single monitor, so threads recording to the same span
+   * contend, and virtual threads recording to it pin their carrier. Lock-free spans publish each of
+   * these with a compare-and-set instead, at the cost of resolving them when the span is read.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkTracerProviderUtil#setLockFreeSpans(SdkTracerProviderBuilder, boolean)}.
+   */
+  SdkTracerProviderBuilder setLockFreeSpans(boolean lockFreeSpans) {
+    this.lockFreeSpans = lockFreeSpans;
+    return this;
+  }
+
   /**
    * Create a new {@link SdkTracerProvider} instance with the configuration.
    *
@@ -246,7 +261,8 @@ public final class SdkTracerProviderBuilder {
         sampler,
         spanProcessors,
         tracerConfiguratorBuilder.build(),
-        exceptionAttributeResolver);
+        exceptionAttributeResolver,
+        lockFreeSpans);
   }
 
   SdkTracerProviderBuilder() {}
@@ -20,18 +20,19 @@ import java.util.List;
 import javax.annotation.concurrent.Immutable;
 
 /**
- * Immutable class that stores {@link SpanData} based on a {@link SdkSpan}.
+ * Immutable class that stores {@link SpanData} based on a {@link RecordingSpan}.
  *
- * <p>This class stores a reference to a mutable {@link SdkSpan} ({@code delegate}) which it uses
- * only the immutable parts from, and a copy of all the mutable parts.
+ * <p>This class stores a reference to a mutable {@link RecordingSpan} ({@code delegate}) which it
+ * uses only the immutable parts from, and a copy of all the mutable parts.
  *
- * <p>When adding a new field to {@link SdkSpan}, store a copy if and only if the field is mutable
- * in the {@link SdkSpan}. Otherwise retrieve it from the referenced {@link SdkSpan}.
+ * <p>When adding a new field to {@link SdkSpan} or {@link LockFreeSdkSpan}, store a copy if and
+ * only if the field is mutable in the span. Otherwise retrieve it from the referenced {@link
+ * RecordingSpan}.
  */
 @Immutable
 @AutoValue
 abstract class SpanWrapper implements SpanData {
-  abstract SdkSpan delegate();
+  abstract RecordingSpan delegate();
 
   abstract List<LinkData> resolvedLinks();
 
@@ -58,7 +59,7 @@ abstract class SpanWrapper implements SpanData {
    * preserve the overall immutability of the class.
    */
   static SpanWrapper create(
-      SdkSpan delegate,
+      RecordingSpan delegate,
       List<LinkData> links,
       List<EventData> events,
       Attributes attributes,
@@ -28,6 +28,7 @@ final class TracerSharedState {
   private final Sampler sampler;
   private final SpanProcessor activeSpanProcessor;
   private final ExceptionAttributeResolver exceptionAttributeResolver;
+  private final boolean lockFreeSpans;
 
   @Nullable private volatile CompletableResultCode shutdownResult = null;
 
@@ -38,7 +39,8 @@ final class TracerSharedState {
       Supplier<SpanLimits> spanLimitsSupplier,
       Sampler sampler,
       List<SpanProcessor> spanProcessors,
-      ExceptionAttributeResolver exceptionAttributeResolver) {
+      ExceptionAttributeResolver exceptionAttributeResolver,
+      boolean lockFreeSpans) {
     this.clock = clock;
     this.idGenerator = idGenerator;
     this.idGeneratorSafeToSkipIdValidation = idGenerator instanceof RandomIdGenerator;
@@ -47,6 +49,7 @@ final class TracerSharedState {
     this.sampler = sampler;
     this.activeSpanProcessor = SpanProcessor.composite(spanProcessors);
     this.exceptionAttributeResolver = exceptionAttributeResolver;
+    this.lockFreeSpans = lockFreeSpans;
   }
 
   Clock getClock() {
@@ -98,6 +101,11 @@ final class TracerSharedState {
     return exceptionAttributeResolver;
   }
 
+  /** Returns {@code true} if recording spans should be {@link LockFreeSdkSpan}s. */
+  boolean isLockFreeSpans() {
+    return lockFreeSpans;
+  }
+
   /**
    * Stops tracing, including shutting down processors and set to {@code true} {@link
    * #hasBeenShutdown()}.
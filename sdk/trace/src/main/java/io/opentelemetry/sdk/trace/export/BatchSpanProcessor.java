@@ -12,25 +12,34 @@ import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.internal.AdaptiveBatchPolicy;
+import io.opentelemetry.sdk.internal.ConcurrentExporter;
 import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import io.opentelemetry.sdk.internal.RingBufferQueue;
 import io.opentelemetry.sdk.internal.ThrowableUtil;
 import io.opentelemetry.sdk.trace.ReadWriteSpan;
 import io.opentelemetry.sdk.trace.ReadableSpan;
 import io.opentelemetry.sdk.trace.SpanProcessor;
 import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.internal.ExtendedSpanExporter;
 import io.opentelemetry.sdk.trace.internal.JcTools;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * Implementation of the {@link SpanProcessor} that batches spans exported by the SDK then pushes
@@ -40,6 +49,24 @@ import java.util.logging.Logger;
  * {@code maxQueueSize} maximum size, if queue is full spans are dropped). Spans are exported either
  * when there are {@code maxExportBatchSize} pending spans or {@code scheduleDelayNanos} has passed
  * since the last export finished.
+ *
+ * <p>When configured with more than one shard, each shard has its own worker thread, queue and
+ * batch, and spans are assigned to a shard by span ID. Each shard exports independently. The
+ * {@code maxQueueSize} is divided evenly between the shards.
+ *
+ * <p>When the exporter can have more than one export in flight, as signalled by {@link
+ * ConcurrentExporter}, a worker starts the next export without waiting for the previous one to
+ * complete, waiting instead while the exporter is at capacity. Each shard then has up to the
+ * exporter's limit of exports in flight, rather than one. In both cases, the exports in flight
+ * across all shards are further bounded by {@code maxConcurrentExports}.
+ *
+ * <p>When configured with a {@link RingBufferQueue.WaitStrategy}, spans are queued in a {@link
+ * RingBufferQueue} rather than signalling the worker once it needs more spans for a batch, and the
+ * worker waits for spans with that strategy.
+ *
+ * <p>When configured with a target latency, each shard adapts its batch size and schedule delay to
+ * the rate at which spans are queued and to the exporter's latency with an {@link
+ * AdaptiveBatchPolicy}, bounded by {@code maxExportBatchSize} and {@code scheduleDelayNanos}.
  */
 public final class BatchSpanProcessor implements SpanProcessor {
 
@@ -51,10 +78,15 @@ public final class BatchSpanProcessor implements SpanProcessor {
       AttributeKey.stringKey("processorType");
   private static final AttributeKey<Boolean> SPAN_PROCESSOR_DROPPED_LABEL =
       AttributeKey.booleanKey("dropped");
+  private static final AttributeKey<Long> SPAN_PROCESSOR_SHARD_LABEL =
+      AttributeKey.longKey("shard");
   private static final String SPAN_PROCESSOR_TYPE_VALUE = BatchSpanProcessor.class.getSimpleName();
 
+  private final SpanExporter spanExporter;
   private final boolean exportUnsampledSpans;
-  private final Worker worker;
+  private final int maxConcurrentExports;
+  @Nullable private final RingBufferQueue.WaitStrategy waitStrategy;
+  private final Worker[] workers;
   private final AtomicBoolean isShutdown = new AtomicBoolean(false);
 
   /**
@@ -75,18 +107,110 @@ public final class BatchSpanProcessor implements SpanProcessor {
       long scheduleDelayNanos,
       int maxQueueSize,
       int maxExportBatchSize,
-      long exporterTimeoutNanos) {
+      long exporterTimeoutNanos,
+      int shardCount,
+      int maxConcurrentExports,
+      @Nullable RingBufferQueue.WaitStrategy waitStrategy,
+      int adaptiveMinExportBatchSize,
+      long adaptiveMinScheduleDelayNanos,
+      long adaptiveTargetLatencyNanos) {
+    this.spanExporter = spanExporter;
     this.exportUnsampledSpans = exportUnsampledSpans;
-    this.worker =
-        new Worker(
-            spanExporter,
-            meterProvider,
-            scheduleDelayNanos,
-            maxExportBatchSize,
-            exporterTimeoutNanos,
-            JcTools.newFixedSizeQueue(maxQueueSize));
-    Thread workerThread = new DaemonThreadFactory(WORKER_THREAD_NAME).newThread(worker);
-    workerThread.start();
+    this.waitStrategy = waitStrategy;
+    // Each shard has at most one export in flight, or as many as a concurrent exporter allows, so
+    // only a limit below that needs to be enforced.
+    long maxExportsInFlight = (long) shardCount * exportsPerShard(spanExporter);
+    this.maxConcurrentExports = (int) Math.min(maxConcurrentExports, maxExportsInFlight);
+    Semaphore exportPermits =
+        maxConcurrentExports < maxExportsInFlight ? new Semaphore(maxConcurrentExports) : null;
+    int shardQueueSize = Math.max(1, maxQueueSize / shardCount);
+
+    Meter meter = meterProvider.meterBuilder("io.opentelemetry.sdk.trace").build();
+    LongCounter processedSpansCounter =
+        meter
+            .counterBuilder("processedSpans")
+            .setUnit("1")
+            .setDescription(
+                "The number of spans processed by the BatchSpanProcessor. "
+                    + "[dropped=true if they were dropped due to high throughput]")
+            .build();
+    this.workers = new Worker[shardCount];
+    for (int i = 0; i < shardCount; i++) {
+      Attributes attributes =
+          shardCount == 1
+              ? Attributes.of(SPAN_PROCESSOR_TYPE_LABEL, SPAN_PROCESSOR_TYPE_VALUE)
+              : Attributes.of(
+                  SPAN_PROCESSOR_TYPE_LABEL,
+                  SPAN_PROCESSOR_TYPE_VALUE,
+                  SPAN_PROCESSOR_SHARD_LABEL,
+                  (long) i);
+      int shardBatchSize = Math.min(maxExportBatchSize, shardQueueSize);
+      // Adaptive batching is disabled without a target latency
+      AdaptiveBatchPolicy batchPolicy =
+          adaptiveTargetLatencyNanos > 0
+              ? new AdaptiveBatchPolicy(
+                  Math.min(adaptiveMinExportBatchSize, shardBatchSize),
+                  shardBatchSize,
+                  Math.min(adaptiveMinScheduleDelayNanos, scheduleDelayNanos),
+                  scheduleDelayNanos,
+                  adaptiveTargetLatencyNanos)
+              : null;
+      workers[i] =
+          new Worker(
+              spanExporter,
+              processedSpansCounter,
+              attributes,
+              scheduleDelayNanos,
+              shardBatchSize,
+              exporterTimeoutNanos,
+              waitStrategy == null
+                  ? JcTools.newFixedSizeQueue(shardQueueSize)
+                  : new RingBufferQueue<>(shardQueueSize, waitStrategy),
+              exportPermits,
+              batchPolicy);
+    }
+    meter
+        .gaugeBuilder("queueSize")
+        .ofLongs()
+        .setDescription("The number of items queued")
+        .setUnit("1")
+        .buildWithCallback(
+            result -> {
+              for (Worker worker : workers) {
+                result.record(worker.queue.size(), worker.attributes);
+              }
+            });
+    if (adaptiveTargetLatencyNanos > 0) {
+      meter
+          .gaugeBuilder("exportBatchSize")
+          .ofLongs()
+          .setDescription("The number of items exported per batch, as adapted to the load")
+          .setUnit("1")
+          .buildWithCallback(
+              result -> {
+                for (Worker worker : workers) {
+                  result.record(worker.batchSize(), worker.attributes);
+                }
+              });
+      meter
+          .gaugeBuilder("scheduleDelay")
+          .ofLongs()
+          .setDescription("The delay between exports, as adapted to the load")
+          .setUnit("ms")
+          .buildWithCallback(
+              result -> {
+                for (Worker worker : workers) {
+                  result.record(
+                      TimeUnit.NANOSECONDS.toMillis(worker.scheduleDelayNanos()),
+                      worker.attributes);
+                }
+              });
+    }
+
+    DaemonThreadFactory threadFactory = new DaemonThreadFactory(WORKER_THREAD_NAME);
+    for (Worker worker : workers) {
+      threadFactory.newThread(worker).start();
+    }
   }
 
   @Override
@@ -100,10 +224,17 @@ public final class BatchSpanProcessor implements SpanProcessor {
   @Override
   public void onEnd(ReadableSpan span) {
     if (span != null && (exportUnsampledSpans || span.getSpanContext().isSampled())) {
-      worker.addSpan(span);
+      workerFor(span).addSpan(span);
     }
   }
 
+  private Worker workerFor(ReadableSpan span) {
+    if (workers.length == 1) {
+      return workers[0];
+    }
+    return workers[Math.floorMod(span.getSpanContext().getSpanId().hashCode(), workers.length)];
+  }
+
   @Override
   public boolean isEndRequired() {
     return true;
@@ -114,12 +245,38 @@ public final class BatchSpanProcessor implements SpanProcessor {
     if (isShutdown.getAndSet(true)) {
       return CompletableResultCode.ofSuccess();
     }
-    return worker.shutdown();
+    CompletableResultCode result = new CompletableResultCode();
+
+    CompletableResultCode flushResult = forceFlush();
+    flushResult.whenComplete(
+        () -> {
+          for (Worker worker : workers) {
+            worker.continueWork = false;
+          }
+          CompletableResultCode shutdownResult = spanExporter.shutdown();
+          shutdownResult.whenComplete(
+              () -> {
+                if (!flushResult.isSuccess() || !shutdownResult.isSuccess()) {
+                  result.fail();
+                } else {
+                  result.succeed();
+                }
+              });
+        });
+
+    return result;
   }
 
   @Override
   public CompletableResultCode forceFlush() {
-    return worker.forceFlush();
+    if (workers.length == 1) {
+      return workers[0].forceFlush();
+    }
+    List<CompletableResultCode> results = new ArrayList<>(workers.length);
+    for (Worker worker : workers) {
+      results.add(worker.forceFlush());
+    }
+    return CompletableResultCode.ofAll(results);
   }
 
   /**
@@ -128,40 +285,66 @@ public final class BatchSpanProcessor implements SpanProcessor {
    * @since 1.37.0
    */
   public SpanExporter getSpanExporter() {
-    return worker.spanExporter;
+    return spanExporter;
   }
 
   // Visible for testing
   List<SpanData> getBatch() {
-    return worker.batch;
+    return workers[0].batch;
   }
 
   // Visible for testing
   Queue<ReadableSpan> getQueue() {
-    return worker.queue;
+    return workers[0].queue;
   }
 
   @Override
   public String toString() {
     return "BatchSpanProcessor{"
         + "spanExporter="
-        + worker.spanExporter
+        + spanExporter
         + ", exportUnsampledSpans="
         + exportUnsampledSpans
         + ", scheduleDelayNanos="
-        + worker.scheduleDelayNanos
+        + shardValues(worker -> worker.scheduleDelayNanos)
         + ", maxExportBatchSize="
-        + worker.maxExportBatchSize
+        + shardValues(worker -> worker.maxExportBatchSize)
         + ", exporterTimeoutNanos="
-        + worker.exporterTimeoutNanos
+        + shardValues(worker -> worker.exporterTimeoutNanos)
+        + ", shardCount="
+        + workers.length
+        + ", maxConcurrentExports="
+        + maxConcurrentExports
+        + (waitStrategy == null ? "" : ", waitStrategy=" + waitStrategy)
+        + (workers[0].batchPolicy == null
+            ? ""
+            : ", adaptiveBatchPolicy="
+                + shardValues(worker -> String.valueOf(worker.batchPolicy)))
         + '}';
   }
 
+  // Returns the value of a property shared by all shards, or the value of each shard if they
+  // differ.
+  private String shardValues(Function<Worker, Object> property) {
+    Set<String> values = new LinkedHashSet<>();
+    for (Worker worker : workers) {
+      values.add(String.valueOf(property.apply(worker)));
+    }
+    return values.size() == 1 ? values.iterator().next() : values.toString();
+  }
+
+  private static int exportsPerShard(SpanExporter spanExporter) {
+    return spanExporter instanceof ConcurrentExporter
+        ? Math.max(1, ((ConcurrentExporter) spanExporter).getMaxConcurrentExports())
+        : 1;
+  }
+
   // Worker is a thread that batches multiple spans and calls the registered SpanExporter to export
-  // the data.
+  // the data. There is one worker per shard.
   private static final class Worker implements Runnable {
 
     private final LongCounter processedSpansCounter;
+    private final Attributes attributes;
     private final Attributes droppedAttrs;
     private final Attributes exportedAttrs;
 
@@ -169,10 +352,23 @@ public final class BatchSpanProcessor implements SpanProcessor {
     private final long scheduleDelayNanos;
     private final int maxExportBatchSize;
     private final long exporterTimeoutNanos;
+    // Whether ended spans can be exported without a toSpanData() snapshot.
+    private final boolean exportEndedSpans;
+    // Shared by all workers when the number of concurrent exports is limited.
+    @Nullable private final Semaphore exportPermits;
+    // Set when exports are not awaited, only accessed by the worker thread.
+    @Nullable private final ConcurrentExporter concurrentExporter;
+    private final List<CompletableResultCode> pendingExports = new ArrayList<>();
+    // Set when the batch size and schedule delay adapt to the load, within maxExportBatchSize and
+    // scheduleDelayNanos.
+    @Nullable private final AdaptiveBatchPolicy batchPolicy;
 
     private long nextExportTime;
 
     private final Queue<ReadableSpan> queue;
+    // Set when spans are queued in a ring buffer, which counts its spans and has the worker wait
+    // for them itself, so neither queueSize nor spansNeeded and signal are used.
+    @Nullable private final RingBufferQueue<ReadableSpan> ringBuffer;
     private final AtomicInteger queueSize = new AtomicInteger();
     // When waiting on the spans queue, exporter thread sets this atomic to the number of more
     // spans it needs before doing an export. Writer threads would then wait for the queue to reach
@@ -188,53 +384,50 @@ public final class BatchSpanProcessor implements SpanProcessor {
 
     private Worker(
         SpanExporter spanExporter,
-        MeterProvider meterProvider,
+        LongCounter processedSpansCounter,
+        Attributes attributes,
         long scheduleDelayNanos,
         int maxExportBatchSize,
         long exporterTimeoutNanos,
-        Queue<ReadableSpan> queue) {
+        Queue<ReadableSpan> queue,
+        @Nullable Semaphore exportPermits,
+        @Nullable AdaptiveBatchPolicy batchPolicy) {
       this.spanExporter = spanExporter;
       this.scheduleDelayNanos = scheduleDelayNanos;
       this.maxExportBatchSize = maxExportBatchSize;
       this.exporterTimeoutNanos = exporterTimeoutNanos;
+      this.exportEndedSpans =
+          spanExporter instanceof ExtendedSpanExporter
+              && ((ExtendedSpanExporter) spanExporter).acceptsEndedSpans();
       this.queue = queue;
+      this.ringBuffer =
+          queue instanceof RingBufferQueue ? (RingBufferQueue<ReadableSpan>) queue : null;
+      this.exportPermits = exportPermits;
+      this.batchPolicy = batchPolicy;
+      // With the default of one export in flight, exports are awaited as before, so each shard
+      // keeps its own export in flight.
+      this.concurrentExporter =
+          spanExporter instanceof ConcurrentExporter
+                  && ((ConcurrentExporter) spanExporter).getMaxConcurrentExports() > 1
+              ? (ConcurrentExporter) spanExporter
+              : null;
       this.signal = new ArrayBlockingQueue<>(1);
-      Meter meter = meterProvider.meterBuilder("io.opentelemetry.sdk.trace").build();
-      meter
-          .gaugeBuilder("queueSize")
-          .ofLongs()
-          .setDescription("The number of items queued")
-          .setUnit("1")
-          .buildWithCallback(
-              result ->
-                  result.record(
-                      queue.size(),
-                      Attributes.of(SPAN_PROCESSOR_TYPE_LABEL, SPAN_PROCESSOR_TYPE_VALUE)));
-      processedSpansCounter =
-          meter
-              .counterBuilder("processedSpans")
-              .setUnit("1")
-              .setDescription(
-                  "The number of spans processed by the BatchSpanProcessor. "
-                      + "[dropped=true if they were dropped due to high throughput]")
-              .build();
-      droppedAttrs =
-          Attributes.of(
-              SPAN_PROCESSOR_TYPE_LABEL,
-              SPAN_PROCESSOR_TYPE_VALUE,
-              SPAN_PROCESSOR_DROPPED_LABEL,
-              true);
-      exportedAttrs =
-          Attributes.of(
-              SPAN_PROCESSOR_TYPE_LABEL,
-              SPAN_PROCESSOR_TYPE_VALUE,
-              SPAN_PROCESSOR_DROPPED_LABEL,
-              false);
+      this.processedSpansCounter = processedSpansCounter;
+      this.attributes = attributes;
+      droppedAttrs = attributes.toBuilder().put(SPAN_PROCESSOR_DROPPED_LABEL, true).build();
+      exportedAttrs = attributes.toBuilder().put(SPAN_PROCESSOR_DROPPED_LABEL, false).build();
 
       this.batch = new ArrayList<>(this.maxExportBatchSize);
     }
 
     private void addSpan(ReadableSpan span) {
+      RingBufferQueue<ReadableSpan> ringBuffer = this.ringBuffer;
+      if (ringBuffer != null) {
+        if (!ringBuffer.offer(span)) {
+          processedSpansCounter.add(1, droppedAttrs);
+        }
+        return;
+      }
       if (!queue.offer(span)) {
         processedSpansCounter.add(1, droppedAttrs);
       } else {
@@ -252,17 +445,24 @@ public final class BatchSpanProcessor implements SpanProcessor {
         if (flushRequested.get() != null) {
           flush();
         }
-        drain(maxExportBatchSize - batch.size());
+        int batchSize = batchSize();
+        drain(batchSize - batch.size());
 
-        if (batch.size() >= maxExportBatchSize || System.nanoTime() >= nextExportTime) {
+        if (batch.size() >= batchSize || System.nanoTime() >= nextExportTime) {
+          AdaptiveBatchPolicy batchPolicy = this.batchPolicy;
+          if (batchPolicy != null) {
+            batchPolicy.onBatch(batch.size(), queue.size(), System.nanoTime());
+          }
           exportCurrentBatch();
           updateNextExportTime();
         }
         if (queue.isEmpty()) {
           try {
             long pollWaitTime = nextExportTime - System.nanoTime();
-            if (pollWaitTime > 0) {
-              spansNeeded.set(maxExportBatchSize - batch.size());
+            if (ringBuffer != null) {
+              ringBuffer.await(batchSize() - batch.size(), nextExportTime);
+            } else if (pollWaitTime > 0) {
+              spansNeeded.set(batchSize() - batch.size());
               signal.poll(pollWaitTime, TimeUnit.NANOSECONDS);
               spansNeeded.set(Integer.MAX_VALUE);
             }
@@ -275,21 +475,35 @@ public final class BatchSpanProcessor implements SpanProcessor {
     }
 
     private int drain(int limit) {
-      int drained = JcTools.drain(queue, limit, span -> batch.add(span.toSpanData()));
+      RingBufferQueue<ReadableSpan> ringBuffer = this.ringBuffer;
+      if (ringBuffer != null) {
+        return ringBuffer.drain(span -> batch.add(toExportedSpanData(span)), limit);
+      }
+      int drained = JcTools.drain(queue, limit, span -> batch.add(toExportedSpanData(span)));
       queueSize.addAndGet(-drained);
       return drained;
     }
 
+    private SpanData toExportedSpanData(ReadableSpan span) {
+      // The SDK's spans are their own SpanData once ended.
+      if (exportEndedSpans && span instanceof SpanData && span.hasEnded()) {
+        return (SpanData) span;
+      }
+      return span.toSpanData();
+    }
+
     private void flush() {
-      int spansToFlush = queueSize.get();
+      int spansToFlush = ringBuffer != null ? ringBuffer.size() : queueSize.get();
       while (spansToFlush > 0) {
-        int drained = drain(maxExportBatchSize - batch.size());
+        int batchSize = batchSize();
+        int drained = drain(batchSize - batch.size());
         spansToFlush -= drained;
-        if (batch.size() >= maxExportBatchSize) {
+        if (batch.size() >= batchSize) {
           exportCurrentBatch();
         }
       }
       exportCurrentBatch();
+      awaitPendingExports();
       CompletableResultCode flushResult = flushRequested.get();
       if (flushResult != null) {
         flushResult.succeed();
@@ -297,36 +511,29 @@ public final class BatchSpanProcessor implements SpanProcessor {
       }
     }
 
-    private void updateNextExportTime() {
-      nextExportTime = System.nanoTime() + scheduleDelayNanos;
+    private int batchSize() {
+      AdaptiveBatchPolicy batchPolicy = this.batchPolicy;
+      return batchPolicy == null ? maxExportBatchSize : batchPolicy.getBatchSize();
+    }
+
+    private long scheduleDelayNanos() {
+      AdaptiveBatchPolicy batchPolicy = this.batchPolicy;
+      return batchPolicy == null ? scheduleDelayNanos : batchPolicy.getScheduleDelayNanos();
     }
 
-    private CompletableResultCode shutdown() {
-      CompletableResultCode result = new CompletableResultCode();
-
-      CompletableResultCode flushResult = forceFlush();
-      flushResult.whenComplete(
-          () -> {
-            continueWork = false;
-            CompletableResultCode shutdownResult = spanExporter.shutdown();
-            shutdownResult.whenComplete(
-                () -> {
-                  if (!flushResult.isSuccess() || !shutdownResult.isSuccess()) {
-                    result.fail();
-                  } else {
-                    result.succeed();
-                  }
-                });
-          });
-
-      return result;
+    private void updateNextExportTime() {
+      nextExportTime = System.nanoTime() + scheduleDelayNanos();
     }
 
     private CompletableResultCode forceFlush() {
       CompletableResultCode flushResult = new CompletableResultCode();
       // we set the atomic here to trigger the worker loop to do a flush of the entire queue.
       if (flushRequested.compareAndSet(null, flushResult)) {
-        signal.offer(true);
+        if (ringBuffer != null) {
+          ringBuffer.wakeUp();
+        } else {
+          signal.offer(true);
+        }
       }
       CompletableResultCode possibleResult = flushRequested.get();
       // there's a race here where the flush happening in the worker loop could complete before we
@@ -340,20 +547,77 @@ public final class BatchSpanProcessor implements SpanProcessor {
         return;
       }
 
+      Semaphore exportPermits = this.exportPermits;
+      boolean releasePermit = false;
       try {
-        CompletableResultCode result = spanExporter.export(Collections.unmodifiableList(batch));
-        result.join(exporterTimeoutNanos, TimeUnit.NANOSECONDS);
-        if (result.isSuccess()) {
-          processedSpansCounter.add(batch.size(), exportedAttrs);
+        if (exportPermits != null) {
+          exportPermits.acquire();
+          releasePermit = true;
+        }
+        ConcurrentExporter concurrentExporter = this.concurrentExporter;
+        if (concurrentExporter == null) {
+          long exportStartNanos = System.nanoTime();
+          CompletableResultCode result = spanExporter.export(Collections.unmodifiableList(batch));
+          result.join(exporterTimeoutNanos, TimeUnit.NANOSECONDS);
+          recordExportResult(result, batch.size(), exportStartNanos);
         } else {
-          logger.log(Level.FINE, "Exporter failed");
+          // Exports in flight stay bounded, so the batch is dropped if the exporter stays at
+          // capacity.
+          if (!concurrentExporter.awaitExportCapacity(
+              exporterTimeoutNanos, TimeUnit.NANOSECONDS)) {
+            logger.log(Level.FINE, "Exporter has no capacity, dropping spans");
+            processedSpansCounter.add(batch.size(), droppedAttrs);
+            return;
+          }
+          int exportedSpans = batch.size();
+          long exportStartNanos = System.nanoTime();
+          CompletableResultCode result =
+              spanExporter.export(Collections.unmodifiableList(new ArrayList<>(batch)));
+          // The permit is held until the export completes.
+          releasePermit = false;
+          result.whenComplete(
+              () -> {
+                if (exportPermits != null) {
+                  exportPermits.release();
+                }
+                recordExportResult(result, exportedSpans, exportStartNanos);
+              });
+          pendingExports.removeIf(CompletableResultCode::isDone);
+          pendingExports.add(result);
         }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
       } catch (Throwable t) {
         ThrowableUtil.propagateIfFatal(t);
         logger.log(Level.WARNING, "Exporter threw an Exception", t);
       } finally {
+        if (exportPermits != null && releasePermit) {
+          exportPermits.release();
+        }
         batch.clear();
       }
     }
+
+    private void recordExportResult(
+        CompletableResultCode result, int exportedSpans, long exportStartNanos) {
+      AdaptiveBatchPolicy batchPolicy = this.batchPolicy;
+      if (batchPolicy != null) {
+        // An awaited export which timed out counts as taking the timeout
+        batchPolicy.onExportComplete(System.nanoTime() - exportStartNanos);
+      }
+      if (result.isSuccess()) {
+        processedSpansCounter.add(exportedSpans, exportedAttrs);
+      } else {
+        logger.log(Level.FINE, "Exporter failed");
+      }
+    }
+
+    // Waits for exports which were not awaited, so a flush covers them.
+    private void awaitPendingExports() {
+      for (CompletableResultCode result : pendingExports) {
+        result.join(exporterTimeoutNanos, TimeUnit.NANOSECONDS);
+      }
+      pendingExports.clear();
+    }
   }
 }
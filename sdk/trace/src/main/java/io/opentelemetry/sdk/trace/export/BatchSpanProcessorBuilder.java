@@ -9,10 +9,14 @@ import static io.opentelemetry.api.internal.Utils.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.sdk.internal.AdaptiveBatchPolicy;
+import io.opentelemetry.sdk.internal.RingBufferQueue;
+import io.opentelemetry.sdk.trace.internal.SdkTracerProviderUtil;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /** Builder class for {@link BatchSpanProcessor}. */
 public final class BatchSpanProcessorBuilder {
@@ -26,6 +30,8 @@ public final class BatchSpanProcessorBuilder {
   static final int DEFAULT_MAX_EXPORT_BATCH_SIZE = 512;
   // Visible for testing
   static final int DEFAULT_EXPORT_TIMEOUT_MILLIS = 30_000;
+  // Visible for testing
+  static final int DEFAULT_SHARD_COUNT = 1;
 
   private final SpanExporter spanExporter;
   private boolean exportUnsampledSpans = false;
@@ -34,6 +40,13 @@ public final class BatchSpanProcessorBuilder {
   private int maxExportBatchSize = DEFAULT_MAX_EXPORT_BATCH_SIZE;
   private long exporterTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_EXPORT_TIMEOUT_MILLIS);
   private MeterProvider meterProvider = MeterProvider.noop();
+  private int shardCount = DEFAULT_SHARD_COUNT;
+  private int maxConcurrentExports = Integer.MAX_VALUE;
+  @Nullable private RingBufferQueue.WaitStrategy waitStrategy;
+  private int adaptiveMinExportBatchSize = 1;
+  private long adaptiveMinScheduleDelayNanos;
+  // Zero unless adaptive batching is enabled
+  private long adaptiveTargetLatencyNanos;
 
   BatchSpanProcessorBuilder(SpanExporter spanExporter) {
     this.spanExporter = requireNonNull(spanExporter, "spanExporter");
@@ -154,6 +167,117 @@ public final class BatchSpanProcessorBuilder {
     return maxExportBatchSize;
   }
 
+  /**
+   * Sets the number of shards. Each shard has its own worker thread, queue and batch, and exports
+   * independently of the others, which lets the processor keep up with span rates a single worker
+   * cannot. Spans are assigned to a shard by span ID, and {@code maxQueueSize} is divided evenly
+   * between the shards. Metrics are recorded per shard, with a {@code shard} attribute, when there
+   * is more than one.
+   *
+   * <p>Default value is {@code 1}.
+   *
+   * @param shardCount the number of shards.
+   * @return this.
+   * @throws IllegalArgumentException if {@code shardCount} is not positive.
+   * @since 1.56.0
+   */
+  public BatchSpanProcessorBuilder setShardCount(int shardCount) {
+    checkArgument(shardCount > 0, "shardCount must be positive.");
+    this.shardCount = shardCount;
+    return this;
+  }
+
+  // Visible for testing
+  int getShardCount() {
+    return shardCount;
+  }
+
+  /**
+   * Sets the maximum number of exports this processor has in flight at the same time, across all
+   * shards. Each shard waits for its export to complete before starting the next one, unless the
+   * exporter accepts concurrent exports, in which case each shard may have as many exports in
+   * flight as the exporter allows.
+   *
+   * <p>This limit applies on top of the exporter's own: the OTLP exporters' {@code
+   * setMaxConcurrentExports} bounds the requests a single exporter sends at the same time, while
+   * this bounds the exports all of this processor's shards start.
+   *
+   * <p>By default, the number of concurrent exports is only limited by the number of shards and
+   * the exporter.
+   *
+   * @param maxConcurrentExports the maximum number of concurrent exports.
+   * @return this.
+   * @throws IllegalArgumentException if {@code maxConcurrentExports} is not positive.
+   * @see #setShardCount(int)
+   * @since 1.56.0
+   */
+  public BatchSpanProcessorBuilder setMaxConcurrentExports(int maxConcurrentExports) {
+    checkArgument(maxConcurrentExports > 0, "maxConcurrentExports must be positive.");
+    this.maxConcurrentExports = maxConcurrentExports;
+    return this;
+  }
+
+  // Visible for testing
+  int getMaxConcurrentExports() {
+    return maxConcurrentExports;
+  }
+
+  /**
+   * Sets the processor to queue spans in a preallocated {@link RingBufferQueue}, whose worker waits
+   * for spans with the given {@link RingBufferQueue.WaitStrategy}. Queuing a span then costs a
+   * single compare-and-set, rather than also counting the span and signalling the worker once it
+   * has enough spans for a batch. {@link RingBufferQueue.WaitStrategy#BUSY_SPIN} and {@link
+   * RingBufferQueue.WaitStrategy#YIELD} keep the worker's core busy in exchange for never
+   * signalling it.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkTracerProviderUtil#setRingBufferWaitStrategy(BatchSpanProcessorBuilder,
+   * RingBufferQueue.WaitStrategy)}.
+   */
+  BatchSpanProcessorBuilder setRingBufferWaitStrategy(RingBufferQueue.WaitStrategy waitStrategy) {
+    requireNonNull(waitStrategy, "waitStrategy");
+    this.waitStrategy = waitStrategy;
+    return this;
+  }
+
+  // Visible for testing
+  @Nullable
+  RingBufferQueue.WaitStrategy getRingBufferWaitStrategy() {
+    return waitStrategy;
+  }
+
+  /**
+   * Sets the processor to adapt its batch size and schedule delay to the rate at which spans are
+   * queued and to the exporter's latency, aiming to export spans within {@code targetLatency} of
+   * their end with as few exports as that allows. See {@link AdaptiveBatchPolicy}. The batch size
+   * then varies from {@code minExportBatchSize} up to the {@linkplain #setMaxExportBatchSize(int)
+   * max export batch size}, and the delay from {@code minScheduleDelay} up to the {@linkplain
+   * #setScheduleDelay(Duration) schedule delay}. The current values of each shard are recorded by
+   * the {@code exportBatchSize} and {@code scheduleDelay} gauges of the processor.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkTracerProviderUtil#setAdaptiveBatching(BatchSpanProcessorBuilder, int, Duration,
+   * Duration)}.
+   */
+  BatchSpanProcessorBuilder setAdaptiveBatching(
+      int minExportBatchSize, Duration minScheduleDelay, Duration targetLatency) {
+    requireNonNull(minScheduleDelay, "minScheduleDelay");
+    requireNonNull(targetLatency, "targetLatency");
+    checkArgument(minExportBatchSize > 0, "minExportBatchSize must be positive.");
+    checkArgument(!minScheduleDelay.isNegative(), "minScheduleDelay must be non-negative");
+    checkArgument(
+        !targetLatency.isNegative() && !targetLatency.isZero(), "targetLatency must be positive");
+    this.adaptiveMinExportBatchSize = minExportBatchSize;
+    this.adaptiveMinScheduleDelayNanos = minScheduleDelay.toNanos();
+    this.adaptiveTargetLatencyNanos = targetLatency.toNanos();
+    return this;
+  }
+
+  // Visible for testing
+  long getAdaptiveTargetLatencyNanos() {
+    return adaptiveTargetLatencyNanos;
+  }
+
   /**
    * Returns a new {@link BatchSpanProcessor} that batches, then converts spans to proto and
    * forwards them to the given {@code spanExporter}.
@@ -175,6 +299,12 @@ public final class BatchSpanProcessorBuilder {
         scheduleDelayNanos,
         maxQueueSize,
         maxExportBatchSize,
-        exporterTimeoutNanos);
+        exporterTimeoutNanos,
+        shardCount,
+        maxConcurrentExports,
+        waitStrategy,
+        adaptiveMinExportBatchSize,
+        adaptiveMinScheduleDelayNanos,
+        adaptiveTargetLatencyNanos);
   }
 }
@@ -8,6 +8,7 @@ package io.opentelemetry.sdk.trace.export;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.trace.SpanProcessor;
 import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.internal.ExtendedSpanExporter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -21,7 +22,7 @@ import java.util.logging.Logger;
  * <p>Can be used to export to multiple backends using the same {@link SpanProcessor} like a {@link
  * SimpleSpanProcessor} or a {@link BatchSpanProcessor}.
  */
-final class MultiSpanExporter implements SpanExporter {
+final class MultiSpanExporter implements ExtendedSpanExporter {
   private static final Logger logger = Logger.getLogger(MultiSpanExporter.class.getName());
 
   private final SpanExporter[] spanExporters;
@@ -36,6 +37,17 @@ final class MultiSpanExporter implements SpanExporter {
     return new MultiSpanExporter(spanExporters.toArray(new SpanExporter[0]));
   }
 
+  @Override
+  public boolean acceptsEndedSpans() {
+    for (SpanExporter spanExporter : spanExporters) {
+      if (!(spanExporter instanceof ExtendedSpanExporter)
+          || !((ExtendedSpanExporter) spanExporter).acceptsEndedSpans()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   @Override
   public CompletableResultCode export(Collection<SpanData> spans) {
     List<CompletableResultCode> results = new ArrayList<>(spanExporters.length);
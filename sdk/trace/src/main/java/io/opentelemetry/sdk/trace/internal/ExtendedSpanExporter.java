@@ -0,0 +1,31 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.internal;
+
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+/**
+ * Extended {@link SpanExporter} with experimental APIs.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface ExtendedSpanExporter extends SpanExporter {
+
+  /**
+   * Returns {@code true} if this exporter accepts ended spans in place of {@link
+   * ReadableSpan#toSpanData()} snapshots. The SDK's spans are immutable once ended, so span
+   * processors can then pass them to {@link #export(java.util.Collection)} without allocating a
+   * snapshot for each span.
+   *
+   * <p>Such {@link SpanData} compare by identity rather than by value, and keep the span they are
+   * read from reachable. Exporters which only read the spans they are given, such as those
+   * serializing them, can safely accept them.
+   */
+  boolean acceptsEndedSpans();
+}
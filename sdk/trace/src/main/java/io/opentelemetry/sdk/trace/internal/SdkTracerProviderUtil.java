@@ -7,11 +7,14 @@ package io.opentelemetry.sdk.trace.internal;
 
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.internal.ExceptionAttributeResolver;
+import io.opentelemetry.sdk.internal.RingBufferQueue;
 import io.opentelemetry.sdk.internal.ScopeConfigurator;
 import io.opentelemetry.sdk.trace.SdkTracerProvider;
 import io.opentelemetry.sdk.trace.SdkTracerProviderBuilder;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessorBuilder;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.function.Predicate;
 
 /**
@@ -89,4 +92,61 @@ public final class SdkTracerProviderUtil {
           "Error calling setExceptionAttributeResolver on SdkTracerProviderBuilder", e);
     }
   }
+
+  /**
+   * Reflectively set whether recording spans are lock-free on the {@link
+   * SdkTracerProviderBuilder}.
+   */
+  public static SdkTracerProviderBuilder setLockFreeSpans(
+      SdkTracerProviderBuilder sdkTracerProviderBuilder, boolean lockFreeSpans) {
+    try {
+      Method method =
+          SdkTracerProviderBuilder.class.getDeclaredMethod("setLockFreeSpans", boolean.class);
+      method.setAccessible(true);
+      method.invoke(sdkTracerProviderBuilder, lockFreeSpans);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setLockFreeSpans on SdkTracerProviderBuilder", e);
+    }
+    return sdkTracerProviderBuilder;
+  }
+
+  /**
+   * Reflectively set the {@link RingBufferQueue.WaitStrategy} of a ring buffer queue on the {@link
+   * BatchSpanProcessorBuilder}.
+   */
+  public static BatchSpanProcessorBuilder setRingBufferWaitStrategy(
+      BatchSpanProcessorBuilder batchSpanProcessorBuilder,
+      RingBufferQueue.WaitStrategy waitStrategy) {
+    try {
+      Method method =
+          BatchSpanProcessorBuilder.class.getDeclaredMethod(
+              "setRingBufferWaitStrategy", RingBufferQueue.WaitStrategy.class);
+      method.setAccessible(true);
+      method.invoke(batchSpanProcessorBuilder, waitStrategy);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setRingBufferWaitStrategy on BatchSpanProcessorBuilder", e);
+    }
+    return batchSpanProcessorBuilder;
+  }
+
+  /** Reflectively enable adaptive batching on the {@link BatchSpanProcessorBuilder}. */
+  public static BatchSpanProcessorBuilder setAdaptiveBatching(
+      BatchSpanProcessorBuilder batchSpanProcessorBuilder,
+      int minExportBatchSize,
+      Duration minScheduleDelay,
+      Duration targetLatency) {
+    try {
+      Method method =
+          BatchSpanProcessorBuilder.class.getDeclaredMethod(
+              "setAdaptiveBatching", int.class, Duration.class, Duration.class);
+      method.setAccessible(true);
+      method.invoke(batchSpanProcessorBuilder, minExportBatchSize, minScheduleDelay, targetLatency);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setAdaptiveBatching on BatchSpanProcessorBuilder", e);
+    }
+    return batchSpanProcessorBuilder;
+  }
 }
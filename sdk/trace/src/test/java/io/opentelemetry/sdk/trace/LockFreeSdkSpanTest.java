@@ -0,0 +1,314 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.internal.AttributesMap;
+import io.opentelemetry.sdk.internal.ExceptionAttributeResolver;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.testing.time.TestClock;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.internal.ExtendedSpanProcessor;
+import io.opentelemetry.sdk.trace.internal.SdkTracerProviderUtil;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LockFreeSdkSpanTest {
+  private static final String SPAN_NAME = "MySpanName";
+  private static final long START_EPOCH_NANOS = 1000_123_789_654L;
+
+  private final IdGenerator idsGenerator = IdGenerator.random();
+  private final String traceId = idsGenerator.generateTraceId();
+  private final SpanContext spanContext =
+      SpanContext.create(
+          traceId, idsGenerator.generateSpanId(), TraceFlags.getDefault(), TraceState.getDefault());
+  private final LinkData link = LinkData.create(spanContext);
+  @Mock private ExtendedSpanProcessor spanProcessor;
+
+  private TestClock testClock;
+
+  @BeforeEach
+  void setUp() {
+    testClock = TestClock.create(Instant.ofEpochSecond(0, START_EPOCH_NANOS));
+    when(spanProcessor.isStartRequired()).thenReturn(true);
+    when(spanProcessor.isOnEndingRequired()).thenReturn(true);
+    when(spanProcessor.isEndRequired()).thenReturn(true);
+  }
+
+  @Test
+  void recordsAndSnapshots() {
+    AttributesMap initialAttributes = AttributesMap.create(128, Integer.MAX_VALUE);
+    initialAttributes.put(stringKey("initial"), "value");
+    LockFreeSdkSpan span = createTestSpan(SpanLimits.getDefault(), initialAttributes);
+    verify(spanProcessor).onStart(Context.root(), span);
+
+    span.setAttribute("foo", "bar");
+    span.setAttribute("initial", "updated");
+    span.addEvent("event");
+    span.addLink(link.getSpanContext());
+    span.updateName("NewName");
+    span.setStatus(StatusCode.ERROR, "failed");
+
+    SpanData active = span.toSpanData();
+    assertThat(active)
+        .hasName("NewName")
+        .hasAttributesSatisfyingExactly(
+            equalTo(stringKey("initial"), "updated"), equalTo(stringKey("foo"), "bar"))
+        .hasTotalAttributeCount(3)
+        .hasEventsSatisfying(
+            events -> assertThat(events).extracting(EventData::getName).containsExactly("event"))
+        .hasTotalRecordedEvents(1)
+        .hasLinks(link, link)
+        .hasTotalRecordedLinks(2)
+        .hasStatus(StatusData.create(StatusCode.ERROR, "failed"))
+        .hasNotEnded();
+    assertThat(span.getAttribute(stringKey("initial"))).isEqualTo("updated");
+
+    span.setAttribute("foo", "baz");
+    assertThat(active).hasAttributesSatisfying(equalTo(stringKey("foo"), "bar"));
+
+    span.end();
+    verify(spanProcessor).onEnd(same(span));
+    assertThat(span.toSpanData())
+        .hasAttributesSatisfying(equalTo(stringKey("foo"), "baz"))
+        .hasTotalAttributeCount(4)
+        .hasEnded();
+  }
+
+  @Test
+  void attributesResolvedUntilRecorded() {
+    LockFreeSdkSpan span = createTestSpan(SpanLimits.getDefault(), null);
+    span.setAttribute("foo", "bar");
+
+    Attributes attributes = span.getAttributes();
+    assertThat(span.getAttributes()).isSameAs(attributes);
+    assertThat(span.toSpanData().getAttributes()).isSameAs(attributes);
+
+    span.setAttribute("foo", "baz");
+    assertThat(attributes).containsEntry(stringKey("foo"), "bar");
+    assertThat(span.getAttributes()).isNotSameAs(attributes).containsEntry(stringKey("foo"), "baz");
+    assertThat(span.getAttribute(stringKey("foo"))).isEqualTo("baz");
+  }
+
+  @Test
+  void nothingChangedAfterEnd() {
+    LockFreeSdkSpan span = createTestSpan(SpanLimits.getDefault(), null);
+    span.end();
+    span.setAttribute("foo", "bar");
+    span.addEvent("event");
+    span.addLink(link.getSpanContext());
+    span.updateName("NewName");
+    span.setStatus(StatusCode.ERROR);
+    span.end();
+
+    assertThat(span.toSpanData())
+        .hasName(SPAN_NAME)
+        .hasTotalAttributeCount(0)
+        .hasTotalRecordedEvents(0)
+        .hasTotalRecordedLinks(1)
+        .hasStatus(StatusData.unset())
+        .hasEnded();
+    verify(spanProcessor).onEnding(same(span));
+  }
+
+  @Test
+  void setStatus_okIsFinal() {
+    LockFreeSdkSpan span = createTestSpan(SpanLimits.getDefault(), null);
+    span.setStatus(StatusCode.OK, "ignored");
+    span.setStatus(StatusCode.ERROR, "failed");
+    assertThat(span.toSpanData()).hasStatus(StatusData.ok());
+  }
+
+  @Test
+  void limits() {
+    SpanLimits spanLimits =
+        SpanLimits.builder()
+            .setMaxNumberOfAttributes(2)
+            .setMaxAttributeValueLength(3)
+            .setMaxNumberOfEvents(2)
+            .setMaxNumberOfLinks(2)
+            .build();
+    LockFreeSdkSpan span = createTestSpan(spanLimits, null);
+    // Enough attributes for the chain to be collapsed several times.
+    for (int i = 0; i < 100; i++) {
+      span.setAttribute("key" + (i % 3), "value" + i);
+      span.addEvent("event" + i);
+      span.addLink(link.getSpanContext());
+    }
+
+    assertThat(span.toSpanData())
+        .hasAttributesSatisfyingExactly(
+            equalTo(stringKey("key0"), "val"), equalTo(stringKey("key1"), "val"))
+        .hasTotalAttributeCount(100)
+        .hasEventsSatisfying(
+            events ->
+                assertThat(events)
+                    .extracting(EventData::getName)
+                    .containsExactly("event0", "event1"))
+        .hasTotalRecordedEvents(100)
+        .hasLinks(link, link)
+        .hasTotalRecordedLinks(101);
+  }
+
+  @Test
+  void onEnding_concurrentModificationsPrevented() {
+    LockFreeSdkSpan span = createTestSpan(SpanLimits.getDefault(), null);
+
+    AttributeKey<String> syncAttrib = stringKey("sync_foo");
+    AttributeKey<String> concurrentAttrib = stringKey("concurrent_foo");
+
+    doAnswer(
+            invocation -> {
+              ReadWriteSpan sp = invocation.getArgument(0, ReadWriteSpan.class);
+              assertThat(sp.hasEnded()).isFalse();
+
+              Thread concurrent =
+                  new Thread(() -> sp.setAttribute(concurrentAttrib, "concurrent_bar"));
+              concurrent.start();
+              concurrent.join();
+
+              sp.setAttribute(syncAttrib, "sync_bar");
+              sp.updateName("ending");
+              return null;
+            })
+        .when(spanProcessor)
+        .onEnding(any());
+
+    span.end();
+    assertThat(span.hasEnded()).isTrue();
+    assertThat(span.getAttribute(concurrentAttrib)).isNull();
+    assertThat(span.getAttribute(syncAttrib)).isEqualTo("sync_bar");
+    assertThat(span.getName()).isEqualTo("ending");
+  }
+
+  @Test
+  void concurrentRecording() throws Exception {
+    LockFreeSdkSpan span = createTestSpan(SpanLimits.getDefault(), null);
+    int threads = 4;
+    int recordsPerThread = 1000;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+    try {
+      for (int t = 0; t < threads; t++) {
+        int thread = t;
+        futures.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  for (int i = 0; i < recordsPerThread; i++) {
+                    span.setAttribute("thread" + thread, (long) i);
+                    span.addEvent("event");
+                    span.toSpanData();
+                  }
+                  return null;
+                }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    span.end();
+
+    SpanData spanData = span.toSpanData();
+    assertThat(spanData.getAttributes().size()).isEqualTo(threads);
+    assertThat(spanData.getAttributes().get(AttributeKey.longKey("thread0")))
+        .isEqualTo(recordsPerThread - 1L);
+    assertThat(spanData.getTotalAttributeCount()).isEqualTo(threads * recordsPerThread);
+    assertThat(spanData.getEvents()).hasSize(SpanLimits.getDefault().getMaxNumberOfEvents());
+    assertThat(spanData.getTotalRecordedEvents()).isEqualTo(threads * recordsPerThread);
+  }
+
+  @Test
+  void selectedBySdkTracerProviderBuilder() {
+    InMemorySpanExporter exporter = InMemorySpanExporter.create();
+    SdkTracerProviderBuilder builder =
+        SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(exporter));
+    SdkTracerProviderUtil.setLockFreeSpans(builder, true);
+    try (SdkTracerProvider tracerProvider = builder.build()) {
+      Span parent = tracerProvider.get("test").spanBuilder("parent").startSpan();
+      Span child =
+          tracerProvider
+              .get("test")
+              .spanBuilder("child")
+              .setParent(Context.root().with(parent))
+              .startSpan();
+      assertThat(parent).isInstanceOf(LockFreeSdkSpan.class);
+      assertThat(((LockFreeSdkSpan) child).getClock())
+          .isSameAs(((LockFreeSdkSpan) parent).getClock());
+      child.end();
+      parent.end();
+    }
+    assertThat(exporter.getFinishedSpanItems())
+        .satisfiesExactly(
+            child -> assertThat(child).hasName("child"),
+            parent -> assertThat(parent).hasName("parent"));
+  }
+
+  private LockFreeSdkSpan createTestSpan(
+      SpanLimits spanLimits, @Nullable AttributesMap attributes) {
+    List<LinkData> links = new ArrayList<>(Collections.singletonList(link));
+    return LockFreeSdkSpan.startSpan(
+        spanContext,
+        SPAN_NAME,
+        InstrumentationScopeInfo.create("theName"),
+        SpanKind.INTERNAL,
+        Span.getInvalid(),
+        Context.root(),
+        spanLimits,
+        spanProcessor,
+        ExceptionAttributeResolver.getDefault(),
+        testClock,
+        Resource.empty(),
+        attributes,
+        links,
+        links.size(),
+        0);
+  }
+}
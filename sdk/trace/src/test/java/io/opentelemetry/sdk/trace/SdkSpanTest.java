@@ -292,6 +292,35 @@ class SdkSpanTest {
         /* hasEnded= */ true);
   }
 
+  @Test
+  void endedSpanIsSpanData() {
+    SdkSpan span = createTestSpan(SpanKind.INTERNAL);
+    try {
+      spanDoWork(span, StatusCode.ERROR, "CANCELLED");
+    } finally {
+      span.end();
+    }
+    EventData event =
+        EventData.create(START_EPOCH_NANOS + NANOS_PER_SECOND, "event2", Attributes.empty(), 0);
+    verifySpanData(
+        span,
+        expectedAttributes,
+        singletonList(event),
+        singletonList(link),
+        SPAN_NEW_NAME,
+        START_EPOCH_NANOS,
+        testClock.now(),
+        StatusData.create(StatusCode.ERROR, "CANCELLED"),
+        /* hasEnded= */ true);
+
+    // The snapshot taken when the span ended is reused
+    SpanData spanData = span.toSpanData();
+    assertThat(span.toSpanData()).isSameAs(spanData);
+    assertThat(span.getEvents()).isSameAs(spanData.getEvents());
+    assertThat(span.getLinks()).isSameAs(spanData.getLinks());
+    assertThat(span.getAttributes()).isSameAs(spanData.getAttributes());
+  }
+
   @Test
   void toSpanData_immutableLinks() {
     SdkSpan span = createTestSpan(SpanKind.INTERNAL);
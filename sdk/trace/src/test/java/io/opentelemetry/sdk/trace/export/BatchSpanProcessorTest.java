@@ -23,9 +23,14 @@ import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.internal.ConcurrentExporter;
+import io.opentelemetry.sdk.internal.RingBufferQueue;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
 import io.opentelemetry.sdk.trace.ReadableSpan;
 import io.opentelemetry.sdk.trace.SdkTracerProvider;
 import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.internal.ExtendedSpanExporter;
+import io.opentelemetry.sdk.trace.internal.SdkTracerProviderUtil;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
 import io.opentelemetry.sdk.trace.samplers.SamplingResult;
 import java.time.Duration;
@@ -33,15 +38,20 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nullable;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -95,6 +105,10 @@ class BatchSpanProcessorTest {
     assertThat(builder.getExporterTimeoutNanos())
         .isEqualTo(
             TimeUnit.MILLISECONDS.toNanos(BatchSpanProcessorBuilder.DEFAULT_EXPORT_TIMEOUT_MILLIS));
+    assertThat(builder.getShardCount()).isEqualTo(BatchSpanProcessorBuilder.DEFAULT_SHARD_COUNT);
+    assertThat(builder.getMaxConcurrentExports()).isEqualTo(Integer.MAX_VALUE);
+    assertThat(builder.getRingBufferWaitStrategy()).isNull();
+    assertThat(builder.getAdaptiveTargetLatencyNanos()).isZero();
   }
 
   @Test
@@ -127,6 +141,31 @@ class BatchSpanProcessorTest {
     assertThatThrownBy(() -> BatchSpanProcessor.builder(mockSpanExporter).setMaxQueueSize(0))
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage("maxQueueSize must be positive.");
+    assertThatThrownBy(() -> BatchSpanProcessor.builder(mockSpanExporter).setShardCount(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("shardCount must be positive.");
+    assertThatThrownBy(
+            () -> BatchSpanProcessor.builder(mockSpanExporter).setMaxConcurrentExports(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxConcurrentExports must be positive.");
+    assertThatThrownBy(
+            () ->
+                BatchSpanProcessor.builder(mockSpanExporter)
+                    .setAdaptiveBatching(0, Duration.ZERO, Duration.ofSeconds(1)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("minExportBatchSize must be positive.");
+    assertThatThrownBy(
+            () ->
+                BatchSpanProcessor.builder(mockSpanExporter)
+                    .setAdaptiveBatching(1, Duration.ofSeconds(-1), Duration.ofSeconds(1)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("minScheduleDelay must be non-negative");
+    assertThatThrownBy(
+            () ->
+                BatchSpanProcessor.builder(mockSpanExporter)
+                    .setAdaptiveBatching(1, Duration.ZERO, Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("targetLatency must be positive");
   }
 
   @Test
@@ -264,6 +303,202 @@ class BatchSpanProcessorTest {
     assertThat(exported.size()).isEqualTo(2);
   }
 
+  @Test
+  void shardedExport() {
+    InMemorySpanExporter spanExporter = InMemorySpanExporter.create();
+    BatchSpanProcessor batchSpanProcessor =
+        BatchSpanProcessor.builder(spanExporter)
+            .setShardCount(4)
+            .setMaxExportBatchSize(7)
+            .setScheduleDelay(10, TimeUnit.SECONDS)
+            .build();
+    sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor).build();
+
+    List<SpanData> ended = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      ended.add(createEndedSpan("span" + i).toSpanData());
+    }
+    batchSpanProcessor.forceFlush().join(10, TimeUnit.SECONDS);
+
+    assertThat(spanExporter.getFinishedSpanItems()).containsExactlyInAnyOrderElementsOf(ended);
+  }
+
+  @Test
+  void exportEndedSpans() {
+    RecordingSpanExporter acceptingExporter = new RecordingSpanExporter(true);
+    RecordingSpanExporter snapshotExporter = new RecordingSpanExporter(false);
+    sdkTracerProvider =
+        SdkTracerProvider.builder()
+            .addSpanProcessor(BatchSpanProcessor.builder(acceptingExporter).build())
+            .addSpanProcessor(BatchSpanProcessor.builder(snapshotExporter).build())
+            .build();
+
+    ReadableSpan span = createEndedSpan(SPAN_NAME_1);
+    sdkTracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+
+    assertThat(acceptingExporter.exported).singleElement().isSameAs(span);
+    assertThat(snapshotExporter.exported)
+        .singleElement()
+        .isNotSameAs(span)
+        .isEqualTo(span.toSpanData());
+    // The span is its own SpanData once ended, so exports reflect the same contents either way.
+    assertThat(acceptingExporter.exported.get(0).getName()).isEqualTo(SPAN_NAME_1);
+    assertThat(acceptingExporter.exported.get(0).hasEnded()).isTrue();
+  }
+
+  @Test
+  void shardedExport_maxConcurrentExports() {
+    ConcurrencyTrackingSpanExporter spanExporter = new ConcurrencyTrackingSpanExporter();
+    BatchSpanProcessor batchSpanProcessor =
+        BatchSpanProcessor.builder(spanExporter)
+            .setShardCount(4)
+            .setMaxConcurrentExports(2)
+            .setMaxExportBatchSize(1)
+            .setScheduleDelay(10, TimeUnit.SECONDS)
+            .build();
+    sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor).build();
+
+    for (int i = 0; i < 40; i++) {
+      createEndedSpan("span" + i);
+    }
+    batchSpanProcessor.forceFlush().join(10, TimeUnit.SECONDS);
+
+    assertThat(spanExporter.exported.get()).isEqualTo(40);
+    assertThat(spanExporter.maxInFlight.get()).isBetween(1, 2);
+  }
+
+  @ParameterizedTest
+  @EnumSource(RingBufferQueue.WaitStrategy.class)
+  void ringBufferQueue(RingBufferQueue.WaitStrategy waitStrategy) {
+    InMemorySpanExporter spanExporter = InMemorySpanExporter.create();
+    BatchSpanProcessorBuilder builder =
+        BatchSpanProcessor.builder(spanExporter)
+            .setMaxExportBatchSize(7)
+            .setScheduleDelay(10, TimeUnit.SECONDS);
+    SdkTracerProviderUtil.setRingBufferWaitStrategy(builder, waitStrategy);
+    assertThat(builder.getRingBufferWaitStrategy()).isEqualTo(waitStrategy);
+    BatchSpanProcessor batchSpanProcessor = builder.build();
+    sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor).build();
+
+    List<SpanData> ended = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      ended.add(createEndedSpan("span" + i).toSpanData());
+    }
+    // Full batches are exported without waiting for the schedule delay
+    await()
+        .untilAsserted(
+            () ->
+                assertThat(spanExporter.getFinishedSpanItems())
+                    .containsExactlyElementsOf(ended.subList(0, 98)));
+
+    batchSpanProcessor.forceFlush().join(10, TimeUnit.SECONDS);
+    assertThat(spanExporter.getFinishedSpanItems()).containsExactlyElementsOf(ended);
+    assertThat(batchSpanProcessor.toString()).endsWith(", waitStrategy=" + waitStrategy + "}");
+  }
+
+  @Test
+  void adaptiveBatching_exportsWithinTargetLatency() {
+    InMemorySpanExporter spanExporter = InMemorySpanExporter.create();
+    BatchSpanProcessorBuilder builder =
+        BatchSpanProcessor.builder(spanExporter).setScheduleDelay(1, TimeUnit.HOURS);
+    SdkTracerProviderUtil.setAdaptiveBatching(builder, 1, Duration.ZERO, Duration.ofMillis(100));
+    assertThat(builder.getAdaptiveTargetLatencyNanos())
+        .isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    BatchSpanProcessor batchSpanProcessor = builder.build();
+    sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor).build();
+
+    // The schedule delay only bounds the adapted delay, which starts at the target latency
+    ReadableSpan span = createEndedSpan(SPAN_NAME_1);
+    await()
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(spanExporter.getFinishedSpanItems())
+                    .containsExactly(span.toSpanData()));
+    assertThat(batchSpanProcessor.toString())
+        .endsWith(
+            ", adaptiveBatchPolicy=AdaptiveBatchPolicy{minBatchSize=1, maxBatchSize=512, "
+                + "minScheduleDelayNanos=0, maxScheduleDelayNanos=3600000000000, "
+                + "targetLatencyNanos=100000000}}");
+  }
+
+  @Test
+  void concurrentExporter_exportsWithoutAwaiting() {
+    ConcurrentSpanExporter spanExporter = new ConcurrentSpanExporter(2);
+    BatchSpanProcessor batchSpanProcessor =
+        BatchSpanProcessor.builder(spanExporter)
+            .setMaxExportBatchSize(1)
+            .setScheduleDelay(10, TimeUnit.SECONDS)
+            .build();
+    sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor).build();
+
+    createEndedSpan(SPAN_NAME_1);
+    createEndedSpan(SPAN_NAME_2);
+    await().untilAsserted(() -> assertThat(spanExporter.results).hasSize(2));
+
+    // The exporter is at capacity, so the next export waits for one to complete.
+    createEndedSpan(SPAN_NAME_1);
+    spanExporter.results.get(0).succeed();
+    await().untilAsserted(() -> assertThat(spanExporter.results).hasSize(3));
+
+    // A flush covers the exports still in flight.
+    CompletableResultCode flushResult = batchSpanProcessor.forceFlush();
+    assertThat(flushResult.isDone()).isFalse();
+    spanExporter.results.forEach(CompletableResultCode::succeed);
+    assertThat(flushResult.join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+  }
+
+  @Test
+  void concurrentExporter_maxConcurrentExports() throws InterruptedException {
+    ConcurrentSpanExporter spanExporter = new ConcurrentSpanExporter(4);
+    BatchSpanProcessor batchSpanProcessor =
+        BatchSpanProcessor.builder(spanExporter)
+            .setMaxConcurrentExports(2)
+            .setMaxExportBatchSize(1)
+            .setScheduleDelay(10, TimeUnit.SECONDS)
+            .build();
+    sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor).build();
+
+    createEndedSpan(SPAN_NAME_1);
+    createEndedSpan(SPAN_NAME_2);
+    await().untilAsserted(() -> assertThat(spanExporter.results).hasSize(2));
+
+    // The exporter has capacity, but the processor is at its own limit.
+    createEndedSpan(SPAN_NAME_1);
+    Thread.sleep(50);
+    assertThat(spanExporter.results).hasSize(2);
+
+    spanExporter.results.get(0).succeed();
+    await().untilAsserted(() -> assertThat(spanExporter.results).hasSize(3));
+    spanExporter.results.forEach(CompletableResultCode::succeed);
+  }
+
+  @Test
+  void concurrentExporter_dropsWithoutCapacity() {
+    ConcurrentSpanExporter spanExporter = new ConcurrentSpanExporter(2);
+    BatchSpanProcessor batchSpanProcessor =
+        BatchSpanProcessor.builder(spanExporter)
+            .setMaxExportBatchSize(1)
+            .setScheduleDelay(10, TimeUnit.SECONDS)
+            .setExporterTimeout(10, TimeUnit.MILLISECONDS)
+            .build();
+    sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor).build();
+
+    createEndedSpan(SPAN_NAME_1);
+    createEndedSpan(SPAN_NAME_1);
+    await().untilAsserted(() -> assertThat(spanExporter.results).hasSize(2));
+
+    // The exporter stays at capacity, so the batch is dropped rather than exported.
+    createEndedSpan(SPAN_NAME_2);
+    await().untilAsserted(() -> assertThat(spanExporter.capacityTimeouts.get()).isEqualTo(1));
+    assertThat(spanExporter.results).hasSize(2);
+
+    spanExporter.results.forEach(CompletableResultCode::succeed);
+    createEndedSpan(SPAN_NAME_1);
+    await().untilAsserted(() -> assertThat(spanExporter.results).hasSize(3));
+    assertThat(spanExporter.exportedNames).containsExactly(SPAN_NAME_1, SPAN_NAME_1, SPAN_NAME_1);
+  }
+
   @Test
   void testEmptyQueue() {
     // Arrange
@@ -655,7 +890,9 @@ class BatchSpanProcessorTest {
                 + "exportUnsampledSpans=false, "
                 + "scheduleDelayNanos=5000000000, "
                 + "maxExportBatchSize=512, "
-                + "exporterTimeoutNanos=30000000000}");
+                + "exporterTimeoutNanos=30000000000, "
+                + "shardCount=1, "
+                + "maxConcurrentExports=1}");
   }
 
   @Test
@@ -742,6 +979,118 @@ class BatchSpanProcessorTest {
     }
   }
 
+  private static class RecordingSpanExporter implements ExtendedSpanExporter {
+
+    private final boolean acceptsEndedSpans;
+    private final List<SpanData> exported = new CopyOnWriteArrayList<>();
+
+    private RecordingSpanExporter(boolean acceptsEndedSpans) {
+      this.acceptsEndedSpans = acceptsEndedSpans;
+    }
+
+    @Override
+    public boolean acceptsEndedSpans() {
+      return acceptsEndedSpans;
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+      exported.addAll(spans);
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      return CompletableResultCode.ofSuccess();
+    }
+  }
+
+  private static class ConcurrencyTrackingSpanExporter implements SpanExporter {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger exported = new AtomicInteger();
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+      int current = inFlight.incrementAndGet();
+      maxInFlight.accumulateAndGet(current, Math::max);
+      try {
+        Thread.sleep(5);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      exported.addAndGet(spans.size());
+      inFlight.decrementAndGet();
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      return CompletableResultCode.ofSuccess();
+    }
+  }
+
+  private static class ConcurrentSpanExporter implements SpanExporter, ConcurrentExporter {
+
+    private final int maxConcurrentExports;
+    private final Semaphore capacity;
+    private final List<CompletableResultCode> results = new CopyOnWriteArrayList<>();
+    private final List<String> exportedNames = new CopyOnWriteArrayList<>();
+    private final AtomicInteger capacityTimeouts = new AtomicInteger();
+
+    private ConcurrentSpanExporter(int maxConcurrentExports) {
+      this.maxConcurrentExports = maxConcurrentExports;
+      this.capacity = new Semaphore(maxConcurrentExports);
+    }
+
+    @Override
+    public int getMaxConcurrentExports() {
+      return maxConcurrentExports;
+    }
+
+    @Override
+    public boolean awaitExportCapacity(long timeout, TimeUnit unit) throws InterruptedException {
+      if (!capacity.tryAcquire(timeout, unit)) {
+        capacityTimeouts.incrementAndGet();
+        return false;
+      }
+      capacity.release();
+      return true;
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+      spans.forEach(span -> exportedNames.add(span.getName()));
+      CompletableResultCode result = new CompletableResultCode();
+      if (capacity.tryAcquire()) {
+        result.whenComplete(capacity::release);
+      }
+      results.add(result);
+      return result;
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      return CompletableResultCode.ofSuccess();
+    }
+  }
+
   private static class CompletableSpanExporter implements SpanExporter {
 
     private final List<CompletableResultCode> results = new ArrayList<>();